@@ -5,10 +5,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAspectJAutoProxy  // AOP 활성화
 @EnableConfigurationProperties(BookstoreProperties.class)  // 설정 프로퍼티 활성화
+@EnableScheduling  // 통계 대조 등 주기 작업 활성화
 public class SpringBookstoreApplication {
 
 	public static void main(String[] args) {
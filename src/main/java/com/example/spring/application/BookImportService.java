@@ -0,0 +1,25 @@
+package com.example.spring.application;
+
+import com.example.spring.application.dto.response.BookImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * 도서 대량 등록 서비스 인터페이스
+ */
+public interface BookImportService {
+
+    /**
+     * CSV/NDJSON 입력을 스트리밍으로 읽어 청크 단위로 등록
+     * 잘못된 행과 중복 ISBN은 건너뛰고 청크별 결과에 기록합니다.
+     */
+    BookImportResponse importBooks(InputStream input, Format format);
+
+    /**
+     * 입력 형식
+     */
+    enum Format {
+        CSV,    // 첫 줄은 헤더 (title,author,isbn,price,available,coverImageUrl)
+        NDJSON  // 한 줄에 도서 하나의 JSON 객체
+    }
+}
\ No newline at end of file
@@ -2,10 +2,17 @@ package com.example.spring.application;
 
 import com.example.spring.application.dto.request.CreateBookRequest;
 import com.example.spring.application.dto.request.UpdateBookRequest;
+import com.example.spring.application.dto.response.BookFacetSearchResponse;
 import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.application.dto.response.BookStatisticsResponse;
+import com.example.spring.application.dto.response.BookSuggestionResponse;
+import com.example.spring.application.dto.response.CursorPageResponse;
+import com.example.spring.application.dto.response.FuzzySearchResponse;
 import com.example.spring.domain.model.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -46,6 +53,17 @@ public interface BookService {
      */
     Page<Book> getAllActiveBooks(Pageable pageable);
 
+    /**
+     * 모든 활성 도서 조회 (키셋 커서 페이징)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기
+     * @param sort 첫 페이지 정렬 기준 (createdDate, title, author, id). 커서가 있으면 커서의 정렬을 따른다
+     * @return 커서 페이지
+     * @throws com.example.spring.exception.BookException.InvalidCursorException 커서 또는 정렬 기준이 잘못된 경우
+     * @throws IllegalArgumentException 페이지 크기가 1보다 작은 경우
+     */
+    CursorPageResponse<BookResponse> getActiveBooksByCursor(String cursor, int size, Sort sort);
+
     /**
      * 도서 정보 수정
      * @param id 도서 ID
@@ -90,6 +108,22 @@ public interface BookService {
      */
     List<Book> searchByKeyword(String keyword);
 
+    /**
+     * 오타를 허용하는 도서 검색 (제목 또는 저자)
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 편집 거리 순 검색 결과와 추천 검색어
+     */
+    FuzzySearchResponse searchFuzzy(String query, int limit);
+
+    /**
+     * 제목/저자 자동완성 (한글 초성 검색 지원)
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 결과 수
+     * @return 대여 횟수가 많은 순의 추천 도서 목록
+     */
+    List<BookSuggestionResponse> autocomplete(String prefix, int limit);
+
     /**
      * 가격 범위로 도서 검색
      * @param minPrice 최소 가격
@@ -99,7 +133,7 @@ public interface BookService {
     List<Book> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
 
     /**
-     * 복합 조건으로 도서 검색 (Stream 버전)
+     * 복합 조건으로 도서 검색 (DB 필터링 + 페이징)
      * @param title 제목 (null 가능)
      * @param author 저자 (null 가능)
      * @param minPrice 최소 가격 (null 가능)
@@ -112,8 +146,24 @@ public interface BookService {
                                       BigDecimal minPrice, BigDecimal maxPrice,
                                       Boolean available, Pageable pageable);
 
+    /**
+     * 복합 조건으로 도서 검색 (Slice 버전)
+     * 전체 건수(COUNT) 쿼리 없이 다음 페이지 존재 여부만 확인합니다.
+     * @param title 제목 (null 가능)
+     * @param author 저자 (null 가능)
+     * @param minPrice 최소 가격 (null 가능)
+     * @param maxPrice 최대 가격 (null 가능)
+     * @param available 재고 상태 (null 가능)
+     * @param pageable 페이징 정보
+     * @return 검색된 도서 슬라이스
+     */
+    Slice<Book> searchBooksWithFiltersSlice(String title, String author,
+                                            BigDecimal minPrice, BigDecimal maxPrice,
+                                            Boolean available, Pageable pageable);
+
     /**
      * 복합 조건으로 도서 검색 (JPQL Query 버전)
+     * searchBooksWithFilters와 동일한 Specification으로 처리됩니다.
      * @param title 제목 (null 가능)
      * @param author 저자 (null 가능)
      * @param minPrice 최소 가격 (null 가능)
@@ -126,6 +176,22 @@ public interface BookService {
                                            BigDecimal minPrice, BigDecimal maxPrice,
                                            Boolean available, Pageable pageable);
 
+    /**
+     * 복합 조건 검색의 패싯 모드
+     * searchBooksWithQueryFilters와 같은 조건으로 한 페이지를 조회하고, 조건에 맞는 전체 도서의
+     * 재고 상태/가격 구간별 도서 수(집계 쿼리 한 번)와 상위 저자별 도서 수(DB에서 정렬해 자른 집계)를 함께 반환합니다.
+     * @param title 제목 (null 가능)
+     * @param author 저자 (null 가능)
+     * @param minPrice 최소 가격 (null 가능)
+     * @param maxPrice 최대 가격 (null 가능)
+     * @param available 재고 상태 (null 가능)
+     * @param pageable 페이징 정보
+     * @return 검색된 도서 페이지와 패싯
+     */
+    BookFacetSearchResponse searchBooksWithFacets(String title, String author,
+                                                  BigDecimal minPrice, BigDecimal maxPrice,
+                                                  Boolean available, Pageable pageable);
+
     /**
      * 재고 상태별 도서 조회
      * @param available 재고 상태
@@ -159,4 +225,10 @@ public interface BookService {
      * @return 활성 도서 수
      */
     long getActiveBooksCount();
+
+    /**
+     * 도서 통계 조회 (전체/활성/삭제/대여 가능 수, 가격 최소/최대/평균)
+     * @return 도서 통계
+     */
+    BookStatisticsResponse getBookStatistics();
 }
\ No newline at end of file
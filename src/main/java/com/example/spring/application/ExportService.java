@@ -0,0 +1,64 @@
+package com.example.spring.application;
+
+import java.io.OutputStream;
+
+/**
+ * 관리자 데이터 내보내기 서비스 인터페이스
+ *
+ * 조회 결과를 목록으로 만들지 않고 DB 커서에서 읽는 대로 출력 스트림에 기록하므로
+ * 테이블 크기와 관계없이 힙 사용량이 일정합니다.
+ */
+public interface ExportService {
+
+    /**
+     * 전체 도서 내보내기 (삭제된 도서 포함)
+     *
+     * @return 기록한 행 수
+     */
+    long exportBooks(OutputStream output, Format format);
+
+    /**
+     * 전체 대여 내보내기 (회원, 도서 정보 포함)
+     *
+     * @return 기록한 행 수
+     */
+    long exportLoans(OutputStream output, Format format);
+
+    /**
+     * 전체 주문 내보내기 (회원, 결제/배송 상태 포함, 주문 항목 제외)
+     *
+     * @return 기록한 행 수
+     */
+    long exportOrders(OutputStream output, Format format);
+
+    /**
+     * 전체 회원 내보내기 (비밀번호 제외)
+     *
+     * @return 기록한 행 수
+     */
+    long exportMembers(OutputStream output, Format format);
+
+    /**
+     * 출력 형식
+     */
+    enum Format {
+        CSV("text/csv", "csv"),                 // 첫 줄은 헤더
+        NDJSON("application/x-ndjson", "ndjson"); // 한 줄에 한 행의 JSON 객체
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.example.spring.application;
 
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.BatchReturnRequest;
 import com.example.spring.application.dto.request.ClientLoanRequest;
 import com.example.spring.application.dto.request.CreateLoanRequest;
 import com.example.spring.application.dto.request.ExtendLoanRequest;
 import com.example.spring.application.dto.request.UpdateLoanRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
 import com.example.spring.application.dto.response.BookResponse;
 import com.example.spring.application.dto.response.LoanResponse;
 import com.example.spring.application.dto.response.MemberResponse;
@@ -40,6 +43,22 @@ public interface LoanService {
      */
     LoanResponse createLoan(CreateLoanRequest request);
 
+    /**
+     * 여러 도서 일괄 대여 (회원 한 명, 전부 성공하거나 전부 실패)
+     * POST /api/admin/loans/batch
+     *
+     * 대여 한도는 회원 등급(MembershipType)의 최대 대여 권수로 한 번에 검증합니다.
+     *
+     * @param request 일괄 대여 요청 (memberId, bookIds, loanDays)
+     * @return 생성된 대여 응답 목록 (요청한 도서 순서)
+     * @throws com.example.spring.exception.LoanException.InvalidLoanStateException 같은 도서가 중복 요청된 경우
+     * @throws com.example.spring.exception.LoanException.BookAlreadyLoanedException 도서가 이미 대여 중인 경우
+     * @throws com.example.spring.exception.LoanException.BookNotAvailableException 도서가 대여 불가능한 경우
+     * @throws com.example.spring.exception.LoanException.LoanLimitExceededException 대여 한도 초과
+     * @throws com.example.spring.exception.LoanException.OverdueLoansExistException 연체 중인 대여가 있는 경우
+     */
+    List<LoanResponse> createLoans(BatchCheckoutRequest request);
+
     /**
      * [API 명세 #1] 전체 대출 목록 조회 (페이징, 검색, 필터링, 정렬)
      * GET /api/admin/loans?page=0&size=10&searchQuery=...&statusFilter=ACTIVE&sortKey=loanDate&sortOrder=desc
@@ -155,6 +174,22 @@ public interface LoanService {
      */
     List<LoanResponse> getLoansByBookId(Long bookId);
 
+    /**
+     * [추가 기능] 회원별 대여 내역 조회 (보관된 대여 포함 여부 선택)
+     * @param memberId 회원 ID
+     * @param includeHistory true이면 loan_archive로 옮겨진 오래된 반납/취소 대여도 포함 (대여일 내림차순)
+     * @return 대여 목록
+     */
+    List<LoanResponse> getLoansByMemberId(Long memberId, boolean includeHistory);
+
+    /**
+     * [추가 기능] 도서별 대여 내역 조회 (보관된 대여 포함 여부 선택)
+     * @param bookId 도서 ID
+     * @param includeHistory true이면 loan_archive로 옮겨진 오래된 반납/취소 대여도 포함 (대여일 내림차순)
+     * @return 대여 목록
+     */
+    List<LoanResponse> getLoansByBookId(Long bookId, boolean includeHistory);
+
     /**
      * [추가 기능] 현재 대여 중인 목록 조회 (반납되지 않은 대여)
      * @return 대여 중인 목록
@@ -191,6 +226,18 @@ public interface LoanService {
      */
     LoanResponse returnBook(Long loanId);
 
+    /**
+     * 일괄 반납 (반납함 처리)
+     * POST /api/admin/loans/batch-return
+     *
+     * 반납할 수 없는 항목(없는 대여, 이미 반납된 대여, 미반납 대여가 없는 도서)은 건너뛰고 결과에 담습니다.
+     *
+     * @param request 일괄 반납 요청 (loanIds, bookIds 중 하나 이상)
+     * @return 반납된 대여와 건너뛴 항목
+     * @throws com.example.spring.exception.LoanException.InvalidLoanStateException 대여 ID와 도서 ID가 모두 없는 경우
+     */
+    BatchReturnResponse returnBooks(BatchReturnRequest request);
+
     /**
      * [추가 기능] 대여 연장
      * @param loanId 대여 ID
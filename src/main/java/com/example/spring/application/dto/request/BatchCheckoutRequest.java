@@ -0,0 +1,49 @@
+package com.example.spring.application.dto.request;
+
+import com.example.spring.validation.ValidLoanPeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 도서 일괄 대여 요청 DTO (대출 창구에서 회원 한 명이 여러 권을 한 번에 대여)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "도서 일괄 대여 요청")
+public class BatchCheckoutRequest {
+
+    @NotNull(message = "{validation.loan.memberId.required}")
+    @Schema(description = "회원 ID", example = "1", required = true)
+    private Long memberId;
+
+    /**
+     * 한 번에 대여할 도서 - 최대 권수는 가장 높은 등급(PREMIUM)의 대여 한도, 실제 한도는 회원 등급으로 검증
+     */
+    @NotEmpty(message = "{validation.loan.bookIds.required}")
+    @Size(max = 10, message = "{validation.loan.bookIds.size}")
+    @Schema(description = "도서 ID 목록 (중복 불가)", example = "[1, 2, 3]", required = true)
+    private List<@NotNull(message = "{validation.loan.bookId.required}") Long> bookIds;
+
+    /**
+     * 대여 기간 (일 단위, 기본값 14일) - 모든 도서에 같은 기간 적용
+     */
+    @ValidLoanPeriod
+    @Builder.Default
+    @Schema(
+            description = "대여 기간 (일) - 셀렉트 박스 선택",
+            example = "14",
+            defaultValue = "14",
+            allowableValues = {"7", "14", "21", "30"}
+    )
+    private Integer loanDays = 14;
+}
\ No newline at end of file
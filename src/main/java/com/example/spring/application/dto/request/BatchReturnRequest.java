@@ -0,0 +1,40 @@
+package com.example.spring.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 반납 요청 DTO (반납함에서 꺼낸 도서를 한 번에 반납 처리)
+ *
+ * 대여 ID 또는 도서 ID 중 하나 이상을 보내야 하며, 도서 ID는 그 도서의 미반납 대여를 반납합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일괄 반납 요청")
+public class BatchReturnRequest {
+
+    @Size(max = 1000, message = "{validation.loan.returnIds.size}")
+    @Schema(description = "반납할 대여 ID 목록", example = "[1, 2, 3]")
+    private List<@NotNull(message = "{validation.loan.loanId.required}") Long> loanIds;
+
+    @Size(max = 1000, message = "{validation.loan.returnIds.size}")
+    @Schema(description = "반납할 도서 ID 목록 (반납함 스캔)", example = "[10, 11]")
+    private List<@NotNull(message = "{validation.loan.bookId.required}") Long> bookIds;
+
+    @JsonIgnore
+    @AssertTrue(message = "{validation.loan.returnIds.required}")
+    public boolean isTargetSpecified() {
+        return (loanIds != null && !loanIds.isEmpty()) || (bookIds != null && !bookIds.isEmpty());
+    }
+}
\ No newline at end of file
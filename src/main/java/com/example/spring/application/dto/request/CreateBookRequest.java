@@ -1,5 +1,6 @@
 package com.example.spring.application.dto.request;
 
+import com.example.spring.validation.ValidIsbn;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,8 +27,7 @@ public class CreateBookRequest {
     private String author;
 
     @NotBlank(message = "{validation.book.isbn.required}")
-    @Pattern(regexp = "^\\d{3}-?\\d{1,5}-?\\d{1,7}-?\\d{1,7}-?\\d{1}$|^\\d{13}$",
-            message = "{validation.book.isbn.format}")
+    @ValidIsbn(message = "{validation.book.isbn.format}")
     private String isbn;
 
     @NotNull(message = "{validation.book.price.required}")
@@ -0,0 +1,37 @@
+package com.example.spring.application.dto.response;
+
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대여 가능 비트맵 통계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityIndexStatisticsResponse {
+
+    private boolean ready;              // false면 대여 가능 여부를 DB로 확인
+    private long highestBookId;         // 비트맵이 다루는 id 범위
+    private long availableBooks;
+    private long deletedBooks;
+    private long loanedBooks;
+    private long memoryBytes;           // 세 비트맵 합계
+    private long bytesPerMillionBooks;  // id 범위 100만 건당 메모리
+
+    public static AvailabilityIndexStatisticsResponse from(BookAvailabilityIndex.Snapshot snapshot) {
+        return AvailabilityIndexStatisticsResponse.builder()
+                .ready(snapshot.isReady())
+                .highestBookId(snapshot.getHighestBookId())
+                .availableBooks(snapshot.getAvailableBooks())
+                .deletedBooks(snapshot.getDeletedBooks())
+                .loanedBooks(snapshot.getLoanedBooks())
+                .memoryBytes(snapshot.getMemoryBytes())
+                .bytesPerMillionBooks(snapshot.getBytesPerMillionBooks())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 일괄 반납 결과 응답 DTO
+ *
+ * 반납함 스캔에는 잘못 찍히거나 이미 처리된 항목이 섞이므로, 반납할 수 없는 항목은 전체를 실패시키지 않고 건너뛴 목록으로 돌려줍니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReturnResponse {
+
+    private List<LoanResponse> returned;
+    private int overdueCount;                   // 반납 시점에 연체였던 대여 수
+    private BigDecimal totalOverdueFee;
+    private List<Long> notFoundLoanIds;
+    private List<Long> alreadyReturnedLoanIds;  // 이미 반납되었거나 처리 중 다른 요청이 먼저 반납
+    private List<Long> notReturnableLoanIds;    // 취소된 대여
+    private List<Long> unmatchedBookIds;        // 미반납 대여가 없는 도서
+}
\ No newline at end of file
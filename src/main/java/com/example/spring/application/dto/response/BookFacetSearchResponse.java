@@ -0,0 +1,61 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 패싯 검색 응답 DTO
+ *
+ * 패싯은 검색 조건 전체에 맞는 도서 기준이며, totalElements는 패싯 집계에서 얻으므로 별도 COUNT 쿼리를 실행하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetSearchResponse {
+
+    private List<BookResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Facets facets;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Facets {
+        private long available;
+        private long unavailable;
+        private List<PriceRange> priceRanges;   // 가격 오름차순, 도서가 없는 구간 포함
+        private List<AuthorCount> topAuthors;   // 도서 수 내림차순 (같으면 저자명 오름차순)
+    }
+
+    /**
+     * [minPrice, maxPrice) 구간 도서 수 (양 끝 구간은 minPrice 또는 maxPrice가 null)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceRange {
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private long count;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AuthorCount {
+        private String author;
+        private long count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 대량 등록 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportResponse {
+
+    private long totalRows;
+    private long importedRows;
+    private long duplicateRows;     // 이미 등록되었거나 입력 안에서 반복된 ISBN
+    private long failedRows;        // 형식/검증 오류 및 저장 실패
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<ChunkResult> chunks;
+
+    /**
+     * 청크별 처리 결과 (청크마다 별도 트랜잭션으로 커밋)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkResult {
+
+        private int chunk;
+        private int firstRow;       // 입력 파일의 줄 번호
+        private int lastRow;
+        private int importedRows;
+        private int duplicateRows;
+        private int failedRows;
+        private List<RowError> errors;  // 청크당 최대 100건
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        private int row;
+        private String isbn;
+        private String message;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 도서 통계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookStatisticsResponse {
+
+    private long totalBooks;
+    private long activeBooks;
+    private long deletedBooks;
+    private long availableBooks;      // 삭제되지 않고 대여 가능한 도서 수
+    private BigDecimal minPrice;      // 이하 가격은 삭제되지 않은 도서 기준 (도서가 없으면 null)
+    private BigDecimal maxPrice;
+    private BigDecimal averagePrice;
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSuggestionResponse {
+
+    private Long id;
+    private String title;
+    private String author;
+    private long loanCount;     // 누적 대여 횟수 (정렬 기준)
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.example.spring.application.dto.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 통계 응답 DTO (애플리케이션 시작 후 누적값)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+
+    private String name;
+    private long size;              // 현재 항목 수 (추정치)
+    private long hitCount;
+    private long missCount;
+    private double hitRate;         // 조회가 없으면 1.0
+    private long evictionCount;     // 크기 초과/만료로 퇴출된 항목 수
+
+    public static CacheStatisticsResponse from(String name, Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatisticsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 응답 DTO
+ *
+ * 전체 건수를 세지 않으므로 totalElements/totalPages 대신
+ * 다음 페이지 요청에 그대로 넘길 nextCursor만 제공한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
\ No newline at end of file
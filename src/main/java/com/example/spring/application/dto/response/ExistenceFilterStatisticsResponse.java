@@ -0,0 +1,43 @@
+package com.example.spring.application.dto.response;
+
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 존재 필터(블룸 필터) 통계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExistenceFilterStatisticsResponse {
+
+    private String name;
+    private boolean ready;                      // false면 모든 조회를 DB로 확인
+    private long expectedInsertions;            // 목표 오탐률을 지키는 최대 키 수
+    private long insertions;                    // 추가된 키 수 (추정치)
+    private long bitSize;
+    private int hashFunctions;
+    private long memoryBytes;
+    private double estimatedFalsePositiveRate;  // 채워진 비트 비율로 추정
+    private long lookups;
+    private long negatives;                     // DB 조회 없이 '없음'으로 답한 수
+
+    public static ExistenceFilterStatisticsResponse from(ExistenceFilter.Snapshot snapshot) {
+        return ExistenceFilterStatisticsResponse.builder()
+                .name(snapshot.getName())
+                .ready(snapshot.isReady())
+                .expectedInsertions(snapshot.getExpectedInsertions())
+                .insertions(snapshot.getInsertions())
+                .bitSize(snapshot.getBitSize())
+                .hashFunctions(snapshot.getHashFunctions())
+                .memoryBytes(snapshot.getMemoryBytes())
+                .estimatedFalsePositiveRate(snapshot.getEstimatedFalsePositiveRate())
+                .lookups(snapshot.getLookups())
+                .negatives(snapshot.getNegatives())
+                .build();
+    }
+}
\ No newline at end of file
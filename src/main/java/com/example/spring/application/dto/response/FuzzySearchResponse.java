@@ -0,0 +1,34 @@
+package com.example.spring.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 오타 허용 검색 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuzzySearchResponse {
+
+    private String query;
+    private String didYouMean;      // 추천 검색어 (검색어와 같으면 null)
+    private List<Match> matches;    // 편집 거리 오름차순
+
+    /**
+     * 검색 결과 도서와 검색어와의 편집 거리
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Match {
+        private BookResponse book;
+        private int distance;
+    }
+}
\ No newline at end of file
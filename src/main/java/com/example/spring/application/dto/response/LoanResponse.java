@@ -41,9 +41,10 @@ public class LoanResponse {
     private LocalDateTime updatedDate;
 
     /**
-     * Loan 엔티티를 LoanResponse로 변환
+     * Loan 엔티티를 now 시점 기준으로 LoanResponse로 변환 (목록은 같은 시각으로 변환해 행마다 시계를 읽지 않음)
      */
-    public static LoanResponse from(Loan loan) {
+    public static LoanResponse from(Loan loan, LocalDateTime now) {
+        Loan.DueStatus due = loan.dueStatusAt(now);
         return LoanResponse.builder()
                 .id(loan.getId())
                 .memberId(loan.getMember().getId())
@@ -59,10 +60,10 @@ public class LoanResponse {
                 .status(loan.getStatus())
                 .overdueFee(loan.getOverdueFee() != null ? loan.getOverdueFee().getAmount() : BigDecimal.ZERO)
                 .extensionCount(loan.getExtensionCount())
-                .isOverdue(loan.isOverdue())
-                .overdueDays(loan.getOverdueDays())
-                .daysUntilDue(loan.getDaysUntilDue())
-                .canExtendNow(loan.canExtendNow())
+                .isOverdue(due.isOverdue())
+                .overdueDays(due.getOverdueDays())
+                .daysUntilDue(due.getDaysUntilDue())
+                .canExtendNow(due.isCanExtendNow())
                 .createdDate(loan.getCreatedDate())
                 .updatedDate(loan.getUpdatedDate())
                 .build();
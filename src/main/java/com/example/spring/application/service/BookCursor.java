@@ -0,0 +1,108 @@
+package com.example.spring.application.service;
+
+import com.example.spring.domain.model.Book;
+import com.example.spring.exception.BookException;
+import com.example.spring.exception.ErrorMessages;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 도서 키셋(Seek) 페이징 커서
+ *
+ * 정렬 기준과 직전 페이지 마지막 행의 (정렬 키, id)를 Base64(URL-safe) 문자열로 감싸
+ * 클라이언트에는 내용을 알 수 없는(opaque) 토큰으로만 노출합니다.
+ */
+final class BookCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 커서 정렬에 사용할 수 있는 속성별 키 추출기
+     */
+    private static final Map<String, Function<Book, Object>> KEY_EXTRACTORS = Map.of(
+            "id", Book::getId,
+            "createdDate", Book::getCreatedDate,
+            "title", Book::getTitle,
+            "author", Book::getAuthor
+    );
+
+    /**
+     * 커서 정렬에 사용할 수 있는 속성별 키 파서
+     */
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            "id", Long::valueOf,
+            "createdDate", LocalDateTime::parse,
+            "title", value -> value,
+            "author", value -> value
+    );
+
+    private final Sort.Order order;
+    private final Object lastKey;
+    private final Long lastId;
+
+    private BookCursor(Sort.Order order, Object lastKey, Long lastId) {
+        this.order = order;
+        this.lastKey = lastKey;
+        this.lastId = lastId;
+    }
+
+    /**
+     * 첫 페이지 커서 (정렬 기준의 첫 번째 항목만 사용)
+     */
+    static BookCursor first(Sort sort) {
+        Sort.Order order = sort.stream().findFirst()
+                .orElse(Sort.Order.desc("createdDate"));
+        if (!KEY_EXTRACTORS.containsKey(order.getProperty())) {
+            throw new BookException.InvalidCursorException(ErrorMessages.unsupportedCursorSort(order.getProperty()));
+        }
+        return new BookCursor(order, null, null);
+    }
+
+    /**
+     * 토큰을 커서로 복원 (정렬 기준은 토큰에 담긴 값을 사용)
+     */
+    static BookCursor decode(String token) {
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split("\n", 4);
+            String property = parts[0];
+            Function<String, Object> parser = KEY_PARSERS.get(property);
+            if (parser == null || parts.length != 4) {
+                throw new IllegalArgumentException(token);
+            }
+            Sort.Order order = new Sort.Order(Sort.Direction.valueOf(parts[1]), property);
+            return new BookCursor(order, parser.apply(parts[3]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BookException.InvalidCursorException(ErrorMessages.invalidCursor(token));
+        }
+    }
+
+    /**
+     * 현재 페이지 마지막 도서 다음부터 읽는 커서
+     */
+    BookCursor next(Book last) {
+        return new BookCursor(order, KEY_EXTRACTORS.get(order.getProperty()).apply(last), last.getId());
+    }
+
+    String encode() {
+        String raw = order.getProperty() + "\n" + order.getDirection().name() + "\n" + lastId + "\n" + lastKey;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Sort.Order order() {
+        return order;
+    }
+
+    Object lastKey() {
+        return lastKey;
+    }
+
+    Long lastId() {
+        return lastId;
+    }
+}
\ No newline at end of file
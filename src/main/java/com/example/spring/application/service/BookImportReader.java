@@ -0,0 +1,194 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.BookImportService;
+import com.example.spring.application.dto.request.CreateBookRequest;
+import com.example.spring.exception.BookException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 대량 등록 입력을 한 줄씩 읽어 도서 생성 요청으로 변환
+ *
+ * 전체 입력을 메모리에 올리지 않고 한 행씩 변환합니다. 형식이 잘못된 행은 예외 대신 오류 메시지를 담아
+ * 반환하므로 호출하는 쪽에서 건너뛰고 다음 행을 계속 읽을 수 있습니다.
+ * CSV는 첫 줄 헤더의 열 이름으로 값을 찾고, 큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 지원합니다.
+ */
+final class BookImportReader implements Closeable {
+
+    private static final List<String> COLUMNS =
+            List.of("title", "author", "isbn", "price", "available", "coverimageurl");
+
+    private final BufferedReader reader;
+    private final BookImportService.Format format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> header;
+    private int lineNumber;
+
+    BookImportReader(InputStream input, BookImportService.Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행 (빈 줄은 건너뛰고, 입력이 끝나면 null)
+     */
+    Row next() throws IOException {
+        if (format == BookImportService.Format.CSV && header == null) {
+            readHeader();
+        }
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            CreateBookRequest request = format == BookImportService.Format.CSV ? parseCsv(line) : parseJson(line);
+            return new Row(lineNumber, request, null);
+        } catch (IllegalArgumentException e) {
+            return new Row(lineNumber, null, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        String line = reader.readLine();
+        lineNumber++;
+        if (line == null || line.isBlank()) {
+            throw new BookException.InvalidImportFileException("CSV 헤더가 없습니다");
+        }
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        header = new HashMap<>();
+        List<String> names;
+        try {
+            names = splitCsv(line);
+        } catch (IllegalArgumentException e) {
+            throw new BookException.InvalidImportFileException("CSV 헤더를 읽을 수 없습니다: " + e.getMessage());
+        }
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : COLUMNS.subList(0, 4)) {
+            if (!header.containsKey(required)) {
+                throw new BookException.InvalidImportFileException("CSV 헤더에 필수 열이 없습니다: " + required);
+            }
+        }
+    }
+
+    private CreateBookRequest parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        String price = column(values, "price");
+        String available = column(values, "available");
+        return CreateBookRequest.builder()
+                .title(column(values, "title"))
+                .author(column(values, "author"))
+                .isbn(column(values, "isbn"))
+                .price(price != null ? parsePrice(price) : null)
+                .available(available != null ? parseAvailable(available) : null)
+                .coverImageUrl(column(values, "coverimageurl"))
+                .build();
+    }
+
+    private CreateBookRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, CreateBookRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("가격이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Boolean parseAvailable(String value) {
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException("대여 가능 여부는 true 또는 false여야 합니다: " + value);
+    }
+
+    /**
+     * CSV 한 줄을 열 값으로 분리 (RFC 4180, 줄바꿈을 포함한 값은 지원하지 않음)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 읽은 행 (형식 오류면 request 대신 error)
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class Row {
+
+        private final int number;
+        private final CreateBookRequest request;
+        private final String error;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.BookImportService;
+import com.example.spring.application.dto.request.CreateBookRequest;
+import com.example.spring.application.dto.response.BookImportResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.exception.ErrorMessages;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * BookImportService 구현체
+ *
+ * 입력을 한 행씩 읽어 검증하고, chunkSize 행마다 한 트랜잭션에서 JDBC 배치로 저장합니다.
+ * 중복 ISBN은 시작 시 한 번 읽어 둔 ISBN 집합으로 걸러 행마다 existsByIsbn을 호출하지 않습니다.
+ * 청크 저장이 실패하면(동시에 같은 ISBN이 등록된 경우 등) 그 청크만 롤백되고 다음 청크를 계속 처리합니다.
+ * 저장된 도서는 커밋 후 검색 색인, 통계 카운터, 존재 필터에 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final int MAX_ERRORS_PER_CHUNK = 100;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookStatisticsCounter bookStatisticsCounter;
+    private final ExistenceFilter existenceFilter;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BookstoreProperties properties;
+    private final CacheManager cacheManager;
+    private final Clock clock;
+
+    @Override
+    public BookImportResponse importBooks(InputStream input, Format format) {
+        long start = System.nanoTime();
+        int chunkSize = properties.getBookImport().getChunkSize();
+        Set<Long> knownIsbns = new HashSet<>(bookRepository.findAllIsbn13());
+
+        List<BookImportResponse.ChunkResult> results = new ArrayList<>();
+        long totalRows = 0;
+        Chunk chunk = new Chunk(1);
+        try (BookImportReader reader = new BookImportReader(input, format, objectMapper)) {
+            BookImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                totalRows++;
+                chunk.add(row, knownIsbns);
+                if (chunk.rows == chunkSize) {
+                    results.add(write(chunk, knownIsbns));
+                    chunk = new Chunk(chunk.number + 1);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대량 등록 입력을 읽지 못했습니다", e);
+        }
+        if (chunk.rows > 0) {
+            results.add(write(chunk, knownIsbns));
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        BookImportResponse response = BookImportResponse.builder()
+                .totalRows(totalRows)
+                .importedRows(results.stream().mapToLong(BookImportResponse.ChunkResult::getImportedRows).sum())
+                .duplicateRows(results.stream().mapToLong(BookImportResponse.ChunkResult::getDuplicateRows).sum())
+                .failedRows(results.stream().mapToLong(BookImportResponse.ChunkResult::getFailedRows).sum())
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(elapsedNanos > 0 ? totalRows * 1_000_000_000.0 / elapsedNanos : 0)
+                .chunks(results)
+                .build();
+        if (response.getImportedRows() > 0) {
+            evictBooksCache();
+        }
+        log.info("도서 대량 등록 완료 - 전체 {}행, 등록 {}, 중복 {}, 실패 {}, {}ms",
+                totalRows, response.getImportedRows(), response.getDuplicateRows(),
+                response.getFailedRows(), response.getElapsedMillis());
+        return response;
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장하고 커밋 후 색인/통계/필터/대여 가능 비트맵 반영
+     */
+    private BookImportResponse.ChunkResult write(Chunk chunk, Set<Long> knownIsbns) {
+        int imported = 0;
+        if (!chunk.books.isEmpty()) {
+            try {
+                List<Book> saved = transactionTemplate.execute(status -> bookRepository.insertAll(chunk.books));
+                bookSearchIndex.indexAll(saved);
+                for (Book book : saved) {
+                    bookStatisticsCounter.bookCreated(Boolean.TRUE.equals(book.getAvailable()),
+                            book.getPrice().getAmount());
+                    existenceFilter.addIsbn(book.getIsbn());
+                    bookAvailabilityIndex.update(book);
+                }
+                imported = saved.size();
+            } catch (DataAccessException e) {
+                log.warn("도서 대량 등록 청크 {} 저장 실패 ({}~{}행)", chunk.number, chunk.firstRow, chunk.lastRow, e);
+                chunk.books.forEach(book -> knownIsbns.remove(book.getIsbn().getIsbn13()));
+                chunk.failed += chunk.books.size();
+                chunk.error(chunk.firstRow, null, ErrorMessages.BOOK_IMPORT_CHUNK_FAILED);  // SQL/제약 조건 내용은 로그에만 남김
+            }
+        }
+        log.info("도서 대량 등록 청크 {} ({}~{}행) - 등록 {}, 중복 {}, 실패 {}",
+                chunk.number, chunk.firstRow, chunk.lastRow, imported, chunk.duplicates, chunk.failed);
+        return BookImportResponse.ChunkResult.builder()
+                .chunk(chunk.number)
+                .firstRow(chunk.firstRow)
+                .lastRow(chunk.lastRow)
+                .importedRows(imported)
+                .duplicateRows(chunk.duplicates)
+                .failedRows(chunk.failed)
+                .errors(chunk.errors)
+                .build();
+    }
+
+    /**
+     * 등록 전 조회로 캐시된 '없음' 결과 제거 (한 건이라도 등록된 경우에만)
+     */
+    private void evictBooksCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 검증을 통과한 행을 도서로 변환 (검증 실패 시 IllegalArgumentException)
+     */
+    private Book toBook(CreateBookRequest request, LocalDateTime now) {
+        Set<ConstraintViolation<CreateBookRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return Book.builder()
+                .title(request.getTitle())
+                .author(request.getAuthor())
+                .isbn(ISBN.of(request.getIsbn()))
+                .price(Money.of(request.getPrice()))
+                .available(!Boolean.FALSE.equals(request.getAvailable()))
+                .coverImageUrl(request.getCoverImageUrl())
+                .createdDate(now)
+                .build();
+    }
+
+    /**
+     * 저장 전 청크 (읽은 행 범위, 저장할 도서, 건너뛴 행의 오류)
+     */
+    private final class Chunk {
+
+        private final int number;
+        private final LocalDateTime createdDate = LocalDateTime.now(clock);
+        private final List<Book> books = new ArrayList<>();
+        private final List<BookImportResponse.RowError> errors = new ArrayList<>();
+        private int rows;
+        private int firstRow;
+        private int lastRow;
+        private int duplicates;
+        private int failed;
+
+        private Chunk(int number) {
+            this.number = number;
+        }
+
+        void add(BookImportReader.Row row, Set<Long> knownIsbns) {
+            if (rows++ == 0) {
+                firstRow = row.getNumber();
+            }
+            lastRow = row.getNumber();
+
+            if (row.getError() != null) {
+                failed++;
+                error(row.getNumber(), null, row.getError());
+                return;
+            }
+            String isbn = row.getRequest().getIsbn();
+            Book book;
+            try {
+                book = toBook(row.getRequest(), createdDate);
+            } catch (IllegalArgumentException e) {
+                failed++;
+                error(row.getNumber(), isbn, e.getMessage());
+                return;
+            }
+            if (!knownIsbns.add(book.getIsbn().getIsbn13())) {
+                duplicates++;
+                error(row.getNumber(), isbn, ErrorMessages.duplicateIsbn(isbn));
+                return;
+            }
+            books.add(book);
+        }
+
+        void error(int row, String isbn, String message) {
+            if (errors.size() < MAX_ERRORS_PER_CHUNK) {
+                errors.add(new BookImportResponse.RowError(row, isbn, message));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -4,26 +4,48 @@ import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
 import com.example.spring.application.dto.request.CreateBookRequest;
 import com.example.spring.application.dto.request.UpdateBookRequest;
+import com.example.spring.application.dto.response.BookFacetSearchResponse;
 import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.application.dto.response.BookStatisticsResponse;
+import com.example.spring.application.dto.response.BookSuggestionResponse;
+import com.example.spring.application.dto.response.CursorPageResponse;
+import com.example.spring.application.dto.response.FuzzySearchResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.BookUpdatedEvent;
 import com.example.spring.domain.model.Book;
 import com.example.spring.exception.BookException;
+import com.example.spring.exception.ErrorMessages;
+import com.example.spring.domain.repository.BookFacetRepository;
 import com.example.spring.domain.repository.BookRepository;
 import com.example.spring.domain.repository.BookSpecification;
 import com.example.spring.application.BookService;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.availability.CompressedBitmap;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,16 +57,28 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
+    /**
+     * 검색 후보를 PK IN 조건으로 넘길 최대 개수
+     */
+    private static final int MAX_ID_FILTER_SIZE = 1_000;
+
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookStatisticsCounter bookStatisticsCounter;
+    private final ExistenceFilter existenceFilter;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BookstoreProperties bookstoreProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
+    @CacheEvict(value = "books", key = "#result.id")  // 생성 전 조회로 캐시된 '없음' 결과 제거
     public BookResponse createBook(CreateBookRequest request) {
 
         // Value Object 생성 전 유효성 검사
         validateCreateRequest(request);
 
-        if (bookRepository.existsByIsbn(request.getIsbn())) {
+        if (isbnExists(request.getIsbn())) {
             throw new BookException.DuplicateIsbnException("이미 존재하는 ISBN입니다: " + request.getIsbn());
         }
 
@@ -60,6 +94,10 @@ public class BookServiceImpl implements BookService {
 
         validateBook(book);
         Book savedBook = bookRepository.save(book);
+        bookSearchIndex.index(savedBook);
+        bookStatisticsCounter.bookCreated(isAvailable(savedBook), priceOf(savedBook));
+        existenceFilter.addIsbn(savedBook.getIsbn());
+        bookAvailabilityIndex.update(savedBook);
         return BookResponse.from(savedBook);
     }
 
@@ -79,7 +117,7 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
-    @Cacheable(value = "books", key = "#id")
+    @Cacheable(value = "books", key = "#id", sync = true)
     public Optional<BookResponse> getBookById(Long id) {
         return bookRepository.findById(id)
                 .filter(book -> book.getDeletedDate() == null)
@@ -94,16 +132,30 @@ public class BookServiceImpl implements BookService {
 
     @Override
     public Page<Book> getAllActiveBooks(Pageable pageable) {
+        return bookRepository.findByDeletedDateIsNull(pageable);
+    }
 
-        List<Book> allActiveBooks = bookRepository.findByDeletedDateIsNull();
+    @Override
+    public CursorPageResponse<BookResponse> getActiveBooksByCursor(String cursor, int size, Sort sort) {
+        if (size < 1) {
+            throw new IllegalArgumentException(ErrorMessages.PAGE_SIZE_MIN_ONE);
+        }
 
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allActiveBooks.size());
+        BookCursor current = StringUtils.hasText(cursor) ? BookCursor.decode(cursor) : BookCursor.first(sort);
 
-        List<Book> pageContent = start >= allActiveBooks.size() ? List.of() : allActiveBooks.subList(start, end);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Book> books = bookRepository.findActiveBooksAfter(
+                current.order(), current.lastKey(), current.lastId(), size + 1);
 
-        return new PageImpl<>(pageContent, pageable, allActiveBooks.size());
+        boolean hasNext = books.size() > size;
+        List<Book> content = hasNext ? books.subList(0, size) : books;
+
+        return CursorPageResponse.<BookResponse>builder()
+                .content(content.stream().map(BookResponse::from).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? current.next(content.get(size - 1)).encode() : null)
+                .build();
     }
 
     @Override
@@ -118,13 +170,16 @@ public class BookServiceImpl implements BookService {
             throw new BookException.DeletedBookAccessException("삭제된 도서는 수정할 수 없습니다: " + id);
         }
 
-        // ISBN 중복 검사 (자기 자신 제외)
-        String existingIsbnValue = existingBook.getIsbn() != null ? existingBook.getIsbn().getValue() : null;
-        if (!request.getIsbn().equals(existingIsbnValue) &&
-                bookRepository.existsByIsbn(request.getIsbn())) {
+        // ISBN 중복 검사 (자기 자신 제외, 하이픈 표기만 다른 같은 ISBN은 변경 없음으로 판단)
+        long existingIsbn13 = existingBook.getIsbn() != null ? existingBook.getIsbn().getIsbn13() : ISBN.INVALID;
+        if (ISBN.parseIsbn13(request.getIsbn()) != existingIsbn13 &&
+                isbnExists(request.getIsbn())) {
             throw new BookException.DuplicateIsbnException("이미 존재하는 ISBN입니다: " + request.getIsbn());
         }
 
+        boolean wasAvailable = isAvailable(existingBook);
+        BigDecimal previousPrice = priceOf(existingBook);
+
         // 필드 업데이트
         existingBook.updateBookInfo(request.getTitle(), request.getAuthor(), ISBN.of(request.getIsbn()));
         existingBook.updatePrice(Money.of(request.getPrice()));
@@ -133,6 +188,11 @@ public class BookServiceImpl implements BookService {
 
         validateBook(existingBook);
         Book savedBook = bookRepository.save(existingBook);
+        bookSearchIndex.index(savedBook);
+        bookStatisticsCounter.bookUpdated(wasAvailable, previousPrice, isAvailable(savedBook), priceOf(savedBook));
+        existenceFilter.addIsbn(savedBook.getIsbn());
+        bookAvailabilityIndex.update(savedBook);
+        eventPublisher.publishEvent(new BookUpdatedEvent(savedBook));
         return BookResponse.from(savedBook);
     }
 
@@ -148,8 +208,12 @@ public class BookServiceImpl implements BookService {
             throw new BookException.DeletedBookAccessException("이미 삭제된 도서입니다: " + id);
         }
 
+        boolean wasAvailable = isAvailable(book);
         book.markAsDeleted();
         bookRepository.save(book);
+        bookSearchIndex.remove(id);
+        bookStatisticsCounter.bookDeleted(wasAvailable, priceOf(book));
+        bookAvailabilityIndex.update(book);
     }
 
     @Override
@@ -166,6 +230,9 @@ public class BookServiceImpl implements BookService {
 
         book.restore();
         bookRepository.save(book);
+        bookSearchIndex.index(book);
+        bookStatisticsCounter.bookRestored(isAvailable(book), priceOf(book));
+        bookAvailabilityIndex.update(book);
     }
 
     @Override
@@ -173,6 +240,9 @@ public class BookServiceImpl implements BookService {
         if (!StringUtils.hasText(title)) {
             return List.of();
         }
+        if (bookSearchIndex.isReady()) {
+            return findActiveBooksByIds(bookSearchIndex.searchTitle(title));
+        }
         return bookRepository.findByTitleContainingIgnoreCase(title).stream()
                 .filter(book -> book.getDeletedDate() == null)
                 .collect(Collectors.toList());
@@ -183,6 +253,9 @@ public class BookServiceImpl implements BookService {
         if (!StringUtils.hasText(author)) {
             return List.of();
         }
+        if (bookSearchIndex.isReady()) {
+            return findActiveBooksByIds(bookSearchIndex.searchAuthor(author));
+        }
         return bookRepository.findByAuthorContainingIgnoreCase(author).stream()
                 .filter(book -> book.getDeletedDate() == null)
                 .collect(Collectors.toList());
@@ -193,11 +266,75 @@ public class BookServiceImpl implements BookService {
         if (!StringUtils.hasText(keyword)) {
             return List.of();
         }
+        if (bookSearchIndex.isReady()) {
+            return findActiveBooksByIds(bookSearchIndex.searchKeyword(keyword));
+        }
         return bookRepository.findByTitleContainingOrAuthorContaining(keyword).stream()
                 .filter(book -> book.getDeletedDate() == null)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public FuzzySearchResponse searchFuzzy(String query, int limit) {
+        if (!StringUtils.hasText(query) || !bookSearchIndex.isReady()) {
+            return FuzzySearchResponse.builder()
+                    .query(query)
+                    .matches(List.of())
+                    .build();
+        }
+
+        BookSearchIndex.FuzzySearchResult result = bookSearchIndex.searchFuzzy(query, limit);
+        List<Long> bookIds = result.getMatches().stream()
+                .map(match -> (long) match.getBookId())
+                .toList();
+        Map<Long, Book> books = bookRepository.findAllById(bookIds).stream()
+                .filter(book -> book.getDeletedDate() == null)
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<FuzzySearchResponse.Match> matches = result.getMatches().stream()
+                .filter(match -> books.containsKey((long) match.getBookId()))
+                .map(match -> FuzzySearchResponse.Match.builder()
+                        .book(BookResponse.from(books.get((long) match.getBookId())))
+                        .distance(match.getDistance())
+                        .build())
+                .toList();
+
+        return FuzzySearchResponse.builder()
+                .query(query)
+                .didYouMean(result.getSuggestion())
+                .matches(matches)
+                .build();
+    }
+
+    @Override
+    public List<BookSuggestionResponse> autocomplete(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix) || !bookSearchIndex.isReady()) {
+            return List.of();
+        }
+        return bookSearchIndex.autocomplete(prefix, limit).stream()
+                .map(entry -> BookSuggestionResponse.builder()
+                        .id((long) entry.getBookId())
+                        .title(entry.getTitle())
+                        .author(entry.getAuthor())
+                        .loanCount(entry.getLoanCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 검색 색인이 찾은 id로 도서 조회 (PK IN 조회, id 순 정렬)
+     */
+    private List<Book> findActiveBooksByIds(int[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Long> bookIds = Arrays.stream(ids).mapToObj(Long::valueOf).toList();
+        return bookRepository.findAllById(bookIds).stream()
+                .filter(book -> book.getDeletedDate() == null)
+                .sorted(Comparator.comparing(Book::getId))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Book> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
 
@@ -226,24 +363,43 @@ public class BookServiceImpl implements BookService {
                                              BigDecimal minPrice, BigDecimal maxPrice,
                                              Boolean available, Pageable pageable) {
 
-        List<Book> allActiveBooks = bookRepository.findByDeletedDateIsNull();
-
-        // 필터링 적용
-        List<Book> filteredBooks = allActiveBooks.stream()
-                .filter(book -> title == null || book.getTitle().toLowerCase().contains(title.toLowerCase()))
-                .filter(book -> author == null || book.getAuthor().toLowerCase().contains(author.toLowerCase()))
-                .filter(book -> minPrice == null || book.getPrice().getAmount().compareTo(minPrice) >= 0)
-                .filter(book -> maxPrice == null || book.getPrice().getAmount().compareTo(maxPrice) <= 0)
-                .filter(book -> available == null || book.getAvailable().equals(available))
-                .collect(Collectors.toList());
+        return bookRepository.findAll(filtersOf(title, author, minPrice, maxPrice, available), pageable);
+    }
 
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredBooks.size());
+    @Override
+    public Slice<Book> searchBooksWithFiltersSlice(String title, String author,
+                                                   BigDecimal minPrice, BigDecimal maxPrice,
+                                                   Boolean available, Pageable pageable) {
 
-        List<Book> pageContent = start >= filteredBooks.size() ? List.of() : filteredBooks.subList(start, end);
+        return bookRepository.findBy(
+                filtersOf(title, author, minPrice, maxPrice, available),
+                query -> query.slice(pageable));
+    }
 
-        return new PageImpl<>(pageContent, pageable, filteredBooks.size());
+    /**
+     * 복합 검색 조건 생성
+     *
+     * '대여 가능만' 조건에 제목/저자 검색어가 있으면 검색 색인 후보와 대여 가능 비트맵의 교집합을 먼저 구해
+     * PK IN 조건을 더합니다. 교집합이 비면 DB를 조회하지 않아도 되도록 항상 거짓인 조건이 되고,
+     * 너무 많으면 IN 목록이 길어지므로 기존 조건만 사용합니다. 원래 조건도 그대로 두므로 결과는 같습니다.
+     */
+    private Specification<Book> filtersOf(String title, String author,
+                                          BigDecimal minPrice, BigDecimal maxPrice, Boolean available) {
+        Specification<Book> filters = BookSpecification.withFilters(title, author, minPrice, maxPrice, available);
+        if (!Boolean.TRUE.equals(available) || (!StringUtils.hasText(title) && !StringUtils.hasText(author))
+                || !bookSearchIndex.isReady() || !bookAvailabilityIndex.isReady()) {
+            return filters;
+        }
+        int[] candidates = null;
+        if (StringUtils.hasText(title)) {
+            candidates = bookSearchIndex.searchTitle(title);
+        }
+        if (StringUtils.hasText(author)) {
+            int[] byAuthor = bookSearchIndex.searchAuthor(author);
+            candidates = candidates == null ? byAuthor : CompressedBitmap.of(candidates).retain(byAuthor);
+        }
+        int[] ids = bookAvailabilityIndex.retainAvailable(candidates);
+        return ids.length <= MAX_ID_FILTER_SIZE ? filters.and(BookSpecification.idIn(ids)) : filters;
     }
 
     @Override
@@ -251,9 +407,54 @@ public class BookServiceImpl implements BookService {
                                                   BigDecimal minPrice, BigDecimal maxPrice,
                                                   Boolean available, Pageable pageable) {
 
-        return bookRepository.findAll(
-                BookSpecification.withFilters(title, author, minPrice, maxPrice, available),
-                pageable);
+        return searchBooksWithFilters(title, author, minPrice, maxPrice, available, pageable);
+    }
+
+    @Override
+    public BookFacetSearchResponse searchBooksWithFacets(String title, String author,
+                                                         BigDecimal minPrice, BigDecimal maxPrice,
+                                                         Boolean available, Pageable pageable) {
+
+        Specification<Book> filters = BookSpecification.withFilters(title, author, minPrice, maxPrice, available);
+        BookstoreProperties.Search search = bookstoreProperties.getSearch();
+        List<BigDecimal> boundaries = search.getFacetPriceBoundaries();
+
+        // 재고/가격 구간 패싯은 조건부 집계 한 번, 상위 저자는 DB에서 정렬해 자른 결과만 조회
+        BookFacetRepository.FacetCounts counts =
+                bookRepository.aggregateFacets(filters, boundaries, search.getFacetTopAuthors());
+        long total = counts.getCount();
+        long availableCount = counts.getAvailableCount();
+        long[] priceCounts = counts.getPriceBucketCounts();
+
+        // 전체 건수는 패싯 합계로 알 수 있으므로 COUNT 쿼리 없이 Slice로 한 페이지만 조회
+        List<BookResponse> content = total > pageable.getOffset()
+                ? bookRepository.findBy(filters, query -> query.slice(pageable)).map(BookResponse::from).getContent()
+                : List.of();
+
+        List<BookFacetSearchResponse.PriceRange> priceRanges = new ArrayList<>(priceCounts.length);
+        for (int bucket = 0; bucket < priceCounts.length; bucket++) {
+            priceRanges.add(BookFacetSearchResponse.PriceRange.builder()
+                    .minPrice(bucket > 0 ? boundaries.get(bucket - 1) : null)
+                    .maxPrice(bucket < boundaries.size() ? boundaries.get(bucket) : null)
+                    .count(priceCounts[bucket])
+                    .build());
+        }
+
+        return BookFacetSearchResponse.builder()
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(total)
+                .totalPages((int) ((total + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                .facets(BookFacetSearchResponse.Facets.builder()
+                        .available(availableCount)
+                        .unavailable(total - availableCount)
+                        .priceRanges(priceRanges)
+                        .topAuthors(counts.getTopAuthors().stream()
+                                .map(row -> new BookFacetSearchResponse.AuthorCount(row.getAuthor(), row.getCount()))
+                                .toList())
+                        .build())
+                .build();
     }
 
     @Override
@@ -265,7 +466,14 @@ public class BookServiceImpl implements BookService {
 
     @Override
     public boolean isIsbnExists(String isbn) {
-        return bookRepository.existsByIsbn(isbn);
+        return isbnExists(isbn);
+    }
+
+    /**
+     * 존재 필터가 '없음'이라 답하면 DB 조회 생략
+     */
+    private boolean isbnExists(String isbn) {
+        return existenceFilter.mightContainIsbn(isbn) && bookRepository.existsByIsbn(isbn);
     }
 
     @Override
@@ -280,20 +488,45 @@ public class BookServiceImpl implements BookService {
             throw new BookException.DeletedBookAccessException("삭제된 도서의 재고를 수정할 수 없습니다: " + id);
         }
 
+        boolean wasAvailable = isAvailable(book);
         book.setAvailability(available);
 
         Book savedBook = bookRepository.save(book);
+        bookStatisticsCounter.bookUpdated(wasAvailable, priceOf(book), isAvailable(savedBook), priceOf(savedBook));
+        bookAvailabilityIndex.update(savedBook);
         return savedBook;
     }
 
     @Override
     public long getTotalBooksCount() {
-        return bookRepository.findAll().size();
+        return bookStatisticsCounter.snapshot().getTotalBooks();
     }
 
     @Override
     public long getActiveBooksCount() {
-        return bookRepository.findByDeletedDateIsNull().size();
+        return bookStatisticsCounter.snapshot().getActiveBooks();
+    }
+
+    @Override
+    public BookStatisticsResponse getBookStatistics() {
+        BookStatisticsCounter.Snapshot snapshot = bookStatisticsCounter.snapshot();
+        return BookStatisticsResponse.builder()
+                .totalBooks(snapshot.getTotalBooks())
+                .activeBooks(snapshot.getActiveBooks())
+                .deletedBooks(snapshot.getDeletedBooks())
+                .availableBooks(snapshot.getAvailableBooks())
+                .minPrice(snapshot.getMinPrice())
+                .maxPrice(snapshot.getMaxPrice())
+                .averagePrice(snapshot.getAveragePrice())
+                .build();
+    }
+
+    private static boolean isAvailable(Book book) {
+        return Boolean.TRUE.equals(book.getAvailable());
+    }
+
+    private static BigDecimal priceOf(Book book) {
+        return book.getPrice() != null ? book.getPrice().getAmount() : null;
     }
 
     /**
@@ -0,0 +1,226 @@
+package com.example.spring.application.service;
+
+import com.example.spring.domain.model.JobCheckpoint;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * job_checkpoint 점유 기반 청크 작업 실행 (연체 스윕/대여 보관 공통)
+ *
+ * 점유를 얻은 노드 하나만 실행하고, 청크마다 한 트랜잭션에서 작업 본문과 진행 위치 저장(점유 연장 포함)을
+ * 함께 커밋합니다. 진행 위치를 저장하지 못하면(점유를 다른 노드가 가져감) 그 청크를 롤백하고 멈추며,
+ * 중단된 실행은 다음 실행(다른 노드 포함)이 같은 기준 시각으로 마지막 커밋된 청크 다음부터 이어갑니다.
+ * 작업은 커서 다음부터 한 청크를 처리하는 본문만 구현합니다.
+ */
+@Slf4j
+final class CheckpointedJobRunner {
+
+    private final String jobName;
+    private final String label;
+    private final Cursor start;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+
+    /**
+     * @param label 로그에 쓰는 작업 이름
+     * @param start 처음 실행할 때의 커서 (이 위치 다음부터 읽음)
+     */
+    CheckpointedJobRunner(String jobName, String label, Cursor start, JobCheckpointRepository jobCheckpointRepository,
+                          TransactionTemplate transactionTemplate, Clock clock) {
+        this.jobName = jobName;
+        this.label = label;
+        this.start = start;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 점유를 얻으면 마지막 청크까지 처리하고 진행 위치를 비움
+     * @param cutoffAt 새로 시작할 때 현재 시각으로 기준 시각 계산 (재개하면 저장된 기준 시각 사용)
+     */
+    Outcome run(int chunkSize, Duration leaseDuration, UnaryOperator<LocalDateTime> cutoffAt, ChunkBody body) {
+        long startNanos = System.nanoTime();
+        if (!acquireLease(leaseDuration)) {
+            log.debug("{} 건너뜀 - 다른 노드가 실행 중", label);
+            return Outcome.builder().skipped(true).build();
+        }
+        try {
+            JobCheckpoint checkpoint = jobCheckpointRepository.findById(jobName).orElseThrow();
+            boolean resumed = checkpoint.isInProgress();
+            LocalDateTime cutoff = resumed ? checkpoint.getCutoff() : cutoffAt.apply(LocalDateTime.now(clock));
+            Cursor cursor = resumed && checkpoint.getCursorId() != null
+                    ? new Cursor(checkpoint.getCursorDueDate(), checkpoint.getCursorId())
+                    : start;
+            if (resumed) {
+                log.info("{} 재개 - 기준 시각 {}, 처리 {}건 이후부터", label, cutoff, checkpoint.getProcessedCount());
+            }
+
+            int chunks = 0;
+            long scanned = 0;
+            long changed = 0;
+            long maxChunkMillis = 0;
+            boolean leaseLost = false;
+            while (true) {
+                long chunkStart = System.nanoTime();
+                Cursor after = cursor;
+                Chunk chunk;
+                try {
+                    chunk = transactionTemplate.execute(status ->
+                            runChunk(body, cutoff, after, chunkSize, leaseDuration));
+                } catch (LeaseLostException e) {
+                    log.warn("{} 중단 - 점유를 다른 노드가 가져감 ({}청크 처리)", label, chunks);
+                    leaseLost = true;
+                    break;
+                }
+                if (chunk.scanned > 0) {
+                    chunks++;
+                    scanned += chunk.scanned;
+                    changed += chunk.changed;
+                    maxChunkMillis = Math.max(maxChunkMillis, elapsedMillis(chunkStart));
+                    cursor = chunk.last;
+                }
+                if (chunk.scanned < chunkSize) {
+                    break;
+                }
+            }
+            if (!leaseLost) {
+                transactionTemplate.executeWithoutResult(status ->
+                        jobCheckpointRepository.complete(jobName, owner, LocalDateTime.now(clock)));
+            }
+
+            Outcome outcome = Outcome.builder()
+                    .resumed(resumed)
+                    .chunks(chunks)
+                    .scanned(scanned)
+                    .changed(changed)
+                    .maxChunkMillis(maxChunkMillis)
+                    .elapsedMillis(elapsedMillis(startNanos))
+                    .build();
+            if (!leaseLost) {
+                log.info("{} 완료 - 기준 시각 {}, 대상 {}건, 변경 {}건, {}청크, {}ms",
+                        label, cutoff, scanned, changed, chunks, outcome.getElapsedMillis());
+            }
+            return outcome;
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.release(jobName, owner));
+        }
+    }
+
+    /**
+     * 한 청크 처리와 진행 위치 저장
+     */
+    private Chunk runChunk(ChunkBody body, LocalDateTime cutoff, Cursor after, int chunkSize, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Chunk chunk = body.process(cutoff, after, chunkSize, now);
+        if (chunk.scanned == 0) {
+            return chunk;
+        }
+        int advanced = jobCheckpointRepository.advance(jobName, owner, cutoff, chunk.last.dueDate, chunk.last.id,
+                chunk.scanned, now.plus(leaseDuration));
+        if (advanced == 0) {
+            throw new LeaseLostException();  // 이 청크의 변경은 롤백
+        }
+        return chunk;
+    }
+
+    private boolean acquireLease(Duration leaseDuration) {
+        if (!jobCheckpointRepository.existsById(jobName)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jobCheckpointRepository.saveAndFlush(new JobCheckpoint(jobName)));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만든 경우
+            }
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer acquired = transactionTemplate.execute(status ->
+                jobCheckpointRepository.tryAcquire(jobName, owner, now, now.plus(leaseDuration)));
+        return acquired != null && acquired == 1;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 한 청크의 작업 본문 (실행기가 연 트랜잭션 안에서 호출)
+     */
+    @FunctionalInterface
+    interface ChunkBody {
+        /**
+         * 커서 다음부터 최대 limit건 처리
+         * @param now 이 청크의 변경 시각
+         */
+        Chunk process(LocalDateTime cutoff, Cursor after, int limit, LocalDateTime now);
+    }
+
+    /**
+     * 진행 위치 - 마지막으로 처리한 행의 (반납 예정일, id) (id 순으로만 읽는 작업은 반납 예정일 null)
+     */
+    @Getter
+    static final class Cursor {
+        private final LocalDateTime dueDate;
+        private final long id;
+
+        Cursor(LocalDateTime dueDate, long id) {
+            this.dueDate = dueDate;
+            this.id = id;
+        }
+    }
+
+    /**
+     * 한 청크 처리 결과
+     */
+    static final class Chunk {
+        private static final Chunk EMPTY = new Chunk(0, 0, null);
+
+        private final int scanned;
+        private final int changed;
+        private final Cursor last;
+
+        /**
+         * @param scanned 읽은 행 수 (limit보다 적으면 마지막 청크)
+         * @param changed 실제로 바뀐 행 수
+         * @param last 마지막으로 읽은 행 (다음 청크는 이 다음부터)
+         */
+        Chunk(int scanned, int changed, Cursor last) {
+            this.scanned = scanned;
+            this.changed = changed;
+            this.last = last;
+        }
+
+        static Chunk empty() {
+            return EMPTY;
+        }
+    }
+
+    @Getter
+    @Builder
+    static final class Outcome {
+        private final boolean skipped;        // 다른 노드가 점유 중이라 실행하지 않음
+        private final boolean resumed;        // 중단된 실행을 이어서 처리
+        private final int chunks;
+        private final long scanned;
+        private final long changed;
+        private final long maxChunkMillis;    // 가장 오래 걸린 청크 트랜잭션 시간
+        private final long elapsedMillis;
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+    }
+}
\ No newline at end of file
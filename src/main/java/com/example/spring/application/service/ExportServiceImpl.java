@@ -0,0 +1,157 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.ExportService;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.Order;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.repository.OrderRepository;
+import com.example.spring.domain.vo.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.spring.application.service.ExportWriter.column;
+
+/**
+ * ExportService 구현체
+ *
+ * 저장소의 Stream 조회(fetch size 1000, 읽기 전용 힌트)로 DB 커서를 열고 한 행씩 기록합니다.
+ * 기록한 엔티티는 바로 분리하고, 함께 조회한 연관 엔티티도 CLEAR_INTERVAL 행마다 영속성 컨텍스트를 비워
+ * 1차 캐시가 테이블 크기만큼 커지지 않게 합니다.
+ * MySQL은 useCursorFetch=true 설정이 있어야 fetch size 단위로 결과를 나눠 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    // 저장소 스트리밍 쿼리의 fetch size와 같게 유지
+    private static final int CLEAR_INTERVAL = 1_000;
+
+    private static final List<ExportWriter.Column<Book>> BOOK_COLUMNS = List.of(
+            column("id", Book::getId),
+            column("title", Book::getTitle),
+            column("author", Book::getAuthor),
+            column("isbn", book -> book.getIsbn() != null ? book.getIsbn().getValue() : null),
+            column("price", book -> amount(book.getPrice())),
+            column("available", Book::getAvailable),
+            column("coverImageUrl", Book::getCoverImageUrl),
+            column("createdDate", Book::getCreatedDate),
+            column("updatedDate", Book::getUpdatedDate),
+            column("deletedDate", Book::getDeletedDate));
+
+    private static final List<ExportWriter.Column<Loan>> LOAN_COLUMNS = List.of(
+            column("id", Loan::getId),
+            column("memberId", loan -> loan.getMember().getId()),
+            column("memberName", loan -> loan.getMember().getName()),
+            column("memberEmail", loan -> loan.getMember().getEmail()),
+            column("bookId", loan -> loan.getBook().getId()),
+            column("bookTitle", loan -> loan.getBook().getTitle()),
+            column("bookIsbn", loan -> loan.getBook().getIsbn() != null ? loan.getBook().getIsbn().getValue() : null),
+            column("loanDate", Loan::getLoanDate),
+            column("dueDate", Loan::getDueDate),
+            column("returnDate", Loan::getReturnDate),
+            column("status", Loan::getStatus),
+            column("overdueFee", loan -> amount(loan.getOverdueFee())),
+            column("extensionCount", Loan::getExtensionCount));
+
+    private static final List<ExportWriter.Column<Order>> ORDER_COLUMNS = List.of(
+            column("id", Order::getId),
+            column("memberId", order -> order.getMember() != null ? order.getMember().getId() : null),
+            column("memberEmail", order -> order.getMember() != null ? order.getMember().getEmail() : null),
+            column("status", Order::getStatus),
+            column("totalAmount", order -> amount(order.getTotalAmount())),
+            column("discountAmount", order -> amount(order.getDiscountAmount())),
+            column("finalAmount", order -> amount(order.getFinalAmount())),
+            column("pointsUsed", Order::getPointsUsed),
+            column("pointsEarned", Order::getPointsEarned),
+            column("couponCode", Order::getCouponCode),
+            column("paymentStatus", order -> order.getPayment() != null ? order.getPayment().getStatus() : null),
+            column("deliveryStatus", order -> order.getDelivery() != null ? order.getDelivery().getStatus() : null),
+            column("orderDate", Order::getOrderDate),
+            column("confirmedDate", Order::getConfirmedDate),
+            column("shippedDate", Order::getShippedDate),
+            column("deliveredDate", Order::getDeliveredDate),
+            column("cancelledDate", Order::getCancelledDate));
+
+    private static final List<ExportWriter.Column<Member>> MEMBER_COLUMNS = List.of(
+            column("id", Member::getId),
+            column("name", Member::getName),
+            column("email", Member::getEmail),
+            column("role", Member::getRole),
+            column("membershipType", Member::getMembershipType),
+            column("joinDate", Member::getJoinDate));
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+    private final OrderRepository orderRepository;
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long exportBooks(OutputStream output, Format format) {
+        return export("도서", bookRepository.streamAll(), BOOK_COLUMNS, output, format);
+    }
+
+    @Override
+    public long exportLoans(OutputStream output, Format format) {
+        return export("대여", loanRepository.streamAllWithMemberAndBook(), LOAN_COLUMNS, output, format);
+    }
+
+    @Override
+    public long exportOrders(OutputStream output, Format format) {
+        return export("주문", orderRepository.streamAllWithMemberPaymentAndDelivery(), ORDER_COLUMNS, output, format);
+    }
+
+    @Override
+    public long exportMembers(OutputStream output, Format format) {
+        return export("회원", memberRepository.streamAll(), MEMBER_COLUMNS, output, format);
+    }
+
+    private <T> long export(String name, Stream<T> rows, List<ExportWriter.Column<T>> columns,
+                            OutputStream output, Format format) {
+        long start = System.nanoTime();
+        long count = 0;
+        try (rows) {
+            ExportWriter<T> writer = new ExportWriter<>(output, format, columns, objectMapper);
+            writer.writeHeader();
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.write(row);
+                entityManager.detach(row);
+                if (++count % CLEAR_INTERVAL == 0) {
+                    // 함께 조회한 회원/도서 등 연관 엔티티까지 분리하고 기록한 만큼 응답으로 내보냄
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(name + " 내보내기 출력에 실패했습니다", e);
+        }
+        log.info("{} 내보내기 완료 - {}행, 형식 {}, {}ms", name, count, format, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static BigDecimal amount(Money money) {
+        return money != null ? money.getAmount() : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 내보내기 행을 CSV/NDJSON으로 기록
+ *
+ * 행마다 열 목록의 값을 바로 출력 버퍼에 쓰고 행을 보관하지 않습니다.
+ * CSV 값에 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 "" 로 이스케이프합니다.
+ * NDJSON 값은 ObjectMapper 설정(날짜 형식 등)을 따릅니다.
+ */
+final class ExportWriter<T> {
+
+    private final Writer writer;
+    private final ExportService.Format format;
+    private final List<Column<T>> columns;
+    private final JsonGenerator generator;
+
+    ExportWriter(OutputStream output, ExportService.Format format, List<Column<T>> columns,
+                 ObjectMapper objectMapper) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.format = format;
+        this.columns = columns;
+        if (format == ExportService.Format.NDJSON) {
+            this.generator = objectMapper.createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+        }
+    }
+
+    static <T> Column<T> column(String name, Function<T, Object> value) {
+        return new Column<>(name, value);
+    }
+
+    /**
+     * CSV 헤더 (NDJSON은 없음)
+     */
+    void writeHeader() throws IOException {
+        if (format != ExportService.Format.CSV) {
+            return;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsv(columns.get(i).getName());
+        }
+        writer.write('\n');
+    }
+
+    void write(T row) throws IOException {
+        if (format == ExportService.Format.NDJSON) {
+            generator.writeStartObject();
+            for (Column<T> column : columns) {
+                generator.writeObjectField(column.getName(), column.getValue().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            return;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).getValue().apply(row);
+            if (value != null) {
+                writeCsv(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 버퍼를 출력 스트림으로 내보냄 (출력 스트림은 닫지 않음)
+     */
+    void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        } else {
+            writer.flush();
+        }
+    }
+
+    private void writeCsv(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * 내보낼 열 (이름과 값 추출 함수)
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class Column<T> {
+        private final String name;
+        private final Function<T, Object> value;
+    }
+}
\ No newline at end of file
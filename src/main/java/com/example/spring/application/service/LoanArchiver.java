@@ -0,0 +1,92 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.service.CheckpointedJobRunner.Chunk;
+import com.example.spring.application.service.CheckpointedJobRunner.Cursor;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.LoansArchivedEvent;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 보관 작업
+ *
+ * 반납/취소 후 보관 기간(retention)이 지난 대여를 loan에서 loan_archive로 옮겨, 대여 중인 대여를 찾는
+ * 조회가 오래된 반납 이력을 함께 읽지 않게 합니다. 대상은 id 커서로 chunkSize건씩 읽고, 청크마다 한 트랜잭션에서
+ * 복사/삭제와 진행 위치 저장을 함께 커밋합니다.
+ *
+ * 점유/진행 위치/재개는 연체 스윕(OverdueLoanSweeper)과 같이 CheckpointedJobRunner가 맡습니다.
+ * 옮긴 대여는 청크마다 LoansArchivedEvent로 알립니다.
+ */
+@Component
+public class LoanArchiver {
+
+    public static final String JOB_NAME = "loan-archive";
+
+    private final LoanRepository loanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookstoreProperties properties;
+    private final CheckpointedJobRunner runner;
+
+    public LoanArchiver(LoanRepository loanRepository, JobCheckpointRepository jobCheckpointRepository,
+                        TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                        BookstoreProperties properties, Clock clock) {
+        this.loanRepository = loanRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.runner = new CheckpointedJobRunner(JOB_NAME, "대여 보관", new Cursor(null, 0),
+                jobCheckpointRepository, transactionTemplate, clock);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.loan-archive.interval:PT6H}",
+               initialDelayString = "${bookstore.loan-archive.interval:PT6H}")
+    public ArchiveResult archive() {
+        BookstoreProperties.LoanArchive config = properties.getLoanArchive();
+        CheckpointedJobRunner.Outcome outcome = runner.run(config.getChunkSize(), config.getLeaseDuration(),
+                now -> now.minus(config.getRetention()), this::archiveChunk);
+        return ArchiveResult.builder()
+                .skipped(outcome.isSkipped())
+                .resumed(outcome.isResumed())
+                .chunks(outcome.getChunks())
+                .scannedLoans(outcome.getScanned())
+                .archivedLoans(outcome.getChanged())
+                .maxChunkMillis(outcome.getMaxChunkMillis())
+                .elapsedMillis(outcome.getElapsedMillis())
+                .build();
+    }
+
+    /**
+     * 한 청크 이동 (closedBefore 전에 반납/취소된 대여)
+     */
+    private Chunk archiveChunk(LocalDateTime closedBefore, Cursor after, int limit, LocalDateTime now) {
+        List<Long> loanIds = loanRepository.findArchivableLoanIds(closedBefore, after.getId(), limit);
+        if (loanIds.isEmpty()) {
+            return Chunk.empty();
+        }
+
+        int moved = loanRepository.moveToArchive(loanIds, closedBefore, now);
+        eventPublisher.publishEvent(new LoansArchivedEvent(loanIds));  // 커밋 후 반영되므로 점유를 잃어 롤백되면 무시됨
+        return new Chunk(loanIds.size(), moved, new Cursor(null, loanIds.get(loanIds.size() - 1)));
+    }
+
+    @Getter
+    @Builder
+    public static class ArchiveResult {
+        private final boolean skipped;        // 다른 노드가 점유 중이라 실행하지 않음
+        private final boolean resumed;        // 중단된 실행을 이어서 처리
+        private final int chunks;
+        private final long scannedLoans;      // 보관 대상으로 읽은 대여 수
+        private final long archivedLoans;     // loan_archive로 옮긴 대여 수 (읽은 뒤 삭제된 대여 제외)
+        private final long maxChunkMillis;    // 가장 오래 걸린 청크 트랜잭션 시간
+        private final long elapsedMillis;
+    }
+}
\ No newline at end of file
@@ -1,36 +1,57 @@
 package com.example.spring.application.service;
 
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.BatchReturnRequest;
 import com.example.spring.application.dto.request.ClientLoanRequest;
 import com.example.spring.application.dto.request.CreateLoanRequest;
 import com.example.spring.application.dto.request.ExtendLoanRequest;
 import com.example.spring.application.dto.request.UpdateLoanRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
 import com.example.spring.application.dto.response.LoanResponse;
 import com.example.spring.domain.model.Book;
 import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanArchive;
 import com.example.spring.domain.model.LoanStatus;
 import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.event.BookChangedEvent;
 import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanChangedEvent;
+import com.example.spring.domain.event.LoanExtendedEvent;
 import com.example.spring.domain.event.LoanReturnedEvent;
 import com.example.spring.exception.BookException.BookNotFoundException;
 import com.example.spring.exception.LoanException;
 import com.example.spring.exception.MemberException.MemberNotFoundException;
 import com.example.spring.exception.ErrorMessages;
 import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanArchiveRepository;
 import com.example.spring.domain.repository.LoanRepository;
 import com.example.spring.domain.repository.LoanSpecification;
 import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.MoneyAccumulator;
 import com.example.spring.application.LoanService;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,12 +64,16 @@ import java.util.stream.Collectors;
 public class LoanServiceImpl implements LoanService {
 
     private final LoanRepository loanRepository;
+    private final LoanArchiveRepository loanArchiveRepository;
     private final BookRepository bookRepository;
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final LoanSearchIndex loanSearchIndex;
+    private final Clock clock;
 
     /**
-     * 회원의 최대 대여 가능 도서 수
+     * 회원 등급이 없을 때의 최대 대여 가능 도서 수
      */
     private static final int MAX_LOAN_COUNT = 5;
 
@@ -70,10 +95,10 @@ public class LoanServiceImpl implements LoanService {
                 .orElseThrow(() -> new BookNotFoundException("도서를 찾을 수 없습니다: " + request.getBookId()));
 
         // 대여 가능 여부 검증
-        validateLoanRequest(member, book);
+        LocalDateTime now = LocalDateTime.now(clock);
+        validateLoanRequest(member, book, now);
 
         // 대여 생성
-        LocalDateTime now = LocalDateTime.now();
         LocalDateTime dueDate = now.plusDays(request.getLoanDays() != null ? request.getLoanDays() : 14);
 
         Loan loan = Loan.builder()
@@ -92,58 +117,114 @@ public class LoanServiceImpl implements LoanService {
         // 대출 생성 이벤트 발행
         eventPublisher.publishEvent(new LoanCreatedEvent(savedLoan));
 
-        return LoanResponse.from(savedLoan);
+        return LoanResponse.from(savedLoan, now);
     }
 
+    /**
+     * 일괄 대여 - 도서는 한 번에 조회하고, 재고 변경과 대여 저장도 각각 한 번의 UPDATE와 JDBC 배치로 처리
+     */
+    @Override
+    @Transactional
+    public List<LoanResponse> createLoans(BatchCheckoutRequest request) {
+
+        // 회원 조회
+        Member member = memberRepository.findById(request.getMemberId())
+                .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다: " + request.getMemberId()));
+
+        List<Long> bookIds = request.getBookIds();
+        if (bookIds.stream().distinct().count() != bookIds.size()) {
+            throw new LoanException.InvalidLoanStateException("같은 도서를 중복해서 대여할 수 없습니다: " + bookIds);
+        }
+
+        // 도서 조회 (요청 순서 유지)
+        Map<Long, Book> booksById = bookRepository.findAllById(bookIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Book> books = new ArrayList<>(bookIds.size());
+        for (Long bookId : bookIds) {
+            Book book = booksById.get(bookId);
+            if (book == null || book.isDeleted()) {
+                throw new BookNotFoundException("도서를 찾을 수 없습니다: " + bookId);
+            }
+            books.add(book);
+        }
+
+        // 대여 가능 여부 검증
+        LocalDateTime now = LocalDateTime.now(clock);
+        validateBatchLoanRequest(member, books, now);
+
+        // 도서 재고 상태 업데이트 - 검증 후 다른 대여가 먼저 가져간 도서가 있으면 전체 롤백
+        int loanedOut = bookRepository.markLoanedOut(bookIds, now);
+        if (loanedOut != bookIds.size()) {
+            throw contestedBookException(bookIds);
+        }
+
+        // 대여 생성
+        LocalDateTime dueDate = now.plusDays(request.getLoanDays() != null ? request.getLoanDays() : 14);
+        List<Loan> loans = new ArrayList<>(books.size());
+        for (Book book : books) {
+            book.loanOut();  // 응답/이벤트용 - 영속성 컨텍스트에서 분리된 엔티티라 다시 저장되지 않음
+            loans.add(Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(now)
+                    .dueDate(dueDate)
+                    .createdDate(now)
+                    .build());
+        }
+        List<Loan> savedLoans = loanRepository.insertAll(loans);
+
+        // 대출 생성 이벤트 발행
+        savedLoans.forEach(loan -> eventPublisher.publishEvent(new LoanCreatedEvent(loan)));
 
+        return toResponses(savedLoans);
+    }
 
     @Override
     public List<LoanResponse> getAllLoans() {
-        return loanRepository.findAll().stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findAll());
     }
 
     @Override
     public List<LoanResponse> getLoansByMemberId(Long memberId) {
-        return loanRepository.findByMemberId(memberId).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByMemberId(memberId));
     }
 
     @Override
     public List<LoanResponse> getLoansByBookId(Long bookId) {
-        return loanRepository.findByBookId(bookId).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByBookId(bookId));
+    }
+
+    @Override
+    public List<LoanResponse> getLoansByMemberId(Long memberId, boolean includeHistory) {
+        List<Loan> loans = loanRepository.findByMemberId(memberId);
+        return toResponses(includeHistory ? withArchived(loans, loanArchiveRepository.findByMemberId(memberId)) : loans);
+    }
+
+    @Override
+    public List<LoanResponse> getLoansByBookId(Long bookId, boolean includeHistory) {
+        List<Loan> loans = loanRepository.findByBookId(bookId);
+        return toResponses(includeHistory ? withArchived(loans, loanArchiveRepository.findByBookId(bookId)) : loans);
     }
 
     @Override
     public List<LoanResponse> getActiveLoans() {
-        return loanRepository.findByReturnDateIsNull().stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByReturnDateIsNull());
     }
 
     @Override
     public List<LoanResponse> getActiveLoansByMemberId(Long memberId) {
-        return loanRepository.findByMemberIdAndReturnDateIsNull(memberId).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByMemberIdAndReturnDateIsNull(memberId));
     }
 
     @Override
     public List<LoanResponse> getOverdueLoans() {
-        return loanRepository.findOverdueLoans().stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now(clock);
+        return toResponses(loanRepository.findOverdueLoans(now), now);
     }
 
     @Override
     public List<LoanResponse> getLoansByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return loanRepository.findByLoanDateBetween(startDate, endDate).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByLoanDateBetween(startDate, endDate));
     }
 
     @Override
@@ -157,11 +238,12 @@ public class LoanServiceImpl implements LoanService {
             throw new LoanException.AlreadyReturnedException(loanId);
         }
 
-        // 연체 여부 확인 (이벤트 발행 전에 확인)
-        boolean wasOverdue = loan.isOverdue();
+        // 연체 여부 확인 (이벤트 발행 전에 확인, 반납 처리/응답과 같은 시각 기준)
+        LocalDateTime now = LocalDateTime.now(clock);
+        boolean wasOverdue = loan.dueStatusAt(now).isOverdue();
 
         // 반납 처리
-        loan.returnBook();
+        loan.returnBook(now);
         Loan savedLoan = loanRepository.save(loan);
 
         // 도서 재고 상태 업데이트 (대여 가능으로 변경)
@@ -172,7 +254,105 @@ public class LoanServiceImpl implements LoanService {
         // 도서 반납 이벤트 발행
         eventPublisher.publishEvent(new LoanReturnedEvent(savedLoan, wasOverdue));
 
-        return LoanResponse.from(savedLoan);
+        return LoanResponse.from(savedLoan, now);
+    }
+
+    /**
+     * 일괄 반납 - 대상 대여는 회원/도서와 함께 한 번에 읽고, 반납 처리는 같은 시각으로 계산해
+     * 대여는 JDBC 배치 UPDATE 한 번, 도서 재고는 UPDATE 한 번으로 저장
+     */
+    @Override
+    @Transactional
+    public BatchReturnResponse returnBooks(BatchReturnRequest request) {
+        List<Long> loanIds = request.getLoanIds() != null ? request.getLoanIds() : List.of();
+        List<Long> bookIds = request.getBookIds() != null ? request.getBookIds() : List.of();
+        if (loanIds.isEmpty() && bookIds.isEmpty()) {
+            throw new LoanException.InvalidLoanStateException("반납할 대여 ID 또는 도서 ID가 필요합니다");
+        }
+
+        // 대여 id로 지정한 대여 조회
+        Map<Long, Loan> targets = new LinkedHashMap<>();
+        List<Long> notFoundLoanIds = new ArrayList<>();
+        List<Long> alreadyReturnedLoanIds = new ArrayList<>();
+        List<Long> notReturnableLoanIds = new ArrayList<>();
+        if (!loanIds.isEmpty()) {
+            Map<Long, Loan> loansById = loanRepository.findAllForReturnByIdIn(loanIds).stream()
+                    .collect(Collectors.toMap(Loan::getId, Function.identity()));
+            for (Long loanId : new LinkedHashSet<>(loanIds)) {
+                Loan loan = loansById.get(loanId);
+                if (loan == null) {
+                    notFoundLoanIds.add(loanId);
+                } else if (loan.getReturnDate() != null) {
+                    alreadyReturnedLoanIds.add(loanId);
+                } else if (loan.getStatus() == LoanStatus.CANCELLED) {
+                    notReturnableLoanIds.add(loanId);  // 취소된 대여는 반납일이 없어도 반납 대상이 아님
+                } else {
+                    targets.put(loanId, loan);
+                }
+            }
+        }
+
+        // 도서 id로 지정한 도서의 미반납 대여 조회
+        List<Long> unmatchedBookIds = new ArrayList<>();
+        if (!bookIds.isEmpty()) {
+            Map<Long, List<Loan>> loansByBookId = loanRepository.findUnreturnedForReturnByBookIdIn(bookIds).stream()
+                    .collect(Collectors.groupingBy(loan -> loan.getBook().getId()));
+            for (Long bookId : new LinkedHashSet<>(bookIds)) {
+                List<Loan> loans = loansByBookId.get(bookId);
+                if (loans == null) {
+                    unmatchedBookIds.add(bookId);
+                } else {
+                    loans.forEach(loan -> targets.putIfAbsent(loan.getId(), loan));
+                }
+            }
+        }
+
+        // 반납 처리 - 연체 여부/연체료를 모든 대여에 같은 시각으로 계산
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Loan> loans = new ArrayList<>(targets.values());
+        boolean[] wasOverdue = new boolean[loans.size()];
+        for (int i = 0; i < loans.size(); i++) {
+            wasOverdue[i] = loans.get(i).dueStatusAt(now).isOverdue();
+            loans.get(i).returnBook(now);
+        }
+        boolean[] updated = loanRepository.updateReturned(loans);
+
+        List<Loan> returned = new ArrayList<>(loans.size());
+        List<LoanReturnedEvent> events = new ArrayList<>(loans.size());
+        MoneyAccumulator totalOverdueFee = new MoneyAccumulator();
+        int overdueCount = 0;
+        for (int i = 0; i < loans.size(); i++) {
+            Loan loan = loans.get(i);
+            if (!updated[i]) {
+                alreadyReturnedLoanIds.add(loan.getId());  // 조회 후 다른 요청이 먼저 반납 (또는 취소)
+                continue;
+            }
+            returned.add(loan);
+            events.add(new LoanReturnedEvent(loan, wasOverdue[i]));
+            totalOverdueFee.add(loan.getOverdueFee());
+            if (wasOverdue[i]) {
+                overdueCount++;
+            }
+        }
+
+        // 도서 재고 상태 업데이트 (대여 가능으로 변경)
+        if (!returned.isEmpty()) {
+            bookRepository.markReturned(returned.stream().map(loan -> loan.getBook().getId()).distinct().toList(), now);
+            returned.forEach(loan -> loan.getBook().returnBook());  // 응답/이벤트용 - 읽기 전용으로 읽어 다시 저장되지 않음
+        }
+
+        // 도서 반납 이벤트 발행 (리스너는 커밋 후 함께 처리)
+        events.forEach(eventPublisher::publishEvent);
+
+        return BatchReturnResponse.builder()
+                .returned(toResponses(returned))
+                .overdueCount(overdueCount)
+                .totalOverdueFee(totalOverdueFee.toMoney().getAmount())
+                .notFoundLoanIds(notFoundLoanIds)
+                .alreadyReturnedLoanIds(alreadyReturnedLoanIds)
+                .notReturnableLoanIds(notReturnableLoanIds)
+                .unmatchedBookIds(unmatchedBookIds)
+                .build();
     }
 
     @Override
@@ -183,13 +363,16 @@ public class LoanServiceImpl implements LoanService {
                 .orElseThrow(() -> new LoanException.LoanNotFoundException(loanId));
 
         // 연장 가능 여부 검증
-        validateExtension(loan);
+        LocalDateTime now = LocalDateTime.now(clock);
+        validateExtension(loan, now);
 
         try {
-            loan.extendLoan(request.getDays(), MAX_EXTENSION_COUNT);
+            LocalDateTime previousDueDate = loan.getDueDate();
+            loan.extendLoan(request.getDays(), MAX_EXTENSION_COUNT, now);
             Loan savedLoan = loanRepository.save(loan);
+            eventPublisher.publishEvent(new LoanExtendedEvent(savedLoan, previousDueDate));
 
-            return LoanResponse.from(savedLoan);
+            return LoanResponse.from(savedLoan, now);
         } catch (IllegalStateException e) {
             throw new LoanException.LoanExtensionNotAllowedException(e.getMessage());
         }
@@ -198,18 +381,19 @@ public class LoanServiceImpl implements LoanService {
     /**
      * 연장 가능 여부 검증
      */
-    private void validateExtension(Loan loan) {
+    private void validateExtension(Loan loan, LocalDateTime now) {
         if (loan.getReturnDate() != null) {
             throw new LoanException.AlreadyReturnedException(loan.getId());
         }
-        if (loan.isOverdue()) {
+        Loan.DueStatus due = loan.dueStatusAt(now);
+        if (due.isOverdue()) {
             throw new LoanException.LoanExtensionNotAllowedException("연체된 대여는 연장할 수 없습니다.");
         }
         if (loan.getExtensionCount() >= MAX_EXTENSION_COUNT) {
             throw new LoanException.ExtensionLimitExceededException(loan.getExtensionCount(), MAX_EXTENSION_COUNT);
         }
-        if (!loan.canExtendNow()) {
-            throw new LoanException.ExtensionTooEarlyException(loan.getDaysUntilDue());
+        if (!due.isCanExtendNow()) {
+            throw new LoanException.ExtensionTooEarlyException(due.getDaysUntilDue());
         }
     }
 
@@ -223,11 +407,10 @@ public class LoanServiceImpl implements LoanService {
         try {
             loan.cancel();
             loanRepository.save(loan);
+            eventPublisher.publishEvent(new LoanChangedEvent(loan, false));
 
             // 도서 재고 상태 복원
-            Book book = loan.getBook();
-            book.returnBook();
-            bookRepository.save(book);
+            returnBookStock(loan.getBook());
         } catch (IllegalStateException e) {
             throw new LoanException.InvalidLoanStateException(e.getMessage());
         }
@@ -239,7 +422,7 @@ public class LoanServiceImpl implements LoanService {
         Loan loan = loanRepository.findById(loanId)
                 .orElseThrow(() -> new LoanException.LoanNotFoundException(loanId));
 
-        return loan.calculateOverdueFee().getAmount();
+        return loan.calculateOverdueFee(LocalDateTime.now(clock)).getAmount();
     }
 
     @Override
@@ -250,28 +433,21 @@ public class LoanServiceImpl implements LoanService {
     @Override
     public boolean canMemberLoan(Long memberId) {
 
-        // 회원 존재 여부 확인
-        if (!memberRepository.findById(memberId).isPresent()) {
-            return false;
-        }
-
-        // 현재 대여 중인 도서 수 확인
-        int currentLoans = loanRepository.findByMemberIdAndReturnDateIsNull(memberId).size();
-        if (currentLoans >= MAX_LOAN_COUNT) {
-            return false;
-        }
-
-        // 연체 중인 대여 확인
-        List<Loan> overdueLoans = loanRepository.findByMemberId(memberId).stream()
-                .filter(Loan::isOverdue)
-                .collect(Collectors.toList());
-
-        return overdueLoans.isEmpty();
+        // 회원이 없으면 빈 결과
+        return loanRepository.findLoanEligibility(memberId, null, LocalDateTime.now(clock))
+                .map(eligibility -> eligibility.getActiveLoanCount() < maxLoanCount(eligibility.getMembershipType())
+                        && !eligibility.isOverdue())
+                .orElse(false);
     }
 
     @Override
     public boolean isBookAvailableForLoan(Long bookId) {
 
+        // 대여 가능 비트맵이 준비되었으면 DB 조회 없이 판단
+        if (bookAvailabilityIndex.isReady()) {
+            return bookAvailabilityIndex.isAvailableForLoan(bookId);
+        }
+
         // 도서 존재 및 활성 상태 확인
         Optional<Book> bookOpt = bookRepository.findById(bookId);
         if (bookOpt.isEmpty() || !bookOpt.get().getAvailable()) {
@@ -286,30 +462,22 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public List<LoanResponse> getLoansByMemberName(String name) {
-        return loanRepository.findByMemberName(name).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByMemberName(name));
     }
 
     @Override
     public List<LoanResponse> getLoansByBookTitle(String title) {
-        return loanRepository.findByBookTitle(title).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findByBookTitle(title));
     }
 
     @Override
     public List<LoanResponse> getOverdueLoansByMemberEmail(String email) {
-        return loanRepository.findOverdueLoansByMemberEmail(email, LoanStatus.OVERDUE).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findOverdueLoansByMemberEmail(email, LoanStatus.OVERDUE));
     }
 
     @Override
     public List<LoanResponse> getAllLoansWithDetails() {
-        return loanRepository.findAllWithMemberAndBook().stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findAllWithMemberAndBook());
     }
 
     @Override
@@ -328,9 +496,7 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public List<LoanResponse> getOverdueLoansWithMemberInfo() {
-        return loanRepository.findOverdueLoansWithMember(LoanStatus.OVERDUE).stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loanRepository.findOverdueLoansWithMember(LoanStatus.OVERDUE));
     }
 
     // ========== API 명세 기반 메서드 구현 ==========
@@ -339,18 +505,31 @@ public class LoanServiceImpl implements LoanService {
     @Transactional(readOnly = true)
     public Page<LoanResponse> getAllLoansWithPagination(Pageable pageable, String searchQuery, String statusFilter) {
 
+        // 검색 읽기 모델에서 페이지의 대여 id만 고르고 그 대여만 id로 읽음 (조인 + LIKE 전체 스캔 회피)
+        if (loanSearchIndex.isReady() && loanSearchIndex.supports(pageable)) {
+            Page<Long> ids = loanSearchIndex.search(searchQuery, statusFilter, pageable);
+            Map<Long, Loan> loans = loanRepository.findByIdIn(ids.getContent()).stream()
+                    .collect(Collectors.toMap(Loan::getId, Function.identity()));
+            List<Loan> ordered = ids.getContent().stream()
+                    .map(loans::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(toResponses(ordered), pageable, ids.getTotalElements());
+        }
+
         Page<Loan> loanPage = loanRepository.findAll(
                 LoanSpecification.withFilters(searchQuery, statusFilter),
                 pageable
         );
 
-        return loanPage.map(LoanResponse::from);
+        LocalDateTime now = LocalDateTime.now(clock);
+        return loanPage.map(loan -> LoanResponse.from(loan, now));
     }
 
     @Override
     public Optional<LoanResponse> getLoanById(Long id) {
         return loanRepository.findById(id)
-                .map(LoanResponse::from);
+                .map(loan -> LoanResponse.from(loan, LocalDateTime.now(clock)));
     }
 
     @Override
@@ -361,25 +540,32 @@ public class LoanServiceImpl implements LoanService {
                 .orElseThrow(() -> new LoanException.LoanNotFoundException(loanId));
 
         // 상태 업데이트 (반납 처리 등)
-        updateLoanStatus(loan, request.getStatus());
+        LocalDateTime now = LocalDateTime.now(clock);
+        updateLoanStatus(loan, request.getStatus(), now);
 
         // 반납일 연장
-        extendDueDate(loan, request.getDueDate());
+        LocalDateTime previousDueDate = loan.getDueDate();
+        extendDueDate(loan, request.getDueDate(), now);
 
         Loan savedLoan = loanRepository.save(loan);
-        return LoanResponse.from(savedLoan);
+        if (!previousDueDate.equals(savedLoan.getDueDate())) {
+            eventPublisher.publishEvent(new LoanExtendedEvent(savedLoan, previousDueDate));
+        } else if (request.getStatus() != null) {
+            eventPublisher.publishEvent(new LoanChangedEvent(savedLoan, false));
+        }
+        return LoanResponse.from(savedLoan, now);
     }
 
     /**
      * 대여 상태 업데이트 (반납 처리 포함)
      */
-    private void updateLoanStatus(Loan loan, LoanStatus newStatus) {
+    private void updateLoanStatus(Loan loan, LoanStatus newStatus, LocalDateTime now) {
         if (newStatus == null) {
             return;
         }
 
         if (newStatus == LoanStatus.RETURNED) {
-            processReturn(loan);
+            processReturn(loan, now);
             return;
         }
 
@@ -390,24 +576,32 @@ public class LoanServiceImpl implements LoanService {
     /**
      * 반납 처리
      */
-    private void processReturn(Loan loan) {
-        loan.returnBook();
+    private void processReturn(Loan loan, LocalDateTime now) {
+        loan.returnBook(now);
 
         // 도서 재고 상태 업데이트
-        Book book = loan.getBook();
+        returnBookStock(loan.getBook());
+    }
+
+    /**
+     * 대출 이벤트 없이 도서를 대여 가능 상태로 되돌림 (캐시/통계 반영용 도서 변경 이벤트 발행)
+     */
+    private void returnBookStock(Book book) {
+        boolean wasAvailable = Boolean.TRUE.equals(book.getAvailable());
         book.returnBook();
         bookRepository.save(book);
+        eventPublisher.publishEvent(new BookChangedEvent(book, wasAvailable));
     }
 
     /**
      * 반납일 연장 (관리자용 - PATCH API에서 직접 dueDate 변경)
      */
-    private void extendDueDate(Loan loan, LocalDateTime newDueDate) {
+    private void extendDueDate(Loan loan, LocalDateTime newDueDate, LocalDateTime now) {
         if (newDueDate == null) {
             return;
         }
 
-        if (newDueDate.isBefore(LocalDateTime.now()) || newDueDate.isEqual(LocalDateTime.now())) {
+        if (!newDueDate.isAfter(now)) {
             throw new IllegalArgumentException(ErrorMessages.LOAN_DUE_DATE_MUST_BE_FUTURE);
         }
 
@@ -424,12 +618,11 @@ public class LoanServiceImpl implements LoanService {
 
         // 대여 중인 경우 도서 상태 복원
         if (loan.getReturnDate() == null) {
-            Book book = loan.getBook();
-            book.returnBook();
-            bookRepository.save(book);
+            returnBookStock(loan.getBook());
         }
 
         loanRepository.delete(loan);
+        eventPublisher.publishEvent(new LoanChangedEvent(loan, true));
     }
 
     @Override
@@ -440,9 +633,7 @@ public class LoanServiceImpl implements LoanService {
                 LoanSpecification.byMemberAndStatus(memberId, statusFilter)
         );
 
-        return loans.stream()
-                .map(LoanResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(loans);
     }
 
     @Override
@@ -463,11 +654,12 @@ public class LoanServiceImpl implements LoanService {
             throw new LoanException.AlreadyReturnedException(loanId);
         }
 
-        // 연체 여부 확인 (이벤트 발행 전에 확인)
-        boolean wasOverdue = loan.isOverdue();
+        // 연체 여부 확인 (이벤트 발행 전에 확인, 반납 처리/응답과 같은 시각 기준)
+        LocalDateTime now = LocalDateTime.now(clock);
+        boolean wasOverdue = loan.dueStatusAt(now).isOverdue();
 
         // 반납 처리
-        loan.returnBook();
+        loan.returnBook(now);
         Loan savedLoan = loanRepository.save(loan);
 
         // 도서 재고 상태 업데이트
@@ -478,7 +670,7 @@ public class LoanServiceImpl implements LoanService {
         // 도서 반납 이벤트 발행
         eventPublisher.publishEvent(new LoanReturnedEvent(savedLoan, wasOverdue));
 
-        return LoanResponse.from(savedLoan);
+        return LoanResponse.from(savedLoan, now);
     }
 
     @Override
@@ -501,6 +693,7 @@ public class LoanServiceImpl implements LoanService {
         }
 
         loanRepository.delete(loan);
+        eventPublisher.publishEvent(new LoanChangedEvent(loan, true));
     }
 
     @Override
@@ -516,10 +709,10 @@ public class LoanServiceImpl implements LoanService {
                 .orElseThrow(() -> new BookNotFoundException("도서를 찾을 수 없습니다: " + request.getBookId()));
 
         // 대여 가능 여부 검증
-        validateLoanRequest(member, book);
+        LocalDateTime now = LocalDateTime.now(clock);
+        validateLoanRequest(member, book, now);
 
         // 대여 생성
-        LocalDateTime now = LocalDateTime.now();
         int loanPeriod = request.getLoanPeriod() != null ? request.getLoanPeriod() : 14;
         LocalDateTime dueDate = now.plusDays(loanPeriod);
 
@@ -539,36 +732,120 @@ public class LoanServiceImpl implements LoanService {
         // 대출 생성 이벤트 발행
         eventPublisher.publishEvent(new LoanCreatedEvent(savedLoan));
 
-        return LoanResponse.from(savedLoan);
+        return LoanResponse.from(savedLoan, now);
     }
 
     /**
      * 대여 요청 검증
      */
-    private void validateLoanRequest(Member member, Book book) {
+    private void validateLoanRequest(Member member, Book book, LocalDateTime now) {
         // 1. 도서 재고 확인
         if (!book.getAvailable()) {
             throw new LoanException.BookNotAvailableException(book.getId());
         }
 
+        // 미반납 대여 수/연체 여부/도서 대여 여부를 한 번에 조회
+        LoanRepository.LoanEligibility eligibility = loanRepository
+                .findLoanEligibility(member.getId(), book.getId(), now)
+                .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다: " + member.getId()));
+
         // 2. 도서가 이미 대여 중인지 확인
-        if (loanRepository.existsByBookIdAndReturnDateIsNull(book.getId())) {
+        if (eligibility.isBookLoaned()) {
             throw new LoanException.BookAlreadyLoanedException(book.getId());
         }
 
         // 3. 회원의 현재 대여 도서 수 확인
-        int currentLoans = loanRepository.findByMemberIdAndReturnDateIsNull(member.getId()).size();
-        if (currentLoans >= MAX_LOAN_COUNT) {
-            throw new LoanException.LoanLimitExceededException(member.getId(), currentLoans, MAX_LOAN_COUNT);
-        }
+        checkLoanLimit(member, Math.toIntExact(eligibility.getActiveLoanCount()), 1);
 
         // 4. 회원의 연체 여부 확인
-        List<Loan> memberLoans = loanRepository.findByMemberIdAndReturnDateIsNull(member.getId());
-        boolean hasOverdueLoans = memberLoans.stream()
-                .anyMatch(Loan::isOverdue);
+        if (eligibility.isOverdue()) {
+            throw new LoanException.OverdueLoansExistException(member.getId());
+        }
+    }
+
+    /**
+     * 일괄 대여 요청 검증 - 단건 검증과 같은 순서로, 회원 조건은 한 번만 조회
+     */
+    private void validateBatchLoanRequest(Member member, List<Book> books, LocalDateTime now) {
+        // 1. 도서 재고 확인
+        for (Book book : books) {
+            if (!book.getAvailable()) {
+                throw new LoanException.BookNotAvailableException(book.getId());
+            }
+        }
 
-        if (hasOverdueLoans) {
+        LoanRepository.LoanEligibility eligibility = loanRepository
+                .findLoanEligibility(member.getId(), null, now)
+                .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다: " + member.getId()));
+
+        // 2. 도서가 이미 대여 중인지 확인
+        List<Long> loanedBookIds = loanRepository.findLoanedBookIdsIn(books.stream().map(Book::getId).toList());
+        if (!loanedBookIds.isEmpty()) {
+            throw new LoanException.BookAlreadyLoanedException(loanedBookIds.get(0));
+        }
+
+        // 3. 요청 권수를 더해도 회원 등급의 최대 대여 권수 이내인지 확인
+        checkLoanLimit(member, Math.toIntExact(eligibility.getActiveLoanCount()), books.size());
+
+        // 4. 회원의 연체 여부 확인
+        if (eligibility.isOverdue()) {
             throw new LoanException.OverdueLoansExistException(member.getId());
         }
     }
+
+    /**
+     * 일괄 대여의 재고 UPDATE가 요청보다 적은 행을 바꿨을 때 빠진 도서를 찾아 예외 생성
+     * 이 트랜잭션의 UPDATE 이후라 요청한 도서는 모두 대여 불가로 보이므로 재고 상태로는 구분할 수 없고,
+     * 다른 대여가 먼저 만든 미반납 대여나 그 사이 삭제된 도서로 찾습니다.
+     */
+    private RuntimeException contestedBookException(List<Long> bookIds) {
+        List<Long> loanedBookIds = loanRepository.findLoanedBookIdsIn(bookIds);
+        if (!loanedBookIds.isEmpty()) {
+            return new LoanException.BookAlreadyLoanedException(loanedBookIds.get(0));
+        }
+        return bookRepository.findAllById(bookIds).stream()
+                .filter(Book::isDeleted)
+                .findFirst()
+                .<RuntimeException>map(book -> new BookNotFoundException("도서를 찾을 수 없습니다: " + book.getId()))
+                // 대여 없이 재고만 바뀐 경우(관리자 수정 등)는 어느 도서인지 구분할 수 없어 첫 요청 도서로 알림
+                .orElseGet(() -> new LoanException.BookNotAvailableException(bookIds.get(0)));
+    }
+
+    /**
+     * 대여 권수 한도 확인 (단건/일괄 대여 모두 회원 등급의 최대 대여 권수를 씀)
+     */
+    private void checkLoanLimit(Member member, int currentLoans, int requested) {
+        int maxLoans = maxLoanCount(member.getMembershipType());
+        if (currentLoans + requested > maxLoans) {
+            throw new LoanException.LoanLimitExceededException(member.getId(), currentLoans, maxLoans);
+        }
+    }
+
+    private static int maxLoanCount(MembershipType membershipType) {
+        return membershipType != null ? membershipType.getMaxBorrowCount() : MAX_LOAN_COUNT;
+    }
+
+    /**
+     * 최근 대여와 보관된 대여를 대여일 내림차순으로 병합 (둘 다 같은 순서로 조회됨)
+     */
+    private List<Loan> withArchived(List<Loan> loans, List<LoanArchive> archived) {
+        List<Loan> merged = new ArrayList<>(loans.size() + archived.size());
+        merged.addAll(loans);
+        archived.forEach(archive -> merged.add(archive.toLoan()));
+        merged.sort(Comparator.comparing(Loan::getLoanDate).reversed());
+        return merged;
+    }
+
+    /**
+     * 목록 변환 - 요청당 한 번 읽은 현재 시각으로 모든 대여의 연체/연장 가능 여부를 계산
+     */
+    private List<LoanResponse> toResponses(List<Loan> loans) {
+        return toResponses(loans, LocalDateTime.now(clock));
+    }
+
+    private List<LoanResponse> toResponses(List<Loan> loans, LocalDateTime now) {
+        return loans.stream()
+                .map(loan -> LoanResponse.from(loan, now))
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
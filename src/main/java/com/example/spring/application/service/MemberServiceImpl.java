@@ -8,11 +8,13 @@ import com.example.spring.domain.model.Member;
 import com.example.spring.domain.model.MembershipType;
 import com.example.spring.domain.model.Role;
 import com.example.spring.domain.event.MemberRegisteredEvent;
+import com.example.spring.domain.event.MemberUpdatedEvent;
 import com.example.spring.domain.event.MembershipUpgradedEvent;
 import com.example.spring.exception.MemberException;
 import com.example.spring.exception.MembershipUpgradeException;
 import com.example.spring.domain.repository.LoanRepository;
 import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
 import com.example.spring.application.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -26,6 +28,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,13 +45,15 @@ public class MemberServiceImpl implements MemberService {
     private final LoanRepository loanRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder;
+    private final ExistenceFilter existenceFilter;
+    private final Clock clock;
 
     @Override
     @Transactional
     public MemberResponse createMember(CreateMemberRequest request) {
 
         // 1. 이메일 중복 검증
-        if (memberRepository.existsByEmail(request.getEmail())) {
+        if (emailExists(request.getEmail())) {
             throw new MemberException.DuplicateEmailException(request.getEmail());
         }
 
@@ -67,6 +72,7 @@ public class MemberServiceImpl implements MemberService {
 
         // 3. 데이터베이스 저장
         Member savedMember = memberRepository.save(member);
+        existenceFilter.addEmail(savedMember.getEmail());
 
         // 4. 회원가입 이벤트 발행 (환영 이메일 발송용)
         eventPublisher.publishEvent(new MemberRegisteredEvent(savedMember));
@@ -85,10 +91,11 @@ public class MemberServiceImpl implements MemberService {
         if (StringUtils.hasText(request.getEmail()) &&
                 !request.getEmail().equals(member.getEmail())) {
 
-            if (memberRepository.existsByEmail(request.getEmail())) {
+            if (emailExists(request.getEmail())) {
                 throw new MemberException.DuplicateEmailException(request.getEmail());
             }
             member.updateEmail(request.getEmail());
+            existenceFilter.addEmail(request.getEmail());
         }
 
         // 이름 변경
@@ -97,11 +104,12 @@ public class MemberServiceImpl implements MemberService {
         }
 
         Member updatedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberUpdatedEvent(updatedMember));
         return MemberResponse.from(updatedMember);
     }
 
     @Override
-    @Cacheable(value = "members", key = "#id")
+    @Cacheable(value = "members", key = "#id", sync = true)
     public MemberResponse findMemberById(Long id) {
 
         Member member = memberRepository.findById(id)
@@ -192,18 +200,27 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean validateEmailDuplicate(String email) {
-        boolean exists = memberRepository.existsByEmail(email);
+        boolean exists = emailExists(email);
         return !exists; // true: 사용가능, false: 중복
     }
 
+    /**
+     * 존재 필터가 '없음'이라 답하면 DB 조회 생략
+     */
+    private boolean emailExists(String email) {
+        return existenceFilter.mightContainEmail(email) && memberRepository.existsByEmail(email);
+    }
+
     @Override
     public MemberLoanLimitInfo getMemberLoanLimitInfo(Long memberId) {
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberException.MemberNotFoundException(memberId));
 
-        // 현재 대여 중인 도서 수 조회
-        int currentLoanCount = loanRepository.findByMemberIdAndReturnDateIsNull(memberId).size();
+        // 현재 대여 중인 도서 수 조회 (대여 엔티티를 읽지 않고 개수만)
+        int currentLoanCount = loanRepository.findLoanEligibility(memberId, null, LocalDateTime.now(clock))
+                .map(eligibility -> Math.toIntExact(eligibility.getActiveLoanCount()))
+                .orElse(0);
 
         return MemberLoanLimitInfo.of(
                 memberId,
@@ -2,6 +2,7 @@ package com.example.spring.application.service;
 
 import com.example.spring.domain.vo.Address;
 import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.MoneyAccumulator;
 import com.example.spring.application.dto.request.CreateOrderRequest;
 import com.example.spring.application.dto.response.OrderResponse;
 import com.example.spring.domain.model.*;
@@ -54,7 +55,7 @@ public class OrderServiceImpl implements OrderService {
                     .orElseThrow(() -> new MemberException.MemberNotFoundException(request.getMemberId()));
 
             // 2. 주문 항목별로 도서 조회 및 총 금액 계산
-            Money totalAmount = Money.zero();
+            MoneyAccumulator totalAmount = new MoneyAccumulator();
             List<OrderItem> orderItems = new ArrayList<>();
 
             for (var itemRequest : request.getItems()) {
@@ -66,8 +67,7 @@ public class OrderServiceImpl implements OrderService {
                     throw new BookException.DeletedBookAccessException("삭제된 도서는 주문할 수 없습니다: " + book.getTitle());
                 }
 
-                Money itemTotal = book.getPrice().multiply(itemRequest.getQuantity());
-                totalAmount = totalAmount.add(itemTotal);
+                totalAmount.add(book.getPrice(), itemRequest.getQuantity());
 
                 OrderItem orderItem = OrderItem.builder()
                         .book(book)
@@ -84,7 +84,7 @@ public class OrderServiceImpl implements OrderService {
 
             Order order = Order.builder()
                     .member(member)
-                    .totalAmount(totalAmount)
+                    .totalAmount(totalAmount.toMoney())
                     .discountAmount(discountAmount)
                     .pointsUsed(request.getPointsUsed())
                     .couponCode(request.getCouponCode())
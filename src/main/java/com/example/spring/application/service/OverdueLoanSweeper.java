@@ -0,0 +1,144 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.service.CheckpointedJobRunner.Chunk;
+import com.example.spring.application.service.CheckpointedJobRunner.Cursor;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.LoansMarkedOverdueEvent;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.LoanSweepRepository.OverdueCandidate;
+import com.example.spring.domain.vo.Money;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 연체 스윕 작업
+ *
+ * 반납 예정일이 지난 미반납 대여의 상태를 OVERDUE로, 연체료를 기준 시각의 연체 일수로 주기적으로 맞춥니다.
+ * 대상은 (return_date, due_date, id) 인덱스 범위를 (반납 예정일, id) 커서로 chunkSize건씩 읽고,
+ * 청크마다 한 트랜잭션에서 같은 연체료를 받는 연속 구간별로 UPDATE 한 번씩 보낸 뒤 진행 위치를 저장합니다.
+ * 트랜잭션이 청크 단위라 행 잠금은 chunkSize건을 넘지 않고 짧게 끝납니다.
+ * 대여 중에서 연체로 바뀐 대여는 청크마다 LoansMarkedOverdueEvent로 알립니다.
+ *
+ * 여러 노드에서 예약 실행되어도 job_checkpoint 점유를 얻은 노드 하나만 실행하며,
+ * 실행 중 중단되면 다음 실행(다른 노드 포함)이 같은 기준 시각으로 마지막 커밋된 청크 다음부터 이어갑니다.
+ * (점유/진행 위치/재개는 CheckpointedJobRunner가 맡음)
+ */
+@Component
+public class OverdueLoanSweeper {
+
+    public static final String JOB_NAME = "overdue-loan-sweep";
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LoanRepository loanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookstoreProperties properties;
+    private final CheckpointedJobRunner runner;
+
+    public OverdueLoanSweeper(LoanRepository loanRepository, JobCheckpointRepository jobCheckpointRepository,
+                              TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                              BookstoreProperties properties, Clock clock) {
+        this.loanRepository = loanRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.runner = new CheckpointedJobRunner(JOB_NAME, "연체 스윕", new Cursor(CURSOR_START, 0),
+                jobCheckpointRepository, transactionTemplate, clock);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.overdue-sweep.interval:PT10M}",
+               initialDelayString = "${bookstore.overdue-sweep.interval:PT10M}")
+    public SweepResult sweep() {
+        BookstoreProperties.OverdueSweep config = properties.getOverdueSweep();
+        CheckpointedJobRunner.Outcome outcome = runner.run(config.getChunkSize(), config.getLeaseDuration(),
+                UnaryOperator.identity(), this::sweepChunk);
+        return SweepResult.builder()
+                .skipped(outcome.isSkipped())
+                .resumed(outcome.isResumed())
+                .chunks(outcome.getChunks())
+                .scannedLoans(outcome.getScanned())
+                .updatedLoans(outcome.getChanged())
+                .maxChunkMillis(outcome.getMaxChunkMillis())
+                .elapsedMillis(outcome.getElapsedMillis())
+                .build();
+    }
+
+    /**
+     * 한 청크 갱신 (cutoff 전에 반납 예정일이 지난 미반납 대여)
+     */
+    private Chunk sweepChunk(LocalDateTime cutoff, Cursor after, int limit, LocalDateTime now) {
+        List<OverdueCandidate> candidates =
+                loanRepository.findOverdueCandidates(cutoff, after.getDueDate(), after.getId(), limit);
+        if (candidates.isEmpty()) {
+            return Chunk.empty();
+        }
+
+        // 반납 예정일 순이라 연체 일수가 같은 대여는 연속 구간 → 구간마다 UPDATE 한 번 (한 청크에 몇 개뿐)
+        // 다음 주기부터는 대부분 이미 최신이므로 바뀔 대여가 있는 구간만 UPDATE
+        int updated = 0;
+        int from = 0;
+        boolean stale = false;
+        List<Long> markedOverdue = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            long overdueDays = overdueDays(candidates.get(from), cutoff);
+            Money fee = Loan.overdueFeeFor(overdueDays);
+            stale |= !candidates.get(i).isOverdueWith(fee);
+            boolean lastOfRun = i + 1 == candidates.size() || overdueDays(candidates.get(i + 1), cutoff) != overdueDays;
+            if (lastOfRun) {
+                if (stale) {
+                    updated += loanRepository.markOverdue(candidates.get(from), candidates.get(i), fee, now);
+                    collectNewlyOverdue(candidates.subList(from, i + 1), markedOverdue);
+                }
+                from = i + 1;
+                stale = false;
+            }
+        }
+        if (!markedOverdue.isEmpty()) {
+            eventPublisher.publishEvent(new LoansMarkedOverdueEvent(markedOverdue));  // 커밋 후 반영
+        }
+
+        OverdueCandidate last = candidates.get(candidates.size() - 1);
+        return new Chunk(candidates.size(), updated, new Cursor(last.getDueDate(), last.getId()));
+    }
+
+    /**
+     * 대여 중이던 대여 id (이미 연체였던 대여는 연체료만 바뀜)
+     * 그사이 반납된 대여는 UPDATE에서 빠지지만, 반납 이벤트가 반영된 읽기 모델은 반납된 대여를 연체로 바꾸지 않음
+     */
+    private static void collectNewlyOverdue(List<OverdueCandidate> run, List<Long> loanIds) {
+        for (OverdueCandidate candidate : run) {
+            if (candidate.getStatus() == LoanStatus.ACTIVE) {
+                loanIds.add(candidate.getId());
+            }
+        }
+    }
+
+    private static long overdueDays(OverdueCandidate candidate, LocalDateTime cutoff) {
+        return ChronoUnit.DAYS.between(candidate.getDueDate(), cutoff);
+    }
+
+    @Getter
+    @Builder
+    public static class SweepResult {
+        private final boolean skipped;        // 다른 노드가 점유 중이라 실행하지 않음
+        private final boolean resumed;        // 중단된 실행을 이어서 처리
+        private final int chunks;
+        private final long scannedLoans;      // 연체 대상으로 읽은 대여 수
+        private final long updatedLoans;      // 상태/연체료가 실제로 바뀐 대여 수
+        private final long maxChunkMillis;    // 가장 오래 걸린 청크 트랜잭션 시간
+        private final long elapsedMillis;
+    }
+}
\ No newline at end of file
@@ -1,11 +1,22 @@
 package com.example.spring.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.time.Clock;
+
 @Configuration
 public class BookstoreConfig {
 
+    /**
+     * 현재 시각 기준 (테스트에서는 고정 시계로 교체)
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
     // 개발 환경용 설정
     @Profile("dev")
     @Configuration
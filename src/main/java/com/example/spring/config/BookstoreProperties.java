@@ -1,18 +1,29 @@
 package com.example.spring.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 타입 안전한 설정 관리
  */
-@Configuration
 @ConfigurationProperties(prefix = "bookstore")
 @Data
 public class BookstoreProperties {
     private Email email = new Email();
     private Order order = new Order();
+    private Statistics statistics = new Statistics();
+    private Cache cache = new Cache();
+    private BookImport bookImport = new BookImport();
+    private Search search = new Search();
+    private OverdueSweep overdueSweep = new OverdueSweep();
+    private LoanDeadline loanDeadline = new LoanDeadline();
+    private LoanArchive loanArchive = new LoanArchive();
 
     @Data
     public static class Email {
@@ -34,4 +45,58 @@ public class BookstoreProperties {
         private int maxBooksPerOrder = 10;
         private double defaultDiscountRate = 0.0;
     }
+
+    @Data
+    public static class Statistics {
+        private Duration reconcileInterval = Duration.ofMinutes(5);  // 통계 카운터와 DB 대조 주기
+    }
+
+    @Data
+    public static class BookImport {
+        private int chunkSize = 1_000;  // 한 트랜잭션/JDBC 배치로 저장하는 행 수
+    }
+
+    @Data
+    public static class OverdueSweep {
+        private Duration interval = Duration.ofMinutes(10);       // 연체 스윕 주기 (이전 실행 종료 시점 기준)
+        private int chunkSize = 2_000;                             // 한 트랜잭션에서 갱신하는 대여 수
+        private Duration leaseDuration = Duration.ofMinutes(2);   // 노드 점유 시간 (청크마다 연장, 끊기면 다른 노드가 이어받음)
+    }
+
+    @Data
+    public static class LoanDeadline {
+        private Duration tick = Duration.ofSeconds(1);                // 타이밍 휠 한 칸 (실행 시각 오차 상한)
+        private int wheelSize = 64;                                   // 단계별 칸 수 (상위 단계 한 칸 = 아래 단계 한 바퀴)
+        private Duration checkpointInterval = Duration.ofMinutes(1);  // 처리 완료 시각 저장 주기
+    }
+
+    @Data
+    public static class LoanArchive {
+        private Duration interval = Duration.ofHours(6);          // 보관 작업 주기 (이전 실행 종료 시점 기준)
+        private Duration retention = Duration.ofDays(365);        // 반납/취소 후 이 기간이 지나면 loan_archive로 옮김
+        private int chunkSize = 1_000;                             // 한 트랜잭션에서 옮기는 대여 수
+        private Duration leaseDuration = Duration.ofMinutes(2);   // 노드 점유 시간 (청크마다 연장, 끊기면 다른 노드가 이어받음)
+    }
+
+    @Data
+    public static class Search {
+        private List<BigDecimal> facetPriceBoundaries = List.of(   // 가격 패싯 구간 경계 (오름차순)
+                new BigDecimal("10000"), new BigDecimal("20000"), new BigDecimal("30000"), new BigDecimal("50000"));
+        private int facetTopAuthors = 10;                           // 저자 패싯에 담을 상위 저자 수
+    }
+
+    @Data
+    public static class Cache {
+        private Spec books = new Spec(10_000, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        private Spec members = new Spec(5_000, Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+        @Data
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Spec {
+            private long maximumSize;           // 최대 항목 수 (초과 시 W-TinyLFU로 퇴출)
+            private Duration expireAfterWrite;  // 저장 후 만료 시간
+            private Duration refreshAfterWrite; // 저장 후 이 시간이 지나면 기존 값을 반환하며 백그라운드 갱신 (null이면 갱신 안 함)
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.example.spring.config;
+
+import com.example.spring.infrastructure.cache.SingleFlightCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 로컬 캐시 설정
+ *
+ * Caffeine은 최근성(LRU 창)과 빈도(TinyLFU 스케치)를 함께 보고 진입을 결정하므로(W-TinyLFU)
+ * 한 번 조회되고 마는 도서가 자주 조회되는 도서를 밀어내지 못합니다.
+ * 캐시별 크기/만료 시간은 bookstore.cache.* 로 조정하고, 적중/실패/퇴출 통계를 기록합니다.
+ *
+ * 트랜잭션 안의 저장/제거(@Cacheable, @CacheEvict)는 커밋 이후에 반영되므로
+ * 롤백된 변경이 캐시에 남거나 커밋 전 값이 다시 캐시되지 않습니다.
+ * refreshAfterWrite를 지정한 캐시는 SingleFlightCache로 감싸 동시 실패를 한 번의 로드로 합치고
+ * 오래된 항목은 기존 값을 반환하며 백그라운드에서 갱신합니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String BOOKS = "books";
+    public static final String MEMBERS = "members";
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    @Bean
+    public CacheManager cacheManager(BookstoreProperties properties) {
+        BookstoreProperties.Cache cache = properties.getCache();
+        Map<String, Duration> refreshAfterWrite = new HashMap<>();
+        refreshAfterWrite.put(BOOKS, cache.getBooks().getRefreshAfterWrite());
+        refreshAfterWrite.put(MEMBERS, cache.getMembers().getRefreshAfterWrite());
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(
+                    String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache) {
+                CaffeineCache adapted = (CaffeineCache) super.adaptCaffeineCache(name, nativeCache);
+                Duration refresh = refreshAfterWrite.get(name);
+                return refresh != null
+                        ? new SingleFlightCache(adapted, refresh, ForkJoinPool.commonPool(), Ticker.systemTicker())
+                        : adapted;
+            }
+        };
+        // 이름이 등록되지 않은 캐시의 기본 설정
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(DEFAULT_MAXIMUM_SIZE)
+                .expireAfterWrite(DEFAULT_EXPIRE_AFTER_WRITE)
+                .recordStats());
+
+        cacheManager.registerCustomCache(BOOKS, build(cache.getBooks()));
+        cacheManager.registerCustomCache(MEMBERS, build(cache.getMembers()));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> build(BookstoreProperties.Cache.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.spring.domain.event;
+
+import com.example.spring.domain.model.Book;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 변경 이벤트
+ * 대출 생성/반납 이벤트 없이 도서 상태가 바뀌는 경로(대여 취소, 관리자 반납 처리, 대여 기록 삭제)에서 발행합니다.
+ */
+@Getter
+public class BookChangedEvent {
+
+    private final Long bookId;
+    private final boolean previouslyAvailable;
+    private final boolean available;
+    private final LocalDateTime occurredAt;
+
+    public BookChangedEvent(Book book, boolean previouslyAvailable) {
+        this.bookId = book.getId();
+        this.previouslyAvailable = previouslyAvailable;
+        this.available = Boolean.TRUE.equals(book.getAvailable());
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public boolean isAvailabilityChanged() {
+        return previouslyAvailable != available;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.spring.domain.event;
+
+import com.example.spring.domain.model.Book;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 정보 수정 이벤트 (제목/저자 등)
+ */
+@Getter
+public class BookUpdatedEvent {
+
+    private final Long bookId;
+    private final String title;
+    private final String author;
+    private final LocalDateTime occurredAt;
+
+    public BookUpdatedEvent(Book book) {
+        this.bookId = book.getId();
+        this.title = book.getTitle();
+        this.author = book.getAuthor();
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.spring.domain.event;
+
+import com.example.spring.domain.model.Loan;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 변경 이벤트
+ * 대여/반납/연장 이벤트 없이 대여가 바뀌는 경로(대여 취소, 관리자 상태 변경, 대여 기록 삭제)에서 발행합니다.
+ */
+@Getter
+public class LoanChangedEvent {
+
+    private final Loan loan;
+    private final boolean deleted;
+    private final LocalDateTime occurredAt;
+
+    public LoanChangedEvent(Loan loan, boolean deleted) {
+        this.loan = loan;
+        this.deleted = deleted;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public Long getLoanId() {
+        return loan.getId();
+    }
+}
\ No newline at end of file
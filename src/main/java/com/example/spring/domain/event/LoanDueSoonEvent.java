@@ -0,0 +1,26 @@
+package com.example.spring.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 반납 예정일 임박 이벤트 (연장 가능 기간 시작)
+ */
+@Getter
+public class LoanDueSoonEvent {
+
+    private final Long loanId;
+    private final Long memberId;
+    private final Long bookId;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime occurredAt;
+
+    public LoanDueSoonEvent(Long loanId, Long memberId, Long bookId, LocalDateTime dueDate) {
+        this.loanId = loanId;
+        this.memberId = memberId;
+        this.bookId = bookId;
+        this.dueDate = dueDate;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
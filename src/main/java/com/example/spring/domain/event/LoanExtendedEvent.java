@@ -0,0 +1,39 @@
+package com.example.spring.domain.event;
+
+import com.example.spring.domain.model.Loan;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 반납 예정일 변경 이벤트 (회원 연장, 관리자 반납 예정일 변경)
+ */
+@Getter
+public class LoanExtendedEvent {
+
+    private final Loan loan;
+    private final LocalDateTime previousDueDate;
+    private final LocalDateTime occurredAt;
+
+    public LoanExtendedEvent(Loan loan, LocalDateTime previousDueDate) {
+        this.loan = loan;
+        this.previousDueDate = previousDueDate;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public Long getLoanId() {
+        return loan.getId();
+    }
+
+    public Long getMemberId() {
+        return loan.getMember() != null ? loan.getMember().getId() : null;
+    }
+
+    public Long getBookId() {
+        return loan.getBook() != null ? loan.getBook().getId() : null;
+    }
+
+    public LocalDateTime getDueDate() {
+        return loan.getDueDate();
+    }
+}
\ No newline at end of file
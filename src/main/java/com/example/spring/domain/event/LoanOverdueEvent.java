@@ -0,0 +1,26 @@
+package com.example.spring.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 연체 전환 이벤트
+ */
+@Getter
+public class LoanOverdueEvent {
+
+    private final Long loanId;
+    private final Long memberId;
+    private final Long bookId;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime occurredAt;
+
+    public LoanOverdueEvent(Long loanId, Long memberId, Long bookId, LocalDateTime dueDate) {
+        this.loanId = loanId;
+        this.memberId = memberId;
+        this.bookId = bookId;
+        this.dueDate = dueDate;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
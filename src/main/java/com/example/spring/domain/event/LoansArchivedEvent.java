@@ -0,0 +1,21 @@
+package com.example.spring.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 보관 이벤트 (한 청크에서 loan_archive로 옮긴 대여들)
+ */
+@Getter
+public class LoansArchivedEvent {
+
+    private final List<Long> loanIds;
+    private final LocalDateTime occurredAt;
+
+    public LoansArchivedEvent(List<Long> loanIds) {
+        this.loanIds = List.copyOf(loanIds);
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.spring.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 일괄 연체 전환 이벤트 (연체 스윕 한 청크에서 대여 중 → 연체로 바뀐 대여들)
+ */
+@Getter
+public class LoansMarkedOverdueEvent {
+
+    private final List<Long> loanIds;
+    private final LocalDateTime occurredAt;
+
+    public LoansMarkedOverdueEvent(List<Long> loanIds) {
+        this.loanIds = List.copyOf(loanIds);
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.spring.domain.event;
+
+import com.example.spring.domain.model.Member;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 정보 수정 이벤트 (이름/이메일)
+ */
+@Getter
+public class MemberUpdatedEvent {
+
+    private final Long memberId;
+    private final String name;
+    private final String email;
+    private final LocalDateTime occurredAt;
+
+    public MemberUpdatedEvent(Member member) {
+        this.memberId = member.getId();
+        this.name = member.getName();
+        this.email = member.getEmail();
+        this.occurredAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
@@ -20,9 +20,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "book", indexes = {
-        @Index(name = "idx_book_isbn", columnList = "isbn"),
+        @Index(name = "idx_book_isbn13", columnList = "isbn13", unique = true),
         @Index(name = "idx_book_title", columnList = "title"),
-        @Index(name = "idx_book_author", columnList = "author")
+        @Index(name = "idx_book_author", columnList = "author"),
+        @Index(name = "idx_book_created_date", columnList = "created_date, id"),
+        @Index(name = "idx_book_active_price", columnList = "deleted_date, available, price")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -46,7 +48,10 @@ public class Book {
 
     @NotNull(message = "{validation.book.isbn.required}")
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "isbn", nullable = false, unique = true, length = 17))
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "isbn", nullable = false, length = 17)),
+            @AttributeOverride(name = "isbn13", column = @Column(name = "isbn13", nullable = false))
+    })
     private ISBN isbn;
 
     @NotNull(message = "{validation.book.price.required}")
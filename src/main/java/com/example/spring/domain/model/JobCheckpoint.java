@@ -0,0 +1,64 @@
+package com.example.spring.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 점유(lease)와 진행 위치
+ *
+ * 여러 노드가 같은 작업을 예약 실행해도 점유 시간(leaseUntil)이 남은 노드 하나만 실행합니다.
+ * 점유와 진행 위치 갱신은 조건부 UPDATE로만 바꾸며(JobCheckpointRepository), 진행 위치는
+ * 청크 처리와 같은 트랜잭션에서 저장하므로 중단된 작업은 마지막으로 커밋된 청크 다음부터 이어서 실행합니다.
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "jobName")
+@ToString
+public class JobCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 진행 중인 실행의 기준 시각 (null이면 진행 중인 실행 없음)
+     */
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff;
+
+    @Column(name = "cursor_due_date")
+    private LocalDateTime cursorDueDate;
+
+    @Column(name = "cursor_id")
+    private Long cursorId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public boolean isInProgress() {
+        return cutoff != null;
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.spring.domain.vo.Money;
 import com.example.spring.exception.ErrorMessages;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -23,7 +24,8 @@ import java.time.temporal.ChronoUnit;
         @Index(name = "idx_loan_member_id", columnList = "member_id"),
         @Index(name = "idx_loan_book_id", columnList = "book_id"),
         @Index(name = "idx_loan_date", columnList = "loan_date"),
-        @Index(name = "idx_loan_status", columnList = "status")
+        @Index(name = "idx_loan_status", columnList = "status"),
+        @Index(name = "idx_loan_return_due", columnList = "return_date, due_date, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -33,6 +35,20 @@ import java.time.temporal.ChronoUnit;
 @EqualsAndHashCode(of = "id")
 @ToString(exclude = {"member", "book", "createdDate", "updatedDate"})
 public class Loan {
+    public static final long DAILY_OVERDUE_FEE = 1000;
+    public static final int EXTENSION_WINDOW_DAYS = 3;
+
+    /**
+     * 연체 일수별 연체료 - 1년까지는 미리 만든 Money를 재사용 (연체 스윕/일괄 반납에서 대여마다 새로 만들지 않음)
+     */
+    private static final Money[] OVERDUE_FEES = new Money[366];
+
+    static {
+        for (int days = 0; days < OVERDUE_FEES.length; days++) {
+            OVERDUE_FEES[days] = days == 0 ? Money.zero() : Money.of(days * DAILY_OVERDUE_FEE);
+        }
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -84,97 +100,83 @@ public class Loan {
     private LocalDateTime updatedDate;
 
     /**
-     * 연체 여부 확인
+     * now 시점의 반납 예정일 관련 값을 한 번에 계산
+     * 연체 여부/연체 일수/남은 일수/연장 가능 여부를 같은 시각으로 계산하므로 자정 전후에도 서로 어긋나지 않습니다.
+     * 시스템 시계를 직접 읽지 않으므로 호출 측(서비스)이 주입된 Clock으로 요청마다 한 번 읽은 시각을 넘깁니다.
      */
-    public boolean isOverdue() {
+    public DueStatus dueStatusAt(LocalDateTime now) {
         if (returnDate != null) {
-            return false; // 이미 반납된 경우
+            return DueStatus.RETURNED; // 이미 반납된 경우
         }
-        return LocalDateTime.now().isAfter(dueDate);
+        if (now.isAfter(dueDate)) {
+            return new DueStatus(true, ChronoUnit.DAYS.between(dueDate, now), 0, false);
+        }
+        long daysUntilDue = ChronoUnit.DAYS.between(now, dueDate);
+        return new DueStatus(false, 0, daysUntilDue, daysUntilDue <= EXTENSION_WINDOW_DAYS);
     }
 
     /**
-     * 연체 일수 계산
+     * now 시점의 연체료 계산 (일당 1000원)
      */
-    public long getOverdueDays() {
-        if (!isOverdue()) {
-            return 0;
-        }
-        return ChronoUnit.DAYS.between(dueDate, LocalDateTime.now());
+    public Money calculateOverdueFee(LocalDateTime now) {
+        return overdueFeeFor(dueStatusAt(now).getOverdueDays());
     }
 
     /**
-     * 연체료 계산 (일당 1000원)
+     * 연체 일수에 대한 연체료 (연체 스윕의 일괄 갱신과 같은 계산)
      */
-    public Money calculateOverdueFee() {
-        long overdueDays = getOverdueDays();
+    public static Money overdueFeeFor(long overdueDays) {
         if (overdueDays <= 0) {
             return Money.zero();
         }
-        return Money.of(overdueDays * 1000);
+        if (overdueDays < OVERDUE_FEES.length) {
+            return OVERDUE_FEES[(int) overdueDays];
+        }
+        return Money.of(overdueDays * DAILY_OVERDUE_FEE);
     }
 
     /**
-     * 도서 반납 처리
+     * now 시점으로 반납 처리 (일괄 반납은 모든 대여를 같은 시각으로 처리)
      */
-    public void returnBook() {
+    public void returnBook(LocalDateTime now) {
         // returnDate 설정 전에 연체료를 먼저 계산해야 함
-        this.overdueFee = calculateOverdueFee();
-        this.returnDate = LocalDateTime.now();
+        this.overdueFee = overdueFeeFor(dueStatusAt(now).getOverdueDays());
+        this.returnDate = now;
         this.status = LoanStatus.RETURNED;
     }
 
     /**
-     * 대여 연장 (지정 일수)
+     * now 시점 기준으로 대여 연장 (지정 일수)
      * @param days 연장 일수
      * @param maxExtensions 최대 연장 가능 횟수
+     * @param now 연체/연장 가능 기간을 판단할 시각
      */
-    public void extendLoan(int days, int maxExtensions) {
+    public void extendLoan(int days, int maxExtensions, LocalDateTime now) {
         if (this.returnDate != null) {
             throw new IllegalStateException(ErrorMessages.LOAN_RETURNED_CANNOT_EXTEND);
         }
-        if (isOverdue()) {
+        DueStatus due = dueStatusAt(now);
+        if (due.isOverdue()) {
             throw new IllegalStateException(ErrorMessages.LOAN_OVERDUE_CANNOT_EXTEND);
         }
         if (this.extensionCount >= maxExtensions) {
             throw new IllegalStateException(
                     String.format("연장 가능 횟수를 초과했습니다. (현재: %d, 최대: %d)", this.extensionCount, maxExtensions));
         }
-        if (!canExtendNow()) {
-            long daysUntilDue = getDaysUntilDue();
+        if (!due.isCanExtendNow()) {
             throw new IllegalStateException(
-                    String.format("반납 예정일 3일 전부터 연장 가능합니다. (반납 예정일까지 %d일 남음)", daysUntilDue));
+                    String.format("반납 예정일 3일 전부터 연장 가능합니다. (반납 예정일까지 %d일 남음)", due.getDaysUntilDue()));
         }
         this.dueDate = this.dueDate.plusDays(days);
         this.extensionCount++;
     }
 
     /**
-     * 대여 연장 (기본 - 하위 호환성 유지)
-     * @param days 연장 일수
-     */
-    public void extendLoan(int days) {
-        extendLoan(days, Integer.MAX_VALUE);
-    }
-
-    /**
-     * 반납 예정일까지 남은 일수
+     * 연장 가능 시기가 시작되는 시각
+     * 남은 일수는 일 단위로 버림하므로 이 시각(반납 예정일 4일 전)이 지난 직후부터 DueStatus.canExtendNow가 true
      */
-    public long getDaysUntilDue() {
-        if (this.returnDate != null || isOverdue()) {
-            return 0;
-        }
-        return ChronoUnit.DAYS.between(LocalDateTime.now(), this.dueDate);
-    }
-
-    /**
-     * 연장 가능 시기인지 확인 (반납 예정일 3일 전부터 가능)
-     */
-    public boolean canExtendNow() {
-        if (this.returnDate != null || isOverdue()) {
-            return false;
-        }
-        return getDaysUntilDue() <= 3;
+    public static LocalDateTime extensionWindowStart(LocalDateTime dueDate) {
+        return dueDate.minusDays(EXTENSION_WINDOW_DAYS + 1);
     }
 
     /**
@@ -188,14 +190,17 @@ public class Loan {
     }
 
     /**
-     * 대여 상태 업데이트 (연체 확인)
+     * now 시점 기준으로 대여 상태 업데이트 (연체 확인)
      */
-    public void updateStatus() {
+    public void updateStatus(LocalDateTime now) {
         if (this.returnDate != null) {
             this.status = LoanStatus.RETURNED;
-        } else if (isOverdue()) {
+            return;
+        }
+        DueStatus due = dueStatusAt(now);
+        if (due.isOverdue()) {
             this.status = LoanStatus.OVERDUE;
-            this.overdueFee = calculateOverdueFee();
+            this.overdueFee = overdueFeeFor(due.getOverdueDays());
         } else {
             this.status = LoanStatus.ACTIVE;
         }
@@ -223,4 +228,18 @@ public class Loan {
         this.dueDate = newDueDate;
         this.status = LoanStatus.ACTIVE;
     }
+
+    /**
+     * 특정 시점의 반납 예정일 관련 값
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class DueStatus {
+        private static final DueStatus RETURNED = new DueStatus(false, 0, 0, false);
+
+        private final boolean overdue;
+        private final long overdueDays;
+        private final long daysUntilDue;
+        private final boolean canExtendNow;  // 반납 예정일 3일 전부터 연장 가능
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.spring.domain.model;
+
+import com.example.spring.domain.vo.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 대여 (반납/취소 후 보관 기간이 지난 대여)
+ *
+ * loan 테이블과 같은 컬럼에 보관 시각만 더한 테이블입니다. 행은 LoanArchiver가 loan에서
+ * INSERT ... SELECT로 옮겨 오며 애플리케이션에서 새로 만들거나 바꾸지 않습니다.
+ * id는 원래 대여 id를 그대로 유지합니다.
+ */
+@Entity
+@Table(name = "loan_archive", indexes = {
+        @Index(name = "idx_loan_archive_member_id", columnList = "member_id"),
+        @Index(name = "idx_loan_archive_book_id", columnList = "book_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = {"member", "book"})
+public class LoanArchive {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @Column(name = "loan_date", nullable = false)
+    private LocalDateTime loanDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(name = "return_date")
+    private LocalDateTime returnDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private LoanStatus status;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "amount", column = @Column(name = "overdue_fee", precision = 10, scale = 2)),
+            @AttributeOverride(name = "currency", column = @Column(name = "overdue_fee_currency", length = 3))
+    })
+    private Money overdueFee;
+
+    @Column(name = "extension_count")
+    private Integer extensionCount;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+
+    /**
+     * 응답 변환용 대여 (영속 상태가 아니므로 저장하지 않음)
+     */
+    public Loan toLoan() {
+        return Loan.builder()
+                .id(id)
+                .member(member)
+                .book(book)
+                .loanDate(loanDate)
+                .dueDate(dueDate)
+                .returnDate(returnDate)
+                .status(status)
+                .overdueFee(overdueFee != null ? overdueFee : Money.zero())
+                .extensionCount(extensionCount != null ? extensionCount : 0)
+                .createdDate(createdDate)
+                .updatedDate(updatedDate)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Book;
+
+import java.util.List;
+
+/**
+ * 도서 대량 저장 Repository (BookRepository 커스텀 구현)
+ */
+public interface BookBatchRepository {
+
+    /**
+     * JDBC 배치로 한 번에 저장하고 생성된 id를 채운 도서 목록 반환
+     *
+     * Book.id는 IDENTITY 전략이라 Hibernate는 INSERT마다 생성 키를 받아야 해서 배치로 묶지 못합니다.
+     * 대량 등록은 영속성 컨텍스트를 거치지 않고 JDBC 배치로 보내고, 생성 키는 배치 결과에서 함께 받습니다.
+     * (MySQL은 rewriteBatchedStatements=true 연결 옵션을 켜야 여러 행 INSERT로 합쳐집니다)
+     */
+    List<Book> insertAll(List<Book> books);
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BookBatchRepository JDBC 구현
+ */
+@RequiredArgsConstructor
+public class BookBatchRepositoryImpl implements BookBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO book (title, author, isbn, isbn13, price, price_currency, available,
+                              cover_image_url, created_date, updated_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Book> insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Book book = books.get(i);
+                        ps.setString(1, book.getTitle());
+                        ps.setString(2, book.getAuthor());
+                        ps.setString(3, book.getIsbn().getValue());
+                        ps.setLong(4, book.getIsbn().getIsbn13());
+                        ps.setBigDecimal(5, book.getPrice().getAmount());
+                        ps.setString(6, book.getPrice().getCurrency());
+                        ps.setBoolean(7, book.getAvailable());
+                        if (book.getCoverImageUrl() != null) {
+                            ps.setString(8, book.getCoverImageUrl());
+                        } else {
+                            ps.setNull(8, Types.VARCHAR);
+                        }
+                        ps.setTimestamp(9, Timestamp.valueOf(book.getCreatedDate()));
+                        ps.setTimestamp(10, Timestamp.valueOf(book.getCreatedDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return books.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Book> saved = new ArrayList<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            Number id = (Number) keys.get(i).values().iterator().next();
+            saved.add(Book.builder()
+                    .id(id.longValue())
+                    .title(book.getTitle())
+                    .author(book.getAuthor())
+                    .isbn(book.getIsbn())
+                    .price(book.getPrice())
+                    .available(book.getAvailable())
+                    .coverImageUrl(book.getCoverImageUrl())
+                    .createdDate(book.getCreatedDate())
+                    .updatedDate(book.getCreatedDate())
+                    .build());
+        }
+        return saved;
+    }
+}
\ No newline at end of file
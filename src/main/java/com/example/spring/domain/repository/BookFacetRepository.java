@@ -0,0 +1,45 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Book;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 도서 검색 패싯 집계 Repository (BookRepository 커스텀 구현)
+ */
+public interface BookFacetRepository {
+
+    /**
+     * 검색 조건에 맞는 도서 수, 대여 가능 수, 가격 구간별 수와 도서 수 상위 저자를 계산
+     *
+     * 재고/가격/저자 패싯을 각각 COUNT 쿼리로 구하면 같은 조건으로 테이블을 여러 번 읽으므로
+     * 저자별 집계 쿼리 하나로 계산합니다. 재고/가격 구간 수는 조건부 합계(SUM(CASE ...))의 전체 합계로 담고,
+     * 저자별 행은 DB에서 정렬해 상위 topAuthors명만 가져오므로 저자 수만큼의 행을 애플리케이션으로 옮기지 않습니다.
+     *
+     * @param filters 검색 조건
+     * @param priceBoundaries 오름차순 가격 구간 경계 (n개면 구간은 n+1개: 첫 경계 미만, [경계, 다음 경계), 마지막 경계 이상)
+     * @param topAuthors 가져올 상위 저자 수
+     * @return 패싯 집계 (상위 저자는 도서 수 내림차순, 같으면 저자명 오름차순)
+     */
+    FacetCounts aggregateFacets(Specification<Book> filters, List<BigDecimal> priceBoundaries, int topAuthors);
+
+    @Getter
+    @AllArgsConstructor
+    class FacetCounts {
+        private final long count;
+        private final long availableCount;
+        private final long[] priceBucketCounts;
+        private final List<AuthorFacet> topAuthors;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    class AuthorFacet {
+        private final String author;
+        private final long count;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BookFacetRepository Criteria 구현
+ */
+@RequiredArgsConstructor
+public class BookFacetRepositoryImpl implements BookFacetRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 저자별로 묶어 도서 수 내림차순(같으면 저자명 오름차순)으로 정렬해 상위 행만 가져오고,
+     * 전체/재고/가격 구간 합계는 묶은 결과 전체에 대한 윈도 합계(SUM(...) OVER ())로 각 행에 함께 담음
+     * (테이블은 한 번만 읽고, 저자 수만큼의 행을 애플리케이션으로 옮기지 않음)
+     */
+    @Override
+    public FacetCounts aggregateFacets(Specification<Book> filters, List<BigDecimal> priceBoundaries,
+                                       int topAuthors) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+        Path<String> author = root.get("author");
+        Path<BigDecimal> price = root.get("price").get("amount");
+        Expression<Long> count = cb.count(root);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(author);
+        selections.add(count);
+        selections.add(total(cb, count));
+        selections.add(total(cb, countIf(cb, cb.isTrue(root.get("available")))));
+        for (int bucket = 0; bucket <= priceBoundaries.size(); bucket++) {
+            selections.add(total(cb, countIf(cb, priceBucket(cb, price, priceBoundaries, bucket))));
+        }
+
+        Predicate where = filters.toPredicate(root, query, cb);
+        query.multiselect(selections)
+                .groupBy(author)
+                .orderBy(cb.desc(count), cb.asc(author));
+        if (where != null) {
+            query.where(where);
+        }
+
+        // 합계를 읽으려면 저자가 0명으로 요청되어도 한 행은 필요
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(Math.max(1, topAuthors)).getResultList();
+        long[] priceBucketCounts = new long[priceBoundaries.size() + 1];
+        if (rows.isEmpty()) {
+            return new FacetCounts(0, 0, priceBucketCounts, List.of());
+        }
+        Tuple first = rows.get(0);
+        for (int bucket = 0; bucket < priceBucketCounts.length; bucket++) {
+            priceBucketCounts[bucket] = longValue(first.get(4 + bucket));
+        }
+        List<AuthorFacet> authors = new ArrayList<>(Math.min(rows.size(), topAuthors));
+        for (Tuple row : rows.subList(0, Math.min(rows.size(), topAuthors))) {
+            authors.add(new AuthorFacet(row.get(0, String.class), longValue(row.get(1))));
+        }
+        return new FacetCounts(longValue(first.get(2)), longValue(first.get(3)), priceBucketCounts, authors);
+    }
+
+    /**
+     * 묶은 결과 전체에 대한 합계 (SUM(expression) OVER ())
+     */
+    private static Expression<Long> total(HibernateCriteriaBuilder cb, Expression<Long> perAuthor) {
+        return cb.windowFunction("sum", Long.class, cb.createWindow(), perAuthor);
+    }
+
+    /**
+     * [boundaries[bucket - 1], boundaries[bucket]) 구간 조건 (양 끝 구간은 한쪽만 제한)
+     */
+    private static Predicate priceBucket(CriteriaBuilder cb, Path<BigDecimal> price,
+                                         List<BigDecimal> boundaries, int bucket) {
+        List<Predicate> bounds = new ArrayList<>(2);
+        if (bucket > 0) {
+            bounds.add(cb.greaterThanOrEqualTo(price, boundaries.get(bucket - 1)));
+        }
+        if (bucket < boundaries.size()) {
+            bounds.add(cb.lessThan(price, boundaries.get(bucket)));
+        }
+        return cb.and(bounds.toArray(new Predicate[0]));
+    }
+
+    private static Expression<Long> countIf(CriteriaBuilder cb, Predicate condition) {
+        return cb.sumAsLong(cb.<Integer>selectCase().when(condition, 1).otherwise(0));
+    }
+
+    private static long longValue(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
\ No newline at end of file
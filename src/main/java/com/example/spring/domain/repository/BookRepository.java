@@ -1,31 +1,72 @@
 package com.example.spring.domain.repository;
 
 import com.example.spring.domain.model.Book;
+import com.example.spring.domain.vo.ISBN;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Book Repository - Spring Data JPA 기반
  *
  * JpaRepository: 기본 CRUD 제공
  * JpaSpecificationExecutor: 동적 쿼리 (Specification 패턴) 지원
+ * BookBatchRepository: JDBC 배치 대량 저장
+ * BookFacetRepository: 검색 패싯 집계
  */
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookBatchRepository, BookFacetRepository {
 
     // ========== ISBN 관련 메서드 ==========
 
-    @Query("SELECT b FROM Book b WHERE b.isbn.value = :isbn")
-    Optional<Book> findByIsbnValue(@Param("isbn") String isbn);
+    @Query("SELECT b FROM Book b WHERE b.isbn.isbn13 = :isbn13")
+    Optional<Book> findByIsbn13(@Param("isbn13") long isbn13);
 
-    @Query("SELECT (COUNT(b) > 0) FROM Book b WHERE b.isbn.value = :isbn")
-    boolean existsByIsbnValue(@Param("isbn") String isbn);
+    @Query("SELECT (COUNT(b) > 0) FROM Book b WHERE b.isbn.isbn13 = :isbn13")
+    boolean existsByIsbn13(@Param("isbn13") long isbn13);
+
+    /**
+     * 전체 ISBN-13 키 (삭제된 도서 포함, 존재 필터/대량 등록 중복 검사용)
+     */
+    @Query("SELECT b.isbn.isbn13 FROM Book b")
+    List<Long> findAllIsbn13();
+
+    /**
+     * 대여 가능 상태인 도서 id (오름차순, 대여 가능 비트맵 적재용)
+     */
+    @Query("SELECT b.id FROM Book b WHERE b.available = true ORDER BY b.id")
+    List<Long> findAvailableIds();
+
+    /**
+     * 삭제된 도서 id (오름차순, 대여 가능 비트맵 적재용)
+     */
+    @Query("SELECT b.id FROM Book b WHERE b.deletedDate IS NOT NULL ORDER BY b.id")
+    List<Long> findDeletedIds();
+
+    /**
+     * 전체 도서 스트리밍 (삭제된 도서 포함, 내보내기용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAll();
 
     // ========== 제목/저자 검색 메서드 ==========
 
@@ -46,6 +87,24 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
 
     List<Book> findByAvailable(Boolean available);
 
+    /**
+     * 대여 가능한 도서만 일괄로 대여 중 상태로 변경 (일괄 대여용)
+     * 바뀐 행 수가 요청한 도서 수보다 적으면 그사이 다른 대여가 도서를 가져간 것입니다.
+     * 벌크 UPDATE는 감사 필드를 채우지 않으므로 수정 시각을 직접 넘기고, 이미 읽어 둔 도서 엔티티가
+     * 이전 재고 상태로 다시 저장되지 않도록 실행 후 영속성 컨텍스트를 비웁니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Book b SET b.available = false, b.updatedDate = :now " +
+           "WHERE b.id IN :ids AND b.available = true AND b.deletedDate IS NULL")
+    int markLoanedOut(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 도서를 일괄로 대여 가능 상태로 변경 (일괄 반납용, markLoanedOut과 같이 실행 후 영속성 컨텍스트를 비움)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Book b SET b.available = true, b.updatedDate = :now WHERE b.id IN :ids")
+    int markReturned(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     // ========== 복합 조건 검색 ==========
 
     @Query("SELECT b FROM Book b WHERE b.available = :available AND LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))")
@@ -67,6 +126,8 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
 
     List<Book> findByDeletedDateIsNull();
 
+    Page<Book> findByDeletedDateIsNull(Pageable pageable);
+
     List<Book> findByDeletedDateIsNotNull();
 
     List<Book> findByDeletedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
@@ -77,6 +138,33 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
 
     long countByDeletedDateIsNull();
 
+    /**
+     * 도서 통계 집계 (엔티티를 읽지 않고 한 번의 집계 쿼리로 계산)
+     * 대여 가능 수와 가격 합계/최소/최대는 삭제되지 않은 도서 기준이며, 도서가 없으면 합계/최소/최대는 null
+     */
+    @Query("SELECT COUNT(b) AS totalBooks, " +
+           "SUM(CASE WHEN b.deletedDate IS NULL THEN 1 ELSE 0 END) AS activeBooks, " +
+           "SUM(CASE WHEN b.deletedDate IS NULL AND b.available = true THEN 1 ELSE 0 END) AS availableBooks, " +
+           "SUM(CASE WHEN b.deletedDate IS NULL THEN b.price.amount END) AS priceSum, " +
+           "MIN(CASE WHEN b.deletedDate IS NULL THEN b.price.amount END) AS minPrice, " +
+           "MAX(CASE WHEN b.deletedDate IS NULL THEN b.price.amount END) AS maxPrice " +
+           "FROM Book b")
+    BookStatisticsView aggregateStatistics();
+
+    interface BookStatisticsView {
+        Long getTotalBooks();
+
+        Long getActiveBooks();
+
+        Long getAvailableBooks();
+
+        BigDecimal getPriceSum();
+
+        BigDecimal getMinPrice();
+
+        BigDecimal getMaxPrice();
+    }
+
     // ========== 편의 메서드 ==========
 
     default Book findBookById(Long id) {
@@ -92,19 +180,38 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
     }
 
     /**
-     * ISBN으로 도서 조회 (ISBN VO 정규화 적용)
+     * 활성 도서 키셋(Seek) 페이징 조회
+     * 직전 페이지 마지막 행의 (정렬 키, id) 이후 limit 건만 읽으므로 OFFSET 스캔이 발생하지 않는다.
+     *
+     * @param order 정렬 기준 (동순위는 같은 방향의 id로 정렬)
+     * @param lastKey 직전 페이지 마지막 행의 정렬 키 (첫 페이지는 null)
+     * @param lastId 직전 페이지 마지막 행의 id (첫 페이지는 null)
+     * @param limit 조회 건수
+     */
+    default List<Book> findActiveBooksAfter(Sort.Order order, Object lastKey, Long lastId, int limit) {
+        Sort sort = "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+
+        return findBy(
+                BookSpecification.notDeleted()
+                        .and(BookSpecification.seekAfter(order.getProperty(), order.getDirection(), lastKey, lastId)),
+                query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    /**
+     * ISBN으로 도서 조회 (하이픈 유무와 관계없이 isbn13 인덱스 사용, 올바르지 않은 ISBN은 조회하지 않음)
      */
     default Optional<Book> findByIsbn(String isbn) {
-        // ISBN을 정규화하여 조회
-        String normalizedIsbn = com.example.spring.domain.vo.ISBN.of(isbn).getValue();
-        return findByIsbnValue(normalizedIsbn);
+        long isbn13 = ISBN.parseIsbn13(isbn);
+        return isbn13 != ISBN.INVALID ? findByIsbn13(isbn13) : Optional.empty();
     }
 
     /**
-     * ISBN 존재 여부 확인 (ISBN VO 정규화 적용)
+     * ISBN 존재 여부 확인 (하이픈 유무와 관계없이 isbn13 인덱스 사용, 올바르지 않은 ISBN은 조회하지 않음)
      */
     default boolean existsByIsbn(String isbn) {
-        String normalizedIsbn = com.example.spring.domain.vo.ISBN.of(isbn).getValue();
-        return existsByIsbnValue(normalizedIsbn);
+        long isbn13 = ISBN.parseIsbn13(isbn);
+        return isbn13 != ISBN.INVALID && existsByIsbn13(isbn13);
     }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.example.spring.domain.repository;
 
 import com.example.spring.domain.model.Book;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -22,55 +25,19 @@ public class BookSpecification {
 
     /**
      * 복합 필터 조건 생성
+     *
+     * 인덱스를 탈 수 있는 조건(삭제 여부, 재고 상태, 가격)을 앞에 두고
+     * LIKE 검색은 그 결과 범위 안에서만 평가되도록 조합합니다.
+     * (deleted_date, available, price) 복합 인덱스와 컬럼 순서를 맞춥니다.
      */
     public static Specification<Book> withFilters(String title, String author,
                                                   BigDecimal minPrice, BigDecimal maxPrice,
                                                   Boolean available) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // 삭제되지 않은 도서만
-            predicates.add(cb.isNull(root.get("deletedDate")));
-
-            // 제목 검색
-            if (title != null && !title.trim().isEmpty()) {
-                predicates.add(cb.like(
-                        cb.lower(root.get("title")),
-                        "%" + title.toLowerCase() + "%"
-                ));
-            }
-
-            // 저자 검색
-            if (author != null && !author.trim().isEmpty()) {
-                predicates.add(cb.like(
-                        cb.lower(root.get("author")),
-                        "%" + author.toLowerCase() + "%"
-                ));
-            }
-
-            // 최소 가격
-            if (minPrice != null) {
-                predicates.add(cb.greaterThanOrEqualTo(
-                        root.get("price").get("amount"),
-                        minPrice
-                ));
-            }
-
-            // 최대 가격
-            if (maxPrice != null) {
-                predicates.add(cb.lessThanOrEqualTo(
-                        root.get("price").get("amount"),
-                        maxPrice
-                ));
-            }
-
-            // 재고 상태
-            if (available != null) {
-                predicates.add(cb.equal(root.get("available"), available));
-            }
-
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        return notDeleted()
+                .and(isAvailable(available))
+                .and(priceBetween(minPrice, maxPrice))
+                .and(titleContains(title))
+                .and(authorContains(author));
     }
 
     /**
@@ -154,6 +121,18 @@ public class BookSpecification {
         return (root, query, cb) -> cb.isNotNull(root.get("deletedDate"));
     }
 
+    /**
+     * 지정한 id의 도서만 (빈 배열이면 항상 거짓)
+     */
+    public static Specification<Book> idIn(int[] ids) {
+        return (root, query, cb) -> {
+            if (ids.length == 0) {
+                return cb.disjunction();
+            }
+            return root.get("id").in(Arrays.stream(ids).mapToObj(Long::valueOf).toList());
+        };
+    }
+
     /**
      * 제목 또는 저자 검색 (키워드 검색)
      */
@@ -169,4 +148,33 @@ public class BookSpecification {
             );
         };
     }
+
+    /**
+     * 키셋(Seek) 페이징 조건: (정렬 키, id)가 직전 페이지 마지막 행 이후인 도서
+     *
+     * (key < :k OR (key = :k AND id < :id)) 만으로는 인덱스 범위를 정할 수 없어
+     * 정렬 키 경계(key <= :k)를 함께 걸어 인덱스 범위 스캔이 되도록 한다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Book> seekAfter(String property, Sort.Direction direction, Object lastKey, Long lastId) {
+        return (root, query, cb) -> {
+            if (lastKey == null || lastId == null) {
+                return cb.conjunction();
+            }
+            boolean descending = direction.isDescending();
+            Path<Long> id = root.get("id");
+            Predicate afterId = descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+
+            if ("id".equals(property)) {
+                return afterId;
+            }
+
+            Path<Comparable> key = root.get(property);
+            Comparable value = (Comparable) lastKey;
+            Predicate bound = descending ? cb.lessThanOrEqualTo(key, value) : cb.greaterThanOrEqualTo(key, value);
+            Predicate afterKey = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+
+            return cb.and(bound, cb.or(afterKey, afterId));
+        };
+    }
 }
\ No newline at end of file
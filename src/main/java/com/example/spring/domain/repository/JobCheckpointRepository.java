@@ -0,0 +1,58 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    /**
+     * 점유가 비어 있거나 만료되었거나 이미 내 것이면 점유 (1이면 성공)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint j SET j.owner = :owner, j.leaseUntil = :leaseUntil " +
+           "WHERE j.jobName = :jobName AND (j.owner IS NULL OR j.owner = :owner OR j.leaseUntil < :now)")
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 청크 처리 후 진행 위치 저장과 점유 연장 (0이면 다른 노드가 점유를 가져감)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint j SET j.cutoff = :cutoff, j.cursorDueDate = :cursorDueDate, j.cursorId = :cursorId, " +
+           "j.processedCount = j.processedCount + :processed, j.leaseUntil = :leaseUntil " +
+           "WHERE j.jobName = :jobName AND j.owner = :owner")
+    int advance(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("cutoff") LocalDateTime cutoff, @Param("cursorDueDate") LocalDateTime cursorDueDate,
+                @Param("cursorId") Long cursorId, @Param("processed") long processed,
+                @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 실행 완료 - 진행 위치 초기화
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint j SET j.cutoff = NULL, j.cursorDueDate = NULL, j.cursorId = NULL, " +
+           "j.processedCount = 0, j.lastCompletedAt = :completedAt " +
+           "WHERE j.jobName = :jobName AND j.owner = :owner")
+    int complete(@Param("jobName") String jobName, @Param("owner") String owner,
+                 @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 점유 없이 완료 시각만 기록 (노드 메모리에서 도는 작업의 처리 완료 시각)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint j SET j.lastCompletedAt = :completedAt WHERE j.jobName = :jobName")
+    int recordCompletedAt(@Param("jobName") String jobName, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 점유 해제 (진행 위치는 유지)
+     */
+    @Modifying
+    @Query("UPDATE JobCheckpoint j SET j.owner = NULL, j.leaseUntil = NULL " +
+           "WHERE j.jobName = :jobName AND j.owner = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.LoanArchive;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 보관된 대여 조회 (이력 포함 조회에서만 사용)
+ */
+public interface LoanArchiveRepository extends JpaRepository<LoanArchive, Long> {
+
+    @EntityGraph(attributePaths = {"member", "book"})
+    @Query("SELECT a FROM LoanArchive a WHERE a.member.id = :memberId ORDER BY a.loanDate DESC")
+    List<LoanArchive> findByMemberId(@Param("memberId") Long memberId);
+
+    @EntityGraph(attributePaths = {"member", "book"})
+    @Query("SELECT a FROM LoanArchive a WHERE a.book.id = :bookId ORDER BY a.loanDate DESC")
+    List<LoanArchive> findByBookId(@Param("bookId") Long bookId);
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.spring.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대여 보관 Repository (LoanRepository 커스텀 구현)
+ *
+ * 보관 대상은 id만 읽고, 옮기기는 loan → loan_archive INSERT ... SELECT와 DELETE 두 문장으로 처리하므로
+ * 대여 엔티티를 읽거나 영속성 컨텍스트에 올리지 않습니다.
+ */
+public interface LoanArchivingRepository {
+
+    /**
+     * 기준 시각 전에 반납된 대여와 기준 시각 전에 취소된 대여의 id를 커서 다음부터 id 순으로 limit건 조회
+     * (취소 시각은 마지막 수정 시각, 없으면 생성 시각)
+     */
+    List<Long> findArchivableLoanIds(LocalDateTime closedBefore, long afterId, int limit);
+
+    /**
+     * 대여를 loan_archive로 복사한 뒤 loan에서 삭제 (같은 트랜잭션에서 호출해야 함)
+     *
+     * 복사/삭제 모두 보관 조건을 다시 적용하므로 조회 후 상태가 바뀐 대여는 옮기지 않습니다.
+     *
+     * @return 옮긴 대여 수
+     */
+    int moveToArchive(List<Long> loanIds, LocalDateTime closedBefore, LocalDateTime archivedDate);
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.example.spring.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LoanArchivingRepository JDBC 구현
+ */
+@RequiredArgsConstructor
+public class LoanArchivingRepositoryImpl implements LoanArchivingRepository {
+
+    private static final String CLOSED_BEFORE = """
+            ((status = 'RETURNED' AND return_date < ?)
+              OR (status = 'CANCELLED' AND COALESCE(updated_date, created_date) < ?))
+            """;
+
+    // 기본 키 순서로 커서 다음부터 읽으므로 청크마다 앞선 구간을 다시 훑지 않음
+    private static final String SELECT_ARCHIVABLE_SQL =
+            "SELECT id FROM loan WHERE id > ? AND " + CLOSED_BEFORE + " ORDER BY id LIMIT ?";
+
+    private static final String LOAN_COLUMNS = """
+            id, member_id, book_id, loan_date, due_date, return_date, status,
+            overdue_fee, overdue_fee_currency, extension_count, created_date, updated_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findArchivableLoanIds(LocalDateTime closedBefore, long afterId, int limit) {
+        Timestamp before = Timestamp.valueOf(closedBefore);
+        return jdbcTemplate.queryForList(SELECT_ARCHIVABLE_SQL, Long.class, afterId, before, before, limit);
+    }
+
+    @Override
+    public int moveToArchive(List<Long> loanIds, LocalDateTime closedBefore, LocalDateTime archivedDate) {
+        if (loanIds.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(",", Collections.nCopies(loanIds.size(), "?"));
+        Timestamp before = Timestamp.valueOf(closedBefore);
+
+        List<Object> insertArgs = new ArrayList<>(loanIds.size() + 3);
+        insertArgs.add(Timestamp.valueOf(archivedDate));
+        insertArgs.addAll(loanIds);
+        insertArgs.add(before);
+        insertArgs.add(before);
+        int copied = jdbcTemplate.update(
+                "INSERT INTO loan_archive (" + LOAN_COLUMNS + ", archived_date) " +
+                "SELECT " + LOAN_COLUMNS + ", ? FROM loan WHERE id IN (" + in + ") AND " + CLOSED_BEFORE,
+                insertArgs.toArray());
+
+        List<Object> deleteArgs = new ArrayList<>(insertArgs.subList(1, insertArgs.size()));
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM loan WHERE id IN (" + in + ") AND " + CLOSED_BEFORE, deleteArgs.toArray());
+        if (copied != deleted) {
+            // 복사와 삭제 사이에 대여가 바뀜 → 호출 측 트랜잭션을 롤백해 다음 실행에서 다시 처리
+            throw new IllegalStateException("보관 복사/삭제 건수 불일치: " + copied + " / " + deleted);
+        }
+        return deleted;
+    }
+}
\ No newline at end of file
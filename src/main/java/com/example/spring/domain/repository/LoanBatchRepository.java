@@ -0,0 +1,31 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Loan;
+
+import java.util.List;
+
+/**
+ * 대여 일괄 저장/반납 Repository (LoanRepository 커스텀 구현)
+ */
+public interface LoanBatchRepository {
+
+    /**
+     * JDBC 배치로 한 번에 저장하고 생성된 id를 채운 대여 목록 반환 (회원/도서는 전달한 객체를 그대로 참조)
+     *
+     * Loan.id는 IDENTITY 전략이라 Hibernate는 INSERT마다 생성 키를 받아야 해서 배치로 묶지 못하므로
+     * BookBatchRepository와 같이 JDBC 배치로 보내고 생성 키는 배치 결과에서 함께 받습니다.
+     * 반환된 대여는 영속성 컨텍스트에 올라가지 않습니다.
+     */
+    List<Loan> insertAll(List<Loan> loans);
+
+    /**
+     * 반납 처리한 대여의 반납일/상태/연체료를 JDBC 배치 UPDATE 한 번으로 저장
+     *
+     * 아직 반납되지 않은 진행 중(ACTIVE/OVERDUE) 행만 바꾸므로 조회 후 다른 요청이 먼저 반납하거나 취소한 대여는 false입니다.
+     * 드라이버가 건별 수를 알려주지 않으면(SUCCESS_NO_INFO) 해당 대여의 반납일을 다시 조회해 판단합니다.
+     *
+     * @param loans returnBook(now)으로 반납 처리한 대여
+     * @return 대여별 저장 여부 (loans와 같은 순서)
+     */
+    boolean[] updateReturned(List<Loan> loans);
+}
\ No newline at end of file
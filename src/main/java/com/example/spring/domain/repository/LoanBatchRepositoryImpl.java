@@ -0,0 +1,154 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Loan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LoanBatchRepository JDBC 구현
+ */
+@RequiredArgsConstructor
+public class LoanBatchRepositoryImpl implements LoanBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO loan (member_id, book_id, loan_date, due_date, status, overdue_fee,
+                              overdue_fee_currency, extension_count, created_date, updated_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_RETURNED_SQL = """
+            UPDATE loan SET return_date = ?, status = ?, overdue_fee = ?, overdue_fee_currency = ?, updated_date = ?
+            WHERE id = ? AND return_date IS NULL AND status IN ('ACTIVE', 'OVERDUE')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Loan> insertAll(List<Loan> loans) {
+        if (loans.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Loan loan = loans.get(i);
+                        ps.setLong(1, loan.getMember().getId());
+                        ps.setLong(2, loan.getBook().getId());
+                        ps.setTimestamp(3, Timestamp.valueOf(loan.getLoanDate()));
+                        ps.setTimestamp(4, Timestamp.valueOf(loan.getDueDate()));
+                        ps.setString(5, loan.getStatus().name());
+                        ps.setBigDecimal(6, loan.getOverdueFee().getAmount());
+                        ps.setString(7, loan.getOverdueFee().getCurrency());
+                        ps.setInt(8, loan.getExtensionCount());
+                        ps.setTimestamp(9, Timestamp.valueOf(loan.getCreatedDate()));
+                        ps.setTimestamp(10, Timestamp.valueOf(loan.getCreatedDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return loans.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Loan> saved = new ArrayList<>(loans.size());
+        for (int i = 0; i < loans.size(); i++) {
+            Loan loan = loans.get(i);
+            Number id = (Number) keys.get(i).values().iterator().next();
+            saved.add(Loan.builder()
+                    .id(id.longValue())
+                    .member(loan.getMember())
+                    .book(loan.getBook())
+                    .loanDate(loan.getLoanDate())
+                    .dueDate(loan.getDueDate())
+                    .status(loan.getStatus())
+                    .overdueFee(loan.getOverdueFee())
+                    .extensionCount(loan.getExtensionCount())
+                    .createdDate(loan.getCreatedDate())
+                    .updatedDate(loan.getCreatedDate())
+                    .build());
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean[] updateReturned(List<Loan> loans) {
+        if (loans.isEmpty()) {
+            return new boolean[0];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_RETURNED_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Loan loan = loans.get(i);
+                ps.setTimestamp(1, returnedAt(loan.getReturnDate()));
+                ps.setString(2, loan.getStatus().name());
+                ps.setBigDecimal(3, loan.getOverdueFee().getAmount());
+                ps.setString(4, loan.getOverdueFee().getCurrency());
+                ps.setTimestamp(5, returnedAt(loan.getReturnDate()));
+                ps.setLong(6, loan.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return loans.size();
+            }
+        });
+
+        boolean[] updated = new boolean[loans.size()];
+        Map<LocalDateTime, List<Integer>> unknownByReturnDate = new HashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                // 드라이버가 배치를 한 문장으로 재작성하면 건별 수 대신 SUCCESS_NO_INFO(-2)를 돌려줌
+                unknownByReturnDate.computeIfAbsent(loans.get(i).getReturnDate(), key -> new ArrayList<>()).add(i);
+            } else {
+                updated[i] = counts[i] > 0;
+            }
+        }
+        unknownByReturnDate.forEach((returnDate, indexes) -> confirmReturned(loans, indexes, returnDate, updated));
+        return updated;
+    }
+
+    /**
+     * 건별 수를 모르는 대여는 이번에 쓴 반납일로 저장되었는지 다시 조회
+     * (다른 요청이 먼저 반납했다면 그 요청의 반납일이 남아 있음)
+     */
+    private void confirmReturned(List<Loan> loans, List<Integer> indexes, LocalDateTime returnDate, boolean[] updated) {
+        String in = String.join(",", Collections.nCopies(indexes.size(), "?"));
+        List<Object> args = new ArrayList<>(indexes.size() + 1);
+        indexes.forEach(i -> args.add(loans.get(i).getId()));
+        args.add(returnedAt(returnDate));
+        Set<Long> returnedIds = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM loan WHERE id IN (" + in + ") AND return_date = ?", Long.class, args.toArray()));
+        for (int i : indexes) {
+            updated[i] = returnedIds.contains(loans.get(i).getId());
+        }
+    }
+
+    /**
+     * 컬럼 정밀도(마이크로초)로 맞춘 반납일 - 다시 조회할 때 저장된 값과 그대로 비교되도록 저장 전에 자름
+     */
+    private static Timestamp returnedAt(LocalDateTime returnDate) {
+        return Timestamp.valueOf(returnDate.truncatedTo(ChronoUnit.MICROS));
+    }
+}
\ No newline at end of file
@@ -4,36 +4,80 @@ import com.example.spring.domain.model.Book;
 import com.example.spring.domain.model.Loan;
 import com.example.spring.domain.model.LoanStatus;
 import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificationExecutor<Loan> {
+/**
+ * 대여 목록 조회는 모두 LoanResponse로 변환되며 회원/도서를 읽으므로, 목록을 반환하는 메서드에는
+ * 회원/도서를 함께 가져오도록 엔티티 그래프(또는 fetch join)를 지정해 대여마다 지연 로딩 쿼리가 나가지 않게 합니다.
+ *
+ * 반납/취소 후 보관 기간이 지난 대여는 LoanArchiver가 loan_archive로 옮기므로 이 Repository의 조회는
+ * 최근 대여만 대상으로 합니다. 보관된 대여까지 필요하면 LoanArchiveRepository를 함께 조회합니다.
+ */
+public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificationExecutor<Loan>,
+        LoanSweepRepository, LoanSearchRepository, LoanArchivingRepository, LoanBatchRepository {
 
+    @Override
+    @EntityGraph(attributePaths = {"member", "book"})
+    List<Loan> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"member", "book"})
+    List<Loan> findAll(Specification<Loan> spec);
+
+    /**
+     * 페이지 조회 - 대여와 회원/도서가 다대일이므로 fetch join해도 DB에서 페이지를 자름
+     */
+    @Override
+    @EntityGraph(attributePaths = {"member", "book"})
+    Page<Loan> findAll(Specification<Loan> spec, Pageable pageable);
+
+    /**
+     * id 목록으로 조회 (검색 읽기 모델이 고른 페이지의 대여 적재용, 순서는 보장하지 않음)
+     */
+    @EntityGraph(attributePaths = {"member", "book"})
+    List<Loan> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.member.id = :memberId ORDER BY l.loanDate DESC")
     List<Loan> findByMemberId(@Param("memberId") Long memberId);
 
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.book.id = :bookId ORDER BY l.loanDate DESC")
     List<Loan> findByBookId(@Param("bookId") Long bookId);
 
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.member.id = :memberId AND l.returnDate IS NULL ORDER BY l.loanDate DESC")
     List<Loan> findByMemberIdAndReturnDateIsNull(@Param("memberId") Long memberId);
 
     @Query("SELECT l FROM Loan l WHERE l.book.id = :bookId AND l.returnDate IS NULL")
     List<Loan> findByBookIdAndReturnDateIsNull(@Param("bookId") Long bookId);
 
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.dueDate < :currentDate AND l.returnDate IS NULL ORDER BY l.dueDate")
     List<Loan> findOverdueLoans(@Param("currentDate") LocalDateTime currentDate);
 
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.returnDate IS NULL ORDER BY l.loanDate DESC")
     List<Loan> findByReturnDateIsNull();
 
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l WHERE l.loanDate BETWEEN :startDate AND :endDate ORDER BY l.loanDate DESC")
     List<Loan> findByLoanDateBetween(@Param("startDate") LocalDateTime startDate,
                                      @Param("endDate") LocalDateTime endDate);
@@ -41,6 +85,49 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     @Query("SELECT (COUNT(l) > 0) FROM Loan l WHERE l.book.id = :bookId AND l.returnDate IS NULL")
     boolean existsByBookIdAndReturnDateIsNull(@Param("bookId") Long bookId);
 
+    /**
+     * 대여 가능 여부 판단에 필요한 값을 한 번에 조회 (회원이 없으면 빈 결과)
+     * 회원의 미반납 대여 수, 연체 대여 존재 여부, 도서의 미반납 대여 존재 여부를
+     * 각각 회원/도서 id 인덱스를 타는 서브쿼리로 계산하므로 대여 엔티티를 읽지 않습니다.
+     * bookId가 null이면 bookLoaned는 false입니다.
+     */
+    @Query("SELECT " +
+            "(SELECT COUNT(l) FROM Loan l WHERE l.member.id = m.id AND l.returnDate IS NULL) AS activeLoanCount, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Loan l WHERE l.member.id = m.id AND l.returnDate IS NULL " +
+            "AND l.dueDate < :now) THEN true ELSE false END AS overdue, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Loan l WHERE l.book.id = :bookId AND l.returnDate IS NULL) " +
+            "THEN true ELSE false END AS bookLoaned, " +
+            "m.membershipType AS membershipType " +
+            "FROM Member m WHERE m.id = :memberId")
+    Optional<LoanEligibility> findLoanEligibility(@Param("memberId") Long memberId,
+                                                  @Param("bookId") Long bookId,
+                                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 도서 중 반납되지 않은 대여가 있는 도서 id (일괄 대여 검증용, findLoanEligibility의 bookLoaned와 같은 조건)
+     */
+    @Query("SELECT DISTINCT l.book.id FROM Loan l WHERE l.book.id IN :bookIds AND l.returnDate IS NULL")
+    List<Long> findLoanedBookIdsIn(@Param("bookIds") Collection<Long> bookIds);
+
+    /**
+     * 일괄 반납 대상 대여를 회원, 도서와 함께 한 번에 조회
+     * 반납 처리는 JDBC 배치로 쓰므로 읽기 전용으로 읽어 변경 감지 UPDATE가 다시 나가지 않게 합니다.
+     */
+    @EntityGraph(attributePaths = {"member", "book"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT l FROM Loan l WHERE l.id IN :ids")
+    List<Loan> findAllForReturnByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 도서의 미반납 대여를 회원, 도서와 함께 한 번에 조회 (반납함 스캔처럼 도서 id로 반납할 때)
+     * 취소된 대여는 반납일이 없지만 반납 대상이 아니므로 제외합니다.
+     */
+    @EntityGraph(attributePaths = {"member", "book"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT l FROM Loan l WHERE l.book.id IN :bookIds AND l.returnDate IS NULL " +
+           "AND l.status <> com.example.spring.domain.model.LoanStatus.CANCELLED")
+    List<Loan> findUnreturnedForReturnByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+
     // 연체 대여 수 조회 (현재 시간 기준)
     @Query("SELECT COUNT(l) FROM Loan l WHERE l.dueDate < CURRENT_TIMESTAMP AND l.returnDate IS NULL")
     long countOverdueLoans();
@@ -50,18 +137,21 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     /**
      * 회원 이름으로 대여 조회 (JOIN 사용)
      */
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l JOIN l.member m WHERE m.name = :name")
     List<Loan> findByMemberName(@Param("name") String name);
 
     /**
      * 도서 제목으로 대여 조회 (JOIN 사용)
      */
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l JOIN l.book b WHERE b.title = :title")
     List<Loan> findByBookTitle(@Param("title") String title);
 
     /**
      * 특정 회원의 연체된 대여 조회 (JOIN 사용)
      */
+    @EntityGraph(attributePaths = {"member", "book"})
     @Query("SELECT l FROM Loan l JOIN l.member m " +
             "WHERE m.email = :email AND l.status = :status")
     List<Loan> findOverdueLoansByMemberEmail(@Param("email") String email, @Param("status") LoanStatus status);
@@ -74,6 +164,19 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
             "JOIN FETCH l.book")
     List<Loan> findAllWithMemberAndBook();
 
+    /**
+     * 회원, 도서 정보를 함께 조회하며 스트리밍 (내보내기용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Loan l " +
+            "JOIN FETCH l.member " +
+            "JOIN FETCH l.book " +
+            "ORDER BY l.id")
+    Stream<Loan> streamAllWithMemberAndBook();
+
     /**
      * 특정 도서를 대여한 회원 목록 조회
      */
@@ -91,10 +194,11 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     List<Book> findCurrentlyBorrowedBooks(@Param("memberId") Long memberId);
 
     /**
-     * 연체 중인 대여 조회 (회원 정보 포함)
+     * 연체 중인 대여 조회 (회원, 도서 정보 포함)
      */
     @Query("SELECT l FROM Loan l " +
             "JOIN FETCH l.member m " +
+            "JOIN FETCH l.book " +
             "WHERE l.status = :status " +
             "ORDER BY l.dueDate ASC")
     List<Loan> findOverdueLoansWithMember(@Param("status") LoanStatus status);
@@ -104,6 +208,59 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
             "WHERE l.member = :member AND l.status = :status")
     boolean existsByMemberAndStatus(@Param("member") Member member, @Param("status") LoanStatus status);
 
+    /**
+     * 도서별 누적 대여 횟수 (자동완성 인기도, 보관된 대여 포함)
+     */
+    @Query(value = "SELECT book_id AS bookId, COUNT(*) AS loanCount FROM (" +
+                   "SELECT book_id FROM loan UNION ALL SELECT book_id FROM loan_archive) loans " +
+                   "GROUP BY book_id",
+           nativeQuery = true)
+    List<BookLoanCount> countLoansGroupByBook();
+
+    /**
+     * 반납되지 않은(취소 제외) 대여가 있는 도서 id (오름차순, 대여 가능 비트맵 적재용)
+     */
+    @Query("SELECT DISTINCT l.book.id FROM Loan l " +
+            "WHERE l.returnDate IS NULL AND l.status <> com.example.spring.domain.model.LoanStatus.CANCELLED " +
+            "ORDER BY l.book.id")
+    List<Long> findLoanedBookIds();
+
+    /**
+     * 반납 예정일 타이머 초기화용 미반납 대여 (취소 제외)
+     */
+    @Query("SELECT l.id AS id, l.member.id AS memberId, l.book.id AS bookId, l.dueDate AS dueDate " +
+           "FROM Loan l WHERE l.returnDate IS NULL AND l.status <> com.example.spring.domain.model.LoanStatus.CANCELLED")
+    List<LoanDeadline> findActiveLoanDeadlines();
+
+    boolean existsByIdAndDueDateAndReturnDateIsNullAndStatusIn(Long id, LocalDateTime dueDate,
+                                                                Collection<LoanStatus> statuses);
+
+    interface BookLoanCount {
+        Long getBookId();
+
+        long getLoanCount();
+    }
+
+    interface LoanDeadline {
+        Long getId();
+
+        Long getMemberId();
+
+        Long getBookId();
+
+        LocalDateTime getDueDate();
+    }
+
+    interface LoanEligibility {
+        long getActiveLoanCount();
+
+        boolean isOverdue();     // 반납 예정일이 지난 미반납 대여가 있음
+
+        boolean isBookLoaned();  // 도서에 미반납 대여가 있음
+
+        MembershipType getMembershipType();  // 최대 대여 권수 기준
+    }
+
 
 
     // ========== Default 메소드 ==========
@@ -0,0 +1,36 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.LoanStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 대여 검색 읽기 모델 적재용 Repository (LoanRepository 커스텀 구현)
+ *
+ * 대여 수만큼 엔티티나 인터페이스 프로젝션 프록시를 만들지 않도록 JDBC로 한 행씩 읽어 넘깁니다.
+ */
+public interface LoanSearchRepository {
+
+    /**
+     * 모든 대여의 검색/정렬 컬럼(도서 제목, 회원 이름/이메일 포함)을 id 순으로 한 행씩 전달
+     */
+    void forEachSearchRow(Consumer<LoanSearchRow> consumer);
+
+    @Getter
+    @AllArgsConstructor
+    class LoanSearchRow {
+        private final long id;
+        private final long bookId;
+        private final String bookTitle;
+        private final long memberId;
+        private final String memberName;
+        private final String memberEmail;
+        private final LocalDateTime loanDate;
+        private final LocalDateTime dueDate;
+        private final LocalDateTime returnDate;
+        private final LoanStatus status;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * LoanSearchRepository JDBC 구현
+ */
+@RequiredArgsConstructor
+public class LoanSearchRepositoryImpl implements LoanSearchRepository {
+
+    private static final String SELECT_SEARCH_ROWS_SQL = """
+            SELECT l.id, l.book_id, b.title, l.member_id, m.name, m.email,
+                   l.loan_date, l.due_date, l.return_date, l.status
+            FROM loan l
+            JOIN book b ON b.id = l.book_id
+            JOIN member m ON m.id = l.member_id
+            ORDER BY l.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void forEachSearchRow(Consumer<LoanSearchRow> consumer) {
+        jdbcTemplate.query(SELECT_SEARCH_ROWS_SQL, rs -> {
+            consumer.accept(new LoanSearchRow(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                    rs.getLong(4), rs.getString(5), rs.getString(6),
+                    toLocalDateTime(rs.getTimestamp(7)), toLocalDateTime(rs.getTimestamp(8)),
+                    toLocalDateTime(rs.getTimestamp(9)), LoanStatus.valueOf(rs.getString(10))));
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.vo.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 연체 스윕 Repository (LoanRepository 커스텀 구현)
+ *
+ * 엔티티를 읽어 updateStatus(now)로 바꾸면 대여마다 SELECT와 UPDATE가 나가고 영속성 컨텍스트가 커지므로,
+ * 연체 대상은 (return_date, due_date, id) 인덱스 범위로 id, 반납 예정일, 현재 상태/연체료만 읽고
+ * 상태/연체료는 같은 연체료를 받는 연속 구간마다 UPDATE 한 번으로 바꿉니다.
+ */
+public interface LoanSweepRepository {
+
+    /**
+     * 기준 시각 전에 반납 예정일이 지난 미반납(대여 중/연체) 대여를 (반납 예정일, id) 순으로
+     * 커서 다음부터 limit건 조회 (커서의 반납 예정일을 인덱스 범위의 하한으로 사용)
+     */
+    List<OverdueCandidate> findOverdueCandidates(LocalDateTime cutoff, LocalDateTime afterDueDate,
+                                                 long afterId, int limit);
+
+    /**
+     * (반납 예정일, id) 순서로 first부터 last까지의 미반납 대여를 연체 상태와 연체료로 일괄 변경
+     * (이미 같은 값이면 건너뜀)
+     *
+     * id 목록(IN) 대신 조회할 때와 같은 인덱스 범위를 조건으로 주므로 UPDATE도 그 범위만 읽습니다.
+     * 범위 안의 행은 조회 조건을 다시 적용하므로 그사이 반납/취소된 대여는 바뀌지 않습니다.
+     *
+     * @return 실제로 바뀐 행 수
+     */
+    int markOverdue(OverdueCandidate first, OverdueCandidate last, Money overdueFee, LocalDateTime updatedDate);
+
+    @Getter
+    @AllArgsConstructor
+    class OverdueCandidate {
+        private final long id;
+        private final LocalDateTime dueDate;
+        private final LoanStatus status;
+        private final BigDecimal overdueFee;
+
+        /**
+         * 이미 연체 상태이고 연체료가 같으면 다시 쓸 필요 없음
+         */
+        public boolean isOverdueWith(Money fee) {
+            return status == LoanStatus.OVERDUE && overdueFee != null && overdueFee.compareTo(fee.getAmount()) == 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LoanSweepRepository JDBC 구현
+ */
+@RequiredArgsConstructor
+public class LoanSweepRepositoryImpl implements LoanSweepRepository {
+
+    // ORDER BY를 인덱스 (return_date, due_date, id) 순서 그대로 두어야 정렬 없이 인덱스 순서로 limit건만 읽음
+    private static final String SELECT_CANDIDATES_SQL = """
+            SELECT id, due_date, status, overdue_fee FROM loan
+            WHERE return_date IS NULL AND due_date < ?
+              AND status IN ('ACTIVE', 'OVERDUE')
+              AND due_date >= ? AND (due_date > ? OR id > ?)
+            ORDER BY return_date, due_date, id
+            LIMIT ?
+            """;
+
+    private static final String MARK_OVERDUE_SQL = """
+            UPDATE loan
+            SET status = 'OVERDUE', overdue_fee = ?, overdue_fee_currency = ?, updated_date = ?
+            WHERE return_date IS NULL AND due_date BETWEEN ? AND ?
+              AND (due_date > ? OR id >= ?) AND (due_date < ? OR id <= ?)
+              AND status IN ('ACTIVE', 'OVERDUE')
+              AND (status <> 'OVERDUE' OR overdue_fee IS NULL OR overdue_fee <> ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<OverdueCandidate> findOverdueCandidates(LocalDateTime cutoff, LocalDateTime afterDueDate,
+                                                        long afterId, int limit) {
+        Timestamp after = Timestamp.valueOf(afterDueDate);
+        return jdbcTemplate.query(SELECT_CANDIDATES_SQL,
+                (rs, rowNum) -> new OverdueCandidate(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime(),
+                        LoanStatus.valueOf(rs.getString(3)), rs.getBigDecimal(4)),
+                Timestamp.valueOf(cutoff), after, after, afterId, limit);
+    }
+
+    @Override
+    public int markOverdue(OverdueCandidate first, OverdueCandidate last, Money overdueFee,
+                           LocalDateTime updatedDate) {
+        Timestamp from = Timestamp.valueOf(first.getDueDate());
+        Timestamp to = Timestamp.valueOf(last.getDueDate());
+        return jdbcTemplate.update(MARK_OVERDUE_SQL,
+                overdueFee.getAmount(), overdueFee.getCurrency(), Timestamp.valueOf(updatedDate),
+                from, to, from, first.getId(), to, last.getId(), overdueFee.getAmount());
+    }
+}
\ No newline at end of file
@@ -2,12 +2,17 @@ package com.example.spring.domain.repository;
 
 import com.example.spring.domain.model.Member;
 import com.example.spring.domain.model.MembershipType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Member Repository - Spring Data JPA 기반
@@ -23,6 +28,22 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
 
     boolean existsByEmail(String email);
 
+    /**
+     * 전체 이메일 (존재 필터 구성용)
+     */
+    @Query("SELECT m.email FROM Member m")
+    List<String> findAllEmails();
+
+    /**
+     * 전체 회원 스트리밍 (내보내기용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.id")
+    Stream<Member> streamAll();
+
     // ========== 멤버십 타입 조회 ==========
 
     List<Member> findByMembershipType(MembershipType membershipType);
@@ -2,15 +2,19 @@ package com.example.spring.domain.repository;
 
 import com.example.spring.domain.model.Order;
 import com.example.spring.domain.model.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
@@ -47,6 +51,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("endDate") LocalDateTime endDate,
             @Param("excludeStatus") OrderStatus excludeStatus);
 
+    // 내보내기용 스트리밍 - 회원, 결제, 배송 함께 조회
+    // (mappedBy 쪽 일대일은 지연 로딩되지 않아 함께 조회하지 않으면 주문마다 추가 쿼리 발생)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o " +
+            "LEFT JOIN FETCH o.member " +
+            "LEFT JOIN FETCH o.payment " +
+            "LEFT JOIN FETCH o.delivery " +
+            "ORDER BY o.id")
+    Stream<Order> streamAllWithMemberPaymentAndDelivery();
+
     // 편의 메서드 - Optional을 처리하지 않고 직접 Order 반환
     default Order findOrderById(Long id) {
         return findById(id).orElse(null);
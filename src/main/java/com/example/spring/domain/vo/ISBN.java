@@ -8,70 +8,169 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.regex.Pattern;
-
 /**
  * ISBN을 나타내는 Value Object
+ *
+ * 입력을 한 번 훑으며 ISBN-10/13 체크 숫자를 검증하고 13자리 정수(isbn13)로 정규화합니다.
+ * 하이픈 위치가 달라도 같은 ISBN이면 isbn13이 같으므로 조회와 중복 검사는 isbn13으로 합니다.
+ * value는 표시용으로, 구분자 없는 13자리는 978-X-XX-XXXXXX-X 형식으로 바꾸고 그 외에는 입력 형식을 유지합니다.
  */
 @Embeddable
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EqualsAndHashCode
+@EqualsAndHashCode(of = "isbn13")
 public class ISBN {
 
-    private static final Pattern ISBN_PATTERN = Pattern.compile(
-            "^\\d{3}-?\\d{1,5}-?\\d{1,7}-?\\d{1,7}-?\\d{1}$|^\\d{13}$|^ISBN\\d+$"
-    );
+    /**
+     * parseIsbn13이 올바르지 않은 입력에 반환하는 값
+     */
+    public static final long INVALID = -1L;
+
+    private static final String PREFIX = "ISBN";
+    private static final int MAX_SEPARATORS = 4;
+    private static final long ISBN10_PREFIX = 978_000_000_000L;
 
-    @Column(name = "isbn", nullable = false, unique = true, length = 17)
+    @Column(name = "isbn", nullable = false, length = 17)
     private String value;
 
-    private ISBN(String value) {
-        validate(value);
-        this.value = normalize(value);
-    }
+    @Column(name = "isbn13", nullable = false)
+    private long isbn13;
 
-    public static ISBN of(String value) {
-        return new ISBN(value);
+    private ISBN(String value, long isbn13) {
+        this.value = value;
+        this.isbn13 = isbn13;
     }
 
-    private void validate(String value) {
+    public static ISBN of(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException(ErrorMessages.ISBN_REQUIRED);
         }
-        if (!ISBN_PATTERN.matcher(value).matches()) {
+        long isbn13 = parseIsbn13(value);
+        if (isbn13 == INVALID) {
             throw new IllegalArgumentException(ErrorMessages.invalidIsbn(value));
         }
+        return new ISBN(display(value, isbn13), isbn13);
     }
 
-    private String normalize(String value) {
-        // ISBN 접두사가 있으면 그대로 유지
-        if (value.startsWith("ISBN")) {
-            return value;
+    /**
+     * ISBN-10/13 문자열을 13자리 정수로 변환 (형식이나 체크 숫자가 틀리면 INVALID)
+     *
+     * 'ISBN' 접두사(뒤 공백 한 칸 포함)와 숫자 사이의 하이픈/공백 구분자를 허용하고, ISBN-10은 마지막 자리 X를 허용합니다.
+     * ISBN-10은 978을 붙이고 체크 숫자를 다시 계산해 ISBN-13으로 바꿉니다. 중간 객체를 만들지 않습니다.
+     */
+    public static long parseIsbn13(String value) {
+        if (value == null) {
+            return INVALID;
         }
-        // 이미 하이픈이 포함된 경우 그대로 유지
-        if (value.contains("-")) {
-            return value;
+        int length = value.length();
+        int start = bodyStart(value);
+        int digits = 0;
+        int separators = 0;
+        boolean afterSeparator = true;  // 맨 앞 구분자와 연속 구분자 금지
+        long number = 0;
+        int sum13 = 0;                  // ISBN-13: 1, 3 가중치 교대
+        int sum10 = 0;
+        int weighted10 = 0;             // ISBN-10: 누적합의 누적합 = 10..1 가중합
+        boolean checkX = false;
+
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if ((c == 'X' || c == 'x') && digits == 9 && i == length - 1) {
+                digit = 10;
+                checkX = true;
+            } else if ((c == '-' || c == ' ') && !afterSeparator && ++separators <= MAX_SEPARATORS) {
+                afterSeparator = true;
+                continue;
+            } else {
+                return INVALID;
+            }
+            if (digits == 13) {
+                return INVALID;
+            }
+            if (!checkX) {
+                number = number * 10 + digit;
+                sum13 += (digits & 1) == 0 ? digit : digit * 3;
+            }
+            sum10 += digit;
+            weighted10 += sum10;
+            digits++;
+            afterSeparator = false;
         }
-        // 하이픈이 없는 13자리 숫자만 있는 경우 표준 형식으로 변환
-        if (value.length() == 13) {
-            return formatISBN13(value);
+        if (afterSeparator) {
+            return INVALID;
         }
-        return value;
+
+        if (digits == 13) {
+            long prefix = number / 10_000_000_000L;
+            return sum13 % 10 == 0 && (prefix == 978 || prefix == 979) ? number : INVALID;
+        }
+        if (digits == 10 && weighted10 % 11 == 0) {
+            long first12 = ISBN10_PREFIX + (checkX ? number : number / 10);
+            return first12 * 10 + checkDigit13(first12);
+        }
+        return INVALID;
     }
 
-    private String formatISBN13(String digits) {
+    /**
+     * ISBN-13 앞 12자리의 체크 숫자
+     */
+    private static int checkDigit13(long first12) {
+        int sum = 0;
+        boolean triple = true;  // 12번째(가장 낮은) 자리 가중치가 3
+        for (long rest = first12; rest > 0; rest /= 10) {
+            int digit = (int) (rest % 10);
+            sum += triple ? digit * 3 : digit;
+            triple = !triple;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * 'ISBN' 또는 'ISBN ' 접두사를 건너뛴 본문 시작 위치
+     */
+    private static int bodyStart(String value) {
+        if (!value.startsWith(PREFIX)) {
+            return 0;
+        }
+        int start = PREFIX.length();
+        return start < value.length() && value.charAt(start) == ' ' ? start + 1 : start;
+    }
+
+    private static String display(String value, long isbn13) {
+        String body = value.substring(bodyStart(value));
+        if (body.length() == 13 && body.indexOf('-') < 0 && body.indexOf(' ') < 0) {
+            return formatISBN13(isbn13);
+        }
+        return body.replace(' ', '-').replace('x', 'X');
+    }
+
+    private static String formatISBN13(long isbn13) {
         // 표준 ISBN-13 형식: 978-X-XX-XXXXXX-X
-        return String.format("%s-%s-%s-%s-%s",
-                digits.substring(0, 3),
-                digits.substring(3, 4),
-                digits.substring(4, 6),
-                digits.substring(6, 12),
-                digits.substring(12, 13));
+        char[] chars = new char[17];
+        long rest = isbn13;
+        for (int i = chars.length - 1; i >= 0; i--) {
+            if (i == 3 || i == 5 || i == 8 || i == 15) {
+                chars[i] = '-';
+            } else {
+                chars[i] = (char) ('0' + rest % 10);
+                rest /= 10;
+            }
+        }
+        return new String(chars);
     }
 
     public String getDigitsOnly() {
-        return value.replaceAll("[^0-9]", "");
+        StringBuilder digits = new StringBuilder(13);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
     }
 
     @Override
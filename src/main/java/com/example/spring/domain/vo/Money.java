@@ -10,10 +10,16 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 금액을 나타내는 Value Object
+ *
+ * 금액은 항상 소수 둘째 자리(HALF_UP)로 맞춰 저장합니다. 여러 금액을 더하는 반복 계산은 중간 결과마다
+ * Money/BigDecimal을 만들지 않도록 MoneyAccumulator를 사용합니다.
  */
 @Embeddable
 @Getter
@@ -21,9 +27,21 @@ import java.util.Objects;
 @EqualsAndHashCode
 public class Money {
 
+    /**
+     * ISO 4217 통화 코드 → JDK Currency가 들고 있는 같은 코드 문자열 (정규화는 이 목록의 통화만)
+     * ZERO 생성 전에 초기화되도록 먼저 선언
+     */
+    private static final Map<String, String> ISO_CURRENCY_CODES = Currency.getAvailableCurrencies().stream()
+            .collect(Collectors.toUnmodifiableMap(Currency::getCurrencyCode, Currency::getCurrencyCode));
+
     public static final Money ZERO = Money.of(BigDecimal.ZERO);
     public static final String DEFAULT_CURRENCY = "KRW";
 
+    /**
+     * 금액 소수 자릿수 (최소 단위 = 1/100)
+     */
+    static final int SCALE = 2;
+
     @Column(name = "amount", precision = 15, scale = 2)
     private BigDecimal amount;
 
@@ -33,8 +51,8 @@ public class Money {
     private Money(BigDecimal amount, String currency) {
         validateAmount(amount);
         validateCurrency(currency);
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
-        this.currency = currency;
+        this.amount = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        this.currency = canonicalCurrency(currency);
     }
 
     public static Money of(BigDecimal amount) {
@@ -53,6 +71,13 @@ public class Money {
         return new Money(BigDecimal.valueOf(amount), currency);
     }
 
+    /**
+     * 최소 단위(1/100) 정수 금액으로 생성 (예: 123450 → 1234.50)
+     */
+    public static Money ofMinorUnits(long minorUnits, String currency) {
+        return new Money(BigDecimal.valueOf(minorUnits, SCALE), currency);
+    }
+
     public static Money zero() {
         return ZERO;
     }
@@ -119,13 +144,30 @@ public class Money {
         return this.amount.compareTo(other.amount);
     }
 
+    /**
+     * 최소 단위(1/100) 정수 금액 - long 범위를 넘으면 ArithmeticException
+     * (DB에서 읽은 금액은 생성자를 거치지 않으므로 자릿수를 다시 맞춤)
+     */
+    long toMinorUnits() {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 통화 코드는 같은 문자열 인스턴스를 쓰도록 정규화 (기본 통화는 상수, 그 외 ISO 4217 통화는 JDK의 코드 문자열)
+     * DB에서 읽은 통화와 비교할 때도 대부분 String.equals의 동일 참조 검사에서 끝납니다.
+     * 목록에 없는 코드는 그대로 두므로 외부 입력의 임의 문자열이 문자열 풀에 쌓이지 않습니다.
+     */
+    static String canonicalCurrency(String currency) {
+        return DEFAULT_CURRENCY.equals(currency) ? DEFAULT_CURRENCY : ISO_CURRENCY_CODES.getOrDefault(currency, currency);
+    }
+
     private void validateAmount(BigDecimal amount) {
         if (amount == null) {
             throw new IllegalArgumentException(ErrorMessages.MONEY_AMOUNT_NULL);
         }
     }
 
-    private void validateCurrency(String currency) {
+    static void validateCurrency(String currency) {
         if (currency == null || currency.isBlank()) {
             throw new IllegalArgumentException(ErrorMessages.MONEY_CURRENCY_REQUIRED);
         }
@@ -0,0 +1,68 @@
+package com.example.spring.domain.vo;
+
+import com.example.spring.exception.ErrorMessages;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액 합계를 구하는 가변 누산기 (주문 총액, 연체료 합계 등 반복 계산용)
+ *
+ * Money의 덧셈/곱셈은 매번 새 Money와 BigDecimal을 만들지만, 누산기는 합계를 최소 단위(1/100) long으로
+ * 더하고 마지막 toMoney()에서 한 번만 Money를 만듭니다. Money 금액은 항상 소수 둘째 자리이므로
+ * 정수 연산 결과는 Money 연산을 이어서 한 결과와 같습니다. long 범위를 넘으면 그때부터 BigDecimal로 계산합니다.
+ *
+ * 한 스레드 안에서 쓰는 지역 변수용이며 스레드 안전하지 않습니다.
+ */
+public final class MoneyAccumulator {
+
+    private final String currency;
+    private long minorUnits;
+    private BigDecimal overflow;  // long 범위를 넘은 뒤의 합계 (그 전에는 null)
+
+    public MoneyAccumulator() {
+        this(Money.DEFAULT_CURRENCY);
+    }
+
+    public MoneyAccumulator(String currency) {
+        Money.validateCurrency(currency);
+        this.currency = Money.canonicalCurrency(currency);
+    }
+
+    public MoneyAccumulator add(Money money) {
+        return add(money, 1);
+    }
+
+    /**
+     * money × quantity를 더함 (money.multiply(quantity)를 더한 것과 같음)
+     */
+    public MoneyAccumulator add(Money money, int quantity) {
+        validateSameCurrency(money);
+        if (overflow == null) {
+            try {
+                minorUnits = Math.addExact(minorUnits, Math.multiplyExact(money.toMinorUnits(), (long) quantity));
+                return this;
+            } catch (ArithmeticException e) {
+                overflow = BigDecimal.valueOf(minorUnits, Money.SCALE);
+            }
+        }
+        overflow = overflow.add(money.getAmount().multiply(BigDecimal.valueOf(quantity)));
+        return this;
+    }
+
+    public MoneyAccumulator subtract(Money money) {
+        return add(money, -1);
+    }
+
+    public Money toMoney() {
+        return overflow == null ? Money.ofMinorUnits(minorUnits, currency) : Money.of(overflow, currency);
+    }
+
+    private void validateSameCurrency(Money other) {
+        if (other == null) {
+            throw new IllegalArgumentException(ErrorMessages.MONEY_OTHER_NULL);
+        }
+        if (!currency.equals(other.getCurrency())) {
+            throw new IllegalArgumentException(ErrorMessages.moneyCurrencyMismatch(currency, other.getCurrency()));
+        }
+    }
+}
\ No newline at end of file
@@ -93,4 +93,22 @@ public class BookException {
             super("INVALID_PRICE_RANGE", message);
         }
     }
+
+    /**
+     * 잘못된 페이지 커서 예외
+     */
+    public static class InvalidCursorException extends BusinessException {
+        public InvalidCursorException(String message) {
+            super("INVALID_CURSOR", message);
+        }
+    }
+
+    /**
+     * 읽을 수 없는 대량 등록 파일 예외 (헤더 누락, 지원하지 않는 형식 등)
+     */
+    public static class InvalidImportFileException extends BusinessException {
+        public InvalidImportFileException(String message) {
+            super("INVALID_IMPORT_FILE", message);
+        }
+    }
 }
\ No newline at end of file
@@ -24,8 +24,11 @@ public final class ErrorMessages {
     public static final String LOAN_RETURNED_CANNOT_CANCEL = "이미 반납된 대여는 취소할 수 없습니다";
     public static final String LOAN_DUE_DATE_MUST_BE_FUTURE = "반납 예정일은 현재 시간보다 미래여야 합니다";
 
+    public static final String PAGE_SIZE_MIN_ONE = "페이지 크기는 1 이상이어야 합니다";
+
     public static final String ORDER_ITEM_QUANTITY_MIN_ONE = "수량은 1 이상이어야 합니다";
     public static final String ISBN_REQUIRED = "ISBN은 필수입니다";
+    public static final String BOOK_IMPORT_CHUNK_FAILED = "청크 저장 실패: 저장 중 오류가 발생했습니다";
     public static final String ADDRESS_REQUIRED = "주소는 필수입니다";
     public static final String MONEY_DIVIDE_BY_ZERO = "0으로 나눌 수 없습니다";
     public static final String MONEY_AMOUNT_NULL = "금액은 null일 수 없습니다";
@@ -67,6 +70,14 @@ public final class ErrorMessages {
         return "잘못된 도서 가격입니다: " + detail;
     }
 
+    public static String invalidCursor(String cursor) {
+        return "올바른 페이지 커서가 아닙니다: " + cursor;
+    }
+
+    public static String unsupportedCursorSort(String property) {
+        return "커서 페이징에서 지원하지 않는 정렬 기준입니다: " + property;
+    }
+
     public static String orderNotFound(Long id) {
         return "주문을 찾을 수 없습니다. ID: " + id;
     }
@@ -0,0 +1,241 @@
+package com.example.spring.infrastructure.availability;
+
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.infrastructure.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 id별 대여 가능/삭제/대여 중 상태를 담은 메모리 압축 비트맵
+ *
+ * 애플리케이션 시작 시 id 컬럼만 조회해 세 비트맵을 만들고, 이후에는 BookServiceImpl의
+ * 등록/수정/삭제/복원/재고 변경과 대여/반납/도서 변경 이벤트로 증분 반영합니다.
+ * 도서 변경은 트랜잭션 커밋 후에 반영하므로 롤백된 변경은 비트맵에 남지 않습니다.
+ * 비트맵을 만드는 동안 들어온 변경은 모아 두었다가 교체 직후 새 비트맵에 다시 반영합니다.
+ * 준비되기 전에는 isReady()가 false이므로 호출 측에서 DB 조회로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookAvailabilityIndex {
+
+    private static final long MILLION = 1_000_000L;
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private CompressedBitmap available = new CompressedBitmap();   // available 컬럼이 true인 도서
+    private CompressedBitmap deleted = new CompressedBitmap();     // 삭제(soft delete)된 도서
+    private CompressedBitmap loaned = new CompressedBitmap();      // 반납되지 않은 대여가 있는 도서
+    private long highestBookId;
+    private volatile boolean ready;
+    private boolean rebuilding;                                     // 쓰기 잠금 안에서만 읽고 씀
+    private final List<Runnable> pending = new ArrayList<>();      // 비트맵을 만드는 동안 반영된 변경
+
+    /**
+     * DB 상태로 비트맵 교체
+     * 조회 시작 전에 커밋된 변경은 조회 결과에, 이후 커밋된 변경은 pending에 들어가 교체 후 다시 반영되므로
+     * 세 조회와 교체 사이에 커밋된 변경도 빠지지 않음 (변경은 모두 값을 덮어쓰므로 두 번 반영되어도 같음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        CompressedBitmap freshAvailable;
+        CompressedBitmap freshDeleted;
+        CompressedBitmap freshLoaned;
+        try {
+            freshAvailable = bitmapOf(bookRepository.findAvailableIds());
+            freshDeleted = bitmapOf(bookRepository.findDeletedIds());
+            freshLoaned = bitmapOf(loanRepository.findLoanedBookIds());
+        } catch (RuntimeException e) {
+            // 기존 비트맵에는 이미 반영되어 있으므로 모아 둔 변경만 버림
+            write(() -> {
+                rebuilding = false;
+                pending.clear();
+            });
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            available = freshAvailable;
+            deleted = freshDeleted;
+            loaned = freshLoaned;
+            highestBookId = Math.max(0, Math.max(freshAvailable.last(), Math.max(freshDeleted.last(), freshLoaned.last())));
+            replayed = pending.size();
+            pending.forEach(Runnable::run);
+            pending.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replayed > 0) {
+            log.info("대여 가능 비트맵 생성 중 들어온 변경 {}건 반영", replayed);
+        }
+        log.info("대여 가능 비트맵 생성 완료 - 대여 가능 {}건, 삭제 {}건, 대여 중 {}건, {}ms",
+                freshAvailable.cardinality(), freshDeleted.cardinality(), freshLoaned.cardinality(),
+                System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 도서 등록/수정/삭제/복원/재고 변경 반영
+     */
+    public void update(Book book) {
+        if (book.getId() == null) {
+            return;
+        }
+        int id = Math.toIntExact(book.getId());
+        boolean isAvailable = Boolean.TRUE.equals(book.getAvailable());
+        boolean isDeleted = book.getDeletedDate() != null;
+        AfterCommit.run(() -> write(() -> {
+            available.set(id, isAvailable);
+            deleted.set(id, isDeleted);
+            highestBookId = Math.max(highestBookId, id);
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        if (event.getBookId() != null) {
+            int id = Math.toIntExact(event.getBookId());
+            write(() -> {
+                available.remove(id);
+                loaned.add(id);
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        if (event.getBookId() != null) {
+            loanEnded(Math.toIntExact(event.getBookId()), Boolean.TRUE.equals(event.getLoan().getBook().getAvailable()));
+        }
+    }
+
+    /**
+     * 대여 취소/관리자 반납 처리/대여 중 기록 삭제로 대여가 끝난 경우
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getBookId() != null) {
+            loanEnded(Math.toIntExact(event.getBookId()), event.isAvailable());
+        }
+    }
+
+    /**
+     * 재고가 있고 삭제되지 않았으며 대여 중이 아닌지
+     */
+    public boolean isAvailableForLoan(Long bookId) {
+        if (bookId == null || bookId < 0 || bookId > Integer.MAX_VALUE) {
+            return false;
+        }
+        int id = bookId.intValue();
+        lock.readLock().lock();
+        try {
+            return available.contains(id) && !deleted.contains(id) && !loaned.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오름차순 후보 id 중 available 컬럼이 true이고 삭제되지 않은 도서만 남김
+     * (BookSpecification.isAvailable(true)와 같은 조건, 검색 색인 결과와의 교집합용)
+     */
+    public int[] retainAvailable(int[] sortedIds) {
+        lock.readLock().lock();
+        try {
+            int[] retained = available.retain(sortedIds);
+            return deleted.isEmpty()
+                    ? retained
+                    : Arrays.stream(retained).filter(id -> !deleted.contains(id)).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Snapshot statistics() {
+        lock.readLock().lock();
+        try {
+            long memoryBytes = available.sizeInBytes() + deleted.sizeInBytes() + loaned.sizeInBytes();
+            return new Snapshot(ready, highestBookId,
+                    available.cardinality(), deleted.cardinality(), loaned.cardinality(), memoryBytes,
+                    highestBookId > 0 ? memoryBytes * MILLION / highestBookId : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void loanEnded(int id, boolean isAvailable) {
+        write(() -> {
+            available.set(id, isAvailable);
+            loaned.remove(id);
+        });
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static CompressedBitmap bitmapOf(List<Long> ids) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (Long id : ids) {
+            bitmap.add(Math.toIntExact(id));
+        }
+        return bitmap;
+    }
+
+    /**
+     * 비트맵 상태 (메모리 사용량은 id 범위(최대 도서 id) 100만 건당으로 환산)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+
+        private final boolean ready;
+        private final long highestBookId;
+        private final long availableBooks;
+        private final long deletedBooks;
+        private final long loanedBooks;
+        private final long memoryBytes;
+        private final long bytesPerMillionBooks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,539 @@
+package com.example.spring.infrastructure.availability;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 값의 압축 비트맵 (Roaring 방식)
+ *
+ * 값의 상위 16비트로 구간을 나누고, 구간마다 하위 16비트를 원소 수에 따라 다른 컨테이너에 담습니다.
+ * 4,096개 이하면 정렬된 char 배열(원소당 2바이트), 그보다 많으면 65,536비트 비트맵(8KB 고정)을 사용하므로
+ * 드문드문한 구간과 빽빽한 구간 모두 원소당 2바이트를 넘지 않습니다.
+ * 교집합/차집합은 같은 구간의 컨테이너끼리만 계산합니다.
+ *
+ * 스레드 안전하지 않으므로 여러 스레드에서 쓸 때는 호출 측에서 동기화해야 합니다.
+ */
+public class CompressedBitmap {
+
+    static final int ARRAY_MAX = 4_096;
+    private static final int BITMAP_WORDS = 1_024;
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        int index = indexOf(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertAt(index, high, new ArrayContainer());
+        }
+        Container container = containers[index];
+        long before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() > before;
+    }
+
+    /**
+     * @return 있던 값을 제거했으면 true
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        long before = container.cardinality();
+        Container after = container.remove((char) value);
+        if (after.cardinality() == 0) {
+            removeAt(index);
+        } else {
+            containers[index] = after;
+        }
+        return after.cardinality() < before;
+    }
+
+    public void set(int value, boolean present) {
+        if (present) {
+            add(value);
+        } else {
+            remove(value);
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 가장 큰 값 (비어 있으면 -1)
+     */
+    public int last() {
+        return size > 0 ? keys[size - 1] << 16 | containers[size - 1].last() : -1;
+    }
+
+    /**
+     * 두 비트맵의 교집합 (새 비트맵)
+     */
+    public static CompressedBitmap and(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            if (left.keys[i] == right.keys[j]) {
+                result.appendIfNotEmpty(left.keys[i], left.containers[i].and(right.containers[j]));
+                i++;
+                j++;
+            } else if (left.keys[i] < right.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * left에서 right를 뺀 차집합 (새 비트맵)
+     */
+    public static CompressedBitmap andNot(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < left.size; i++) {
+            while (j < right.size && right.keys[j] < left.keys[i]) {
+                j++;
+            }
+            Container container = j < right.size && right.keys[j] == left.keys[i]
+                    ? left.containers[i].andNot(right.containers[j])
+                    : left.containers[i].copy();
+            result.appendIfNotEmpty(left.keys[i], container);
+        }
+        return result;
+    }
+
+    /**
+     * 오름차순 후보 값 중 비트맵에 있는 값만 남김 (검색 색인 결과 등과의 교집합)
+     */
+    public int[] retain(int[] sortedValues) {
+        int[] result = new int[sortedValues.length];
+        int count = 0;
+        int index = 0;
+        for (int value : sortedValues) {
+            if (value < 0) {
+                continue;
+            }
+            char high = (char) (value >>> 16);
+            // 후보가 오름차순이므로 구간 위치는 앞으로만 이동
+            while (index < size && keys[index] < high) {
+                index++;
+            }
+            if (index == size) {
+                break;
+            }
+            if (keys[index] == high && containers[index].contains((char) value)) {
+                result[count++] = value;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 전체 값 (오름차순)
+     */
+    public int[] toArray() {
+        int[] values = new int[Math.toIntExact(cardinality())];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offset = containers[i].copyTo(keys[i] << 16, values, offset);
+        }
+        return values;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (배열 본문 + 객체 헤더)
+     */
+    public long sizeInBytes() {
+        long bytes = OBJECT_OVERHEAD * 3L + keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    int containerCount() {
+        return size;
+    }
+
+    int bitmapContainerCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (containers[i] instanceof BitmapContainer) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+        }
+    }
+
+    private int indexOf(char high) {
+        // 오름차순으로 추가하는 경우가 대부분이므로 마지막 구간부터 확인
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertAt(int index, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private void appendIfNotEmpty(char high, Container container) {
+        if (container.cardinality() > 0) {
+            insertAt(size, high, container);
+        }
+    }
+
+    /**
+     * 한 구간(하위 16비트 값 65,536개)의 저장소
+     */
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract char last();
+
+        abstract Container and(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        abstract int copyTo(int base, int[] target, int offset);
+
+        abstract long sizeInBytes();
+    }
+
+    /**
+     * 정렬된 char 배열 컨테이너 (원소 4,096개 이하)
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            // 오름차순 추가는 이진 탐색 없이 끝에 붙임
+            if (cardinality > 0 && values[cardinality - 1] < value) {
+                return insert(cardinality, value);
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            return index >= 0 ? this : insert(-index - 1, value);
+        }
+
+        private Container insert(int index, char value) {
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, values.length * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        char last() {
+            return values[cardinality - 1];
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] == array.values[j]) {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    } else if (values[i] < array.values[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset) {
+            for (int i = 0; i < cardinality; i++) {
+                target[offset++] = base | values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return OBJECT_OVERHEAD * 2L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 65,536비트 비트맵 컨테이너 (원소 4,096개 초과)
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            if (words[value >>> 6] != before) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (words[value >>> 6] != before) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        char last() {
+            for (int i = BITMAP_WORDS - 1; ; i--) {
+                if (words[i] != 0) {
+                    return (char) ((i << 6) + 63 - Long.numberOfLeadingZeros(words[i]));
+                }
+            }
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            return compact(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            int count = cardinality;
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    char value = array.values[i];
+                    if ((result[value >>> 6] & (1L << value)) != 0) {
+                        result[value >>> 6] &= ~(1L << value);
+                        count--;
+                    }
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                count = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~otherWords[i];
+                    count += Long.bitCount(result[i]);
+                }
+            }
+            return compact(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    target[offset++] = base | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return OBJECT_OVERHEAD * 2L + BITMAP_WORDS * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        private static Container compact(long[] words, int cardinality) {
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.example.spring.infrastructure.cache;
+
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 대출로 인한 도서 상태 변경을 books 캐시에 반영
+ *
+ * LoanServiceImpl은 BookServiceImpl을 거치지 않고 도서 재고 상태를 바꾸므로 @CacheEvict가 적용되지 않습니다.
+ * 대출 생성/반납, 도서 변경 이벤트를 커밋 이후에 받아 해당 도서 캐시를 제거합니다.
+ * (검색 색인은 제목/저자만 담고 결과는 DB에서 다시 읽으므로, 통계는 BookStatisticsCounter가 같은 이벤트로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        evict(event.getBookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        evict(event.getBookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        evict(event.getBookId());
+    }
+
+    /**
+     * 커밋 이후 단계에서는 트랜잭션 동기화가 더 이상 실행되지 않으므로 즉시 제거(evictIfPresent)
+     */
+    private void evict(Long bookId) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (bookId == null || cache == null) {
+            return;
+        }
+        if (cache.evictIfPresent(bookId)) {
+            log.debug("도서 캐시 제거 - ID: {}", bookId);
+        }
+    }
+}
\ No newline at end of file
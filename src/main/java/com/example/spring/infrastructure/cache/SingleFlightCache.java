@@ -0,0 +1,145 @@
+package com.example.spring.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 동시 조회 합치기(single-flight)와 만료 전 백그라운드 갱신(stale-while-revalidate)을 더한 캐시
+ *
+ * 같은 키의 캐시 실패가 동시에 몰리면 Caffeine의 원자적 계산(get(key, loader))으로 한 번만 로드하고
+ * 나머지 요청은 그 결과를 기다려 함께 사용합니다. (@Cacheable(sync = true)가 이 경로를 사용)
+ * 저장 후 refreshAfterWrite가 지난 항목은 기존 값을 바로 반환하고, 키마다 하나의 갱신만 백그라운드로 실행합니다.
+ * 갱신 중 항목이 제거/교체되었다면 갱신 결과는 버립니다.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final CaffeineCache target;
+    private final long refreshAfterWriteNanos;
+    private final Executor executor;
+    private final Ticker ticker;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    public SingleFlightCache(CaffeineCache target, Duration refreshAfterWrite, Executor executor, Ticker ticker) {
+        this.target = target;
+        this.refreshAfterWriteNanos = refreshAfterWrite.toNanos();
+        this.executor = executor;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = target.get(key);
+        return wrapper != null ? new SimpleValueWrapper(((Entry) wrapper.get()).value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값이 요청한 타입이 아닙니다 [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = target.get(key, () -> new Entry(valueLoader.call(), ticker.read()));
+        if (ticker.read() - entry.writtenAt >= refreshAfterWriteNanos) {
+            refreshAsync(key, entry, valueLoader);
+        }
+        return (T) entry.value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(key, new Entry(value, ticker.read()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = target.putIfAbsent(key, new Entry(value, ticker.read()));
+        return existing != null ? new SimpleValueWrapper(((Entry) existing.get()).value) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        target.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return target.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        target.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return target.invalidate();
+    }
+
+    /**
+     * 키당 하나의 갱신만 실행하고, 항목이 그대로일 때만 새 값으로 교체
+     */
+    private void refreshAsync(Object key, Entry stale, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    Entry fresh = new Entry(valueLoader.call(), ticker.read());
+                    getNativeCache().asMap().replace(key, stale, fresh);
+                } catch (Exception e) {
+                    // 갱신에 실패해도 만료(expireAfterWrite) 전까지는 기존 값을 계속 사용
+                    log.warn("캐시 갱신 실패 - {}: {}", getName(), key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * 캐시 값과 저장 시각 (null 값도 저장해 없는 키의 반복 조회도 합침)
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final long writtenAt;
+
+        private Entry(Object value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
\ No newline at end of file
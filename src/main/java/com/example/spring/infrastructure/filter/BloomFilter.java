@@ -0,0 +1,137 @@
+package com.example.spring.infrastructure.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터
+ *
+ * mightContain이 false면 한 번도 추가되지 않은 키가 확실하고, true면 추가된 키이거나 오탐입니다.
+ * 예상 키 수(n)와 목표 오탐률(p)로 비트 수 m = -n·ln(p)/(ln 2)², 해시 수 k = (m/n)·ln 2 를 정합니다.
+ * 해시는 64비트 FNV-1a 값을 두 개의 독립 해시로 섞어 i번째 위치를 h1 + i·h2 로 계산합니다. (Kirsch-Mitzenmacher)
+ *
+ * 비트 배열은 AtomicLongArray이므로 조회와 추가를 여러 스레드에서 동시에 호출할 수 있습니다.
+ */
+public class BloomFilter {
+
+    private final long expectedInsertions;
+    private final double targetFalsePositiveRate;
+    private final int hashFunctions;
+    private final long bitSize;
+    private final AtomicLongArray bits;
+    private final AtomicLong setBits = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double targetFalsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 키 수는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (targetFalsePositiveRate <= 0 || targetFalsePositiveRate >= 1) {
+            throw new IllegalArgumentException("목표 오탐률은 0과 1 사이여야 합니다: " + targetFalsePositiveRate);
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+
+        long words = Math.max(1, (optimalBitSize(expectedInsertions, targetFalsePositiveRate) + 63) / 64);
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitSize = words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 키 추가 (새로 켜진 비트가 있을 때만 추가 수에 포함하므로 같은 키를 반복 추가해도 늘지 않음)
+     */
+    public void put(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률 ((켜진 비트 / 전체 비트)^k)
+     */
+    public double estimatedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitSize, hashFunctions);
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public double getTargetFalsePositiveRate() {
+        return targetFalsePositiveRate;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    public long getMemoryBytes() {
+        return (long) bits.length() * Long.BYTES;
+    }
+
+    static long optimalBitSize(long expectedInsertions, double falsePositiveRate) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        setBits.incrementAndGet();
+        return true;
+    }
+
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 최종 단계 - 비슷한 키(연속된 ISBN 등)의 해시 비트를 고르게 섞음
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.example.spring.infrastructure.filter;
+
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.infrastructure.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ISBN/이메일 중복 검사 앞단의 블룸 필터
+ *
+ * 애플리케이션 시작 시 키 컬럼만 조회해 필터를 만들고, 등록/변경된 키는 트랜잭션 커밋 후에 추가합니다.
+ * mightContain이 false면 DB 조회 없이 '없음'으로 판단하고, true면 호출하는 쪽에서 DB로 확인합니다.
+ * 필터가 준비되기 전에는 항상 true를 반환해 DB 조회로 대신합니다.
+ *
+ * 필터 크기는 적재 시점 행 수의 두 배(최소 1,024)로 정하고, 추가된 키가 그 수를 넘으면
+ * 오탐률이 목표보다 커지므로 백그라운드에서 더 큰 필터로 다시 만듭니다.
+ * 재구성 중 커밋된 키는 따로 모아 새 필터에도 넣으므로 '없음' 판정이 틀리는 일은 없습니다.
+ * ISBN은 하이픈 위치와 관계없이 13자리 정규화 값(isbn13)을 키로 사용합니다.
+ * 이메일은 DB 정렬 규칙(대소문자 무시 여부)과 관계없이 놓치지 않도록 소문자로 바꿔 저장/조회합니다.
+ */
+@Slf4j
+@Component
+public class ExistenceFilter {
+
+    public static final String ISBN_FILTER = "isbn";
+    public static final String EMAIL_FILTER = "email";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_EXPECTED_INSERTIONS = 1_024;
+
+    private final KeyFilter isbns;
+    private final KeyFilter emails;
+
+    public ExistenceFilter(BookRepository bookRepository, MemberRepository memberRepository) {
+        this.isbns = new KeyFilter(ISBN_FILTER, () -> bookRepository.findAllIsbn13().stream()
+                .map(String::valueOf)
+                .toList());
+        this.emails = new KeyFilter(EMAIL_FILTER, memberRepository::findAllEmails);
+    }
+
+    /**
+     * DB의 ISBN/이메일로 필터 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        isbns.rebuild();
+        emails.rebuild();
+    }
+
+    /**
+     * 올바르지 않은 ISBN은 등록될 수 없으므로 false
+     */
+    public boolean mightContainIsbn(String isbn) {
+        long isbn13 = ISBN.parseIsbn13(isbn);
+        return isbn13 != ISBN.INVALID && isbns.mightContain(String.valueOf(isbn13));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return email == null || emails.mightContain(normalizeEmail(email));
+    }
+
+    public void addIsbn(ISBN isbn) {
+        String key = String.valueOf(isbn.getIsbn13());
+        AfterCommit.run(() -> isbns.put(key));
+    }
+
+    public void addEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalizeEmail(email);
+        AfterCommit.run(() -> emails.put(key));
+    }
+
+    public List<Snapshot> statistics() {
+        return List.of(isbns.snapshot(), emails.snapshot());
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이름이 붙은 재구성 가능한 필터와 조회 통계
+     */
+    private static final class KeyFilter {
+
+        private final String name;
+        private final Supplier<List<String>> loader;
+        private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean resizing = new AtomicBoolean();
+        private final AtomicLong lookups = new AtomicLong();
+        private final AtomicLong negatives = new AtomicLong();
+        private volatile BloomFilter current;
+        private volatile boolean rebuilding;
+
+        private KeyFilter(String name, Supplier<List<String>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        boolean mightContain(String key) {
+            BloomFilter filter = current;
+            if (filter == null) {
+                return true;
+            }
+            lookups.incrementAndGet();
+            if (filter.mightContain(key)) {
+                return true;
+            }
+            negatives.incrementAndGet();
+            return false;
+        }
+
+        void put(String key) {
+            BloomFilter filter = current;
+            if (filter != null) {
+                filter.put(key);
+            }
+            if (rebuilding) {
+                pending.add(key);
+            }
+            // 추가하는 사이 필터가 교체되었다면 새 필터에도 추가
+            BloomFilter latest = current;
+            if (latest != null && latest != filter) {
+                latest.put(key);
+            }
+            if (latest != null && latest.getInsertions() > latest.getExpectedInsertions()) {
+                resizeAsync();
+            }
+        }
+
+        /**
+         * 커밋된 키를 다시 읽어 새 필터로 교체
+         * 조회 시작 전에 커밋된 키는 조회 결과에, 이후 커밋된 키는 pending에 들어가므로 빠지는 키가 없음
+         */
+        synchronized void rebuild() {
+            rebuilding = true;
+            try {
+                List<String> keys = loader.get();
+                BloomFilter fresh = new BloomFilter(
+                        Math.max(MIN_EXPECTED_INSERTIONS, keys.size() * 2L), FALSE_POSITIVE_RATE);
+                for (String key : keys) {
+                    fresh.put(key);
+                }
+                current = fresh;
+                log.info("존재 필터 구성 - {}: 키 {}개, {} bits, 해시 {}개",
+                        name, keys.size(), fresh.getBitSize(), fresh.getHashFunctions());
+            } catch (RuntimeException e) {
+                log.warn("존재 필터 구성 실패 - {}: 기존 필터 유지", name, e);
+            } finally {
+                BloomFilter filter = current;
+                String key;
+                while ((key = pending.poll()) != null) {
+                    if (filter != null) {
+                        filter.put(key);
+                    }
+                }
+                rebuilding = false;
+            }
+        }
+
+        private void resizeAsync() {
+            if (!resizing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                ForkJoinPool.commonPool().execute(() -> {
+                    try {
+                        rebuild();
+                    } finally {
+                        resizing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                resizing.set(false);
+            }
+        }
+
+        Snapshot snapshot() {
+            BloomFilter filter = current;
+            if (filter == null) {
+                return new Snapshot(name, false, 0, 0, 0, 0, 0, 0, 0, 0);
+            }
+            return new Snapshot(name, true, filter.getExpectedInsertions(), filter.getInsertions(),
+                    filter.getBitSize(), filter.getHashFunctions(), filter.getMemoryBytes(),
+                    filter.estimatedFalsePositiveRate(), lookups.get(), negatives.get());
+        }
+    }
+
+    /**
+     * 필터 상태 (조회 수는 애플리케이션 시작 후 누적값)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+
+        private final String name;
+        private final boolean ready;
+        private final long expectedInsertions;
+        private final long insertions;
+        private final long bitSize;
+        private final int hashFunctions;
+        private final long memoryBytes;
+        private final double estimatedFalsePositiveRate;
+        private final long lookups;
+        private final long negatives;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.spring.infrastructure.notification;
+
+import com.example.spring.domain.event.LoanDueSoonEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반납 예정일 임박 안내
+ *
+ * LoanDeadlineScheduler가 연장 가능 기간 시작 시각에 발행하는 LoanDueSoonEvent를 받아 회원 안내를 남깁니다.
+ * (회원 메일/푸시 발송 채널이 생기면 이 리스너에서 보냄)
+ */
+@Slf4j
+@Component
+public class LoanDueSoonNotifier {
+
+    private final AtomicLong notified = new AtomicLong();
+
+    @EventListener
+    public void onLoanDueSoon(LoanDueSoonEvent event) {
+        log.info("반납 예정일 임박 안내 - 회원: {}, 대여: {}, 도서: {}, 반납 예정일: {} (연장 신청 가능)",
+                event.getMemberId(), event.getLoanId(), event.getBookId(), event.getDueDate());
+        notified.incrementAndGet();
+    }
+
+    public long getNotifiedCount() {
+        return notified.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.example.spring.infrastructure.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 계층형 해시 타이밍 휠
+ *
+ * 가장 아래 단계는 tickMillis 간격의 wheelSize칸이고, 그 범위를 넘는 타이머는 한 칸이 아래 단계 한 바퀴인
+ * 상위 단계에 넣습니다(필요할 때 단계 추가). 상위 단계 칸의 시각이 되면 그 칸의 타이머를 아래 단계로 다시 넣어
+ * 점점 정밀한 칸으로 내려보내므로, 며칠 뒤 타이머도 가장 아래 단계 칸 하나의 오차로 실행됩니다.
+ *
+ * 삽입은 칸 계산 후 연결 리스트에 붙이고 취소는 연결 리스트에서 떼어내므로 O(1)입니다.
+ * 시계를 진행할 때 비어 있는 칸을 하나씩 훑지 않도록 타이머가 든 칸만 만료 시각 순 큐에 넣습니다
+ * (칸이 처음 채워질 때만 넣으며 큐 크기는 단계 수 × wheelSize 이하).
+ *
+ * 타이머는 deadline 이후, 늦어도 tickMillis 안에 만료됩니다(advance 호출 주기 제외).
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final int wheelSize;
+    private final Level root;
+    // 만료 시각이 같으면 아래 단계 칸부터 비워야 상위 단계에서 내려온 타이머가 아직 비우지 않은 칸에 섞이지 않음
+    private final PriorityQueue<Bucket<T>> queue = new PriorityQueue<>(
+            Comparator.<Bucket<T>>comparingLong(b -> b.expiration).thenComparingInt(b -> b.depth));
+    private final List<Timeout<T>> expired = new ArrayList<>();
+    private int size;
+    private int levels = 1;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis는 0보다, wheelSize는 1보다 커야 합니다");
+        }
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMillis, startMillis, 0);
+    }
+
+    /**
+     * deadline(epoch ms)에 만료될 타이머 추가 (이미 지난 시각이면 다음 advance에서 바로 만료)
+     */
+    public Timeout<T> schedule(T task, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(task, deadlineMillis);
+        if (!root.add(timeout)) {
+            expired.add(timeout);
+        }
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 아직 만료되지 않은 타이머 취소
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.state = Timeout.CANCELLED;
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 시계를 now(epoch ms)까지 진행하고 그사이 만료된 타이머 반환
+     */
+    public List<Timeout<T>> advance(long nowMillis) {
+        List<Timeout<T>> result = new ArrayList<>();
+        for (Timeout<T> timeout : expired) {
+            if (timeout.state == Timeout.PENDING) {
+                expire(timeout, result);
+            }
+        }
+        expired.clear();
+
+        Bucket<T> bucket;
+        while ((bucket = queue.peek()) != null && bucket.expiration <= nowMillis) {
+            queue.poll();
+            root.advanceClock(bucket.expiration);
+            for (Timeout<T> timeout : bucket.flush()) {
+                if (!root.add(timeout)) {
+                    expire(timeout, result);
+                }
+            }
+        }
+        root.advanceClock(nowMillis);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int levels() {
+        return levels;
+    }
+
+    private void expire(Timeout<T> timeout, List<Timeout<T>> result) {
+        timeout.state = Timeout.EXPIRED;
+        size--;
+        result.add(timeout);
+    }
+
+    /**
+     * 타이머 핸들
+     */
+    public static final class Timeout<T> {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final T task;
+        private final long deadline;
+        private int state = PENDING;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isPending() {
+            return state == PENDING;
+        }
+    }
+
+    /**
+     * 한 단계 - 같은 칸의 타이머는 모두 같은 만료 시각을 가짐
+     */
+    private final class Level {
+        private final long tick;
+        private final long interval;
+        private final int depth;
+        private final boolean lowest;
+        private final Bucket<T>[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, long startMillis, int depth) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.depth = depth;
+            this.lowest = depth == 0;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>(depth);
+            }
+            this.currentTime = startMillis - Math.floorMod(startMillis, tick);
+        }
+
+        /**
+         * @return false면 이미 만료
+         */
+        private boolean add(Timeout<T> timeout) {
+            // 가장 아래 단계는 deadline을 올림한 칸에 넣어 deadline 전에 만료되지 않게 하고,
+            // 상위 단계는 내림한 칸에 넣어 deadline 전에 아래 단계로 내려보냄
+            long slot = lowest ? Math.ceilDiv(timeout.deadline, tick) : Math.floorDiv(timeout.deadline, tick);
+            long expiration = slot * tick;
+            if (lowest && expiration <= currentTime) {
+                return false;
+            }
+            // 가장 아래 단계는 올림한 칸이 (currentTime, currentTime + interval]에 들어가면 받아야
+            // 상위 단계로 간 타이머가 상위 단계의 현재 칸(이미 지난 시각)에 들어가지 않음
+            boolean fits = lowest ? expiration <= currentTime + interval : expiration < currentTime + interval;
+            if (fits) {
+                Bucket<T> bucket = buckets[(int) Math.floorMod(slot, (long) wheelSize)];
+                bucket.add(timeout);
+                if (bucket.setExpiration(expiration)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tick) {
+                currentTime = timeMillis - Math.floorMod(timeMillis, tick);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Level overflow() {
+            if (overflow == null) {
+                overflow = new Level(interval, currentTime, depth + 1);
+                levels++;
+            }
+            return overflow;
+        }
+    }
+
+    /**
+     * 한 칸 - 취소를 O(1)로 하기 위한 이중 연결 리스트
+     */
+    private static final class Bucket<T> {
+        private final Timeout<T> head = new Timeout<>(null, 0);
+        private final int depth;
+        private long expiration = -1;
+
+        private Bucket(int depth) {
+            this.depth = depth;
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * @return 만료 시각이 바뀌었으면 true (큐에 다시 넣어야 함)
+         */
+        private boolean setExpiration(long newExpiration) {
+            if (expiration == newExpiration) {
+                return false;
+            }
+            expiration = newExpiration;
+            return true;
+        }
+
+        private List<Timeout<T>> flush() {
+            List<Timeout<T>> timeouts = new ArrayList<>();
+            for (Timeout<T> timeout = head.next; timeout != head; ) {
+                Timeout<T> next = timeout.next;
+                remove(timeout);
+                timeouts.add(timeout);
+                timeout = next;
+            }
+            expiration = -1;
+            return timeouts;
+        }
+    }
+}
\ No newline at end of file
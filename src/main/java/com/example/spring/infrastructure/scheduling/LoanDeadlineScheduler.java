@@ -0,0 +1,344 @@
+package com.example.spring.infrastructure.scheduling;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanDueSoonEvent;
+import com.example.spring.domain.event.LoanExtendedEvent;
+import com.example.spring.domain.event.LoanOverdueEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.JobCheckpoint;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.LoanSweepRepository.OverdueCandidate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 대여 반납 예정일 타이머
+ *
+ * 미반납 대여마다 다음에 올 시각 하나만 타이밍 휠에 넣습니다.
+ * - 연장 가능 기간 시작(반납 예정일 4일 전): LoanDueSoonEvent 발행(LoanDueSoonNotifier가 안내) 후 연체 타이머로 교체
+ * - 반납 예정일: 연체 상태로 바꾸고 LoanOverdueEvent 발행
+ * 애플리케이션 시작 시 미반납 대여로 채우고, 이후에는 대여/반납/연장 이벤트로 추가/취소/교체하므로
+ * 대여 테이블을 주기적으로 훑지 않습니다. 취소/관리자 반납/삭제처럼 이벤트가 없는 경로로 끝난 대여는
+ * 실행 시점에 DB에서 아직 같은 반납 예정일의 미반납 대여인지 확인해 건너뜁니다.
+ *
+ * 휠을 채우는 동안 들어온 이벤트는 모아 두었다가 교체 직후 차례대로 반영하므로, 조회와 교체 사이에
+ * 커밋된 대여/반납/연장도 빠지지 않습니다.
+ *
+ * 모든 타이머를 처리한 시각을 job_checkpoint에 주기적으로 저장하고, 재시작하면 그 시각 이후의 타이머부터
+ * 다시 실행하므로 중단된 동안 지난 알림/연체 전환도 빠짐없이 실행됩니다.
+ * 단일 노드 실행을 전제로 합니다. 처리 시각은 노드 구분 없이 한 행(loan-deadline-timer)에 저장하므로
+ * 여러 노드에서 실행하면 마지막에 기록한 노드의 시각이 남고, 임박 이벤트도 노드마다 발행됩니다
+ * (연체 전환만 DB 조건부 UPDATE로 한 번 일어남).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanDeadlineScheduler {
+
+    public static final String JOB_NAME = "loan-deadline-timer";
+
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    private static final Set<LoanStatus> UNRETURNED = Set.of(LoanStatus.ACTIVE, LoanStatus.OVERDUE);
+
+    private final LoanRepository loanRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookstoreProperties properties;
+    private final Clock clock;
+
+    private final Map<Long, HashedTimingWheel.Timeout<LoanTimer>> timersByLoan = new HashMap<>();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private HashedTimingWheel<LoanTimer> wheel;
+    private LocalDateTime firedThrough;
+    private LocalDateTime lastCheckpoint;
+    private long dueSoonFired;
+    private long overdueFired;
+    private volatile boolean ready;
+
+    /**
+     * 마지막 처리 완료 시각 이후의 미반납 대여 타이머로 휠 교체
+     * 교체 전에 들어온 이벤트는 pending에 쌓였다가 교체 직후 반영되므로, 조회 결과에 이미 들어 있는
+     * 대여도 같은 타이머로 다시 잡힐 뿐 빠지거나 겹치지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now(clock);
+        // 처음 실행이면 지난 시각은 이미 처리된 것으로 봄 (연체 상태는 연체 스윕이 맞춤)
+        LocalDateTime resumeFrom = jobCheckpointRepository.findById(JOB_NAME)
+                .map(JobCheckpoint::getLastCompletedAt)
+                .orElse(now);
+        List<LoanRepository.LoanDeadline> deadlines = loanRepository.findActiveLoanDeadlines();
+
+        BookstoreProperties.LoanDeadline config = properties.getLoanDeadline();
+        HashedTimingWheel<LoanTimer> freshWheel =
+                new HashedTimingWheel<>(config.getTick().toMillis(), config.getWheelSize(), toMillis(resumeFrom));
+        Map<Long, HashedTimingWheel.Timeout<LoanTimer>> freshTimers = new HashMap<>();
+        for (LoanRepository.LoanDeadline deadline : deadlines) {
+            LoanTimer timer = nextTimer(deadline.getId(), deadline.getMemberId(), deadline.getBookId(),
+                    deadline.getDueDate(), resumeFrom);
+            if (timer != null) {
+                freshTimers.put(timer.loanId, freshWheel.schedule(timer, timer.fireAtMillis()));
+            }
+        }
+
+        synchronized (this) {
+            wheel = freshWheel;
+            timersByLoan.clear();
+            timersByLoan.putAll(freshTimers);
+            firedThrough = resumeFrom;
+            lastCheckpoint = now;
+            ready = true;
+            Runnable change;
+            while ((change = pending.poll()) != null) {
+                change.run();
+            }
+        }
+        log.info("반납 예정일 타이머 초기화 완료 - 미반납 대여 {}건, 타이머 {}건, {} 이후부터, {}ms",
+                deadlines.size(), freshTimers.size(), resumeFrom, System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        reschedule(event.getLoanId(), event.getMemberId(), event.getBookId(), event.getDueDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanExtended(LoanExtendedEvent event) {
+        reschedule(event.getLoanId(), event.getMemberId(), event.getBookId(), event.getDueDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLoanReturned(LoanReturnedEvent event) {
+        Long loanId = event.getLoanId();
+        if (loanId == null) {
+            return;
+        }
+        if (!ready) {
+            pending.add(() -> cancel(loanId));
+            return;
+        }
+        cancel(loanId);
+    }
+
+    /**
+     * 시계를 현재 시각까지 진행하고 만료된 타이머 실행
+     */
+    @Scheduled(fixedRateString = "${bookstore.loan-deadline.tick:PT1S}")
+    public void tick() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<HashedTimingWheel.Timeout<LoanTimer>> expired;
+        synchronized (this) {
+            expired = wheel.advance(toMillis(now));
+            for (HashedTimingWheel.Timeout<LoanTimer> timeout : expired) {
+                timersByLoan.remove(timeout.getTask().loanId, timeout);
+            }
+        }
+        for (HashedTimingWheel.Timeout<LoanTimer> timeout : expired) {
+            fire(timeout.getTask(), now);
+        }
+
+        boolean checkpointDue;
+        synchronized (this) {
+            firedThrough = now;
+            checkpointDue = !now.isBefore(lastCheckpoint.plus(properties.getLoanDeadline().getCheckpointInterval()));
+        }
+        if (checkpointDue) {
+            saveCheckpoint(now);
+        }
+    }
+
+    public synchronized Snapshot statistics() {
+        return new Snapshot(ready, ready ? wheel.size() : 0, ready ? wheel.levels() : 0,
+                dueSoonFired, overdueFired, firedThrough);
+    }
+
+    private void fire(LoanTimer timer, LocalDateTime now) {
+        try {
+            if (timer.kind == Kind.DUE_SOON) {
+                fireDueSoon(timer);
+            } else {
+                fireOverdue(timer, now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("반납 예정일 타이머 실행 실패, {}초 후 재시도 - 대여 {}, {}",
+                    RETRY_DELAY.toSeconds(), timer.loanId, timer.kind, e);
+            schedule(timer.retryAt(now.plus(RETRY_DELAY)));
+        }
+    }
+
+    private void fireDueSoon(LoanTimer timer) {
+        if (!loanRepository.existsByIdAndDueDateAndReturnDateIsNullAndStatusIn(
+                timer.loanId, timer.dueDate, Set.of(LoanStatus.ACTIVE))) {
+            return;
+        }
+        eventPublisher.publishEvent(new LoanDueSoonEvent(timer.loanId, timer.memberId, timer.bookId, timer.dueDate));
+        synchronized (this) {
+            dueSoonFired++;
+        }
+        schedule(new LoanTimer(Kind.OVERDUE, timer.loanId, timer.memberId, timer.bookId, timer.dueDate,
+                timer.dueDate));
+    }
+
+    private void fireOverdue(LoanTimer timer, LocalDateTime now) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            if (!loanRepository.existsByIdAndDueDateAndReturnDateIsNullAndStatusIn(
+                    timer.loanId, timer.dueDate, UNRETURNED)) {
+                return false;
+            }
+            OverdueCandidate loan = new OverdueCandidate(timer.loanId, timer.dueDate, null, null);
+            long overdueDays = ChronoUnit.DAYS.between(timer.dueDate, now);
+            if (loanRepository.markOverdue(loan, loan, Loan.overdueFeeFor(overdueDays), now) == 0) {
+                return false;  // 다른 노드나 연체 스윕이 먼저 바꿈
+            }
+            eventPublisher.publishEvent(
+                    new LoanOverdueEvent(timer.loanId, timer.memberId, timer.bookId, timer.dueDate));
+            return true;
+        });
+        if (Boolean.TRUE.equals(changed)) {
+            synchronized (this) {
+                overdueFired++;
+            }
+        }
+    }
+
+    private synchronized void reschedule(Long loanId, Long memberId, Long bookId, LocalDateTime dueDate) {
+        if (loanId == null || dueDate == null) {
+            return;
+        }
+        if (!ready) {
+            pending.add(() -> reschedule(loanId, memberId, bookId, dueDate));
+            return;
+        }
+        cancel(loanId);
+        LoanTimer timer = nextTimer(loanId, memberId, bookId, dueDate, firedThrough);
+        if (timer != null) {
+            schedule(timer);
+        }
+    }
+
+    private synchronized void schedule(LoanTimer timer) {
+        cancel(timer.loanId);
+        timersByLoan.put(timer.loanId, wheel.schedule(timer, timer.fireAtMillis()));
+    }
+
+    private void cancel(Long loanId) {
+        HashedTimingWheel.Timeout<LoanTimer> previous = timersByLoan.remove(loanId);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+    }
+
+    private void saveCheckpoint(LocalDateTime now) {
+        LocalDateTime completedAt;
+        synchronized (this) {
+            completedAt = firedThrough;
+            lastCheckpoint = now;
+        }
+        try {
+            // 노드 구분 없는 한 행 - 단일 노드 실행 전제 (클래스 설명 참고)
+            Integer updated = transactionTemplate.execute(status ->
+                    jobCheckpointRepository.recordCompletedAt(JOB_NAME, completedAt));
+            if (updated != null && updated == 0) {
+                JobCheckpoint checkpoint = new JobCheckpoint(JOB_NAME);
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobCheckpointRepository.saveAndFlush(checkpoint);
+                    jobCheckpointRepository.recordCompletedAt(JOB_NAME, completedAt);
+                });
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 만든 경우 - 다음 주기에 기록
+        } catch (RuntimeException e) {
+            log.warn("반납 예정일 타이머 처리 시각 저장 실패", e);
+        }
+    }
+
+    /**
+     * after 이후에 올 다음 타이머 (둘 다 지났으면 null)
+     */
+    private static LoanTimer nextTimer(Long loanId, Long memberId, Long bookId, LocalDateTime dueDate,
+                                       LocalDateTime after) {
+        LocalDateTime windowStart = Loan.extensionWindowStart(dueDate);
+        if (windowStart.isAfter(after)) {
+            return new LoanTimer(Kind.DUE_SOON, loanId, memberId, bookId, dueDate, windowStart);
+        }
+        if (dueDate.isAfter(after)) {
+            return new LoanTimer(Kind.OVERDUE, loanId, memberId, bookId, dueDate, dueDate);
+        }
+        return null;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    enum Kind {
+        DUE_SOON, OVERDUE
+    }
+
+    /**
+     * 대여 하나의 다음 타이머 (fireAt은 그 시각이 "지난" 직후에 실행되도록 1ms 뒤로 잡음)
+     */
+    @AllArgsConstructor
+    static final class LoanTimer {
+        private final Kind kind;
+        private final Long loanId;
+        private final Long memberId;
+        private final Long bookId;
+        private final LocalDateTime dueDate;
+        private final LocalDateTime fireAt;
+
+        private long fireAtMillis() {
+            return toMillis(fireAt) + 1;
+        }
+
+        private LoanTimer retryAt(LocalDateTime at) {
+            return new LoanTimer(kind, loanId, memberId, bookId, dueDate, at);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final boolean ready;
+        private final int pendingTimers;
+        private final int wheelLevels;
+        private final long dueSoonFired;
+        private final long overdueFired;
+        private final LocalDateTime firedThrough;
+    }
+}
\ No newline at end of file
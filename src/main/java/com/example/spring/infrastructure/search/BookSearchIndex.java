@@ -0,0 +1,309 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.infrastructure.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 도서 제목/저자 검색용 메모리 색인 (부분 문자열, 오타 허용, 자동완성)
+ *
+ * 애플리케이션 시작 시 삭제되지 않은 도서로 색인을 만들고,
+ * 이후에는 BookServiceImpl의 등록/수정/삭제/복원을 트랜잭션 커밋 후에 증분 반영합니다. (롤백된 변경은 반영하지 않음)
+ * 재색인하는 동안 커밋된 변경은 모아 두었다가 스냅샷을 적재한 뒤 순서대로 반영하므로,
+ * 조회 이후의 등록/수정/삭제가 오래된 스냅샷에 덮여 사라지지 않습니다.
+ * 색인이 준비되기 전에는 isReady()가 false이므로 호출 측에서 DB 검색으로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+
+    private final NgramIndex titleIndex = new NgramIndex();
+    private final NgramIndex authorIndex = new NgramIndex();
+    private final FuzzyDictionary fuzzyDictionary = new FuzzyDictionary();
+    private final PrefixIndex prefixIndex = new PrefixIndex();
+    private final List<Runnable> pending = new ArrayList<>();     // 재색인 중 커밋된 변경 (this로 동기화)
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 전체 재색인
+     * 조회 시작 전에 커밋된 변경은 스냅샷에, 이후 커밋된 변경은 pending에 들어가 적재 후 반영되므로 빠지는 변경이 없음
+     * (pending에 든 변경은 그때까지 실행하지 않으므로 같은 도서의 변경 순서도 유지됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            rebuilding = true;
+        }
+        try {
+            load();
+        } finally {
+            int replayed = replayPending();
+            if (replayed > 0) {
+                log.info("도서 검색 색인 생성 중 커밋된 변경 {}건 반영", replayed);
+            }
+        }
+        ready = true;
+        log.info("도서 검색 색인 생성 완료 - {}건, {}ms", titleIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    private void load() {
+        titleIndex.clear();
+        authorIndex.clear();
+        fuzzyDictionary.clear();
+
+        List<Book> books = bookRepository.findByDeletedDateIsNull();
+        Map<Integer, String[]> prefixTexts = new HashMap<>();
+        for (Book book : books) {
+            int id = Math.toIntExact(book.getId());
+            indexText(id, book.getTitle(), book.getAuthor());
+            prefixTexts.put(id, new String[]{book.getTitle(), book.getAuthor()});
+        }
+        // 접두어 색인은 정렬 배열을 통째로 만드는 편이 빠르므로 한 번에 적재
+        prefixIndex.putAll(prefixTexts);
+        prefixIndex.setScores(loanRepository.countLoansGroupByBook().stream()
+                .collect(Collectors.toMap(
+                        count -> Math.toIntExact(count.getBookId()),
+                        LoanRepository.BookLoanCount::getLoanCount)));
+    }
+
+    /**
+     * 모아 둔 변경을 차례대로 반영하고 재색인 종료 (반영하는 동안 들어온 변경도 이어서 반영)
+     */
+    private synchronized int replayPending() {
+        int replayed = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).run();
+            replayed++;
+        }
+        pending.clear();
+        rebuilding = false;
+        return replayed;
+    }
+
+    /**
+     * 커밋된 변경 반영 (재색인 중이면 적재가 끝난 뒤 반영하도록 모아 둠)
+     */
+    private void apply(Runnable change) {
+        synchronized (this) {
+            if (rebuilding) {
+                pending.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 도서 색인 반영 (삭제된 도서는 색인에서 제거)
+     */
+    public void index(Book book) {
+        if (book.getId() == null) {
+            return;
+        }
+        if (book.getDeletedDate() != null) {
+            remove(book.getId());
+            return;
+        }
+        int id = Math.toIntExact(book.getId());
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        AfterCommit.run(() -> apply(() -> {
+            indexText(id, title, author);
+            prefixIndex.put(id, title, author);
+        }));
+    }
+
+    /**
+     * 여러 도서 색인 반영 (대량 등록용, 접두어 색인 병합은 한 번만)
+     */
+    public void indexAll(List<Book> books) {
+        Map<Integer, String[]> prefixTexts = new HashMap<>();
+        for (Book book : books) {
+            if (book.getId() == null || book.getDeletedDate() != null) {
+                continue;
+            }
+            prefixTexts.put(Math.toIntExact(book.getId()), new String[]{book.getTitle(), book.getAuthor()});
+        }
+        AfterCommit.run(() -> apply(() -> {
+            prefixTexts.forEach((id, texts) -> indexText(id, texts[0], texts[1]));
+            prefixIndex.addAll(prefixTexts);
+        }));
+    }
+
+    public void remove(Long bookId) {
+        int id = Math.toIntExact(bookId);
+        AfterCommit.run(() -> apply(() -> {
+            titleIndex.remove(id);
+            authorIndex.remove(id);
+            fuzzyDictionary.remove(id);
+            prefixIndex.remove(id);
+        }));
+    }
+
+    /**
+     * 대여가 확정되면 자동완성 인기도 반영
+     * (재색인 중 대여 수 조회 전에 커밋된 대여는 조회 결과와 함께 두 번 셀 수 있지만 인기 순위용이므로 허용)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        if (event.getBookId() != null) {
+            int id = Math.toIntExact(event.getBookId());
+            apply(() -> prefixIndex.incrementScore(id));
+        }
+    }
+
+    public int[] searchTitle(String title) {
+        return titleIndex.search(title);
+    }
+
+    public int[] searchAuthor(String author) {
+        return authorIndex.search(author);
+    }
+
+    /**
+     * 제목 또는 저자에 키워드가 포함된 도서 id (오름차순)
+     */
+    public int[] searchKeyword(String keyword) {
+        int[] titles = titleIndex.search(keyword);
+        int[] authors = authorIndex.search(keyword);
+        return IntStream.concat(Arrays.stream(titles), Arrays.stream(authors))
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * 오타 허용 검색
+     *
+     * 검색어 단어마다 편집 거리 이내의 사전 단어를 찾고, 모든 단어가 일치하는 도서를
+     * 편집 거리 합이 작은 순으로 반환합니다. 사전에 후보가 없는 단어가 있으면 일치하는 도서가 없으므로
+     * 결과는 비어 있고(나머지 단어로 넓혀 찾지 않음) 추천 검색어만 돌려줍니다.
+     * 단어별 가장 가까운(같으면 흔한) 사전 단어로 바꾼 검색어가 원래와 다르면 추천 검색어로 돌려줍니다.
+     */
+    public FuzzySearchResult searchFuzzy(String query, int limit) {
+        String[] tokens = FuzzyDictionary.tokenize(query);
+        Map<Integer, Integer> distances = null;
+        List<String> corrected = new ArrayList<>(tokens.length);
+        boolean unmatched = false;
+
+        for (String token : tokens) {
+            List<FuzzyDictionary.Suggestion> suggestions = fuzzyDictionary.lookup(token, maxDistance(token));
+            if (suggestions.isEmpty()) {
+                corrected.add(token);
+                unmatched = true;
+                continue;
+            }
+            corrected.add(suggestions.get(0).getTerm());
+            if (unmatched) {
+                continue;   // 결과는 없으므로 추천 검색어만 만듦
+            }
+
+            // 도서별로 이 단어와 가장 가까운 사전 단어의 거리
+            Map<Integer, Integer> tokenDistances = new HashMap<>();
+            for (FuzzyDictionary.Suggestion suggestion : suggestions) {
+                int distance = suggestion.getDistance();
+                suggestion.forEachId(id -> tokenDistances.merge(id, distance, Math::min));
+            }
+
+            if (distances == null) {
+                distances = tokenDistances;
+            } else {
+                distances.keySet().retainAll(tokenDistances.keySet());
+                distances.replaceAll((id, distance) -> distance + tokenDistances.get(id));
+            }
+        }
+
+        List<FuzzyMatch> matches = unmatched || distances == null ? List.of() : distances.entrySet().stream()
+                .map(entry -> new FuzzyMatch(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(FuzzyMatch::getDistance).thenComparingInt(FuzzyMatch::getBookId))
+                .limit(limit)
+                .toList();
+
+        String suggestion = String.join(" ", corrected);
+        boolean changed = !suggestion.equals(String.join(" ", tokens));
+        return new FuzzySearchResult(matches, changed ? suggestion : null);
+    }
+
+    /**
+     * 제목/저자(또는 그 초성)가 접두어로 시작하는 도서를 대여 횟수 순으로 limit개
+     */
+    public List<AutocompleteEntry> autocomplete(String prefix, int limit) {
+        int[] ids = prefixIndex.lookup(prefix, limit);
+        List<AutocompleteEntry> entries = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            String[] texts = prefixIndex.document(id);
+            if (texts != null) {
+                entries.add(new AutocompleteEntry(id, texts[0], texts[1], prefixIndex.score(id)));
+            }
+        }
+        return entries;
+    }
+
+    private void indexText(int id, String title, String author) {
+        titleIndex.put(id, title);
+        authorIndex.put(id, author);
+        fuzzyDictionary.put(id, title + " " + author);
+    }
+
+    /**
+     * 짧은 단어일수록 허용 오타 수를 줄임 (2글자 이하 0, 5글자 이하 1, 그 이상 2)
+     */
+    private int maxDistance(String token) {
+        if (token.length() <= 2) {
+            return 0;
+        }
+        return token.length() <= 5 ? 1 : FuzzyDictionary.MAX_DISTANCE;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FuzzyMatch {
+        private final int bookId;
+        private final int distance;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FuzzySearchResult {
+        private final List<FuzzyMatch> matches;
+        private final String suggestion;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AutocompleteEntry {
+        private final int bookId;
+        private final String title;
+        private final String author;
+        private final int loanCount;
+    }
+}
\ No newline at end of file
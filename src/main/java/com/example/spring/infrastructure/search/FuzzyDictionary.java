@@ -0,0 +1,263 @@
+package com.example.spring.infrastructure.search;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 오타 허용 검색용 단어 사전 (Symmetric Delete)
+ *
+ * 문서 텍스트를 단어로 나눠 단어별 문서 id 목록을 두고,
+ * 각 단어 앞부분(PREFIX_LENGTH)에서 최대 MAX_DISTANCE 글자를 지운 변형을 미리 계산해 둡니다.
+ * 검색어도 같은 방식으로 지운 변형만 조회하면 되므로 사전 크기와 무관하게
+ * 후보 단어를 바로 찾고, 실제 편집 거리(OSA)로 최종 확인합니다.
+ */
+public class FuzzyDictionary {
+
+    public static final int MAX_DISTANCE = 2;
+    private static final int PREFIX_LENGTH = 7;
+
+    private final Map<String, IntPostings> terms = new HashMap<>();
+    private final Map<String, List<String>> deletes = new HashMap<>();
+    private final Map<Integer, String[]> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     */
+    public void put(int id, String text) {
+        String[] tokens = tokenize(text);
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            if (tokens.length == 0) {
+                return;
+            }
+            documents.put(id, tokens);
+            for (String token : tokens) {
+                IntPostings postings = terms.get(token);
+                if (postings == null) {
+                    postings = new IntPostings();
+                    terms.put(token, postings);
+                    for (String variant : deleteVariants(prefix(token), MAX_DISTANCE)) {
+                        deletes.computeIfAbsent(variant, key -> new ArrayList<>(1)).add(token);
+                    }
+                }
+                postings.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거 (더 이상 쓰이지 않는 단어는 사전에서도 제거)
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            deletes.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 편집 거리 maxDistance 이내의 사전 단어 (거리 오름차순, 같은 거리면 문서 수가 많은 순)
+     */
+    public List<Suggestion> lookup(String token, int maxDistance) {
+        int distanceLimit = Math.min(maxDistance, MAX_DISTANCE);
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = new HashSet<>();
+            for (String variant : deleteVariants(prefix(token), distanceLimit)) {
+                List<String> matched = deletes.get(variant);
+                if (matched != null) {
+                    candidates.addAll(matched);
+                }
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (String candidate : candidates) {
+                if (Math.abs(candidate.length() - token.length()) > distanceLimit) {
+                    continue;
+                }
+                int distance = distance(token, candidate, distanceLimit);
+                if (distance <= distanceLimit) {
+                    suggestions.add(new Suggestion(candidate, distance, terms.get(candidate)));
+                }
+            }
+            suggestions.sort(Comparator.comparingInt(Suggestion::getDistance)
+                    .thenComparing(Comparator.comparingInt(Suggestion::getFrequency).reversed())
+                    .thenComparing(Suggestion::getTerm));
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화 후 문자/숫자가 아닌 글자를 기준으로 나눈 중복 없는 단어
+     */
+    public static String[] tokenize(String text) {
+        String normalized = NgramIndex.normalize(text);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * 제한 거리 이내의 OSA(인접 전치 포함) 편집 거리. 제한을 넘으면 limit + 1
+     */
+    static int distance(String source, String target, int limit) {
+        int[] previousPrevious = new int[target.length() + 1];
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1
+                        && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[target.length()], limit + 1);
+    }
+
+    private void removeDocument(int id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous) {
+            IntPostings postings = terms.get(token);
+            if (postings == null || !postings.remove(id) || postings.size() > 0) {
+                continue;
+            }
+            terms.remove(token);
+            for (String variant : deleteVariants(prefix(token), MAX_DISTANCE)) {
+                List<String> matched = deletes.get(variant);
+                if (matched != null && matched.remove(token) && matched.isEmpty()) {
+                    deletes.remove(variant);
+                }
+            }
+        }
+    }
+
+    private static String prefix(String token) {
+        return token.length() > PREFIX_LENGTH ? token.substring(0, PREFIX_LENGTH) : token;
+    }
+
+    /**
+     * 원문을 포함해 최대 distance 글자를 지운 모든 변형
+     */
+    private static Set<String> deleteVariants(String word, int distance) {
+        Set<String> variants = new HashSet<>();
+        variants.add(word);
+        List<String> frontier = List.of(word);
+        for (int step = 0; step < distance; step++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (variants.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    /**
+     * 사전 단어 후보
+     * 문서 id 목록은 복사하지 않고 사전의 목록을 가리키며, 읽을 때마다 읽기 잠금 안에서 그 시점의 목록을 읽음
+     */
+    @Getter
+    public final class Suggestion {
+        private final String term;
+        private final int distance;
+        private final int frequency;        // 조회 시점의 문서 수
+        @Getter(lombok.AccessLevel.NONE)
+        private final IntPostings postings;
+
+        private Suggestion(String term, int distance, IntPostings postings) {
+            this.term = term;
+            this.distance = distance;
+            this.frequency = postings.size();
+            this.postings = postings;
+        }
+
+        public void forEachId(IntConsumer action) {
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < postings.size(); i++) {
+                    action.accept(postings.get(i));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        public int[] getIds() {
+            lock.readLock().lock();
+            try {
+                return postings.toArray();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
\ No newline at end of file
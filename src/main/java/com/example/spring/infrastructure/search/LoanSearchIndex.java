@@ -0,0 +1,510 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.domain.event.BookUpdatedEvent;
+import com.example.spring.domain.event.LoanChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanExtendedEvent;
+import com.example.spring.domain.event.LoanOverdueEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.event.LoansArchivedEvent;
+import com.example.spring.domain.event.LoansMarkedOverdueEvent;
+import com.example.spring.domain.event.MemberUpdatedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.LoanSearchRepository.LoanSearchRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 관리자 대여 목록 검색용 메모리 읽기 모델
+ *
+ * 대여마다 상태/대여일/반납 예정일/반납일과 도서 제목을 담고, 도서 제목과 회원 이름/이메일은 도서/회원별로 한 번만
+ * n-gram 색인에 넣습니다. 검색어는 도서/회원 색인에서 찾은 뒤 도서/회원별 대여 목록으로 펼치므로
+ * 대여 테이블을 조인하며 LIKE로 훑지 않고, 정렬 키마다 정렬된 집합을 유지하므로 정렬도 하지 않습니다.
+ * 결과는 페이지에 해당하는 대여 id만 반환하며, 응답은 호출 측에서 id로 다시 읽어 만듭니다.
+ *
+ * 애플리케이션 시작 시 JDBC로 한 번 적재하고, 이후에는 대여/반납/연장/대여 변경/보관, 연체 전환(반납 예정일 타이머와
+ * 연체 스윕)과 도서/회원 수정 이벤트를 커밋 후에 반영합니다. 타이머가 놓친 연체 전환(중단 중 지난 반납 예정일,
+ * 스윕이 먼저 바꾼 대여)도 스윕 이벤트로 맞춰지지만, 이벤트는 발행한 노드에서만 받으므로
+ * 여러 노드로 실행하면 다른 노드에서 바뀐 상태는 다시 적재할 때까지 반영되지 않습니다.
+ * 다시 적재하는 동안 커밋된 변경은 모아 두었다가 교체 직전에 새 읽기 모델에 다시 반영합니다.
+ * 준비되기 전이거나 지원하지 않는 정렬, 또는 MAX_OFFSET보다 깊은 페이지면 호출 측에서 DB 조회로 대체해야 합니다.
+ *
+ * 메모리는 대여 300만 건(도서 30만, 회원 10만)에서 약 1.35GB(대여당 약 470B)입니다.
+ * 정렬 키별 TreeSet 4개의 노드와 대여 Map, Entry가 대부분이며 n-gram 색인은 도서/회원 수에 비례합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanSearchIndex {
+
+    /**
+     * 검색 결과가 이보다 적으면 결과만 정렬하고, 많으면 정렬된 전체 집합을 순서대로 훑으며 걸러냄
+     */
+    private static final int SORT_CANDIDATES_LIMIT = 10_000;
+
+    /**
+     * 정렬된 집합은 순위로 바로 찾을 수 없어 offset만큼 훑어야 하므로 이보다 깊은 페이지는 지원하지 않음
+     * (대여 300만 건에서 offset 1만은 약 3ms, 마지막 페이지는 약 94ms 동안 읽기 잠금을 잡음)
+     */
+    static final int MAX_OFFSET = 10_000;
+
+    private static final Map<String, Comparator<Entry>> ORDERS = Map.of(
+            "id", Comparator.comparingInt(entry -> entry.id),
+            "loanDate", orderBy(entry -> entry.loanDate),
+            "dueDate", orderBy(entry -> entry.dueDate),
+            "bookTitle", orderBy(entry -> entry.bookTitle));
+
+    private final LoanRepository loanRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private boolean rebuilding;                                     // 쓰기 잠금 안에서만 읽고 씀
+    private final List<Runnable> pending = new ArrayList<>();      // 적재하는 동안 반영된 변경
+    private volatile boolean ready;
+
+    /**
+     * DB 상태로 읽기 모델 교체
+     * 조회 시작 전에 커밋된 변경은 조회 결과에, 이후 커밋된 변경은 pending에 들어가 교체 전에 새 모델에 다시 반영되므로
+     * 적재와 교체 사이에 커밋된 변경도 빠지지 않음 (변경은 모두 값을 덮어쓰므로 두 번 반영되어도 같음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State fresh = new State();
+        try {
+            loanRepository.forEachSearchRow(fresh::load);
+        } catch (RuntimeException e) {
+            // 기존 읽기 모델에는 이미 반영되어 있으므로 모아 둔 변경만 버림
+            write(() -> {
+                rebuilding = false;
+                pending.clear();
+            });
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            state = fresh;
+            replayed = pending.size();
+            pending.forEach(Runnable::run);
+            pending.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replayed > 0) {
+            log.info("대여 검색 읽기 모델 생성 중 들어온 변경 {}건 반영", replayed);
+        }
+        log.info("대여 검색 읽기 모델 생성 완료 - 대여 {}건, 도서 {}건, 회원 {}건, {}ms",
+                fresh.entries.size(), fresh.bookTitles.size(), fresh.members.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * offset이 MAX_OFFSET 이하이고 정렬 기준 하나(id, loanDate, dueDate, bookTitle)이거나 정렬 없음이면 지원
+     */
+    public boolean supports(Pageable pageable) {
+        if (pageable.getOffset() > MAX_OFFSET) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && ORDERS.containsKey(orders.get(0).getProperty());
+    }
+
+    /**
+     * 검색어(도서 제목, 회원 이름, 이메일 부분 일치)와 상태로 거른 대여 id 페이지
+     * (검색/상태 조건과 정렬은 LoanSpecification.withFilters와 같으며, 같은 값은 id 순)
+     */
+    public Page<Long> search(String searchQuery, String statusFilter, Pageable pageable) {
+        Sort.Order order = pageable.getSort().isSorted() ? pageable.getSort().toList().get(0) : Sort.Order.asc("id");
+        LoanStatus status = parseStatus(statusFilter);
+        String query = StringUtils.hasText(searchQuery) ? searchQuery.trim() : null;
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = query != null ? state.matching(query) : null;
+            NavigableSet<Entry> ordered = state.orders.get(order.getProperty());
+            if (order.isDescending()) {
+                ordered = ordered.descendingSet();
+            }
+
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            long total;
+            if (candidates != null && candidates.cardinality() <= SORT_CANDIDATES_LIMIT) {
+                List<Entry> matched = state.entriesOf(candidates, status);
+                matched.sort(order.isDescending() ? ORDERS.get(order.getProperty()).reversed()
+                        : ORDERS.get(order.getProperty()));
+                total = matched.size();
+                for (long i = pageable.getOffset(); i < total && ids.size() < pageable.getPageSize(); i++) {
+                    ids.add((long) matched.get((int) i).id);
+                }
+            } else {
+                total = state.count(candidates, status);
+                long skip = pageable.getOffset();
+                Iterator<Entry> iterator = skip < total ? ordered.iterator() : Collections.emptyIterator();
+                while (iterator.hasNext() && ids.size() < pageable.getPageSize()) {
+                    Entry entry = iterator.next();
+                    if (!entry.matches(candidates, status)) {
+                        continue;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                        continue;
+                    }
+                    ids.add((long) entry.id);
+                }
+            }
+            return new PageImpl<>(ids, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        put(event.getLoan());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        put(event.getLoan());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanExtended(LoanExtendedEvent event) {
+        put(event.getLoan());
+    }
+
+    /**
+     * 대여 취소/관리자 상태 변경/대여 기록 삭제
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        if (event.isDeleted()) {
+            if (event.getLoanId() != null) {
+                write(() -> state.remove(Math.toIntExact(event.getLoanId())));
+            }
+            return;
+        }
+        put(event.getLoan());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanOverdue(LoanOverdueEvent event) {
+        if (event.getLoanId() != null) {
+            write(() -> state.markOverdue(Math.toIntExact(event.getLoanId())));
+        }
+    }
+
+    /**
+     * 연체 스윕이 한 청크에서 대여 중 → 연체로 바꾼 대여
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoansMarkedOverdue(LoansMarkedOverdueEvent event) {
+        write(() -> event.getLoanIds().forEach(loanId -> state.markOverdue(Math.toIntExact(loanId))));
+    }
+
+    /**
+     * loan_archive로 옮긴 대여는 관리자 목록(loan 테이블) 대상이 아니므로 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoansArchived(LoansArchivedEvent event) {
+        write(() -> event.getLoanIds().forEach(loanId -> state.remove(Math.toIntExact(loanId))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookUpdated(BookUpdatedEvent event) {
+        if (event.getBookId() != null) {
+            write(() -> state.putBook(Math.toIntExact(event.getBookId()), event.getTitle()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberUpdated(MemberUpdatedEvent event) {
+        if (event.getMemberId() != null) {
+            write(() -> state.putMember(Math.toIntExact(event.getMemberId()), event.getName(), event.getEmail()));
+        }
+    }
+
+    /**
+     * 대여 반영 - 도서 제목/회원 정보는 이미 아는 값을 쓰고, 처음 보는 도서/회원이면 초기화된 엔티티에서 읽음
+     */
+    private void put(Loan loan) {
+        if (loan == null || loan.getId() == null || loan.getBook() == null || loan.getMember() == null) {
+            return;
+        }
+        Book book = loan.getBook();
+        Member member = loan.getMember();
+        int bookId = Math.toIntExact(book.getId());
+        int memberId = Math.toIntExact(member.getId());
+        String title = Hibernate.isInitialized(book) ? book.getTitle() : null;
+        String[] memberTexts = Hibernate.isInitialized(member) ? new String[]{member.getName(), member.getEmail()} : null;
+        write(() -> {
+            if (title != null && !state.bookTitles.containsKey(bookId)) {
+                state.putBook(bookId, title);
+            }
+            if (memberTexts != null && !state.members.containsKey(memberId)) {
+                state.putMember(memberId, memberTexts[0], memberTexts[1]);
+            }
+            state.put(new Entry(Math.toIntExact(loan.getId()), bookId, memberId, state.bookTitles.get(bookId),
+                    loan.getLoanDate(), loan.getDueDate(), loan.getReturnDate(), loan.getStatus()));
+        });
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * LoanSpecification.withFilters와 같이 ALL/빈 값/잘못된 값이면 상태 조건 없음
+     */
+    private static LoanStatus parseStatus(String statusFilter) {
+        if (!StringUtils.hasText(statusFilter) || "ALL".equalsIgnoreCase(statusFilter.trim())) {
+            return null;
+        }
+        try {
+            return LoanStatus.valueOf(statusFilter.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Entry> orderBy(Function<Entry, T> key) {
+        return Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingInt(entry -> entry.id);
+    }
+
+    /**
+     * 대여 한 건 (정렬 집합에 들어 있으므로 바꿀 때는 새 Entry로 교체)
+     */
+    private static final class Entry {
+        private final int id;
+        private final int bookId;
+        private final int memberId;
+        private final String bookTitle;
+        private final LocalDateTime loanDate;
+        private final LocalDateTime dueDate;
+        private final LocalDateTime returnDate;
+        private final LoanStatus status;
+
+        private Entry(int id, int bookId, int memberId, String bookTitle, LocalDateTime loanDate,
+                      LocalDateTime dueDate, LocalDateTime returnDate, LoanStatus status) {
+            this.id = id;
+            this.bookId = bookId;
+            this.memberId = memberId;
+            this.bookTitle = bookTitle;
+            this.loanDate = loanDate;
+            this.dueDate = dueDate;
+            this.returnDate = returnDate;
+            this.status = status;
+        }
+
+        private Entry withBookTitle(String title) {
+            return new Entry(id, bookId, memberId, title, loanDate, dueDate, returnDate, status);
+        }
+
+        private Entry withStatus(LoanStatus newStatus) {
+            return new Entry(id, bookId, memberId, bookTitle, loanDate, dueDate, returnDate, newStatus);
+        }
+
+        private boolean matches(BitSet candidates, LoanStatus status) {
+            return (candidates == null || candidates.get(id)) && (status == null || this.status == status);
+        }
+    }
+
+    /**
+     * 읽기 모델 전체 (재적재 시 통째로 교체)
+     */
+    private static final class State {
+        private final Map<Integer, Entry> entries = new HashMap<>();
+        private final Map<String, TreeSet<Entry>> orders = new HashMap<>();
+        private final Map<LoanStatus, Integer> statusCounts = new EnumMap<>(LoanStatus.class);
+        private final Map<Integer, String> bookTitles = new HashMap<>();
+        private final Map<Integer, String[]> members = new HashMap<>();
+        private final Map<Integer, IntPostings> loansByBook = new HashMap<>();
+        private final Map<Integer, IntPostings> loansByMember = new HashMap<>();
+        private final NgramIndex titleIndex = new NgramIndex();
+        private final NgramIndex memberNameIndex = new NgramIndex();
+        private final NgramIndex memberEmailIndex = new NgramIndex();
+
+        private State() {
+            ORDERS.forEach((key, comparator) -> orders.put(key, new TreeSet<>(comparator)));
+        }
+
+        private void load(LoanSearchRow row) {
+            int bookId = Math.toIntExact(row.getBookId());
+            int memberId = Math.toIntExact(row.getMemberId());
+            if (!bookTitles.containsKey(bookId)) {
+                putBook(bookId, row.getBookTitle());
+            }
+            if (!members.containsKey(memberId)) {
+                putMember(memberId, row.getMemberName(), row.getMemberEmail());
+            }
+            put(new Entry(Math.toIntExact(row.getId()), bookId, memberId, bookTitles.get(bookId),
+                    row.getLoanDate(), row.getDueDate(), row.getReturnDate(), row.getStatus()));
+        }
+
+        private void put(Entry entry) {
+            remove(entry.id);
+            entries.put(entry.id, entry);
+            for (TreeSet<Entry> order : orders.values()) {
+                order.add(entry);
+            }
+            statusCounts.merge(entry.status, 1, Integer::sum);
+            loansByBook.computeIfAbsent(entry.bookId, key -> new IntPostings()).add(entry.id);
+            loansByMember.computeIfAbsent(entry.memberId, key -> new IntPostings()).add(entry.id);
+        }
+
+        private void remove(int loanId) {
+            Entry previous = entries.remove(loanId);
+            if (previous == null) {
+                return;
+            }
+            for (TreeSet<Entry> order : orders.values()) {
+                order.remove(previous);
+            }
+            statusCounts.merge(previous.status, -1, Integer::sum);
+            loansByBook.get(previous.bookId).remove(loanId);
+            loansByMember.get(previous.memberId).remove(loanId);
+        }
+
+        private void markOverdue(int loanId) {
+            Entry entry = entries.get(loanId);
+            if (entry != null && entry.returnDate == null && entry.status == LoanStatus.ACTIVE) {
+                put(entry.withStatus(LoanStatus.OVERDUE));
+            }
+        }
+
+        /**
+         * 도서 제목 반영 - 제목이 바뀌면 그 도서의 대여를 제목 정렬에서 다시 넣음
+         */
+        private void putBook(int bookId, String title) {
+            String previous = bookTitles.put(bookId, title);
+            if (title != null && title.equals(previous)) {
+                return;
+            }
+            titleIndex.put(bookId, title);
+            IntPostings loans = loansByBook.get(bookId);
+            if (loans == null) {
+                return;
+            }
+            for (int loanId : loans.toArray()) {
+                put(entries.get(loanId).withBookTitle(title));
+            }
+        }
+
+        private void putMember(int memberId, String name, String email) {
+            members.put(memberId, new String[]{name, email});
+            memberNameIndex.put(memberId, name);
+            memberEmailIndex.put(memberId, email);
+        }
+
+        /**
+         * 도서 제목/회원 이름/이메일에 검색어가 포함된 대여
+         */
+        private BitSet matching(String query) {
+            BitSet matched = new BitSet();
+            addLoans(matched, loansByBook, titleIndex.search(query));
+            addLoans(matched, loansByMember, memberNameIndex.search(query));
+            addLoans(matched, loansByMember, memberEmailIndex.search(query));
+            return matched;
+        }
+
+        private void addLoans(BitSet matched, Map<Integer, IntPostings> loansByOwner, int[] ownerIds) {
+            for (int ownerId : ownerIds) {
+                IntPostings loans = loansByOwner.get(ownerId);
+                for (int i = 0; loans != null && i < loans.size(); i++) {
+                    matched.set(loans.get(i));
+                }
+            }
+        }
+
+        private List<Entry> entriesOf(BitSet candidates, LoanStatus status) {
+            List<Entry> matched = new ArrayList<>(candidates.cardinality());
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.matches(null, status)) {
+                    matched.add(entry);
+                }
+            }
+            return matched;
+        }
+
+        private long count(BitSet candidates, LoanStatus status) {
+            if (candidates == null) {
+                return status == null ? entries.size() : statusCounts.getOrDefault(status, 0);
+            }
+            long count = 0;
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.matches(null, status)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.example.spring.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 n-gram 역색인
+ *
+ * 문서(정수 id)의 텍스트를 유니그램/바이그램으로 나눠 gram별 정렬된 int 배열(posting list)에 담습니다.
+ * 한글은 NFC로 정규화하여 완성형 음절 하나를 한 글자로 취급합니다.
+ * 검색어 gram의 posting list를 짧은 것부터 교집합한 뒤 원문 포함 여부를 확인하므로
+ * 결과는 LOWER(text) LIKE '%검색어%'와 같습니다.
+ */
+public class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, IntPostings> postings = new HashMap<>();
+    private final Map<Integer, String> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     */
+    public void put(int id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            documents.put(id, normalized);
+            for (String gram : documentGrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new IntPostings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서 id (오름차순)
+     */
+    public int[] search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IntPostings> lists = new ArrayList<>();
+            for (String gram : queryGrams(normalized)) {
+                IntPostings list = postings.get(gram);
+                if (list == null) {
+                    return EMPTY;
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(IntPostings::size));
+
+            // 가장 짧은 posting list를 후보로 두고 나머지에 없는 id를 제거
+            IntPostings shortest = lists.get(0);
+            int[] result = shortest.toArray();
+            int count = result.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = retainAll(result, count, lists.get(i));
+            }
+
+            // 세 글자 이상은 바이그램이 모두 있어도 연속하지 않을 수 있으므로 원문으로 확인
+            if (normalized.length() > 2) {
+                count = retainContaining(result, count, normalized);
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private void removeDocument(int id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : documentGrams(previous)) {
+            IntPostings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private int retainAll(int[] ids, int count, IntPostings other) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (other.contains(ids[i])) {
+                ids[kept++] = ids[i];
+            }
+        }
+        return kept;
+    }
+
+    private int retainContaining(int[] ids, int count, String query) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (documents.get(ids[i]).contains(query)) {
+                ids[kept++] = ids[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * 문서 gram: 모든 유니그램과 바이그램
+     */
+    private static Set<String> documentGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 gram: 한 글자면 유니그램, 그 이상이면 바이그램
+     */
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
\ No newline at end of file
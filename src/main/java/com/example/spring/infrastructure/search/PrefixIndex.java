@@ -0,0 +1,516 @@
+package com.example.spring.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정렬 배열 기반 접두어 색인 (자동완성)
+ *
+ * (키, 문서 id) 쌍을 키 순으로 정렬한 두 배열에 담고 이진 탐색으로 접두어 범위를 찾습니다.
+ * 키는 텍스트 전체와 각 단어 시작 위치부터의 접미어, 그리고 한글 초성으로 바꾼 같은 키들입니다.
+ * ("해리포터" → "ㅎㄹㅍㅌ" 이므로 초성 검색어도 같은 배열에서 접두어로 찾습니다)
+ *
+ * 한 글자 검색어나 초성처럼 범위가 넓은 접두어는 한 번 훑은 뒤 상위 CACHED_RESULTS개를 접두어별로 보관하고,
+ * 이후 조회는 범위 크기와 관계없이 보관한 목록에서 답합니다. 보관한 목록은 문서 변경과 점수 증가 때 함께 고칩니다.
+ *
+ * 단건 변경은 정렬 배열을 다시 만들지 않고 작은 정렬 집합(delta)에 쌓아 두었다가
+ * 배열 크기에 비례한 만큼 모이면 한 번에 병합합니다. 대량 적재는 putAll로 한 번에 처리합니다.
+ */
+public class PrefixIndex {
+
+    /**
+     * 접두어별로 보관하는 상위 결과 수 (자동완성 결과 수 상한과 같음)
+     */
+    static final int CACHED_RESULTS = 50;
+
+    private static final int DEFAULT_MIN_CACHED_RANGE = 256;
+    private static final int DEFAULT_MIN_PENDING = 4096;
+    private static final int MAX_CACHED_PREFIX_LENGTH = 16;
+
+    private static final int[] EMPTY = new int[0];
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private final int minCachedRange;
+    private final int minPending;
+
+    private final Map<Integer, String[]> documents = new HashMap<>();
+    private final TreeSet<Entry> delta = new TreeSet<>(Entry.ORDER);    // 병합 전 추가된 키
+    private final BitSet stale = new BitSet();                         // 배열의 키가 더 이상 유효하지 않은 문서
+    private final Map<String, TopResults> cached = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot(new String[0], EMPTY);
+    private volatile int[] scores = EMPTY;
+
+    public PrefixIndex() {
+        this(DEFAULT_MIN_CACHED_RANGE, DEFAULT_MIN_PENDING);
+    }
+
+    /**
+     * @param minCachedRange 상위 결과를 보관할 최소 접두어 범위 (훑은 키 수)
+     * @param minPending     병합을 미루는 최소 변경 수
+     */
+    PrefixIndex(int minCachedRange, int minPending) {
+        this.minCachedRange = minCachedRange;
+        this.minPending = minPending;
+    }
+
+    /**
+     * 문서 일괄 적재 (기존 내용 교체)
+     */
+    public void putAll(Map<Integer, String[]> texts) {
+        List<Entry> entries = new ArrayList<>();
+        texts.forEach((id, values) -> {
+            for (String key : keys(values)) {
+                entries.add(new Entry(key, id));
+            }
+        });
+        entries.sort(Entry.ORDER);
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            documents.putAll(texts);
+            delta.clear();
+            stale.clear();
+            cached.clear();
+            snapshot = Snapshot.of(entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     */
+    public void put(int id, String... texts) {
+        lock.writeLock().lock();
+        try {
+            putDocument(id, texts);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 여러 건 색인 (이미 있으면 교체, 병합은 한 번만)
+     */
+    public void addAll(Map<Integer, String[]> texts) {
+        lock.writeLock().lock();
+        try {
+            texts.forEach(this::putDocument);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(id);
+            if (previous != null) {
+                Set<String> previousKeys = keys(previous);
+                removeKeys(id, previousKeys);
+                prefixes(previousKeys).forEach(prefix -> withdraw(prefix, id));
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 원문 (등록 순서대로)
+     */
+    public String[] document(int id) {
+        lock.readLock().lock();
+        try {
+            return documents.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void setScores(Map<Integer, Long> values) {
+        lock.writeLock().lock();
+        try {
+            int maxId = values.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+            int[] next = new int[Math.max(scores.length, maxId + 1)];
+            values.forEach((id, value) -> next[id] = (int) Math.min(value, Integer.MAX_VALUE));
+            scores = next;
+            cached.clear();  // 순위가 모두 바뀔 수 있으므로 다시 훑어 보관
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void incrementScore(int id) {
+        lock.writeLock().lock();
+        try {
+            int[] current = scores;
+            if (id >= current.length) {
+                current = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+            }
+            current[id]++;
+            scores = current;
+
+            String[] texts = documents.get(id);
+            if (texts != null && !cached.isEmpty()) {
+                prefixes(keys(texts)).forEach(prefix -> offer(prefix, id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int score(int id) {
+        int[] current = scores;
+        return id < current.length ? current[id] : 0;
+    }
+
+    /**
+     * 접두어로 시작하는 키를 가진 문서 id (점수 내림차순, 같으면 id 오름차순) 상위 limit개
+     */
+    public int[] lookup(String prefix, int limit) {
+        String normalized = NgramIndex.normalize(prefix).strip();
+        if (normalized.isEmpty() || limit <= 0) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (limit <= CACHED_RESULTS) {
+                TopResults top = cached.get(normalized);
+                if (top != null) {
+                    return Arrays.copyOf(top.ids, Math.min(limit, top.size));
+                }
+            }
+
+            // 보관할 수 있는 접두어면 보관할 개수만큼 골라 두고 요청한 만큼 돌려줌
+            boolean cacheable = limit <= CACHED_RESULTS && normalized.length() <= MAX_CACHED_PREFIX_LENGTH;
+            TopResults top = new TopResults(cacheable ? CACHED_RESULTS : limit);
+            int visited = scan(snapshot, normalized, top) + scanDelta(normalized, top);
+            if (cacheable && visited >= minCachedRange) {
+                top.complete = top.size < top.ids.length;
+                cached.putIfAbsent(normalized, top);
+            }
+            return Arrays.copyOf(top.ids, Math.min(limit, top.size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (한글이 아닌 글자는 그대로)
+     */
+    static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= HANGUL_BEGIN && chars[i] <= HANGUL_END) {
+                chars[i] = CHOSUNG[(chars[i] - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 병합된 배열에서 접두어 범위를 훑어 상위 목록에 반영 (@return 훑은 키 수)
+     */
+    private int scan(Snapshot current, String prefix, TopResults top) {
+        int visited = 0;
+        for (int i = current.lowerBound(prefix); i < current.keys.length; i++) {
+            if (!current.keys[i].startsWith(prefix)) {
+                break;
+            }
+            visited++;
+            int id = current.ids[i];
+            if (!stale.get(id)) {
+                top.offer(id, scores);
+            }
+        }
+        return visited;
+    }
+
+    private int scanDelta(String prefix, TopResults top) {
+        int visited = 0;
+        for (Entry entry : delta.tailSet(new Entry(prefix, Integer.MIN_VALUE))) {
+            if (!entry.key.startsWith(prefix)) {
+                break;
+            }
+            visited++;
+            top.offer(entry.id, scores);
+        }
+        return visited;
+    }
+
+    private void putDocument(int id, String[] texts) {
+        Set<String> keys = keys(texts);
+        String[] previous = documents.put(id, texts);
+        if (previous != null) {
+            Set<String> previousKeys = keys(previous);
+            removeKeys(id, previousKeys);
+            Set<String> removedPrefixes = prefixes(previousKeys);
+            removedPrefixes.removeAll(prefixes(keys));
+            removedPrefixes.forEach(prefix -> withdraw(prefix, id));
+        }
+        for (String key : keys) {
+            delta.add(new Entry(key, id));
+        }
+        prefixes(keys).forEach(prefix -> offer(prefix, id));
+    }
+
+    /**
+     * 문서의 기존 키 무효화 - 병합 전 키는 delta에서 빼고, 배열의 키는 병합할 때 버림
+     */
+    private void removeKeys(int id, Set<String> keys) {
+        for (String key : keys) {
+            delta.remove(new Entry(key, id));
+        }
+        stale.set(id);
+    }
+
+    /**
+     * 보관한 접두어 목록에 문서 추가 또는 순위 갱신 (순위는 점수가 올라가기만 하므로 위로만 이동)
+     */
+    private void offer(String prefix, int id) {
+        TopResults top = cached.get(prefix);
+        if (top != null) {
+            top.offer(id, scores);
+            top.complete &= top.size < top.ids.length;  // 가득 찼으면 목록 밖에 문서가 남았을 수 있음
+        }
+    }
+
+    /**
+     * 보관한 접두어 목록에서 문서 제거 - 목록 밖에 다음 순위 문서가 있을 수 있으면 목록을 버리고 다시 훑게 함
+     */
+    private void withdraw(String prefix, int id) {
+        TopResults top = cached.get(prefix);
+        if (top != null && top.remove(id) && !top.complete) {
+            cached.remove(prefix);
+        }
+    }
+
+    /**
+     * 쌓인 변경이 배열 크기의 1/8(최소 minPending)을 넘으면 병합 (단건 변경당 복사 비용을 분할 상환)
+     */
+    private void compactIfNeeded() {
+        int pending = delta.size() + stale.cardinality();
+        if (pending > Math.max(minPending, snapshot.keys.length / 8)) {
+            snapshot = snapshot.merge(stale, delta);
+            delta.clear();
+            stale.clear();
+        }
+    }
+
+    /**
+     * 보관 대상이 될 수 있는 키의 접두어
+     */
+    private static Set<String> prefixes(Set<String> keys) {
+        Set<String> prefixes = new HashSet<>();
+        for (String key : keys) {
+            int length = Math.min(key.length(), MAX_CACHED_PREFIX_LENGTH);
+            for (int i = 1; i <= length; i++) {
+                prefixes.add(key.substring(0, i));
+            }
+        }
+        return prefixes;
+    }
+
+    private static Set<String> keys(String... texts) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String text : texts) {
+            String normalized = NgramIndex.normalize(text).strip();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            addWordSuffixes(keys, normalized);
+            String chosung = toChosung(normalized);
+            if (!chosung.equals(normalized)) {
+                addWordSuffixes(keys, chosung);
+            }
+        }
+        return keys;
+    }
+
+    private static void addWordSuffixes(Set<String> keys, String text) {
+        keys.add(text);
+        for (int i = 1; i < text.length(); i++) {
+            if (text.charAt(i - 1) == ' ' && text.charAt(i) != ' ') {
+                keys.add(text.substring(i));
+            }
+        }
+    }
+
+    private static boolean ranksHigher(int score, int id, int otherScore, int otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    /**
+     * 점수 내림차순(같으면 id 오름차순) 상위 목록
+     */
+    private static final class TopResults {
+
+        private final int[] ids;
+        private int size;
+        private boolean complete;  // 접두어에 해당하는 문서를 모두 담고 있음
+
+        private TopResults(int capacity) {
+            this.ids = new int[capacity];
+        }
+
+        private void offer(int id, int[] scores) {
+            int position = indexOf(id);
+            if (position < 0) {
+                if (size == ids.length && !ranksHigher(score(id, scores), id, score(ids[size - 1], scores), ids[size - 1])) {
+                    return;
+                }
+                position = size < ids.length ? size++ : size - 1;
+            }
+
+            // 삽입 정렬로 제자리까지 올림
+            int score = score(id, scores);
+            while (position > 0 && ranksHigher(score, id, score(ids[position - 1], scores), ids[position - 1])) {
+                ids[position] = ids[position - 1];
+                position--;
+            }
+            ids[position] = id;
+        }
+
+        private boolean remove(int id) {
+            int position = indexOf(id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private int indexOf(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int score(int id, int[] scores) {
+            return id < scores.length ? scores[id] : 0;
+        }
+    }
+
+    private static final class Entry {
+
+        private static final Comparator<Entry> ORDER =
+                Comparator.comparing((Entry entry) -> entry.key).thenComparingInt(entry -> entry.id);
+
+        private final String key;
+        private final int id;
+
+        private Entry(String key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    /**
+     * 키 순으로 정렬된 (키, id) 배열
+     */
+    private static final class Snapshot {
+
+        private final String[] keys;
+        private final int[] ids;
+
+        private Snapshot(String[] keys, int[] ids) {
+            this.keys = keys;
+            this.ids = ids;
+        }
+
+        private static Snapshot of(List<Entry> sorted) {
+            String[] keys = new String[sorted.size()];
+            int[] ids = new int[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                keys[i] = sorted.get(i).key;
+                ids[i] = sorted.get(i).id;
+            }
+            return new Snapshot(keys, ids);
+        }
+
+        /**
+         * 무효화된 문서의 키를 빼고 정렬된 새 키를 병합한 배열 (O(n))
+         */
+        private Snapshot merge(BitSet replaced, TreeSet<Entry> added) {
+            int removed = 0;
+            for (int value : ids) {
+                if (replaced.get(value)) {
+                    removed++;
+                }
+            }
+            int size = keys.length - removed + added.size();
+            String[] mergedKeys = new String[size];
+            int[] mergedIds = new int[size];
+
+            Iterator<Entry> iterator = added.iterator();
+            Entry next = iterator.hasNext() ? iterator.next() : null;
+            int i = 0;
+            for (int k = 0; k < size; k++) {
+                while (i < keys.length && replaced.get(ids[i])) {
+                    i++;
+                }
+                boolean takeExisting = next == null || (i < keys.length && compare(keys[i], ids[i], next) <= 0);
+                if (takeExisting) {
+                    mergedKeys[k] = keys[i];
+                    mergedIds[k] = ids[i];
+                    i++;
+                } else {
+                    mergedKeys[k] = next.key;
+                    mergedIds[k] = next.id;
+                    next = iterator.hasNext() ? iterator.next() : null;
+                }
+            }
+            return new Snapshot(mergedKeys, mergedIds);
+        }
+
+        /**
+         * prefix 이상인 첫 키의 위치
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static int compare(String key, int id, Entry entry) {
+            int result = key.compareTo(entry.key);
+            return result != 0 ? result : Integer.compare(id, entry.id);
+        }
+    }
+}
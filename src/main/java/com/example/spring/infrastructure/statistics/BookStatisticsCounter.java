@@ -0,0 +1,251 @@
+package com.example.spring.infrastructure.statistics;
+
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.infrastructure.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 도서 통계 메모리 카운터
+ *
+ * 애플리케이션 시작 시 집계 쿼리 한 번으로 초기값을 읽고, 이후에는 BookServiceImpl의
+ * 등록/수정/삭제/복원과 대여/반납/도서 변경 이벤트로 증분 반영하므로 통계 조회는 DB를 거치지 않습니다.
+ * 증분은 트랜잭션 커밋 후에 반영하며, 그 밖의 경로(직접 SQL 수정 등)로 생긴 차이는
+ * 주기적인 대조(reconcile)로 바로잡습니다.
+ *
+ * 증분은 트랜잭션 안에서 순번을 받습니다. 대조는 집계 조회 중 반영된 증분을 따로 모아, 조회가 끝난 뒤 순번을 받은
+ * 증분(조회 결과에 없음)만 교체한 카운터에 다시 반영합니다. 조회 전에 순번을 받고 조회 중이나 이후에 커밋된 증분은
+ * 조회 결과에 들어갔는지 알 수 없으므로 그런 증분이 있으면 조회를 다시 합니다.
+ *
+ * 최소/최대 가격은 경계값을 가진 도서가 빠지면 다시 계산해야 하므로 다음 조회 때 집계 쿼리로 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookStatisticsCounter {
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final BookRepository bookRepository;
+    private final NavigableSet<Long> inFlight = new TreeSet<>();  // 순번을 받고 트랜잭션이 아직 끝나지 않은 증분
+
+    private long totalBooks;
+    private long activeBooks;
+    private long availableBooks;
+    private BigDecimal priceSum = BigDecimal.ZERO;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private boolean priceRangeStale;
+    private boolean ready;
+    private long nextSequence;                // 증분 순번 (트랜잭션 안에서 부여)
+    private List<Change> applyingDuringRead;  // 대조의 집계 조회 중 반영된 증분 (대조 중이 아니면 null)
+
+    /**
+     * DB 집계값으로 카운터 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bookstore.statistics.reconcile-interval:PT5M}",
+               initialDelayString = "${bookstore.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            synchronized (this) {
+                applyingDuringRead = new ArrayList<>();
+            }
+            BookRepository.BookStatisticsView view = bookRepository.aggregateStatistics();
+            synchronized (this) {
+                long readEnd = nextSequence;
+                List<Change> applied = applyingDuringRead;
+                applyingDuringRead = null;
+
+                // 조회가 끝나기 전에 순번을 받았고 조회 시작 후 커밋되었거나 아직 끝나지 않은 증분이 있으면 판단 불가
+                boolean overlapped = applied.stream().anyMatch(change -> change.sequence < readEnd)
+                        || (!inFlight.isEmpty() && inFlight.first() < readEnd);
+                if (!overlapped || (!ready && attempt == MAX_RECONCILE_ATTEMPTS)) {
+                    replace(view);
+                    applied.forEach(change -> change.delta.run());
+                    return;
+                }
+            }
+        }
+        log.info("도서 통계 카운터 대조 보류 - 집계 조회와 겹친 변경이 계속 있어 다음 대조에서 다시 시도");
+    }
+
+    /**
+     * 현재 통계 (초기화 전이거나 최소/최대 가격을 다시 계산해야 하면 집계 쿼리 후 반환)
+     */
+    public Snapshot snapshot() {
+        synchronized (this) {
+            if (ready && !priceRangeStale) {
+                return currentSnapshot();
+            }
+        }
+        reconcile();
+        synchronized (this) {
+            return currentSnapshot();
+        }
+    }
+
+    public void bookCreated(boolean available, BigDecimal price) {
+        afterCommit(() -> {
+            totalBooks++;
+            addActive(available, price);
+        });
+    }
+
+    public void bookDeleted(boolean wasAvailable, BigDecimal price) {
+        afterCommit(() -> removeActive(wasAvailable, price));
+    }
+
+    public void bookRestored(boolean available, BigDecimal price) {
+        afterCommit(() -> addActive(available, price));
+    }
+
+    /**
+     * 활성 도서의 대여 가능 여부/가격 변경
+     */
+    public void bookUpdated(boolean wasAvailable, BigDecimal oldPrice, boolean available, BigDecimal price) {
+        afterCommit(() -> {
+            removeActive(wasAvailable, oldPrice);
+            addActive(available, price);
+        });
+    }
+
+    /**
+     * 대여/반납/도서 변경 이벤트는 발행한 트랜잭션 안에서 순번을 받고 커밋 후에 반영
+     */
+    @EventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        afterCommit(() -> availableBooks--);
+    }
+
+    @EventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        afterCommit(() -> availableBooks++);
+    }
+
+    @EventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.isAvailabilityChanged()) {
+            boolean available = event.isAvailable();
+            afterCommit(() -> availableBooks += available ? 1 : -1);
+        }
+    }
+
+    private void addActive(boolean available, BigDecimal price) {
+        activeBooks++;
+        availableBooks += available ? 1 : 0;
+        if (price == null) {
+            return;
+        }
+        priceSum = priceSum.add(price);
+        minPrice = minPrice == null || price.compareTo(minPrice) < 0 ? price : minPrice;
+        maxPrice = maxPrice == null || price.compareTo(maxPrice) > 0 ? price : maxPrice;
+    }
+
+    private void removeActive(boolean wasAvailable, BigDecimal price) {
+        activeBooks--;
+        availableBooks -= wasAvailable ? 1 : 0;
+        if (price == null) {
+            return;
+        }
+        priceSum = priceSum.subtract(price);
+        if (minPrice == null || price.compareTo(minPrice) <= 0 || price.compareTo(maxPrice) >= 0) {
+            priceRangeStale = true;
+        }
+    }
+
+    /**
+     * 순번을 받아 두고 커밋 후 카운터에 반영 (초기화 전 변경은 버리고 첫 대조 결과를 그대로 사용)
+     * 대조의 집계 조회 중 반영된 변경은 조회 결과에 들어갔는지 판단하도록 따로 남김
+     */
+    private void afterCommit(Runnable delta) {
+        Change change;
+        synchronized (this) {
+            change = new Change(nextSequence++, delta);
+            inFlight.add(change.sequence);
+        }
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                if (ready) {
+                    delta.run();
+                }
+                if (applyingDuringRead != null) {
+                    applyingDuringRead.add(change);
+                }
+            }
+        }, () -> {
+            synchronized (this) {
+                inFlight.remove(change.sequence);
+            }
+        });
+    }
+
+    private void replace(BookRepository.BookStatisticsView view) {
+        long total = valueOf(view.getTotalBooks());
+        long active = valueOf(view.getActiveBooks());
+        long available = valueOf(view.getAvailableBooks());
+        if (ready && (total != totalBooks || active != activeBooks || available != availableBooks)) {
+            log.info("도서 통계 카운터 보정 - 전체 {}→{}, 활성 {}→{}, 대여 가능 {}→{}",
+                    totalBooks, total, activeBooks, active, availableBooks, available);
+        }
+        totalBooks = total;
+        activeBooks = active;
+        availableBooks = available;
+        priceSum = view.getPriceSum() != null ? view.getPriceSum() : BigDecimal.ZERO;
+        minPrice = view.getMinPrice();
+        maxPrice = view.getMaxPrice();
+        priceRangeStale = false;
+        ready = true;
+    }
+
+    private Snapshot currentSnapshot() {
+        BigDecimal averagePrice = activeBooks > 0
+                ? priceSum.divide(BigDecimal.valueOf(activeBooks), 2, RoundingMode.HALF_UP)
+                : null;
+        return new Snapshot(totalBooks, activeBooks, totalBooks - activeBooks, availableBooks,
+                minPrice, maxPrice, averagePrice);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static final class Change {
+
+        private final long sequence;
+        private final Runnable delta;
+
+        private Change(long sequence, Runnable delta) {
+            this.sequence = sequence;
+            this.delta = delta;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long totalBooks;
+        private final long activeBooks;
+        private final long deletedBooks;
+        private final long availableBooks;
+        private final BigDecimal minPrice;
+        private final BigDecimal maxPrice;
+        private final BigDecimal averagePrice;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.spring.infrastructure.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 인덱스/카운터 반영 시점 제어
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 실행 (롤백된 변경은 실행하지 않음)
+     */
+    public static void run(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 change를, 커밋/롤백과 관계없이 끝난 뒤 completion을 실행 (아니면 둘 다 즉시 실행)
+     */
+    public static void run(Runnable change, Runnable completion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                change.run();
+            } finally {
+                completion.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                completion.run();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.application.dto.response.AvailabilityIndexStatisticsResponse;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대여 가능 비트맵 모니터링 REST API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/availability-index")
+@RequiredArgsConstructor
+public class AvailabilityIndexController {
+
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+
+    /**
+     * 상태별 도서 수와 메모리 사용량(100만 건당 환산 포함) 조회
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<AvailabilityIndexStatisticsResponse> getAvailabilityIndexStatistics() {
+        log.debug("대여 가능 비트맵 통계 조회");
+
+        return ResponseEntity.ok(AvailabilityIndexStatisticsResponse.from(bookAvailabilityIndex.statistics()));
+    }
+}
\ No newline at end of file
@@ -3,21 +3,36 @@ package com.example.spring.presentation.controller;
 import com.example.spring.application.dto.request.BookSearchRequest;
 import com.example.spring.application.dto.request.CreateBookRequest;
 import com.example.spring.application.dto.request.UpdateBookRequest;
+import com.example.spring.application.dto.response.BookImportResponse;
+import com.example.spring.application.dto.response.BookFacetSearchResponse;
 import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.application.dto.response.BookStatisticsResponse;
+import com.example.spring.application.dto.response.BookSuggestionResponse;
+import com.example.spring.application.dto.response.CursorPageResponse;
+import com.example.spring.application.dto.response.FuzzySearchResponse;
 import com.example.spring.domain.model.Book;
 import com.example.spring.exception.BookException;
+import com.example.spring.application.BookImportService;
 import com.example.spring.application.BookService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -30,7 +45,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookController {
 
+    private static final int MAX_SUGGESTION_SIZE = 50;  // 오타 허용 검색/자동완성 결과 수 상한
+
     private final BookService bookService;
+    private final BookImportService bookImportService;
 
     /**
      * 도서 등록
@@ -43,6 +61,33 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 도서 대량 등록 (text/csv 또는 application/x-ndjson 본문을 스트리밍으로 처리)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BookImportResponse> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        BookImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? BookImportService.Format.NDJSON
+                : BookImportService.Format.CSV;
+        log.info("도서 대량 등록 요청 - 형식: {}", format);
+
+        BookImportResponse response = bookImportService.importBooks(body, format);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 헤더가 없거나 읽을 수 없는 등 파일 전체를 처리할 수 없는 대량 등록 요청은 400
+     */
+    @ExceptionHandler(BookException.InvalidImportFileException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidImportFile(BookException.InvalidImportFileException e) {
+        log.info("도서 대량 등록 거부 - {}", e.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+        problem.setProperty("errorCode", e.getErrorCode());
+        return ResponseEntity.badRequest().body(problem);
+    }
+
     /**
      * 도서 상세 조회
      */
@@ -76,6 +121,28 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모든 활성 도서 조회 (키셋 커서 페이징)
+     * cursor 파라미터가 있으면 이 핸들러가 선택된다. 첫 페이지는 cursor를 빈 값으로 요청한다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<BookResponse>> getActiveBooksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "{validation.page.size.min1}")
+            @Max(value = 100, message = "{validation.page.size.max}") int size,
+            @RequestParam(defaultValue = "createdDate") String sort,
+            @RequestParam(defaultValue = "desc")
+            @Pattern(regexp = "(?i)asc|desc", message = "{validation.sort.direction}") String direction) {
+
+        log.debug("활성 도서 목록 조회 (커서) - cursor: {}, size: {}", cursor, size);
+
+        Sort sortBy = Sort.by(Sort.Direction.fromString(direction), sort);
+        CursorPageResponse<BookResponse> response = bookService.getActiveBooksByCursor(cursor, size, sortBy);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 도서 정보 수정
      */
@@ -191,6 +258,32 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 오타를 허용하는 도서 검색 (추천 검색어 포함, 결과 수는 최대 50건)
+     */
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<FuzzySearchResponse> searchBooksFuzzy(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min1}") int size) {
+
+        log.debug("오타 허용 도서 검색 - 검색어: {}", query);
+
+        FuzzySearchResponse response = bookService.searchFuzzy(query, Math.min(size, MAX_SUGGESTION_SIZE));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 제목/저자 자동완성 (초성 검색 지원, 대여 횟수 순, 최대 50건)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<BookSuggestionResponse>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min1}") int size) {
+
+        List<BookSuggestionResponse> response = bookService.autocomplete(prefix, Math.min(size, MAX_SUGGESTION_SIZE));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 가격 범위로 도서 검색
      */
@@ -247,6 +340,39 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 복합 조건으로 도서 검색 (Slice - 전체 건수 조회 생략)
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<Slice<BookResponse>> searchBooksSlice(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+
+        log.debug("복합 조건으로 도서 검색 (Slice 버전) - title: {}, author: {}", title, author);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+
+        Slice<Book> books = bookService.searchBooksWithFiltersSlice(
+                title,
+                author,
+                minPrice,
+                maxPrice,
+                available,
+                pageable
+        );
+
+        Slice<BookResponse> response = books.map(BookResponse::from);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 복합 조건으로 도서 검색 (JPQL Query 버전)
      */
@@ -280,6 +406,38 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 복합 조건으로 도서 검색 (패싯 모드)
+     * 결과 페이지와 함께 재고 상태/가격 구간/상위 저자별 도서 수를 반환합니다.
+     */
+    @GetMapping("/search/query/facets")
+    public ResponseEntity<BookFacetSearchResponse> searchBooksWithFacets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdDate") String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+
+        log.debug("복합 조건으로 도서 검색 (패싯 모드) - title: {}, author: {}", title, author);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+
+        BookFacetSearchResponse response = bookService.searchBooksWithFacets(
+                title,
+                author,
+                minPrice,
+                maxPrice,
+                available,
+                pageable
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 재고 상태별 도서 조회
      */
@@ -328,32 +486,10 @@ public class BookController {
      * 도서 통계 조회
      */
     @GetMapping("/statistics")
-    public ResponseEntity<BookStatistics> getBookStatistics() {
+    public ResponseEntity<BookStatisticsResponse> getBookStatistics() {
         log.debug("도서 통계 조회");
 
-        long totalBooks = bookService.getTotalBooksCount();
-        long activeBooks = bookService.getActiveBooksCount();
-
-        BookStatistics statistics = BookStatistics.builder()
-                .totalBooks(totalBooks)
-                .activeBooks(activeBooks)
-                .deletedBooks(totalBooks - activeBooks)
-                .build();
-
-        return ResponseEntity.ok(statistics);
-    }
-
-    /**
-     * 도서 통계 응답 DTO
-     */
-    @lombok.Getter
-    @lombok.Builder
-    @lombok.NoArgsConstructor
-    @lombok.AllArgsConstructor
-    public static class BookStatistics {
-        private long totalBooks;
-        private long activeBooks;
-        private long deletedBooks;
+        return ResponseEntity.ok(bookService.getBookStatistics());
     }
 
     private <T> Page<T> toPage(List<T> items, Pageable pageable) {
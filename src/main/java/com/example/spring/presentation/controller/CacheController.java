@@ -0,0 +1,46 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.application.dto.response.CacheStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 캐시 모니터링 REST API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시별 적중/실패/퇴출 통계 조회
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheStatisticsResponse>> getCacheStatistics() {
+        log.debug("캐시 통계 조회");
+
+        List<CacheStatisticsResponse> statistics = cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(cache -> cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)
+                .map(cache -> CacheStatisticsResponse.from(cache.getName(), nativeCache(cache)))
+                .toList();
+        return ResponseEntity.ok(statistics);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.application.dto.response.ExistenceFilterStatisticsResponse;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 존재 필터 모니터링 REST API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/existence-filters")
+@RequiredArgsConstructor
+public class ExistenceFilterController {
+
+    private final ExistenceFilter existenceFilter;
+
+    /**
+     * 필터별 메모리 사용량/추정 오탐률/조회 통계 조회
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<ExistenceFilterStatisticsResponse>> getExistenceFilterStatistics() {
+        log.debug("존재 필터 통계 조회");
+
+        List<ExistenceFilterStatisticsResponse> statistics = existenceFilter.statistics().stream()
+                .map(ExistenceFilterStatisticsResponse::from)
+                .toList();
+        return ResponseEntity.ok(statistics);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.application.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.function.BiConsumer;
+
+/**
+ * 관리자 데이터 내보내기 REST API 컨트롤러
+ *
+ * 응답 본문은 StreamingResponseBody로 비동기 스레드에서 DB 커서를 읽으며 바로 기록합니다.
+ * GET /api/admin/exports/loans?format=NDJSON
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 전체 도서 내보내기
+     */
+    @GetMapping("/books")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(defaultValue = "CSV") ExportService.Format format) {
+        return export("books", format, exportService::exportBooks);
+    }
+
+    /**
+     * 전체 대여 내보내기
+     */
+    @GetMapping("/loans")
+    public ResponseEntity<StreamingResponseBody> exportLoans(
+            @RequestParam(defaultValue = "CSV") ExportService.Format format) {
+        return export("loans", format, exportService::exportLoans);
+    }
+
+    /**
+     * 전체 주문 내보내기
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "CSV") ExportService.Format format) {
+        return export("orders", format, exportService::exportOrders);
+    }
+
+    /**
+     * 전체 회원 내보내기
+     */
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "CSV") ExportService.Format format) {
+        return export("members", format, exportService::exportMembers);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportService.Format format,
+                                                         BiConsumer<OutputStream, ExportService.Format> exporter) {
+        log.info("데이터 내보내기 요청 - 대상: {}, 형식: {}", name, format);
+
+        StreamingResponseBody body = output -> exporter.accept(output, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.spring.presentation.controller;
 
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.BatchReturnRequest;
 import com.example.spring.application.dto.request.ClientLoanRequest;
 import com.example.spring.application.dto.request.CreateLoanRequest;
 import com.example.spring.infrastructure.security.CustomUserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.example.spring.application.dto.request.UpdateLoanRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
 import com.example.spring.application.dto.response.LoanResponse;
 import com.example.spring.application.LoanService;
 import com.example.spring.exception.LoanException;
@@ -129,6 +132,50 @@ public class LoanController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 여러 도서 일괄 대여
+     * POST /api/admin/loans/batch
+     */
+    @Operation(
+            summary = "도서 일괄 대여",
+            description = "회원 한 명이 여러 도서를 한 번에 대여합니다. 한 권이라도 대여할 수 없으면 아무 것도 대여하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "일괄 대여 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (도서 목록 누락, 한 번에 대여할 수 있는 권수 초과 등)"),
+            @ApiResponse(responseCode = "409", description = "대여 불가 (중복 도서, 이미 대여 중인 도서, 회원 등급 대여 한도 초과/연체)")
+    })
+    @PostMapping("/api/admin/loans/batch")
+    public ResponseEntity<List<LoanResponse>> createLoans(@Valid @RequestBody BatchCheckoutRequest request) {
+        log.info("도서 일괄 대여 요청 - 회원 ID: {}, 도서 ID: {}", request.getMemberId(), request.getBookIds());
+
+        List<LoanResponse> responses = loanService.createLoans(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
+    /**
+     * 일괄 반납 (반납함 처리)
+     * POST /api/admin/loans/batch-return
+     */
+    @Operation(
+            summary = "도서 일괄 반납",
+            description = "대여 ID 또는 도서 ID 목록으로 여러 대여를 한 번에 반납합니다. " +
+                    "없는 대여, 이미 반납된 대여, 미반납 대여가 없는 도서는 건너뛰고 결과에 함께 돌려줍니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 반납 처리 완료"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (대여/도서 ID 누락, 최대 건수 초과 등)")
+    })
+    @PostMapping("/api/admin/loans/batch-return")
+    public ResponseEntity<BatchReturnResponse> returnBooks(@Valid @RequestBody BatchReturnRequest request) {
+        log.info("도서 일괄 반납 요청 - 대여 {}건, 도서 {}건",
+                request.getLoanIds() != null ? request.getLoanIds().size() : 0,
+                request.getBookIds() != null ? request.getBookIds().size() : 0);
+
+        BatchReturnResponse response = loanService.returnBooks(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * [API 명세 #4] 대출 정보 수정 (반납, 날짜 연장)
      * PATCH /api/admin/loans/{id}
@@ -308,17 +355,21 @@ public class LoanController {
      * [추가 기능] Admin - 특정 회원의 전체 대여 이력 조회
      *
      * ✅ 반환: List<LoanResponse> (대여 기록 - 날짜, 상태, 연체료 등 포함)
-     * ✅ 범위: 과거 + 현재 모든 대여 기록
+     * ✅ 범위: 과거 + 현재 모든 대여 기록 (보관된 대여는 includeHistory=true일 때만)
      *
      * 사용 예시: 관리자가 회원 상세 화면에서 "대여 이력" 탭 클릭 시
      */
     @Operation(summary = "회원별 전체 대여 이력 조회",
             description = "특정 회원의 모든 대여 기록을 조회합니다 (반납 완료 포함)")
     @GetMapping("/api/admin/loans/member/{memberId}")
-    public ResponseEntity<List<LoanResponse>> getLoansByMember(@PathVariable Long memberId) {
+    public ResponseEntity<List<LoanResponse>> getLoansByMember(
+            @PathVariable Long memberId,
+
+            @Parameter(description = "보관된(반납/취소 후 보관 기간이 지난) 대여 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
         log.debug("회원별 대여 내역 조회 - 회원 ID: {}", memberId);
 
-        List<LoanResponse> response = loanService.getLoansByMemberId(memberId);
+        List<LoanResponse> response = loanService.getLoansByMemberId(memberId, includeHistory);
         return ResponseEntity.ok(response);
     }
 
@@ -326,17 +377,21 @@ public class LoanController {
      * [추가 기능] Admin - 특정 도서의 전체 대여 이력 조회
      *
      * ✅ 반환: List<LoanResponse> (대여 기록 - 누가, 언제 빌렸는지)
-     * ✅ 범위: 과거 + 현재 모든 대여 기록
+     * ✅ 범위: 과거 + 현재 모든 대여 기록 (보관된 대여는 includeHistory=true일 때만)
      *
      * 사용 예시: 관리자가 도서 상세 화면에서 "대여 이력" 탭 클릭 시
      */
     @Operation(summary = "도서별 전체 대여 이력 조회",
             description = "특정 도서의 모든 대여 기록을 조회합니다 (이전 대여자 포함)")
     @GetMapping("/api/admin/loans/book/{bookId}")
-    public ResponseEntity<List<LoanResponse>> getLoansByBook(@PathVariable Long bookId) {
+    public ResponseEntity<List<LoanResponse>> getLoansByBook(
+            @PathVariable Long bookId,
+
+            @Parameter(description = "보관된(반납/취소 후 보관 기간이 지난) 대여 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
         log.debug("도서별 대여 내역 조회 - 도서 ID: {}", bookId);
 
-        List<LoanResponse> response = loanService.getLoansByBookId(bookId);
+        List<LoanResponse> response = loanService.getLoansByBookId(bookId, includeHistory);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,21 @@
+package com.example.spring.validation;
+
+import com.example.spring.domain.vo.ISBN;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * ISBN 검증기 (ISBN VO와 같은 파서를 사용해 요청 검증과 도메인 규칙을 일치시킴)
+ */
+public class IsbnValidator implements ConstraintValidator<ValidIsbn, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // null은 다른 검증에서 처리 (@NotBlank)
+        if (value == null) {
+            return true;
+        }
+
+        return ISBN.parseIsbn13(value) != ISBN.INVALID;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.spring.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * ISBN 검증 어노테이션
+ * ISBN-10/ISBN-13 형식과 체크섬을 함께 검증 (하이픈/공백 구분자 허용)
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = IsbnValidator.class)
+@Documented
+public @interface ValidIsbn {
+    String message() default "올바른 ISBN 형식이 아닙니다";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.example.spring;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 성능 측정 테스트(@Tag("benchmark")) 공통 측정/출력
+ *
+ * 측정 대상의 결과는 volatile 필드에 남겨 JIT가 호출을 지우지 못하게 합니다.
+ */
+public final class Benchmarks {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int LABEL_WIDTH = 32;
+    private static final int COLUMN_WIDTH = 18;
+
+    private static volatile Object blackhole;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * warmup회 실행 후 iterations회 측정한 실행 시간 중앙값(ns)
+     */
+    public static long medianNanos(int warmup, int iterations, Supplier<?> operation) {
+        return median(samples(warmup, iterations, i -> operation.get()));
+    }
+
+    /**
+     * 매 실행 전에 setup으로 입력을 준비하고(시간에서 제외) operation만 측정한 실행 시간 중앙값(ns)
+     */
+    public static <T> long medianNanos(int warmup, int iterations, Supplier<T> setup, Function<T, ?> operation) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole = operation.apply(setup.get());
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            T input = setup.get();
+            long start = System.nanoTime();
+            blackhole = operation.apply(input);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return median(samples);
+    }
+
+    /**
+     * operation(0..warmup-1)로 워밍업한 뒤 operation(0..iterations-1)을 하나씩 측정한 실행 시간(ns, 오름차순)
+     */
+    public static long[] samples(int warmup, int iterations, IntFunction<?> operation) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole = operation.apply(i);
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            blackhole = operation.apply(i);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    public static long median(long[] sortedSamples) {
+        return sortedSamples[sortedSamples.length / 2];
+    }
+
+    public static long percentile(long[] sortedSamples, int percent) {
+        return sortedSamples[sortedSamples.length * percent / 100];
+    }
+
+    /**
+     * 입력 inputs개에 대한 operation을 rounds번 반복하는 워밍업과 측정을 한 번씩 실행
+     * (할당량은 현재 스레드의 누적 할당 바이트로 계산)
+     *
+     * @return {호출당 시간(ns), 호출당 할당 바이트}
+     */
+    public static long[] perOperation(int rounds, int inputs, IntToLongFunction operation) {
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < inputs; i++) {
+                sink += operation.applyAsLong(i);
+            }
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < inputs; i++) {
+                sink += operation.applyAsLong(i);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        blackhole = sink;
+
+        long operations = (long) rounds * inputs;
+        return new long[]{elapsed / operations, allocated / operations};
+    }
+
+    /**
+     * 결과 표 제목 - [제목] 측정 조건
+     */
+    public static void printTitle(String title, String conditions, Object... args) {
+        System.out.printf("%n[%s] %s%n", title, String.format(conditions, args));
+    }
+
+    /**
+     * 결과 표 한 줄 - 첫 열은 라벨, 나머지 열은 오른쪽 정렬 (실수는 100 이상이면 정수로, 그 외는 소수 셋째 자리까지)
+     * 머리글 줄은 값 대신 열 이름을 넘김
+     */
+    public static void printRow(String label, Object... values) {
+        StringBuilder row = new StringBuilder(String.format("%" + LABEL_WIDTH + "s", label));
+        for (Object value : values) {
+            row.append(String.format(" %" + COLUMN_WIDTH + "s", format(value)));
+        }
+        System.out.println(row);
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return String.format(Math.abs(number) >= 100 ? "%.0f" : "%.3f", number);
+        }
+        return String.valueOf(value);
+    }
+}
\ No newline at end of file
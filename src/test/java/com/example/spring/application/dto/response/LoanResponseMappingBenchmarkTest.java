@@ -0,0 +1,144 @@
+package com.example.spring.application.dto.response;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 1만 건을 LoanResponse로 변환하는 시간 비교
+ *
+ * - 필드별 계산: 연체 여부/연체 일수/남은 일수/연장 가능 여부를 각각 현재 시각으로 계산 (행마다 시계 여러 번)
+ * - 행별 스냅샷: from(loan) - 행마다 시계 한 번
+ * - 요청 스냅샷: from(loan, now) - 목록 전체에 시계 한 번
+ * 예열 후 반복 측정한 중앙값을 출력합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=LoanResponseMappingBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("대여 응답 변환 성능 측정")
+class LoanResponseMappingBenchmarkTest {
+
+    private static final int LOANS = 10_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURE_ROUNDS = 50;
+
+    @Test
+    @DisplayName("대여 1만 건 변환 - 요청당 시각 한 번")
+    void from_대여1만건_변환시간비교() {
+        List<Loan> loans = loans();
+        LocalDateTime now = LocalDateTime.now();
+
+        long perField = measure(loans, this::fromPerField);
+        long perRow = measure(loans, loan -> LoanResponse.from(loan, LocalDateTime.now()));
+        long snapshot = measure(loans, loan -> LoanResponse.from(loan, now));
+
+        Benchmarks.printTitle("대여 응답 변환", "loans=%d, median of %d rounds", LOANS, MEASURE_ROUNDS);
+        Benchmarks.printRow("", "total(us)", "ns/loan");
+        print("per-field now", perField);
+        print("per-row now", perRow);
+        print("snapshot", snapshot);
+
+        // 반납 예정일이 시작 시각과 6시간 어긋나 있어 측정 중 일 단위 값이 바뀌지 않으므로 결과가 같아야 함
+        for (Loan loan : loans.subList(0, 100)) {
+            LoanResponse expected = fromPerField(loan);
+            LoanResponse actual = LoanResponse.from(loan, LocalDateTime.now());
+            assertThat(actual.getIsOverdue()).isEqualTo(expected.getIsOverdue());
+            assertThat(actual.getOverdueDays()).isEqualTo(expected.getOverdueDays());
+            assertThat(actual.getDaysUntilDue()).isEqualTo(expected.getDaysUntilDue());
+            assertThat(actual.getCanExtendNow()).isEqualTo(expected.getCanExtendNow());
+        }
+    }
+
+    /**
+     * 변경 전 방식 - 파생 값마다 Loan의 현재 시각 기준 메서드 호출
+     */
+    private LoanResponse fromPerField(Loan loan) {
+        return LoanResponse.builder()
+                .id(loan.getId())
+                .memberId(loan.getMember().getId())
+                .memberName(loan.getMember().getName())
+                .memberEmail(loan.getMember().getEmail())
+                .bookId(loan.getBook().getId())
+                .bookTitle(loan.getBook().getTitle())
+                .bookAuthor(loan.getBook().getAuthor())
+                .bookIsbn(loan.getBook().getIsbn().getValue())
+                .loanDate(loan.getLoanDate())
+                .dueDate(loan.getDueDate())
+                .returnDate(loan.getReturnDate())
+                .status(loan.getStatus())
+                .overdueFee(loan.getOverdueFeeAmount())
+                .extensionCount(loan.getExtensionCount())
+                .isOverdue(loan.dueStatusAt(LocalDateTime.now()).isOverdue())
+                .overdueDays(loan.dueStatusAt(LocalDateTime.now()).getOverdueDays())
+                .daysUntilDue(loan.dueStatusAt(LocalDateTime.now()).getDaysUntilDue())
+                .canExtendNow(loan.dueStatusAt(LocalDateTime.now()).isCanExtendNow())
+                .createdDate(loan.getCreatedDate())
+                .updatedDate(loan.getUpdatedDate())
+                .build();
+    }
+
+
+    private long measure(List<Loan> loans, Function<Loan, LoanResponse> mapper) {
+        return Benchmarks.medianNanos(WARMUP_ROUNDS, MEASURE_ROUNDS, () -> {
+            long sink = 0;
+            for (Loan loan : loans) {
+                sink += mapper.apply(loan).getDaysUntilDue();
+            }
+            return sink;
+        });
+    }
+
+    private void print(String label, long nanos) {
+        Benchmarks.printRow(label, nanos / 1_000, nanos / LOANS);
+    }
+
+    private List<Loan> loans() {
+        Member member = Member.builder()
+                .id(1L)
+                .name("홍길동")
+                .email("hong@example.com")
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build();
+        LocalDateTime base = LocalDateTime.now().plusHours(6);
+        List<Loan> loans = new ArrayList<>(LOANS);
+        for (int i = 0; i < LOANS; i++) {
+            Book book = Book.builder()
+                    .id((long) i)
+                    .title("도서 " + i)
+                    .author("저자")
+                    .isbn(ISBN.of(TestIsbns.isbn13(i + 1)))
+                    .price(Money.of(new BigDecimal("20000")))
+                    .available(true)
+                    .build();
+            LocalDateTime dueDate = base.plusDays(i % 30 - 15);
+            loans.add(Loan.builder()
+                    .id((long) i)
+                    .member(member)
+                    .book(book)
+                    .loanDate(dueDate.minusDays(14))
+                    .dueDate(dueDate)
+                    .build());
+        }
+        return loans;
+    }
+}
\ No newline at end of file
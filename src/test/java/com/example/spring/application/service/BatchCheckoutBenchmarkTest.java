@@ -0,0 +1,156 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.LoanService;
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.CreateLoanRequest;
+import com.example.spring.config.BookstoreConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 N권을 단건 대여 N번으로 처리할 때와 일괄 대여 한 번으로 처리할 때의 지연 시간 비교
+ *
+ * 매 반복마다 새 회원과 대여 가능한 도서 N권을 만들고(측정 제외), 대여 처리 시간만 측정해 중앙값을 비교합니다.
+ * 단건 대여는 호출마다 자체 트랜잭션이고, 일괄 대여는 전체가 한 트랜잭션입니다.
+ * 단건 대여 한도(5권) 안에서 비교하도록 기본 권수는 5권입니다. 단건 대여는 생성 시각을 감사 필드로 채우므로
+ * 이 테스트에서만 JPA 감사를 켭니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BatchCheckoutBenchmarkTest -Dbenchmark.books=5
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Import({LoanServiceImpl.class, BookstoreConfig.class, BatchCheckoutBenchmarkTest.AuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("단건 대여 N번 / 일괄 대여 지연 시간 측정")
+class BatchCheckoutBenchmarkTest {
+
+    private static final int BOOKS = Integer.getInteger("benchmark.books", 5);
+    private static final int ITERATIONS = 200;
+    private static final int WARMUP = 50;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @MockitoBean
+    private LoanSearchIndex loanSearchIndex;
+
+    private long serial;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM loan");
+        jdbcTemplate.execute("DELETE FROM book");
+        jdbcTemplate.execute("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("일괄 대여는 단건 대여 N번과 같은 대여를 만들고 더 빠름")
+    void 일괄대여_단건반복대비_지연시간비교() {
+        double single = medianMillis((memberId, bookIds) -> bookIds.forEach(bookId ->
+                loanService.createLoan(CreateLoanRequest.builder().memberId(memberId).bookId(bookId).build())));
+        double batch = medianMillis((memberId, bookIds) ->
+                loanService.createLoans(BatchCheckoutRequest.builder().memberId(memberId).bookIds(bookIds).build()));
+
+        long loans = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan", Long.class);
+        long loanedOut = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE available = false", Long.class);
+        Benchmarks.printTitle("일괄 대여", "회원 1명, 도서 %d권, %d회 중앙값", BOOKS, ITERATIONS);
+        Benchmarks.printRow("", "median(ms)");
+        Benchmarks.printRow(BOOKS + " x createLoan", single);
+        Benchmarks.printRow("createLoans", batch);
+        Benchmarks.printRow("speedup", String.format("%.1fx", single / Math.max(batch, 0.001)));
+
+        long expected = 2L * (WARMUP + ITERATIONS) * BOOKS;
+        assertThat(loans).isEqualTo(expected);
+        assertThat(loanedOut).isEqualTo(expected);
+        assertThat(batch).isLessThan(single);
+    }
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+
+    private double medianMillis(BiConsumer<Long, List<Long>> checkout) {
+        // 회원과 도서는 매번 새로 만들고 대여 시간만 측정
+        long nanos = Benchmarks.medianNanos(WARMUP, ITERATIONS, () -> {
+            long memberId = insertMember();
+            List<Long> bookIds = insertBooks();
+            return (Runnable) () -> checkout.accept(memberId, bookIds);
+        }, run -> {
+            run.run();
+            return null;
+        });
+        return nanos / 1e6;
+    }
+
+    private long insertMember() {
+        long n = ++serial;
+        jdbcTemplate.update("""
+                INSERT INTO member (name, email, password, role, membership_type, join_date)
+                VALUES (?, ?, 'test-password', 'USER', 'PREMIUM', ?)
+                """, "회원 " + n, "member" + n + "@example.com", Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.queryForObject("SELECT id FROM member WHERE email = ?", Long.class,
+                "member" + n + "@example.com");
+    }
+
+    private List<Long> insertBooks() {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(Book.builder()
+                    .title("Book " + ++serial)
+                    .author("Author")
+                    .isbn(ISBN.of(TestIsbns.isbn13(serial)))
+                    .price(Money.of(new BigDecimal("10000")))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+        return bookRepository.insertAll(books).stream().map(Book::getId).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.LoanService;
+import com.example.spring.application.dto.request.BatchReturnRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
+import com.example.spring.config.BookstoreConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반납함 처리량 비교 - 대여 N건을 단건 반납 N번으로 처리할 때와 일괄 반납 한 번으로 처리할 때
+ *
+ * 라운드마다 미반납 대여 N건(절반은 연체)을 새로 만들고(측정 제외) 반납 처리 시간만 측정해,
+ * 라운드별 초당 반납 건수의 중앙값을 비교합니다. 단건 반납은 호출마다 자체 트랜잭션입니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BatchReturnBenchmarkTest -Dbenchmark.returns=1000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Import({LoanServiceImpl.class, BookstoreConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("단건 반납 N번 / 일괄 반납 처리량 측정")
+class BatchReturnBenchmarkTest {
+
+    private static final int RETURNS = Integer.getInteger("benchmark.returns", 1000);
+    private static final int MEMBERS = 100;
+    private static final int ROUNDS = 7;
+    private static final int WARMUP = 2;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @MockitoBean
+    private LoanSearchIndex loanSearchIndex;
+
+    private long serial;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM loan");
+        jdbcTemplate.execute("DELETE FROM book");
+        jdbcTemplate.execute("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("일괄 반납은 단건 반납 N번과 같은 결과를 만들고 처리량이 더 높음")
+    void 일괄반납_단건반복대비_처리량비교() {
+        long firstMemberId = insertMembers();
+
+        double single = medianReturnsPerSecond(firstMemberId, loanIds -> loanIds.forEach(loanService::returnBook));
+        double batch = medianReturnsPerSecond(firstMemberId, loanIds -> {
+            BatchReturnResponse response = loanService.returnBooks(BatchReturnRequest.builder().loanIds(loanIds).build());
+            assertThat(response.getReturned()).hasSize(loanIds.size());
+            assertThat(response.getOverdueCount()).isEqualTo(loanIds.size() / 2);
+        });
+
+        Benchmarks.printTitle("일괄 반납", "라운드당 %d건, %d라운드 중앙값", RETURNS, ROUNDS);
+        Benchmarks.printRow("", "returns/sec");
+        Benchmarks.printRow(RETURNS + " x returnBook", single);
+        Benchmarks.printRow("returnBooks", batch);
+        Benchmarks.printRow("speedup", String.format("%.1fx", batch / single));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan WHERE return_date IS NULL", Long.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE available = false", Long.class))
+                .isZero();
+        // 두 방식의 연체료 합이 같아야 함 (라운드마다 같은 반납 예정일 분포, 단건 반납 대여가 먼저 생성됨)
+        long boundary = jdbcTemplate.queryForObject("SELECT MIN(id) FROM loan", Long.class)
+                + (long) (WARMUP + ROUNDS) * RETURNS;
+        BigDecimal singleFees = jdbcTemplate.queryForObject(
+                "SELECT SUM(overdue_fee) FROM loan WHERE id < ?", BigDecimal.class, boundary);
+        BigDecimal batchFees = jdbcTemplate.queryForObject(
+                "SELECT SUM(overdue_fee) FROM loan WHERE id >= ?", BigDecimal.class, boundary);
+        assertThat(batchFees).isPositive().isEqualByComparingTo(singleFees);
+        assertThat(batch).isGreaterThan(single);
+    }
+
+    private double medianReturnsPerSecond(long firstMemberId, Consumer<List<Long>> returnAll) {
+        long nanos = Benchmarks.medianNanos(WARMUP, ROUNDS, () -> insertLoans(firstMemberId), loanIds -> {
+            returnAll.accept(loanIds);
+            return null;
+        });
+        return RETURNS / (nanos / 1e9);
+    }
+
+    private long insertMembers() {
+        List<Object[]> rows = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            rows.add(new Object[]{"회원 " + i, "member" + i + "@example.com", Timestamp.valueOf(LocalDateTime.now())});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO member (name, email, password, role, membership_type, join_date)
+                VALUES (?, ?, 'test-password', 'USER', 'REGULAR', ?)
+                """, rows);
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM member", Long.class);
+    }
+
+    /**
+     * 대여 중인 도서 RETURNS권과 그 대여 (짝수 번째는 1~10일 연체, 홀수 번째는 반납 예정일 전)
+     */
+    private List<Long> insertLoans(long firstMemberId) {
+        List<Book> books = new ArrayList<>(RETURNS);
+        for (int i = 0; i < RETURNS; i++) {
+            books.add(Book.builder()
+                    .title("Book " + ++serial)
+                    .author("Author")
+                    .isbn(ISBN.of(TestIsbns.isbn13(serial)))
+                    .price(Money.of(new BigDecimal("10000")))
+                    .available(false)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+        List<Book> saved = bookRepository.insertAll(books);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(RETURNS);
+        for (int i = 0; i < RETURNS; i++) {
+            LocalDateTime dueDate = i % 2 == 0 ? now.minusDays(1 + i % 10).minusHours(1) : now.plusDays(1 + i % 10);
+            rows.add(new Object[]{firstMemberId + i % MEMBERS, saved.get(i).getId(),
+                    Timestamp.valueOf(dueDate.minusDays(14)), Timestamp.valueOf(dueDate), Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO loan (member_id, book_id, loan_date, due_date, status, overdue_fee,
+                                  overdue_fee_currency, extension_count, created_date)
+                VALUES (?, ?, ?, ?, 'ACTIVE', 0, 'KRW', 0, ?)
+                """, rows);
+        return jdbcTemplate.queryForList("SELECT id FROM loan WHERE return_date IS NULL ORDER BY id", Long.class);
+    }
+}
\ No newline at end of file
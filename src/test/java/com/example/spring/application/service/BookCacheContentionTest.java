@@ -0,0 +1,181 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.BookService;
+import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 인기 도서 캐시 실패가 동시에 몰릴 때 키별 DB 조회 수 비교
+ *
+ * 매 회차마다 캐시를 비우고 500개 스레드가 동시에 10권의 인기 도서를 조회합니다.
+ * DB 조회(findById)는 2ms 지연을 주어 실제 쿼리 시간 동안 요청이 겹치도록 합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookCacheContentionTest
+ */
+@Tag("benchmark")
+@SpringJUnitConfig({CacheConfig.class, BookServiceImpl.class, BookCacheContentionTest.PropertiesConfig.class})
+@DisplayName("도서 캐시 동시 조회 경합 측정")
+class BookCacheContentionTest {
+
+    private static final int READERS = 500;
+    private static final int HOT_BOOKS = 10;
+    private static final int ROUNDS = 20;
+    private static final long DB_LATENCY_MILLIS = 2;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private BookRepository bookRepository;
+
+    @MockitoBean
+    private BookSearchIndex bookSearchIndex;
+
+    @MockitoBean
+    private BookStatisticsCounter bookStatisticsCounter;
+
+    @MockitoBean
+    private ExistenceFilter existenceFilter;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> databaseHits = new ConcurrentHashMap<>();
+
+    @Configuration
+    @EnableConfigurationProperties(BookstoreProperties.class)
+    static class PropertiesConfig {
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(bookRepository.findById(anyLong())).willAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            databaseHits.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(DB_LATENCY_MILLIS);
+            return Optional.of(Book.builder()
+                    .id(id)
+                    .title("Book " + id)
+                    .author("Author")
+                    .isbn(ISBN.of(TestIsbns.isbn13(id)))
+                    .price(Money.of(BigDecimal.TEN))
+                    .available(true)
+                    .build());
+        });
+    }
+
+    @Test
+    @DisplayName("500명이 동시에 조회해도 single-flight는 회차마다 키당 DB 조회 1회")
+    void getBookById_동시캐시실패_키당한번조회() throws Exception {
+        BookService uncached = AopTestUtils.getTargetObject(bookService);
+        Cache books = cacheManager.getCache(CacheConfig.BOOKS);
+
+        // 캐시 조회 후 실패하면 각자 DB를 읽고 저장 (@Cacheable 기본 동작)
+        LongFunction<Optional<BookResponse>> cacheAside = id -> {
+            Cache.ValueWrapper cached = books.get(id);
+            if (cached != null) {
+                return Optional.ofNullable((BookResponse) cached.get());
+            }
+            Optional<BookResponse> loaded = uncached.getBookById(id);
+            books.put(id, loaded.orElse(null));
+            return loaded;
+        };
+
+        long[] noCache = measure(uncached::getBookById, books);
+        long[] cacheAsideResult = measure(cacheAside, books);
+        long[] singleFlight = measure(bookService::getBookById, books);
+
+        Benchmarks.printTitle("도서 캐시 동시 조회", "readers=%d, hotBooks=%d, rounds=%d, dbLatency=%dms",
+                READERS, HOT_BOOKS, ROUNDS, DB_LATENCY_MILLIS);
+        Benchmarks.printRow("", "db hits", "max hits/key/round", "elapsed(ms)");
+        print("no cache", noCache);
+        print("cache-aside", cacheAsideResult);
+        print("single-flight", singleFlight);
+
+        assertThat(noCache[0]).isEqualTo((long) READERS * ROUNDS);
+        assertThat(singleFlight[0]).isEqualTo((long) HOT_BOOKS * ROUNDS);
+        assertThat(singleFlight[1]).isEqualTo(1);
+    }
+
+    /**
+     * @return {DB 조회 수, 회차별 키당 최대 DB 조회 수, 경과 시간(ms)}
+     */
+    private long[] measure(LongFunction<Optional<BookResponse>> reader, Cache books) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        long total = 0;
+        long maxPerKey = 0;
+        long start = System.nanoTime();
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                books.clear();
+                databaseHits.clear();
+                CountDownLatch gate = new CountDownLatch(1);
+                List<Future<Optional<BookResponse>>> results = new ArrayList<>(READERS);
+                for (int i = 0; i < READERS; i++) {
+                    long id = 1 + i % HOT_BOOKS;
+                    results.add(executor.submit(() -> {
+                        gate.await();
+                        return reader.apply(id);
+                    }));
+                }
+                gate.countDown();
+                for (Future<Optional<BookResponse>> result : results) {
+                    assertThat(result.get()).isPresent();
+                }
+                for (AtomicInteger hits : databaseHits.values()) {
+                    total += hits.get();
+                    maxPerKey = Math.max(maxPerKey, hits.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new long[]{total, maxPerKey, (System.nanoTime() - start) / 1_000_000};
+    }
+
+    private void print(String label, long[] result) {
+        Benchmarks.printRow(label, result[0], result[1], result[2]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.BookService;
+import com.example.spring.application.dto.response.CacheStatisticsResponse;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 도서 반복 조회 시 캐시 적용 전후 DB 쿼리 수 비교
+ *
+ * 조회 대상은 Zipf 분포(소수 도서에 조회가 몰림)로 뽑고, 캐시 크기는 도서 수의 10%로 둡니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookCacheLoadTest -Dbenchmark.books=10000 -Dbenchmark.reads=100000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "bookstore.cache.books.maximum-size=" + BookCacheLoadTest.CACHE_SIZE
+})
+@Import({CacheConfig.class, BookServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("도서 캐시 부하 테스트")
+class BookCacheLoadTest {
+
+    private static final int BOOK_COUNT = Integer.getInteger("benchmark.books", 10_000);
+    private static final int READ_COUNT = Integer.getInteger("benchmark.reads", 100_000);
+    private static final int BATCH_SIZE = 10_000;
+    static final int CACHE_SIZE = 1_000;
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private BookSearchIndex bookSearchIndex;
+
+    @MockitoBean
+    private BookStatisticsCounter bookStatisticsCounter;
+
+    @MockitoBean
+    private ExistenceFilter existenceFilter;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("TRUNCATE TABLE book");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("인기 도서 조회가 몰리면 캐시 적용 후 DB 쿼리 수가 크게 줄어듦")
+    void getBookById_인기도서조회_DB쿼리감소() {
+        seed();
+        long[] ids = jdbcTemplate.queryForList("SELECT id FROM book ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue).toArray();
+        long[] reads = zipfReads(ids);
+        BookService uncached = AopTestUtils.getTargetObject(bookService);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long[] withoutCache = run(uncached, reads, statistics);
+        long[] withCache = run(bookService, reads, statistics);
+        @SuppressWarnings("unchecked")
+        Cache<Object, Object> books = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.BOOKS).getNativeCache();
+        books.cleanUp();
+        CacheStatisticsResponse cacheStatistics = CacheStatisticsResponse.from(CacheConfig.BOOKS, books);
+
+        Benchmarks.printTitle("도서 캐시 부하", "books=%d, reads=%d, zipf=%.1f, cache=%d",
+                BOOK_COUNT, READ_COUNT, ZIPF_EXPONENT, CACHE_SIZE);
+        Benchmarks.printRow("", "queries", "elapsed(ms)", "queries/sec");
+        print("no cache", withoutCache);
+        print("caffeine", withCache);
+        Benchmarks.printRow("", "hitRate", "evictions", "size");
+        Benchmarks.printRow("caffeine stats",
+                cacheStatistics.getHitRate(), cacheStatistics.getEvictionCount(), cacheStatistics.getSize());
+
+        assertThat(withoutCache[0]).isEqualTo(READ_COUNT);
+        assertThat(withCache[0]).isLessThan(withoutCache[0] / 3);
+        assertThat(cacheStatistics.getHitCount()).isEqualTo(READ_COUNT - withCache[0]);
+    }
+
+    /**
+     * @return {실행된 쿼리 수, 경과 시간(ms)}
+     */
+    private long[] run(BookService service, long[] reads, Statistics statistics) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (long id : reads) {
+            assertThat(service.getBookById(id)).isPresent();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new long[]{statistics.getPrepareStatementCount(), elapsedMillis};
+    }
+
+    private void print(String label, long[] result) {
+        Benchmarks.printRow(label, result[0], result[1], result[0] * 1000 / result[1]);
+    }
+
+    /**
+     * 순위 k의 도서가 1/k^s 비율로 조회되는 읽기 순서 (순위는 id와 무관하게 섞음)
+     */
+    private long[] zipfReads(long[] ids) {
+        Random random = new Random(42);
+        long[] ranked = ids.clone();
+        for (int i = ranked.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = ranked[i];
+            ranked[i] = ranked[j];
+            ranked[j] = swap;
+        }
+
+        double[] cumulative = new double[ranked.length];
+        double sum = 0;
+        for (int rank = 0; rank < ranked.length; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+
+        long[] reads = new long[READ_COUNT];
+        for (int i = 0; i < READ_COUNT; i++) {
+            int position = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            reads[i] = ranked[position >= 0 ? position : Math.min(-position - 1, ranked.length - 1)];
+        }
+        return reads;
+    }
+
+    private void seed() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int start = 0; start < BOOK_COUNT; start += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = start; i < Math.min(start + BATCH_SIZE, BOOK_COUNT); i++) {
+                rows.add(new Object[]{
+                        "Book " + i,
+                        "Author " + (i % 1000),
+                        TestIsbns.isbn13(i),
+                        Long.parseLong(TestIsbns.isbn13(i)),
+                        5_000 + i % 50_000,
+                        true,
+                        Timestamp.valueOf(base.plusSeconds(i))
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO book (title, author, isbn, isbn13, price, price_currency, available, created_date) " +
+                            "VALUES (?, ?, ?, ?, ?, 'KRW', ?, ?)",
+                    rows);
+        }
+    }
+}
\ No newline at end of file
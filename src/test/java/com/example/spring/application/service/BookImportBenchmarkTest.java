@@ -0,0 +1,152 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.BookImportService;
+import com.example.spring.application.dto.response.BookImportResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 한 권씩 등록(existsByIsbn + save) vs 대량 등록(JDBC 배치) 처리량 비교
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookImportBenchmarkTest -Dbenchmark.importRows=20000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("도서 대량 등록 처리량 측정")
+class BookImportBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.importRows", 20_000);
+    private static final int WARMUP_ROWS = 2_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM book");
+    }
+
+    @Test
+    @DisplayName("대량 등록은 한 권씩 등록보다 초당 처리 행 수가 많음")
+    void importBooks_처리량비교() {
+        BookstoreProperties properties = new BookstoreProperties();
+        BookSearchIndex bookSearchIndex = new BookSearchIndex(bookRepository, loanRepository);
+        BookImportService importService = new BookImportServiceImpl(bookRepository,
+                bookSearchIndex, new BookStatisticsCounter(bookRepository),
+                new ExistenceFilter(bookRepository, memberRepository),
+                new BookAvailabilityIndex(bookRepository, loanRepository), transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), properties,
+                new ConcurrentMapCacheManager(CacheConfig.BOOKS), Clock.systemDefaultZone());
+
+        // JIT 워밍업
+        insertOneByOne(bookSearchIndex, 0, WARMUP_ROWS);
+        importService.importBooks(csv(WARMUP_ROWS, 2 * WARMUP_ROWS), BookImportService.Format.CSV);
+        jdbcTemplate.execute("DELETE FROM book");
+        bookSearchIndex.rebuild();
+
+        long start = System.nanoTime();
+        insertOneByOne(bookSearchIndex, 0, ROWS);
+        double perRowRate = ROWS / ((System.nanoTime() - start) / 1e9);
+        jdbcTemplate.execute("DELETE FROM book");
+        bookSearchIndex.rebuild();
+
+        BookImportResponse response = importService.importBooks(csv(0, ROWS), BookImportService.Format.CSV);
+
+        Benchmarks.printTitle("도서 대량 등록", "rows=%d, chunkSize=%d", ROWS, properties.getBookImport().getChunkSize());
+        Benchmarks.printRow("", "rows/sec");
+        Benchmarks.printRow("per-row", perRowRate);
+        Benchmarks.printRow("bulk import", response.getRowsPerSecond());
+
+        assertThat(response.getImportedRows()).isEqualTo(ROWS);
+        assertThat(bookRepository.count()).isEqualTo(ROWS);
+        assertThat(response.getRowsPerSecond()).isGreaterThan(perRowRate);
+    }
+
+    /**
+     * POST /api/books 와 같이 행마다 트랜잭션, existsByIsbn, IDENTITY INSERT, 검색 색인 반영
+     */
+    private void insertOneByOne(BookSearchIndex bookSearchIndex, int from, int to) {
+        for (int i = from; i < to; i++) {
+            String isbn = isbn(i);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!bookRepository.existsByIsbn(isbn)) {
+                    Book saved = bookRepository.save(Book.builder()
+                            .title("Book " + isbn)
+                            .author("Author")
+                            .isbn(ISBN.of(isbn))
+                            .price(Money.of(new BigDecimal("10000")))
+                            .available(true)
+                            .createdDate(LocalDateTime.now())
+                            .build());
+                    bookSearchIndex.index(saved);
+                }
+            });
+        }
+    }
+
+    private static InputStream csv(int from, int to) {
+        StringBuilder csv = new StringBuilder("title,author,isbn,price\n");
+        for (int i = from; i < to; i++) {
+            csv.append("Book ").append(i).append(",Author,").append(isbn(i)).append(",10000\n");
+        }
+        return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String isbn(int i) {
+        return TestIsbns.isbn13(i);
+    }
+}
\ No newline at end of file
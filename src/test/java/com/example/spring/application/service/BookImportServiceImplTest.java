@@ -0,0 +1,286 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.BookImportService;
+import com.example.spring.application.dto.response.BookImportResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.exception.BookException;
+import com.example.spring.exception.ErrorMessages;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookImportService 테스트")
+class BookImportServiceImplTest {
+
+    private static final String HEADER = "title,author,isbn,price,available,coverImageUrl\n";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookStatisticsCounter bookStatisticsCounter;
+
+    @Mock
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final List<List<Book>> insertedChunks = new ArrayList<>();
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.BOOKS);
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getBookImport().setChunkSize(2);
+        bookImportService = new BookImportServiceImpl(bookRepository, bookSearchIndex, bookStatisticsCounter,
+                existenceFilter, bookAvailabilityIndex, transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), properties, cacheManager,
+                Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    }
+
+    private void givenTransactionsSucceed() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        givenInsertAllAssignsIds();
+    }
+
+    private void givenInsertAllAssignsIds() {
+        AtomicLong ids = new AtomicLong();
+        given(bookRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Book> books = invocation.getArgument(0);
+            insertedChunks.add(books);
+            return books.stream()
+                    .map(book -> Book.builder()
+                            .id(ids.incrementAndGet())
+                            .title(book.getTitle())
+                            .author(book.getAuthor())
+                            .isbn(book.getIsbn())
+                            .price(book.getPrice())
+                            .available(book.getAvailable())
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Nested
+    @DisplayName("CSV 등록 테스트")
+    class CsvImportTest {
+
+        @Test
+        @DisplayName("청크 크기만큼 묶어 배치 저장하고 커밋 후 색인/통계/필터 반영")
+        void importBooks_청크단위저장() {
+            // Given
+            givenTransactionsSucceed();
+            String csv = HEADER
+                    + "Clean Code,Robert C. Martin,9780132350884,45.99,true,\n"
+                    + "\"Refactoring, 2nd\",Martin Fowler,9780134757599,39.99,false,\n"
+                    + "Effective Java,Joshua Bloch,9780134685991,49.99,,https://cdn.example.com/ej.jpg\n";
+
+            // When
+            BookImportResponse response = bookImportService.importBooks(input(csv), BookImportService.Format.CSV);
+
+            // Then
+            assertThat(response.getTotalRows()).isEqualTo(3L);
+            assertThat(response.getImportedRows()).isEqualTo(3L);
+            assertThat(response.getChunks()).hasSize(2);
+            assertThat(response.getChunks().get(0).getFirstRow()).isEqualTo(2);
+            assertThat(response.getChunks().get(1).getLastRow()).isEqualTo(4);
+            assertThat(insertedChunks).extracting(List::size).containsExactly(2, 1);
+            assertThat(insertedChunks.get(0).get(1).getTitle()).isEqualTo("Refactoring, 2nd");
+            assertThat(insertedChunks.get(0).get(1).getAvailable()).isFalse();
+            assertThat(insertedChunks.get(1).get(0).getAvailable()).isTrue();
+            assertThat(insertedChunks.get(0).get(0).getCreatedDate()).isEqualTo(now);
+
+            verify(bookRepository, never()).existsByIsbn(any());
+            verify(bookSearchIndex, times(2)).indexAll(anyList());
+            verify(bookStatisticsCounter).bookCreated(true, new BigDecimal("45.99"));
+            verify(existenceFilter).addIsbn(ISBN.of("978-0-13-235088-4"));
+        }
+
+        @Test
+        @DisplayName("이미 등록된 ISBN과 입력 안에서 반복된 ISBN은 중복으로 건너뜀")
+        void importBooks_중복ISBN_건너뜀() {
+            // Given
+            givenTransactionsSucceed();
+            given(bookRepository.findAllIsbn13()).willReturn(List.of(9780132350884L));
+            String csv = HEADER
+                    + "Clean Code,Robert C. Martin,978-0-13-235088-4,45.99,true,\n"
+                    + "Refactoring,Martin Fowler,9780134757599,39.99,true,\n"
+                    + "Refactoring,Martin Fowler,978-0-13-475759-9,39.99,true,\n";
+
+            // When
+            BookImportResponse response = bookImportService.importBooks(input(csv), BookImportService.Format.CSV);
+
+            // Then
+            assertThat(response.getImportedRows()).isEqualTo(1L);
+            assertThat(response.getDuplicateRows()).isEqualTo(2L);
+            assertThat(response.getChunks().get(1).getErrors())
+                    .extracting(BookImportResponse.RowError::getRow)
+                    .containsExactly(4);
+        }
+
+        @Test
+        @DisplayName("검증에 실패한 행은 오류로 기록하고 나머지 행은 등록")
+        void importBooks_잘못된행_오류기록() {
+            // Given
+            givenTransactionsSucceed();
+            String csv = HEADER
+                    + ",Robert C. Martin,9780132350884,45.99,true,\n"
+                    + "Refactoring,Martin Fowler,not-an-isbn,39.99,true,\n"
+                    + "Effective Java,Joshua Bloch,9780134685991,free,true,\n"
+                    + "Clean Architecture,Robert C. Martin,9780134494166,\"39.99\n"
+                    + "Effective Java,Joshua Bloch,9780134685991,49.99,maybe,\n"
+                    + "Effective Java,Joshua Bloch,9780134685991,49.99,true,\n";
+
+            // When
+            BookImportResponse response = bookImportService.importBooks(input(csv), BookImportService.Format.CSV);
+
+            // Then
+            assertThat(response.getTotalRows()).isEqualTo(6L);
+            assertThat(response.getFailedRows()).isEqualTo(5L);
+            assertThat(response.getImportedRows()).isEqualTo(1L);
+            List<BookImportResponse.RowError> errors = response.getChunks().stream()
+                    .flatMap(chunk -> chunk.getErrors().stream())
+                    .toList();
+            assertThat(errors).extracting(BookImportResponse.RowError::getRow).containsExactly(2, 3, 4, 5, 6);
+            assertThat(errors.get(0).getMessage()).startsWith("title: ");
+            assertThat(errors.get(2).getMessage()).contains("가격이 숫자가 아닙니다");
+        }
+
+        @Test
+        @DisplayName("필수 열이 없는 헤더는 예외")
+        void importBooks_필수열누락_예외() {
+            assertThatThrownBy(() -> bookImportService.importBooks(
+                    input("title,author,price\n"), BookImportService.Format.CSV))
+                    .isInstanceOf(BookException.InvalidImportFileException.class)
+                    .hasMessageContaining("isbn");
+        }
+
+        @Test
+        @DisplayName("읽을 수 없는 헤더는 행 오류가 아니라 파일 예외")
+        void importBooks_헤더형식오류_예외() {
+            assertThatThrownBy(() -> bookImportService.importBooks(
+                    input("title,\"author,isbn,price\nClean Code,Robert C. Martin,9780132350884,45.99\n"),
+                    BookImportService.Format.CSV))
+                    .isInstanceOf(BookException.InvalidImportFileException.class)
+                    .hasMessageContaining("큰따옴표");
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄씩 JSON 객체로 읽음")
+    void importBooks_NDJSON_등록() {
+        // Given
+        givenTransactionsSucceed();
+        String ndjson = """
+                {"title":"Clean Code","author":"Robert C. Martin","isbn":"9780132350884","price":45.99}
+                {"title":"broken"
+                {"title":"Refactoring","author":"Martin Fowler","isbn":"9780134757599","price":39.99,"available":false}
+                """;
+
+        // When
+        BookImportResponse response = bookImportService.importBooks(input(ndjson), BookImportService.Format.NDJSON);
+
+        // Then
+        assertThat(response.getImportedRows()).isEqualTo(2L);
+        assertThat(response.getFailedRows()).isEqualTo(1L);
+        assertThat(response.getChunks().get(0).getErrors().get(0).getMessage()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(insertedChunks.get(0).get(0).getAvailable()).isTrue();
+        assertThat(insertedChunks.get(1).get(0).getAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 그 청크만 실패로 기록하고 다음 청크를 계속 처리")
+    void importBooks_청크저장실패_다음청크계속() {
+        // Given
+        givenInsertAllAssignsIds();
+        willThrow(new DataIntegrityViolationException("Unique index or primary key violation"))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        String csv = HEADER
+                + "Clean Code,Robert C. Martin,9780132350884,45.99,true,\n"
+                + "Refactoring,Martin Fowler,9780134757599,39.99,true,\n"
+                + "Effective Java,Joshua Bloch,9780134685991,49.99,true,\n";
+
+        // When
+        BookImportResponse response = bookImportService.importBooks(input(csv), BookImportService.Format.CSV);
+
+        // Then
+        assertThat(response.getChunks().get(0).getFailedRows()).isEqualTo(2);
+        assertThat(response.getChunks().get(0).getErrors().get(0).getMessage())
+                .isEqualTo(ErrorMessages.BOOK_IMPORT_CHUNK_FAILED)
+                .doesNotContain("Unique index");
+        assertThat(response.getChunks().get(1).getImportedRows()).isEqualTo(1);
+        verify(bookSearchIndex, times(1)).indexAll(anyList());
+    }
+
+    @Test
+    @DisplayName("등록된 행이 있을 때만 도서 캐시를 비움")
+    void importBooks_등록건수있을때만_캐시제거() {
+        // Given
+        givenTransactionsSucceed();
+        given(bookRepository.findAllIsbn13()).willReturn(List.of(9780132350884L));
+        Cache books = cacheManager.getCache(CacheConfig.BOOKS);
+        books.put(1L, "cached");
+
+        // When - 중복 행만 있는 입력
+        bookImportService.importBooks(input(HEADER + "Clean Code,Robert C. Martin,9780132350884,45.99,true,\n"),
+                BookImportService.Format.CSV);
+        boolean keptAfterNoImport = books.get(1L) != null;
+        bookImportService.importBooks(input(HEADER + "Refactoring,Martin Fowler,9780134757599,39.99,true,\n"),
+                BookImportService.Format.CSV);
+
+        // Then
+        assertThat(keptAfterNoImport).isTrue();
+        assertThat(books.get(1L)).isNull();
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
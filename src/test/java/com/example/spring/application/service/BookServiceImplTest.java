@@ -4,11 +4,23 @@ import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
 import com.example.spring.application.dto.request.CreateBookRequest;
 import com.example.spring.application.dto.request.UpdateBookRequest;
+import com.example.spring.application.dto.response.BookFacetSearchResponse;
 import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.application.dto.response.BookStatisticsResponse;
+import com.example.spring.application.dto.response.BookSuggestionResponse;
+import com.example.spring.application.dto.response.CursorPageResponse;
+import com.example.spring.application.dto.response.FuzzySearchResponse;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.BookUpdatedEvent;
 import com.example.spring.domain.model.Book;
 import com.example.spring.exception.BookException;
+import com.example.spring.domain.repository.BookFacetRepository;
 import com.example.spring.domain.repository.BookRepository;
 import com.example.spring.application.service.BookServiceImpl;
+import com.example.spring.infrastructure.search.BookSearchIndex;
+import com.example.spring.infrastructure.statistics.BookStatisticsCounter;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,16 +28,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +56,24 @@ class BookServiceImplTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookStatisticsCounter bookStatisticsCounter;
+
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private ExistenceFilter existenceFilter;
+
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @Spy
+    private BookstoreProperties bookstoreProperties = new BookstoreProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -48,6 +84,9 @@ class BookServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // 존재 필터는 기본적으로 '있을 수 있음'으로 답해 DB 조회 결과를 그대로 사용
+        given(existenceFilter.mightContainIsbn(any())).willReturn(true);
+
         testBook = Book.builder()
                 .title("Clean Code")
                 .author("Robert C. Martin")
@@ -111,6 +150,25 @@ class BookServiceImplTest {
 
             verify(bookRepository).existsByIsbn(createBookRequest.getIsbn());
             verify(bookRepository).save(any(Book.class));
+            verify(bookSearchIndex).index(savedBook);
+            verify(bookStatisticsCounter).bookCreated(true, new BigDecimal("45.99"));
+            verify(existenceFilter).addIsbn(ISBN.of("978-0-13-235088-4"));
+        }
+
+        @Test
+        @DisplayName("존재 필터가 없는 ISBN으로 판단하면 중복 조회 없이 생성")
+        void createBook_존재필터없음_DB중복조회생략() {
+            // Given
+            given(existenceFilter.mightContainIsbn(createBookRequest.getIsbn())).willReturn(false);
+            given(bookRepository.save(any(Book.class))).willReturn(savedBook);
+
+            // When
+            BookResponse result = bookService.createBook(createBookRequest);
+
+            // Then
+            assertThat(result.getId()).isEqualTo(1L);
+            verify(bookRepository, never()).existsByIsbn(any());
+            verify(bookRepository).save(any(Book.class));
         }
 
         @Test
@@ -295,8 +353,9 @@ class BookServiceImplTest {
                             .createdDate(LocalDateTime.now())
                             .build());
 
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
             Pageable pageable = PageRequest.of(0, 2);
+            given(bookRepository.findByDeletedDateIsNull(pageable))
+                    .willReturn(new PageImpl<>(activeBooks.subList(0, 2), pageable, activeBooks.size()));
 
             // When
             Page<Book> result = bookService.getAllActiveBooks(pageable);
@@ -314,9 +373,9 @@ class BookServiceImplTest {
         @DisplayName("빈 페이지 조회 - 범위 초과")
         void getAllActiveBooks_페이지범위초과_빈페이지반환() {
             // Given
-            List<Book> activeBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
             Pageable pageable = PageRequest.of(1, 10); // 두 번째 페이지, 사이즈 10
+            given(bookRepository.findByDeletedDateIsNull(pageable))
+                    .willReturn(new PageImpl<>(List.of(), pageable, 1));
 
             // When
             Page<Book> result = bookService.getAllActiveBooks(pageable);
@@ -327,6 +386,68 @@ class BookServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(1);
             assertThat(result.getNumber()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("커서 페이징 - 첫 페이지 조회 후 다음 커서로 이어서 조회")
+        void getActiveBooksByCursor_다음커서_이어서조회() {
+            // Given - size + 1 건이 조회되면 다음 페이지가 있음
+            Sort.Order order = Sort.Order.desc("createdDate");
+            Book nextBook = Book.builder()
+                    .id(2L)
+                    .title("Effective Java")
+                    .author("Joshua Bloch")
+                    .isbn(ISBN.of("9780134685991"))
+                    .price(Money.of(new BigDecimal("52.99")))
+                    .createdDate(savedBook.getCreatedDate().minusDays(1))
+                    .build();
+            given(bookRepository.findActiveBooksAfter(order, null, null, 2))
+                    .willReturn(List.of(savedBook, nextBook));
+
+            // When
+            CursorPageResponse<BookResponse> first = bookService.getActiveBooksByCursor(null, 1, Sort.by(order));
+
+            // Then
+            assertThat(first.getContent()).extracting(BookResponse::getId).containsExactly(1L);
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(first.getNextCursor()).isNotBlank();
+
+            // Given - 다음 페이지는 커서에 담긴 (정렬 키, id) 이후부터 조회
+            given(bookRepository.findActiveBooksAfter(order, savedBook.getCreatedDate(), 1L, 2))
+                    .willReturn(List.of(nextBook));
+
+            // When - 커서가 있으면 요청 정렬 대신 커서의 정렬을 따름
+            CursorPageResponse<BookResponse> second = bookService.getActiveBooksByCursor(
+                    first.getNextCursor(), 1, Sort.unsorted());
+
+            // Then
+            assertThat(second.getContent()).extracting(BookResponse::getId).containsExactly(2L);
+            assertThat(second.isHasNext()).isFalse();
+            assertThat(second.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 페이징 - 페이지 크기가 1보다 작으면 조회하지 않고 예외 발생")
+        void getActiveBooksByCursor_페이지크기0_예외발생() {
+            assertThatThrownBy(() -> bookService.getActiveBooksByCursor(null, 0, Sort.unsorted()))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verify(bookRepository, never()).findActiveBooksAfter(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("커서 페이징 - 잘못된 커서는 예외 발생")
+        void getActiveBooksByCursor_잘못된커서_예외발생() {
+            assertThatThrownBy(() -> bookService.getActiveBooksByCursor("not-a-cursor", 10, Sort.unsorted()))
+                    .isInstanceOf(BookException.InvalidCursorException.class);
+        }
+
+        @Test
+        @DisplayName("커서 페이징 - 지원하지 않는 정렬 기준은 예외 발생")
+        void getActiveBooksByCursor_지원하지않는정렬_예외발생() {
+            assertThatThrownBy(() -> bookService.getActiveBooksByCursor(null, 10, Sort.by("price")))
+                    .isInstanceOf(BookException.InvalidCursorException.class)
+                    .hasMessageContaining("price");
+        }
     }
 
     @Nested
@@ -361,6 +482,29 @@ class BookServiceImplTest {
             assertThat(result.getPrice()).isEqualByComparingTo(new BigDecimal("47.99"));
             assertThat(result.getAvailable()).isTrue();
             assertThat(result.getCoverImageUrl()).isEqualTo("https://cdn.example.com/books/clean-code-updated.jpg");
+            verify(eventPublisher).publishEvent(any(BookUpdatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("표기만 다른 같은 ISBN으로 수정하면 중복 검사하지 않음")
+        void updateBook_표기다른같은ISBN_중복검사생략() {
+            // Given
+            UpdateBookRequest request = UpdateBookRequest.builder()
+                    .title("Clean Code")
+                    .author("Robert C. Martin")
+                    .isbn("0-13-235088-2")
+                    .price(new BigDecimal("45.99"))
+                    .available(true)
+                    .build();
+            given(bookRepository.findById(1L)).willReturn(Optional.of(savedBook));
+            given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            BookResponse result = bookService.updateBook(1L, request);
+
+            // Then
+            assertThat(result.getIsbn()).isEqualTo("0-13-235088-2");
+            verify(bookRepository, never()).existsByIsbn(any());
         }
 
         @Test
@@ -416,6 +560,8 @@ class BookServiceImplTest {
             // Then
             verify(bookRepository).findById(1L);
             verify(bookRepository).save(savedBook);
+            verify(bookSearchIndex).remove(1L);
+            verify(bookStatisticsCounter).bookDeleted(true, new BigDecimal("45.99"));
         }
 
         @Test
@@ -546,6 +692,100 @@ class BookServiceImplTest {
             assertThat(result.get(0).getTitle()).contains("Clean");
         }
 
+        @Test
+        @DisplayName("검색 색인이 준비되면 LIKE 검색 없이 색인으로 제목 검색")
+        void searchByTitle_색인준비됨_색인결과로조회() {
+            // Given
+            Book otherBook = Book.builder()
+                    .id(3L)
+                    .title("Clean Architecture")
+                    .author("Robert C. Martin")
+                    .isbn(ISBN.of("9780134494166"))
+                    .price(Money.of(new BigDecimal("48.99")))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchTitle("clean")).willReturn(new int[]{1, 3});
+            given(bookRepository.findAllById(List.of(1L, 3L))).willReturn(List.of(otherBook, savedBook));
+
+            // When
+            List<Book> result = bookService.searchByTitle("clean");
+
+            // Then
+            assertThat(result).extracting(Book::getId).containsExactly(1L, 3L);
+            verify(bookRepository, never()).findByTitleContainingIgnoreCase(any());
+        }
+
+        @Test
+        @DisplayName("검색 색인에 결과가 없으면 DB 조회 없이 빈 목록")
+        void searchByKeyword_색인결과없음_빈목록() {
+            // Given
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchKeyword("해리포터")).willReturn(new int[0]);
+
+            // When
+            List<Book> result = bookService.searchByKeyword("해리포터");
+
+            // Then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(bookRepository);
+        }
+
+        @Test
+        @DisplayName("오타 허용 검색 - 색인 순위대로 도서와 추천 검색어 반환")
+        void searchFuzzy_오타검색어_순위와추천어반환() {
+            // Given
+            BookSearchIndex.FuzzySearchResult indexResult = new BookSearchIndex.FuzzySearchResult(
+                    List.of(new BookSearchIndex.FuzzyMatch(1, 1)), "clean code");
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchFuzzy("claen code", 5)).willReturn(indexResult);
+            given(bookRepository.findAllById(List.of(1L))).willReturn(List.of(savedBook));
+
+            // When
+            FuzzySearchResponse result = bookService.searchFuzzy("claen code", 5);
+
+            // Then
+            assertThat(result.getDidYouMean()).isEqualTo("clean code");
+            assertThat(result.getMatches()).hasSize(1);
+            assertThat(result.getMatches().get(0).getBook().getTitle()).isEqualTo("Clean Code");
+            assertThat(result.getMatches().get(0).getDistance()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("오타 허용 검색 - 색인 준비 전에는 빈 결과")
+        void searchFuzzy_색인미준비_빈결과() {
+            // Given
+            given(bookSearchIndex.isReady()).willReturn(false);
+
+            // When
+            FuzzySearchResponse result = bookService.searchFuzzy("claen", 5);
+
+            // Then
+            assertThat(result.getMatches()).isEmpty();
+            assertThat(result.getDidYouMean()).isNull();
+            verifyNoInteractions(bookRepository);
+        }
+
+        @Test
+        @DisplayName("자동완성 - 색인 결과를 대여 횟수와 함께 반환")
+        void autocomplete_접두어_추천도서반환() {
+            // Given
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.autocomplete("ㅋㄹ", 5)).willReturn(List.of(
+                    new BookSearchIndex.AutocompleteEntry(1, "클린 코드", "로버트 C. 마틴", 7)));
+
+            // When
+            List<BookSuggestionResponse> result = bookService.autocomplete("ㅋㄹ", 5);
+
+            // Then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getId()).isEqualTo(1L);
+            assertThat(result.get(0).getTitle()).isEqualTo("클린 코드");
+            assertThat(result.get(0).getLoanCount()).isEqualTo(7);
+            verifyNoInteractions(bookRepository);
+        }
+
         @Test
         @DisplayName("가격 범위로 검색 성공")
         void searchByPriceRange_유효한범위_검색성공() {
@@ -580,17 +820,8 @@ class BookServiceImplTest {
         @DisplayName("복합 조건으로 도서 검색 - 페이징")
         void searchBooksWithFilters_복합조건_페이징검색성공() {
             // Given
-            List<Book> allActiveBooks = List.of(
+            List<Book> filteredBooks = List.of(
                     savedBook, // Clean Code, Robert C. Martin, 45.99
-                    Book.builder()
-                            .id(2L)
-                            .title("Effective Java")
-                            .author("Joshua Bloch")
-                            .isbn(ISBN.of("9780134685991"))
-                            .price(Money.of(new BigDecimal("52.99")))
-                            .available(true)
-                            .createdDate(LocalDateTime.now())
-                            .build(),
                     Book.builder()
                             .id(3L)
                             .title("Clean Architecture")
@@ -601,10 +832,11 @@ class BookServiceImplTest {
                             .createdDate(LocalDateTime.now())
                             .build()
             );
-
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(allActiveBooks);
             Pageable pageable = PageRequest.of(0, 2);
 
+            given(bookRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
+                    .willReturn(new PageImpl<>(filteredBooks, pageable, 2));
+
             // When - "Clean"이 포함된 제목, Martin 저자, 40-50 가격 범위
             Page<Book> result = bookService.searchBooksWithFilters(
                     "Clean", "Martin", new BigDecimal("40.00"), new BigDecimal("50.00"), true, pageable);
@@ -615,15 +847,18 @@ class BookServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(1);
             assertThat(result.getContent()).extracting(Book::getTitle)
                     .containsExactly("Clean Code", "Clean Architecture");
+
+            // 활성 도서 전체를 메모리로 읽지 않음
+            verify(bookRepository, never()).findByDeletedDateIsNull();
         }
 
         @Test
         @DisplayName("복합 조건 검색 - 조건에 맞는 결과 없음")
         void searchBooksWithFilters_조건불일치_빈페이지반환() {
             // Given
-            List<Book> allActiveBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(allActiveBooks);
             Pageable pageable = PageRequest.of(0, 10);
+            given(bookRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
+                    .willReturn(Page.empty(pageable));
 
             // When - 존재하지 않는 저자로 검색
             Page<Book> result = bookService.searchBooksWithFilters(
@@ -635,6 +870,47 @@ class BookServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("복합 조건 검색 (Slice 버전) - COUNT 없이 다음 페이지 여부 반환")
+        @SuppressWarnings("unchecked")
+        void searchBooksWithFiltersSlice_복합조건_슬라이스반환() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 1);
+            Slice<Book> slice = new SliceImpl<>(List.of(savedBook), pageable, true);
+            given(bookRepository.findBy(any(org.springframework.data.jpa.domain.Specification.class), any(Function.class)))
+                    .willReturn(slice);
+
+            // When
+            Slice<Book> result = bookService.searchBooksWithFiltersSlice(
+                    "Clean", null, null, null, true, pageable);
+
+            // Then
+            assertThat(result.getContent()).extracting(Book::getTitle).containsExactly("Clean Code");
+            assertThat(result.hasNext()).isTrue();
+            verify(bookRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("대여 가능만 검색 - 검색 색인 후보와 대여 가능 비트맵의 교집합을 먼저 구함")
+        void searchBooksWithFilters_대여가능만_색인과비트맵교집합() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(bookSearchIndex.isReady()).willReturn(true);
+            given(bookAvailabilityIndex.isReady()).willReturn(true);
+            given(bookSearchIndex.searchTitle("Clean")).willReturn(new int[]{1, 3, 5});
+            given(bookSearchIndex.searchAuthor("Martin")).willReturn(new int[]{1, 3});
+            given(bookAvailabilityIndex.retainAvailable(new int[]{1, 3})).willReturn(new int[]{1});
+            given(bookRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
+                    .willReturn(new PageImpl<>(List.of(savedBook), pageable, 1));
+
+            // When
+            Page<Book> result = bookService.searchBooksWithFilters("Clean", "Martin", null, null, true, pageable);
+
+            // Then
+            assertThat(result.getContent()).containsExactly(savedBook);
+            verify(bookAvailabilityIndex).retainAvailable(new int[]{1, 3});
+        }
+
         @Test
         @DisplayName("복합 조건으로 도서 검색 (Specification 버전) - 페이징")
         void searchBooksWithQueryFilters_복합조건_Specification검색성공() {
@@ -693,6 +969,67 @@ class BookServiceImplTest {
 
             verify(bookRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable));
         }
+
+        @Test
+        @DisplayName("패싯 검색 - 집계 결과로 재고/가격 구간/상위 저자 패싯과 전체 건수 계산")
+        @SuppressWarnings("unchecked")
+        void searchBooksWithFacets_집계결과_패싯변환() {
+            // Given - 가격 구간 경계 10,000 / 20,000, 상위 저자 2명
+            bookstoreProperties.getSearch().setFacetPriceBoundaries(
+                    List.of(new BigDecimal("10000"), new BigDecimal("20000")));
+            bookstoreProperties.getSearch().setFacetTopAuthors(2);
+            Pageable pageable = PageRequest.of(0, 1);
+            given(bookRepository.aggregateFacets(any(org.springframework.data.jpa.domain.Specification.class), anyList(), eq(2)))
+                    .willReturn(new BookFacetRepository.FacetCounts(7, 4, new long[]{1, 3, 3}, List.of(
+                            new BookFacetRepository.AuthorFacet("Robert C. Martin", 3),
+                            new BookFacetRepository.AuthorFacet("Kent Beck", 2))));
+            given(bookRepository.findBy(any(org.springframework.data.jpa.domain.Specification.class), any(Function.class)))
+                    .willReturn(new SliceImpl<>(List.of(savedBook), pageable, true));
+
+            // When
+            BookFacetSearchResponse result = bookService.searchBooksWithFacets(
+                    null, null, null, null, null, pageable);
+
+            // Then
+            assertThat(result.getContent()).extracting(BookResponse::getTitle).containsExactly("Clean Code");
+            assertThat(result.getTotalElements()).isEqualTo(7);
+            assertThat(result.getTotalPages()).isEqualTo(7);
+            assertThat(result.getFacets().getAvailable()).isEqualTo(4);
+            assertThat(result.getFacets().getUnavailable()).isEqualTo(3);
+            assertThat(result.getFacets().getPriceRanges())
+                    .extracting(BookFacetSearchResponse.PriceRange::getMinPrice,
+                            BookFacetSearchResponse.PriceRange::getMaxPrice,
+                            BookFacetSearchResponse.PriceRange::getCount)
+                    .containsExactly(
+                            tuple(null, new BigDecimal("10000"), 1L),
+                            tuple(new BigDecimal("10000"), new BigDecimal("20000"), 3L),
+                            tuple(new BigDecimal("20000"), null, 3L));
+            assertThat(result.getFacets().getTopAuthors())
+                    .extracting(BookFacetSearchResponse.AuthorCount::getAuthor, BookFacetSearchResponse.AuthorCount::getCount)
+                    .containsExactly(tuple("Robert C. Martin", 3L), tuple("Kent Beck", 2L));
+            verify(bookRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("패싯 검색 - 조건에 맞는 도서가 없으면 페이지 조회 생략")
+        void searchBooksWithFacets_결과없음_페이지조회생략() {
+            // Given
+            given(bookRepository.aggregateFacets(any(org.springframework.data.jpa.domain.Specification.class), anyList(), anyInt()))
+                    .willReturn(new BookFacetRepository.FacetCounts(0, 0, new long[5], List.of()));
+
+            // When
+            BookFacetSearchResponse result = bookService.searchBooksWithFacets(
+                    "없는 제목", null, null, null, null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+            assertThat(result.getTotalPages()).isZero();
+            assertThat(result.getFacets().getPriceRanges()).hasSize(5)
+                    .allMatch(range -> range.getCount() == 0);
+            assertThat(result.getFacets().getTopAuthors()).isEmpty();
+            verify(bookRepository, never()).findBy(any(org.springframework.data.jpa.domain.Specification.class), any());
+        }
     }
 
     @Nested
@@ -735,32 +1072,42 @@ class BookServiceImplTest {
     class StatisticsTest {
 
         @Test
-        @DisplayName("전체 도서 수 조회")
-        void getTotalBooksCount_전체도서수_반환() {
+        @DisplayName("전체/활성 도서 수는 통계 카운터에서 조회")
+        void getBooksCount_통계카운터_조회() {
             // Given
-            List<Book> allBooks = List.of(savedBook,
-                    Book.builder().id(2L).title("Test").author("Test").isbn(ISBN.of("9781234567890")).price(Money.of(BigDecimal.TEN)).build());
-            given(bookRepository.findAll()).willReturn(allBooks);
+            given(bookStatisticsCounter.snapshot()).willReturn(new BookStatisticsCounter.Snapshot(
+                    2L, 1L, 1L, 1L, new BigDecimal("45.99"), new BigDecimal("45.99"), new BigDecimal("45.99")));
 
             // When
-            long count = bookService.getTotalBooksCount();
+            long total = bookService.getTotalBooksCount();
+            long active = bookService.getActiveBooksCount();
 
             // Then
-            assertThat(count).isEqualTo(2L);
+            assertThat(total).isEqualTo(2L);
+            assertThat(active).isEqualTo(1L);
+            verify(bookRepository, never()).findAll();
+            verify(bookRepository, never()).findByDeletedDateIsNull();
         }
 
         @Test
-        @DisplayName("활성 도서 수 조회")
-        void getActiveBooksCount_활성도서수_반환() {
+        @DisplayName("도서 통계 조회")
+        void getBookStatistics_통계카운터_응답변환() {
             // Given
-            List<Book> activeBooks = List.of(savedBook);
-            given(bookRepository.findByDeletedDateIsNull()).willReturn(activeBooks);
+            given(bookStatisticsCounter.snapshot()).willReturn(new BookStatisticsCounter.Snapshot(
+                    10L, 8L, 2L, 5L, new BigDecimal("10000"), new BigDecimal("30000"), new BigDecimal("18750.00")));
 
             // When
-            long count = bookService.getActiveBooksCount();
+            BookStatisticsResponse result = bookService.getBookStatistics();
 
             // Then
-            assertThat(count).isEqualTo(1L);
+            assertThat(result.getTotalBooks()).isEqualTo(10L);
+            assertThat(result.getActiveBooks()).isEqualTo(8L);
+            assertThat(result.getDeletedBooks()).isEqualTo(2L);
+            assertThat(result.getAvailableBooks()).isEqualTo(5L);
+            assertThat(result.getMinPrice()).isEqualByComparingTo("10000");
+            assertThat(result.getMaxPrice()).isEqualByComparingTo("30000");
+            assertThat(result.getAveragePrice()).isEqualByComparingTo("18750");
+            verifyNoInteractions(bookRepository);
         }
 
         @Test
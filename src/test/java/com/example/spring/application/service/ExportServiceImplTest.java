@@ -0,0 +1,208 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.ExportService;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.repository.OrderRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService 테스트")
+class ExportServiceImplTest {
+
+    private static final LocalDateTime LOAN_DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(bookRepository, loanRepository, orderRepository, memberRepository,
+                entityManager, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("CSV 내보내기 테스트")
+    class CsvExportTest {
+
+        @Test
+        @DisplayName("헤더와 함께 대여를 회원/도서 정보 포함 한 행씩 기록")
+        void exportLoans_CSV_헤더와행() {
+            // Given
+            given(loanRepository.streamAllWithMemberAndBook()).willReturn(Stream.of(loan(1L, "Clean Code")));
+
+            // When
+            long rows = exportService.exportLoans(output, ExportService.Format.CSV);
+
+            // Then
+            assertThat(rows).isEqualTo(1);
+            assertThat(lines()).containsExactly(
+                    "id,memberId,memberName,memberEmail,bookId,bookTitle,bookIsbn,loanDate,dueDate,returnDate,"
+                            + "status,overdueFee,extensionCount",
+                    "1,7,홍길동,hong@example.com,3,Clean Code,978-0-13-235088-4,2025-03-01T10:00,2025-03-15T10:00,,"
+                            + "ACTIVE,0.00,0");
+        }
+
+        @Test
+        @DisplayName("쉼표/큰따옴표가 있는 값은 큰따옴표로 감싸고 이스케이프")
+        void exportLoans_CSV_특수문자이스케이프() {
+            // Given
+            given(loanRepository.streamAllWithMemberAndBook())
+                    .willReturn(Stream.of(loan(1L, "Refactoring, \"2nd\" Edition")));
+
+            // When
+            exportService.exportLoans(output, ExportService.Format.CSV);
+
+            // Then
+            assertThat(lines()[1]).contains(",\"Refactoring, \"\"2nd\"\" Edition\",");
+        }
+
+        @Test
+        @DisplayName("회원 내보내기에는 비밀번호가 포함되지 않음")
+        void exportMembers_CSV_비밀번호제외() {
+            // Given
+            given(memberRepository.streamAll()).willReturn(Stream.of(member()));
+
+            // When
+            exportService.exportMembers(output, ExportService.Format.CSV);
+
+            // Then
+            assertThat(lines()).containsExactly(
+                    "id,name,email,role,membershipType,joinDate",
+                    "7,홍길동,hong@example.com,USER,REGULAR,2025-03-01T10:00");
+            assertThat(output.toString(StandardCharsets.UTF_8)).doesNotContain("secret");
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 한 행의 JSON 객체를 기록")
+    void exportBooks_NDJSON_행별JSON() throws Exception {
+        // Given
+        given(bookRepository.streamAll()).willReturn(Stream.of(book(3L, "Clean Code"), book(4L, "Effective Java")));
+
+        // When
+        long rows = exportService.exportBooks(output, ExportService.Format.NDJSON);
+
+        // Then
+        String[] lines = lines();
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(3L);
+        assertThat(first.get("isbn").asText()).isEqualTo("978-0-13-235088-4");
+        assertThat(first.get("price").decimalValue()).isEqualByComparingTo("45.99");
+        assertThat(first.get("createdDate").asText()).isEqualTo("2025-03-01T10:00:00");
+        assertThat(first.get("deletedDate").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Effective Java");
+    }
+
+    @Test
+    @DisplayName("기록한 엔티티는 분리하고 1000행마다 영속성 컨텍스트를 비우며 스트림을 닫음")
+    void exportBooks_엔티티분리와스트림종료() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(bookRepository.streamAll()).willReturn(LongStream.rangeClosed(1, 2_500)
+                .mapToObj(id -> book(id, "Book " + id))
+                .onClose(() -> closed.set(true)));
+
+        // When
+        long rows = exportService.exportBooks(output, ExportService.Format.CSV);
+
+        // Then
+        assertThat(rows).isEqualTo(2_500);
+        assertThat(lines()).hasSize(2_501);
+        verify(entityManager, times(2_500)).detach(any(Book.class));
+        verify(entityManager, times(2)).clear();
+        assertThat(closed).isTrue();
+    }
+
+    private String[] lines() {
+        return output.toString(StandardCharsets.UTF_8).split("\n");
+    }
+
+    private static Member member() {
+        return Member.builder()
+                .id(7L)
+                .name("홍길동")
+                .email("hong@example.com")
+                .password("secret")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LOAN_DATE)
+                .build();
+    }
+
+    private static Book book(Long id, String title) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .author("Robert C. Martin")
+                .isbn(ISBN.of("9780132350884"))
+                .price(Money.of(new BigDecimal("45.99")))
+                .available(true)
+                .createdDate(LOAN_DATE)
+                .build();
+    }
+
+    private static Loan loan(Long id, String bookTitle) {
+        return Loan.builder()
+                .id(id)
+                .member(member())
+                .book(book(3L, bookTitle))
+                .loanDate(LOAN_DATE)
+                .dueDate(LOAN_DATE.plusWeeks(2))
+                .status(LoanStatus.ACTIVE)
+                .overdueFee(Money.zero())
+                .extensionCount(0)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.LoanSpecification;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 반납 이력 보관 전/후 대여 중인 대여 조회 지연 시간 비교
+ *
+ * 대여의 95%가 1년 넘게 지난 반납 이력이고 5%만 대여 중인 상태에서 회원별/도서별/관리자 목록의 대여 중 조회
+ * 중앙값을 측정한 뒤, LoanArchiver로 반납 이력을 loan_archive로 옮기고 같은 조회를 다시 측정합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=LoanArchiveBenchmarkTest -Dbenchmark.loans=5000000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("대여 보관 전/후 조회 지연 시간 측정")
+class LoanArchiveBenchmarkTest {
+
+    private static final int LOANS = Integer.getInteger("benchmark.loans", 1_000_000);
+    private static final int MEMBERS = 9_973;  // ACTIVE_EVERY와 서로소 → 회원마다 대여 중/반납 대여가 섞임
+    private static final int BOOKS = 1_000;
+    private static final int ACTIVE_EVERY = 20;  // 20건 중 1건만 대여 중
+    private static final int INSERT_BATCH = 10_000;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM job_checkpoint");
+        jdbcTemplate.execute("TRUNCATE TABLE loan_archive");
+        jdbcTemplate.execute("TRUNCATE TABLE loan");
+        jdbcTemplate.execute("DELETE FROM book");
+        jdbcTemplate.execute("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("반납 이력을 보관하면 대여 중 조회 결과는 같고 지연 시간은 줄어듦")
+    void archive_대여중조회_지연시간비교() {
+        LocalDateTime now = LocalDateTime.now();
+        long firstMemberId = insertMembers(now);
+        long firstBookId = insertBooks(now);
+        insertLoans(firstMemberId, firstBookId, now);
+
+        Map<String, Supplier<List<Long>>> queries = new LinkedHashMap<>();
+        queries.put("member active loans", () -> ids(loanRepository.findByMemberIdAndReturnDateIsNull(
+                firstMemberId + MEMBERS / 2)));
+        queries.put("book active loans", () -> ids(loanRepository.findByBookIdAndReturnDateIsNull(
+                firstBookId + BOOKS / 3)));
+        queries.put("admin ACTIVE page", () -> ids(loanRepository.findAll(
+                LoanSpecification.withFilters(null, "ACTIVE"),
+                PageRequest.of(0, 20, Sort.by("loanDate", "id").descending())).getContent()));
+
+        Map<String, List<Long>> beforeResults = new LinkedHashMap<>();
+        Map<String, Double> before = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            beforeResults.put(name, query.get());
+            before.put(name, medianMillis(query));
+        });
+
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getLoanArchive().setRetention(Duration.ofDays(365));
+        LoanArchiver archiver = new LoanArchiver(loanRepository, jobCheckpointRepository, transactionTemplate,
+                mock(ApplicationEventPublisher.class), properties, Clock.systemDefaultZone());
+        LoanArchiver.ArchiveResult result = archiver.archive();
+
+        Map<String, Double> after = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            assertThat(query.get()).as(name).isEqualTo(beforeResults.get(name));
+            after.put(name, medianMillis(query));
+        });
+
+        long hot = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan", Long.class);
+        Benchmarks.printTitle("대여 보관", "loans=%d -> loan %d + loan_archive %d, %d청크, %dms (최대 청크 %dms)",
+                LOANS, hot, result.getArchivedLoans(), result.getChunks(), result.getElapsedMillis(),
+                result.getMaxChunkMillis());
+        Benchmarks.printRow("", "before(ms)", "after(ms)", "speedup");
+        queries.keySet().forEach(name -> Benchmarks.printRow(name, before.get(name), after.get(name),
+                String.format("%.1fx", before.get(name) / Math.max(after.get(name), 0.001))));
+
+        assertThat(result.getArchivedLoans()).isEqualTo(LOANS - hot);
+        assertThat(hot).isEqualTo((LOANS + ACTIVE_EVERY - 1) / ACTIVE_EVERY);
+        assertThat(after.values().stream().mapToDouble(Double::doubleValue).sum())
+                .isLessThan(before.values().stream().mapToDouble(Double::doubleValue).sum());
+    }
+
+    private double medianMillis(Supplier<List<Long>> query) {
+        return Benchmarks.medianNanos(ITERATIONS / 5, ITERATIONS, query) / 1e6;
+    }
+
+    private static List<Long> ids(List<Loan> loans) {
+        return loans.stream().map(Loan::getId).toList();
+    }
+
+    private long insertMembers(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            rows.add(new Object[]{"회원 " + i, "member" + i + "@example.com", Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO member (name, email, password, role, membership_type, join_date)
+                VALUES (?, ?, 'test-password', 'USER', 'REGULAR', ?)
+                """, rows);
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM member", Long.class);
+    }
+
+    private long insertBooks(LocalDateTime now) {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(Book.builder()
+                    .title("Book " + i)
+                    .author("Author")
+                    .isbn(ISBN.of(TestIsbns.isbn13(i)))
+                    .price(Money.of(new BigDecimal("10000")))
+                    .available(true)
+                    .createdDate(now)
+                    .build());
+        }
+        return bookRepository.insertAll(books).get(0).getId();
+    }
+
+    /**
+     * id 순서로 회원을 돌아가며 배정하고, ACTIVE_EVERY건마다 1건은 최근 대여(대여 중), 나머지는 1~5년 전 반납
+     */
+    private void insertLoans(long firstMemberId, long firstBookId, LocalDateTime now) {
+        for (int from = 0; from < LOANS; from += INSERT_BATCH) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < Math.min(LOANS, from + INSERT_BATCH); i++) {
+                boolean active = i % ACTIVE_EVERY == 0;
+                LocalDateTime loanDate = active
+                        ? now.minusDays(i % 14).minusMinutes(i % 1440)
+                        : now.minusDays(400 + i % 1400).minusMinutes(i % 1440);
+                rows.add(new Object[]{firstMemberId + i % MEMBERS, firstBookId + i % BOOKS,
+                        Timestamp.valueOf(loanDate), Timestamp.valueOf(loanDate.plusDays(14)),
+                        active ? null : Timestamp.valueOf(loanDate.plusDays(7)),
+                        active ? "ACTIVE" : "RETURNED", Timestamp.valueOf(loanDate)});
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO loan (member_id, book_id, loan_date, due_date, return_date, status, overdue_fee,
+                                      overdue_fee_currency, extension_count, created_date)
+                    VALUES (?, ?, ?, ?, ?, ?, 0, 'KRW', 0, ?)
+                    """, rows);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.example.spring.application.service;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.LoansArchivedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.JobCheckpoint;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanArchive;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanArchiveRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대여 보관은 청크마다 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("LoanArchiver 테스트")
+class LoanArchiverTest {
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private LoanArchiveRepository loanArchiveRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ApplicationEventPublisher eventPublisher;
+    private LoanArchiver archiver;
+    private Member member;
+    private long bookSerial;
+
+    @BeforeEach
+    void setUp() {
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getLoanArchive().setChunkSize(2);
+        properties.getLoanArchive().setRetention(Duration.ofDays(30));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        archiver = new LoanArchiver(loanRepository, jobCheckpointRepository, transactionTemplate, eventPublisher,
+                properties, Clock.systemDefaultZone());
+        member = memberRepository.save(Member.builder()
+                .name("회원")
+                .email("hong@example.com")
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobCheckpointRepository.deleteAll();
+        loanArchiveRepository.deleteAll();
+        loanRepository.deleteAll();
+        bookRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("보관 테스트")
+    class ArchiveTest {
+
+        @Test
+        @DisplayName("보관 기간이 지난 반납/취소 대여만 loan_archive로 옮기고 loan에서 삭제")
+        void archive_보관기간지난대여_이동() {
+            // Given
+            Loan oldReturned = saveReturned(LocalDateTime.now().minusDays(100));
+            Loan oldReturned2 = saveReturned(LocalDateTime.now().minusDays(40));
+            Loan oldCancelled = saveLoan(LoanStatus.CANCELLED, null, LocalDateTime.now().minusDays(60));
+            Loan recentReturned = saveReturned(LocalDateTime.now().minusDays(5));
+            Loan active = saveLoan(LoanStatus.ACTIVE, null, LocalDateTime.now().minusDays(90));
+            Loan overdue = saveLoan(LoanStatus.OVERDUE, null, LocalDateTime.now().minusDays(90));
+
+            // When
+            LoanArchiver.ArchiveResult result = archiver.archive();
+
+            // Then
+            assertThat(result.isSkipped()).isFalse();
+            assertThat(result.getArchivedLoans()).isEqualTo(3);
+            assertThat(result.getChunks()).isEqualTo(2);
+            assertThat(loanRepository.findAll()).extracting(Loan::getId)
+                    .containsExactlyInAnyOrder(recentReturned.getId(), active.getId(), overdue.getId());
+            assertThat(loanArchiveRepository.findAll()).extracting(LoanArchive::getId)
+                    .containsExactlyInAnyOrder(oldReturned.getId(), oldReturned2.getId(), oldCancelled.getId());
+        }
+
+        @Test
+        @DisplayName("보관된 대여는 원래 id와 값을 유지하고 회원별 이력과 도서별 누적 대여 횟수에 포함")
+        void archive_보관된대여_값유지() {
+            // Given
+            Loan returned = saveReturned(LocalDateTime.now().minusDays(100));
+
+            // When
+            archiver.archive();
+
+            // Then
+            List<LoanArchive> history = loanArchiveRepository.findByMemberId(member.getId());
+            assertThat(history).hasSize(1);
+            Loan restored = history.get(0).toLoan();
+            assertThat(restored.getId()).isEqualTo(returned.getId());
+            assertThat(restored.getStatus()).isEqualTo(LoanStatus.RETURNED);
+            assertThat(restored.getReturnDate()).isEqualToIgnoringNanos(returned.getReturnDate());
+            assertThat(restored.getBook().getTitle()).isEqualTo(returned.getBook().getTitle());
+            assertThat(history.get(0).getArchivedDate()).isNotNull();
+            assertThat(loanRepository.countLoansGroupByBook())
+                    .extracting(LoanRepository.BookLoanCount::getBookId, LoanRepository.BookLoanCount::getLoanCount)
+                    .containsExactly(tuple(returned.getBook().getId(), 1L));
+        }
+
+        @Test
+        @DisplayName("청크마다 옮긴 대여 id로 보관 이벤트를 발행하고, 실행을 마치면 진행 위치를 비움")
+        void archive_청크마다_이벤트발행() {
+            // Given
+            Loan first = saveReturned(LocalDateTime.now().minusDays(100));
+            Loan second = saveReturned(LocalDateTime.now().minusDays(100));
+            Loan third = saveReturned(LocalDateTime.now().minusDays(100));
+
+            // When
+            archiver.archive();
+
+            // Then
+            ArgumentCaptor<LoansArchivedEvent> events = ArgumentCaptor.forClass(LoansArchivedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).flatExtracting(LoansArchivedEvent::getLoanIds)
+                    .containsExactly(first.getId(), second.getId(), third.getId());
+            JobCheckpoint checkpoint = jobCheckpointRepository.findById(LoanArchiver.JOB_NAME).orElseThrow();
+            assertThat(checkpoint.isInProgress()).isFalse();
+            assertThat(checkpoint.getOwner()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("점유/재개 테스트")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("다른 노드가 점유 중이면 실행하지 않음")
+        void archive_다른노드점유중_건너뜀() {
+            // Given
+            Loan returned = saveReturned(LocalDateTime.now().minusDays(100));
+            jobCheckpointRepository.save(new JobCheckpoint(LoanArchiver.JOB_NAME));
+            acquire("other-node", LocalDateTime.now().plusMinutes(5));
+
+            // When
+            LoanArchiver.ArchiveResult result = archiver.archive();
+
+            // Then
+            assertThat(result.isSkipped()).isTrue();
+            assertThat(loanRepository.existsById(returned.getId())).isTrue();
+            assertThat(loanArchiveRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("점유가 만료된 중단 실행은 같은 기준 시각으로 마지막 커밋된 청크 다음부터 이어서 처리")
+        void archive_만료된점유_이어서처리() {
+            // Given - other-node가 첫 대여 위치까지 진행하고 중단
+            LocalDateTime closedBefore = LocalDateTime.now().minusDays(30);
+            Loan skipped = saveReturned(LocalDateTime.now().minusDays(100));
+            Loan remaining = saveReturned(LocalDateTime.now().minusDays(100));
+            jobCheckpointRepository.save(new JobCheckpoint(LoanArchiver.JOB_NAME));
+            acquire("other-node", LocalDateTime.now().minusMinutes(1));
+            transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.advance(
+                    LoanArchiver.JOB_NAME, "other-node", closedBefore, null, skipped.getId(),
+                    1, LocalDateTime.now().minusMinutes(1)));
+
+            // When
+            LoanArchiver.ArchiveResult result = archiver.archive();
+
+            // Then
+            assertThat(result.isResumed()).isTrue();
+            assertThat(result.getArchivedLoans()).isEqualTo(1);
+            assertThat(loanRepository.existsById(skipped.getId())).isTrue();
+            assertThat(loanArchiveRepository.existsById(remaining.getId())).isTrue();
+        }
+    }
+
+    private void acquire(String owner, LocalDateTime leaseUntil) {
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.tryAcquire(
+                LoanArchiver.JOB_NAME, owner, LocalDateTime.now(), leaseUntil));
+    }
+
+    private Loan saveReturned(LocalDateTime returnDate) {
+        return saveLoan(LoanStatus.RETURNED, returnDate, returnDate);
+    }
+
+    /**
+     * 취소 시각은 생성 시각으로 판단 (테스트에서는 감사 필드가 채워지지 않아 수정 시각이 없음)
+     */
+    private Loan saveLoan(LoanStatus status, LocalDateTime returnDate, LocalDateTime createdDate) {
+        Book book = bookRepository.save(Book.builder()
+                .title("도서 " + ++bookSerial)
+                .author("저자")
+                .isbn(ISBN.of(TestIsbns.isbn13(bookSerial)))
+                .price(Money.of(new BigDecimal("20000")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build());
+        return loanRepository.save(Loan.builder()
+                .member(member)
+                .book(book)
+                .loanDate(createdDate.minusDays(14))
+                .dueDate(createdDate)
+                .returnDate(returnDate)
+                .status(status)
+                .createdDate(createdDate)
+                .build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.application.ExportService;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 100만 건 스트리밍 내보내기의 힙 사용량 측정
+ *
+ * 테이블 자체가 힙에 올라가지 않도록 파일 기반 H2를 사용하고, 출력은 버립니다.
+ * 10만 행마다 GC 후 힙 사용량을 기록해 행 수가 늘어도 남는 메모리가 늘지 않는지 확인합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=LoanExportBenchmarkTest -DargLine=-Xmx128m -Dbenchmark.exportRows=1000000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark/loan-export;LAZY_QUERY_EXECUTION=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("대여 스트리밍 내보내기 힙 사용량 측정")
+class LoanExportBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.exportRows", 1_000_000);
+    private static final int SAMPLE_INTERVAL = ROWS / 10;
+    private static final int MEMBERS = 1_000;
+    private static final int BOOKS = 1_000;
+    private static final long MAX_RETAINED_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("INSERT INTO member (id, name, email, password, role, membership_type, join_date) " +
+                "SELECT X, 'Member ' || X, 'member' || X || '@example.com', 'password', 'USER', 'REGULAR', " +
+                "CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + MEMBERS + ")");
+        jdbcTemplate.execute("INSERT INTO book (id, title, author, isbn, isbn13, price, price_currency, available, created_date) " +
+                "SELECT X, 'Book ' || X, 'Author ' || X, '978' || LPAD(X, 10, '0'), 9780000000000 + X, 10000, 'KRW', TRUE, " +
+                "CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + BOOKS + ")");
+        jdbcTemplate.execute("INSERT INTO loan (member_id, book_id, loan_date, due_date, status, overdue_fee, " +
+                "overdue_fee_currency, extension_count, created_date) " +
+                "SELECT MOD(X, " + MEMBERS + ") + 1, MOD(X / " + MEMBERS + ", " + BOOKS + ") + 1, " +
+                "CURRENT_TIMESTAMP, DATEADD(DAY, 14, CURRENT_TIMESTAMP), 'RETURNED', 0, 'KRW', 0, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM loan");
+        jdbcTemplate.execute("DELETE FROM book");
+        jdbcTemplate.execute("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("대여 100만 건을 내보내도 남는 힙 사용량이 행 수에 비례하지 않음")
+    void exportLoans_백만건_힙사용량일정() {
+        ExportService exportService = new ExportServiceImpl(bookRepository, loanRepository, orderRepository,
+                memberRepository, entityManager, new ObjectMapper().findAndRegisterModules());
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream(SAMPLE_INTERVAL);
+
+        long start = System.nanoTime();
+        Long rows = transactionTemplate.execute(status -> exportService.exportLoans(output, ExportService.Format.CSV));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Benchmarks.printTitle("대여 스트리밍 내보내기", "rows=%d, maxHeap=%dMB", ROWS,
+                Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        Benchmarks.printRow("rows written", "retained heap(MB)");
+        for (long[] sample : output.samples) {
+            Benchmarks.printRow(String.valueOf(sample[0]), sample[1] / (1024.0 * 1024));
+        }
+        Benchmarks.printRow("rows/sec", ROWS / seconds);
+        Benchmarks.printRow("output(MB)", output.bytes / (1024.0 * 1024));
+
+        assertThat(rows).isEqualTo(ROWS);
+        long first = output.samples.get(0)[1];
+        long last = output.samples.get(output.samples.size() - 1)[1];
+        assertThat(last - first).isLessThan(MAX_RETAINED_GROWTH_BYTES);
+    }
+
+    /**
+     * 출력을 버리면서 줄 수를 세고, interval 줄마다 GC 후 힙 사용량(살아 있는 객체 크기)을 기록
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final int interval;
+        private final List<long[]> samples = new ArrayList<>();
+        private long lines;
+        private long bytes;
+
+        private HeapSamplingOutputStream(int interval) {
+            this.interval = interval;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                // 첫 줄은 CSV 헤더
+                if (buffer[i] == '\n' && lines++ > 0 && (lines - 1) % interval == 0) {
+                    System.gc();
+                    samples.add(new long[]{lines - 1, memory.getHeapMemoryUsage().getUsed()});
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
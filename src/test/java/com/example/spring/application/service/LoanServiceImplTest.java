@@ -2,11 +2,19 @@ package com.example.spring.application.service;
 
 import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.BatchReturnRequest;
 import com.example.spring.application.dto.request.CreateLoanRequest;
 import com.example.spring.application.dto.request.ExtendLoanRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
 import com.example.spring.application.dto.response.LoanResponse;
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanExtendedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
 import com.example.spring.domain.model.Book;
 import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanArchive;
 import com.example.spring.domain.model.LoanStatus;
 import com.example.spring.domain.model.Member;
 import com.example.spring.domain.model.MembershipType;
@@ -16,21 +24,29 @@ import com.example.spring.exception.BookException;
 import com.example.spring.exception.LoanException;
 import com.example.spring.exception.MemberException;
 import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanArchiveRepository;
 import com.example.spring.domain.repository.LoanRepository;
 import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
 import com.example.spring.application.service.LoanServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +55,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import static org.assertj.core.api.Assertions.*;
@@ -52,6 +69,9 @@ class LoanServiceImplTest {
     @Mock
     private LoanRepository loanRepository;
 
+    @Mock
+    private LoanArchiveRepository loanArchiveRepository;
+
     @Mock
     private BookRepository bookRepository;
 
@@ -61,6 +81,15 @@ class LoanServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private LoanSearchIndex loanSearchIndex;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private LoanServiceImpl loanService;
 
@@ -118,8 +147,7 @@ class LoanServiceImplTest {
             // Given
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willReturn(testBook);
 
@@ -168,7 +196,7 @@ class LoanServiceImplTest {
             testBook.setAvailability(true);
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(true);
+            givenEligibility(0, false, true);
 
             // When & Then
             assertThatThrownBy(() -> loanService.createLoan(createLoanRequest))
@@ -179,19 +207,10 @@ class LoanServiceImplTest {
         @Test
         @DisplayName("회원 대여 한도 초과 - 예외 발생")
         void createLoan_대여한도초과_예외발생() {
-            // Given
-            List<Loan> existingLoans = List.of(
-                    Loan.builder().build(),
-                    Loan.builder().build(),
-                    Loan.builder().build(),
-                    Loan.builder().build(),
-                    Loan.builder().build()
-            );
-
+            // Given - 이미 5권 대여 중
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(existingLoans);
+            givenEligibility(5, false, false);
 
             // When & Then
             assertThatThrownBy(() -> loanService.createLoan(createLoanRequest))
@@ -199,24 +218,30 @@ class LoanServiceImplTest {
                     .hasMessageContaining("대여 한도를 초과했습니다");
         }
 
+        @Test
+        @DisplayName("프리미엄 회원은 5권을 넘어도 등급 한도(10권)까지 대여 가능")
+        void createLoan_프리미엄회원_등급한도적용() {
+            // Given - 이미 5권 대여 중
+            ReflectionTestUtils.setField(testMember, "membershipType", MembershipType.PREMIUM);
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+            givenEligibility(5, false, false);
+            given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
+
+            // When
+            LoanResponse result = loanService.createLoan(createLoanRequest);
+
+            // Then
+            assertThat(result.getBookId()).isEqualTo(1L);
+        }
+
         @Test
         @DisplayName("연체 중인 대여가 있는 경우 - 예외 발생")
         void createLoan_연체중인대여존재_예외발생() {
-            // Given
-            Loan overdueLoan = Loan.builder()
-                    .id(2L)
-                    .member(testMember)
-                    .book(testBook)
-                    .loanDate(LocalDateTime.now().minusWeeks(3))
-                    .dueDate(LocalDateTime.now().minusWeeks(1))
-                    .status(LoanStatus.OVERDUE)
-                    .createdDate(LocalDateTime.now())
-                    .build();
-
+            // Given - 반납 예정일이 지난 미반납 대여 1건
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of(overdueLoan));
+            givenEligibility(1, true, false);
 
             // When & Then
             assertThatThrownBy(() -> loanService.createLoan(createLoanRequest))
@@ -244,8 +269,7 @@ class LoanServiceImplTest {
             // Given
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willAnswer(invocation -> {
                 Book savedBook = invocation.getArgument(0);
@@ -272,8 +296,7 @@ class LoanServiceImplTest {
 
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willReturn(testBook);
 
@@ -297,8 +320,7 @@ class LoanServiceImplTest {
 
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willReturn(testBook);
 
@@ -322,8 +344,7 @@ class LoanServiceImplTest {
 
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willAnswer(invocation -> {
                 Loan savedLoan = invocation.getArgument(0);
                 assertThat(savedLoan.getLoanDate()).isNotNull();
@@ -356,8 +377,7 @@ class LoanServiceImplTest {
 
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willReturn(testBook);
 
@@ -412,8 +432,7 @@ class LoanServiceImplTest {
             // Given
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
             given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-            given(loanRepository.existsByBookIdAndReturnDateIsNull(1L)).willReturn(false);
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
             given(loanRepository.save(any(Loan.class))).willReturn(testLoan);
             given(bookRepository.save(any(Book.class))).willReturn(testBook);
 
@@ -436,6 +455,187 @@ class LoanServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("일괄 대여")
+    class CreateLoansTest {
+
+        private Book book2;
+        private Book book3;
+
+        @BeforeEach
+        void setUp() {
+            book2 = Book.builder().id(2L).title("Refactoring").author("Martin Fowler")
+                    .isbn(ISBN.of("9780134757599")).price(Money.of(new BigDecimal("50000")))
+                    .available(true).createdDate(LocalDateTime.now()).build();
+            book3 = Book.builder().id(3L).title("Effective Java").author("Joshua Bloch")
+                    .isbn(ISBN.of("9780134685991")).price(Money.of(new BigDecimal("40000")))
+                    .available(true).createdDate(LocalDateTime.now()).build();
+        }
+
+        private BatchCheckoutRequest request(Long... bookIds) {
+            return BatchCheckoutRequest.builder().memberId(1L).bookIds(List.of(bookIds)).loanDays(7).build();
+        }
+
+        @Test
+        @DisplayName("도서를 한 번에 조회하고 재고 변경 한 번, 대여 배치 저장 한 번으로 생성")
+        void createLoans_유효한요청_일괄생성() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(3L, 1L))).willReturn(List.of(testBook, book3));
+            givenEligibility(1, false, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(3L, 1L))).willReturn(List.of());
+            given(bookRepository.markLoanedOut(eq(List.of(3L, 1L)), any(LocalDateTime.class))).willReturn(2);
+            given(loanRepository.insertAll(anyList())).willAnswer(invocation -> {
+                List<Loan> loans = invocation.getArgument(0);
+                long id = 10;
+                List<Loan> saved = new ArrayList<>();
+                for (Loan loan : loans) {
+                    ReflectionTestUtils.setField(loan, "id", id++);
+                    saved.add(loan);
+                }
+                return saved;
+            });
+
+            // When
+            List<LoanResponse> result = loanService.createLoans(request(3L, 1L));
+
+            // Then - 요청 순서대로 응답하고 도서별 생성 이벤트 발행
+            assertThat(result).extracting(LoanResponse::getId).containsExactly(10L, 11L);
+            assertThat(result).extracting(LoanResponse::getBookId).containsExactly(3L, 1L);
+            assertThat(result).allSatisfy(response -> assertThat(response.getDueDate())
+                    .isEqualTo(response.getLoanDate().plusDays(7)));
+            assertThat(testBook.getAvailable()).isFalse();
+            verify(eventPublisher, times(2)).publishEvent(any(LoanCreatedEvent.class));
+            verify(loanRepository, never()).save(any(Loan.class));
+            verify(bookRepository, never()).save(any(Book.class));
+        }
+
+        @Test
+        @DisplayName("같은 도서를 중복 요청 - 예외 발생")
+        void createLoans_중복도서_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 2L, 1L)))
+                    .isInstanceOf(LoanException.InvalidLoanStateException.class);
+            verify(bookRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 도서가 하나라도 있으면 예외 발생")
+        void createLoans_존재하지않는도서_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 99L))).willReturn(List.of(testBook));
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 99L)))
+                    .isInstanceOf(BookException.BookNotFoundException.class)
+                    .hasMessageContaining("99");
+            verify(bookRepository, never()).markLoanedOut(any(), any());
+        }
+
+        @Test
+        @DisplayName("대여 중인 도서가 하나라도 있으면 아무 것도 대여하지 않음")
+        void createLoans_대여중도서포함_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(testBook, book2));
+            givenEligibility(0, false, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(1L, 2L))).willReturn(List.of(2L));
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 2L)))
+                    .isInstanceOf(LoanException.BookAlreadyLoanedException.class);
+            verify(bookRepository, never()).markLoanedOut(any(), any());
+            verify(loanRepository, never()).insertAll(any());
+        }
+
+        @Test
+        @DisplayName("현재 대여 수와 요청 권수의 합이 일반 회원 한도(5권)를 넘으면 예외 발생")
+        void createLoans_일반회원한도초과_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(testBook, book2, book3));
+            givenEligibility(3, false, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(1L, 2L, 3L))).willReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 2L, 3L)))
+                    .isInstanceOf(LoanException.LoanLimitExceededException.class);
+            verify(bookRepository, never()).markLoanedOut(any(), any());
+        }
+
+        @Test
+        @DisplayName("프리미엄 회원은 등급 한도(10권)까지 대여 가능")
+        void createLoans_프리미엄회원_등급한도적용() {
+            // Given
+            ReflectionTestUtils.setField(testMember, "membershipType", MembershipType.PREMIUM);
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(testBook, book2, book3));
+            givenEligibility(7, false, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(1L, 2L, 3L))).willReturn(List.of());
+            given(bookRepository.markLoanedOut(anyList(), any(LocalDateTime.class))).willReturn(3);
+            given(loanRepository.insertAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            List<LoanResponse> result = loanService.createLoans(request(1L, 2L, 3L));
+
+            // Then
+            assertThat(result).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("삭제된 도서가 하나라도 있으면 재고를 바꾸지 않고 예외 발생")
+        void createLoans_삭제된도서_예외발생() {
+            // Given
+            book2.markAsDeleted();
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(testBook, book2));
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 2L)))
+                    .isInstanceOf(BookException.BookNotFoundException.class)
+                    .hasMessageContaining("2");
+            verify(bookRepository, never()).markLoanedOut(any(), any());
+        }
+
+        @Test
+        @DisplayName("연체 중인 회원 - 예외 발생")
+        void createLoans_연체회원_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L))).willReturn(List.of(testBook));
+            givenEligibility(1, true, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(1L))).willReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> loanService.createLoans(request(1L)))
+                    .isInstanceOf(LoanException.OverdueLoansExistException.class);
+        }
+
+        @Test
+        @DisplayName("검증 후 다른 대여가 도서를 먼저 가져가면 대여를 저장하지 않고 예외 발생")
+        void createLoans_재고변경건수부족_예외발생() {
+            // Given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
+            given(bookRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(testBook, book2));
+            givenEligibility(0, false, false);
+            given(loanRepository.findLoanedBookIdsIn(List.of(1L, 2L)))
+                    .willReturn(List.of())
+                    .willReturn(List.of(2L));
+            given(bookRepository.markLoanedOut(eq(List.of(1L, 2L)), any(LocalDateTime.class))).willReturn(1);
+
+            // When & Then - 이 트랜잭션의 UPDATE 후에는 두 도서 모두 대여 불가로 보이므로 미반납 대여로 찾음
+            assertThatThrownBy(() -> loanService.createLoans(request(1L, 2L)))
+                    .isInstanceOf(LoanException.BookAlreadyLoanedException.class)
+                    .hasMessageContaining("2");
+            verify(loanRepository, never()).insertAll(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
     @Nested
     @DisplayName("대여 조회")
     class GetLoanTest {
@@ -468,6 +668,33 @@ class LoanServiceImplTest {
             // Then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getMemberId()).isEqualTo(1L);
+            verifyNoInteractions(loanArchiveRepository);
+        }
+
+        @Test
+        @DisplayName("이력 포함 회원별 대여 내역은 보관된 대여까지 대여일 내림차순으로 병합")
+        void getLoansByMemberId_이력포함_보관대여병합() {
+            // Given
+            Loan oldLoan = Loan.builder()
+                    .id(99L)
+                    .member(testMember)
+                    .book(testBook)
+                    .loanDate(testLoan.getLoanDate().minusYears(2))
+                    .dueDate(testLoan.getLoanDate().minusYears(2).plusDays(14))
+                    .returnDate(testLoan.getLoanDate().minusYears(2).plusDays(7))
+                    .status(LoanStatus.RETURNED)
+                    .build();
+            LoanArchive archived = mock(LoanArchive.class);
+            given(archived.toLoan()).willReturn(oldLoan);
+            given(loanRepository.findByMemberId(1L)).willReturn(List.of(testLoan));
+            given(loanArchiveRepository.findByMemberId(1L)).willReturn(List.of(archived));
+
+            // When
+            List<LoanResponse> result = loanService.getLoansByMemberId(1L, true);
+
+            // Then
+            assertThat(result).extracting(LoanResponse::getId).containsExactly(testLoan.getId(), 99L);
+            assertThat(result.get(1).getStatus()).isEqualTo(LoanStatus.RETURNED);
         }
 
         @Test
@@ -530,6 +757,151 @@ class LoanServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("일괄 반납")
+    class ReturnBooksTest {
+
+        private Loan overdueLoan;
+        private Book overdueBook;
+
+        @BeforeEach
+        void setUp() {
+            overdueBook = Book.builder().id(2L).title("Refactoring").author("Martin Fowler")
+                    .isbn(ISBN.of("9780134757599")).price(Money.of(new BigDecimal("50000")))
+                    .available(false).createdDate(LocalDateTime.now()).build();
+            overdueLoan = Loan.builder()
+                    .id(2L)
+                    .member(testMember)
+                    .book(overdueBook)
+                    .loanDate(LocalDateTime.now().minusDays(17))
+                    .dueDate(LocalDateTime.now().minusDays(3).minusHours(1))
+                    .status(LoanStatus.OVERDUE)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            testBook.loanOut();
+        }
+
+        @Test
+        @DisplayName("대여 id로 한 번에 조회해 같은 시각으로 반납하고, 반납할 수 없는 id는 건너뜀")
+        void returnBooks_대여id_반납및건너뜀() {
+            // Given
+            Loan returnedLoan = Loan.builder().id(3L).member(testMember).book(testBook)
+                    .loanDate(LocalDateTime.now().minusDays(20)).dueDate(LocalDateTime.now().minusDays(6))
+                    .createdDate(LocalDateTime.now()).build();
+            returnedLoan.returnBook(LocalDateTime.now());
+            given(loanRepository.findAllForReturnByIdIn(List.of(1L, 2L, 3L, 99L)))
+                    .willReturn(List.of(overdueLoan, returnedLoan, testLoan));
+            given(loanRepository.updateReturned(anyList())).willReturn(new boolean[]{true, true});
+
+            // When
+            BatchReturnResponse result = loanService.returnBooks(BatchReturnRequest.builder()
+                    .loanIds(List.of(1L, 2L, 3L, 99L)).build());
+
+            // Then
+            assertThat(result.getReturned()).extracting(LoanResponse::getId).containsExactly(1L, 2L);
+            assertThat(result.getReturned()).extracting(LoanResponse::getStatus).containsOnly(LoanStatus.RETURNED);
+            assertThat(result.getAlreadyReturnedLoanIds()).containsExactly(3L);
+            assertThat(result.getNotFoundLoanIds()).containsExactly(99L);
+            assertThat(result.getOverdueCount()).isEqualTo(1);
+            assertThat(result.getTotalOverdueFee()).isEqualByComparingTo("3000");
+            assertThat(testLoan.getReturnDate()).isEqualTo(overdueLoan.getReturnDate());
+            assertThat(testBook.getAvailable()).isTrue();
+            assertThat(overdueBook.getAvailable()).isTrue();
+
+            verify(bookRepository).markReturned(eq(List.of(1L, 2L)), eq(testLoan.getReturnDate()));
+            ArgumentCaptor<LoanReturnedEvent> events = ArgumentCaptor.forClass(LoanReturnedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).extracting(LoanReturnedEvent::getLoanId, LoanReturnedEvent::isWasOverdue)
+                    .containsExactly(tuple(1L, false), tuple(2L, true));
+            verify(loanRepository, never()).save(any(Loan.class));
+            verify(bookRepository, never()).save(any(Book.class));
+        }
+
+        @Test
+        @DisplayName("취소된 대여 id는 반납하지 않고 반납할 수 없는 대여로 돌려줌")
+        void returnBooks_취소된대여_반납불가() {
+            // Given
+            overdueLoan.cancel();
+            given(loanRepository.findAllForReturnByIdIn(List.of(2L))).willReturn(List.of(overdueLoan));
+            given(loanRepository.updateReturned(List.of())).willReturn(new boolean[0]);
+
+            // When
+            BatchReturnResponse result = loanService.returnBooks(BatchReturnRequest.builder()
+                    .loanIds(List.of(2L)).build());
+
+            // Then
+            assertThat(result.getReturned()).isEmpty();
+            assertThat(result.getNotReturnableLoanIds()).containsExactly(2L);
+            assertThat(result.getOverdueCount()).isZero();
+            assertThat(result.getTotalOverdueFee()).isEqualByComparingTo("0");
+            assertThat(overdueLoan.getStatus()).isEqualTo(LoanStatus.CANCELLED);
+            verify(bookRepository, never()).markReturned(any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("도서 id로 그 도서의 미반납 대여를 반납하고, 미반납 대여가 없는 도서는 건너뜀")
+        void returnBooks_도서id_미반납대여반납() {
+            // Given
+            given(loanRepository.findUnreturnedForReturnByBookIdIn(List.of(2L, 5L)))
+                    .willReturn(List.of(overdueLoan));
+            given(loanRepository.updateReturned(List.of(overdueLoan))).willReturn(new boolean[]{true});
+
+            // When
+            BatchReturnResponse result = loanService.returnBooks(BatchReturnRequest.builder()
+                    .bookIds(List.of(2L, 5L)).build());
+
+            // Then
+            assertThat(result.getReturned()).extracting(LoanResponse::getBookId).containsExactly(2L);
+            assertThat(result.getUnmatchedBookIds()).containsExactly(5L);
+            verify(loanRepository, never()).findAllForReturnByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("조회 후 다른 요청이 먼저 반납한 대여는 이미 반납된 대여로 돌려주고 이벤트를 발행하지 않음")
+        void returnBooks_동시반납_건너뜀() {
+            // Given
+            given(loanRepository.findAllForReturnByIdIn(List.of(1L, 2L))).willReturn(List.of(testLoan, overdueLoan));
+            given(loanRepository.updateReturned(anyList())).willReturn(new boolean[]{false, true});
+
+            // When
+            BatchReturnResponse result = loanService.returnBooks(BatchReturnRequest.builder()
+                    .loanIds(List.of(1L, 2L)).build());
+
+            // Then
+            assertThat(result.getReturned()).extracting(LoanResponse::getId).containsExactly(2L);
+            assertThat(result.getAlreadyReturnedLoanIds()).containsExactly(1L);
+            verify(bookRepository).markReturned(eq(List.of(2L)), any(LocalDateTime.class));
+            verify(eventPublisher, times(1)).publishEvent(any(LoanReturnedEvent.class));
+        }
+
+        @Test
+        @DisplayName("반납할 수 있는 대여가 없으면 도서 재고를 바꾸지 않음")
+        void returnBooks_반납대상없음_재고변경없음() {
+            // Given
+            given(loanRepository.findAllForReturnByIdIn(List.of(99L))).willReturn(List.of());
+            given(loanRepository.updateReturned(List.of())).willReturn(new boolean[0]);
+
+            // When
+            BatchReturnResponse result = loanService.returnBooks(BatchReturnRequest.builder()
+                    .loanIds(List.of(99L)).build());
+
+            // Then
+            assertThat(result.getReturned()).isEmpty();
+            assertThat(result.getNotFoundLoanIds()).containsExactly(99L);
+            verify(bookRepository, never()).markReturned(any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("대여 id와 도서 id가 모두 없으면 예외 발생")
+        void returnBooks_대상없음_예외발생() {
+            // When & Then
+            assertThatThrownBy(() -> loanService.returnBooks(BatchReturnRequest.builder().build()))
+                    .isInstanceOf(LoanException.InvalidLoanStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("대여 연장")
     class ExtendLoanTest {
@@ -557,12 +929,18 @@ class LoanServiceImplTest {
             given(loanRepository.findById(1L)).willReturn(Optional.of(loanNearDueDate));
             given(loanRepository.save(any(Loan.class))).willReturn(loanNearDueDate);
 
+            LocalDateTime previousDueDate = loanNearDueDate.getDueDate();
+
             // When
             LoanResponse result = loanService.extendLoan(1L, request);
 
             // Then
             assertThat(result).isNotNull();
             verify(loanRepository).save(any(Loan.class));
+            ArgumentCaptor<LoanExtendedEvent> event = ArgumentCaptor.forClass(LoanExtendedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousDueDate()).isEqualTo(previousDueDate);
+            assertThat(event.getValue().getDueDate()).isEqualTo(previousDueDate.plusDays(7));
         }
 
         @Test
@@ -642,6 +1020,7 @@ class LoanServiceImplTest {
             // Then
             verify(loanRepository).save(any(Loan.class));
             verify(bookRepository).save(any(Book.class));
+            verify(eventPublisher).publishEvent(any(BookChangedEvent.class));
         }
 
         @Test
@@ -664,8 +1043,7 @@ class LoanServiceImplTest {
         @DisplayName("회원 대여 가능")
         void canMemberLoan_정상회원_true반환() {
             // Given
-            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            givenEligibility(0, false, false);
 
             // When
             boolean result = loanService.canMemberLoan(1L);
@@ -678,16 +1056,20 @@ class LoanServiceImplTest {
         @DisplayName("회원 대여 불가 - 한도 초과")
         void canMemberLoan_한도초과_false반환() {
             // Given
-            List<Loan> existingLoans = List.of(
-                    Loan.builder().loanDate(LocalDateTime.now()).dueDate(LocalDateTime.now().plusDays(14)).build(),
-                    Loan.builder().loanDate(LocalDateTime.now()).dueDate(LocalDateTime.now().plusDays(14)).build(),
-                    Loan.builder().loanDate(LocalDateTime.now()).dueDate(LocalDateTime.now().plusDays(14)).build(),
-                    Loan.builder().loanDate(LocalDateTime.now()).dueDate(LocalDateTime.now().plusDays(14)).build(),
-                    Loan.builder().loanDate(LocalDateTime.now()).dueDate(LocalDateTime.now().plusDays(14)).build()
-            );
+            givenEligibility(5, false, false);
 
-            given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(existingLoans);
+            // When
+            boolean result = loanService.canMemberLoan(1L);
+
+            // Then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("회원 대여 불가 - 연체 중인 대여 존재")
+        void canMemberLoan_연체중_false반환() {
+            // Given
+            givenEligibility(1, true, false);
 
             // When
             boolean result = loanService.canMemberLoan(1L);
@@ -696,6 +1078,21 @@ class LoanServiceImplTest {
             assertThat(result).isFalse();
         }
 
+        @Test
+        @DisplayName("회원 대여 불가 - 존재하지 않는 회원")
+        void canMemberLoan_회원없음_false반환() {
+            // Given
+            given(loanRepository.findLoanEligibility(eq(99L), isNull(), any(LocalDateTime.class)))
+                    .willReturn(Optional.empty());
+
+            // When
+            boolean result = loanService.canMemberLoan(99L);
+
+            // Then
+            assertThat(result).isFalse();
+            then(memberRepository).shouldHaveNoInteractions();
+        }
+
         @Test
         @DisplayName("도서 대여 가능")
         void isBookAvailableForLoan_대여가능도서_true반환() {
@@ -723,6 +1120,22 @@ class LoanServiceImplTest {
             // Then
             assertThat(result).isFalse();
         }
+
+        @Test
+        @DisplayName("대여 가능 비트맵이 준비되었으면 DB 조회 없이 판단")
+        void isBookAvailableForLoan_비트맵준비됨_DB조회없음() {
+            // Given
+            given(bookAvailabilityIndex.isReady()).willReturn(true);
+            given(bookAvailabilityIndex.isAvailableForLoan(1L)).willReturn(true);
+
+            // When
+            boolean result = loanService.isBookAvailableForLoan(1L);
+
+            // Then
+            assertThat(result).isTrue();
+            then(bookRepository).shouldHaveNoInteractions();
+            then(loanRepository).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -788,6 +1201,26 @@ class LoanServiceImplTest {
             verify(loanRepository).findAll(any(Specification.class), eq(pageable));
         }
 
+        @Test
+        @DisplayName("검색 읽기 모델이 준비되면 고른 id 순서대로 대여를 읽어 응답")
+        void getAllLoansWithPagination_읽기모델_id순서유지() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 2, Sort.by("dueDate").descending());
+            given(loanSearchIndex.isReady()).willReturn(true);
+            given(loanSearchIndex.supports(pageable)).willReturn(true);
+            given(loanSearchIndex.search("홍길동", "ACTIVE", pageable))
+                    .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+            given(loanRepository.findByIdIn(List.of(2L, 1L))).willReturn(List.of(testLoan, testLoan2));
+
+            // When
+            Page<LoanResponse> result = loanService.getAllLoansWithPagination(pageable, "홍길동", "ACTIVE");
+
+            // Then
+            assertThat(result.getContent()).extracting(LoanResponse::getId).containsExactly(2L, 1L);
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            verify(loanRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
         @Test
         @DisplayName("도서명으로 검색")
         void getAllLoansWithPagination_도서명검색_성공() {
@@ -1101,4 +1534,17 @@ class LoanServiceImplTest {
             verify(loanRepository).findAll(any(Specification.class), eq(pageable));
         }
     }
+
+    /**
+     * 회원 1의 대여 가능 여부 조회 결과 (예외가 먼저 나면 쓰이지 않는 값이 있으므로 lenient)
+     */
+    private void givenEligibility(long activeLoanCount, boolean overdue, boolean bookLoaned) {
+        LoanRepository.LoanEligibility eligibility = mock(LoanRepository.LoanEligibility.class,
+                withSettings().strictness(Strictness.LENIENT));
+        given(eligibility.getActiveLoanCount()).willReturn(activeLoanCount);
+        given(eligibility.isOverdue()).willReturn(overdue);
+        given(eligibility.isBookLoaned()).willReturn(bookLoaned);
+        given(loanRepository.findLoanEligibility(eq(1L), any(), any(LocalDateTime.class)))
+                .willReturn(Optional.of(eligibility));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.example.spring.application.service;
+
+import com.example.spring.application.LoanService;
+import com.example.spring.application.dto.request.BatchReturnRequest;
+import com.example.spring.config.BookstoreConfig;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.repository.QueryCounter;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 목록 조회의 SQL 수가 결과 크기와 무관한지 검증
+ *
+ * 목록을 LoanResponse로 변환할 때 회원/도서를 읽으므로, 함께 조회하지 않으면 대여마다 지연 로딩 쿼리가 나갑니다(N+1).
+ * 대여를 늘리기 전후의 쿼리 수가 같아야 하며, 목록은 1회(페이지 조회는 개수 쿼리 포함 2회)여야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({LoanServiceImpl.class, BookstoreConfig.class})
+@DisplayName("대여 목록 조회 쿼리 수 테스트")
+class LoanServiceQueryCountTest {
+
+    private static final String MEMBER_NAME = "홍길동";
+    private static final String MEMBER_EMAIL = "hong@example.com";
+    private static final String BOOK_TITLE = "Clean Code";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanService loanService;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @MockitoBean
+    private LoanSearchIndex loanSearchIndex;
+
+    private QueryCounter queryCounter;
+    private Member member;
+    private Book popularBook;
+    private long serial;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager.getEntityManager());
+        member = persistMember(MEMBER_NAME, MEMBER_EMAIL);
+        popularBook = persistBook("인기 도서");
+        addLoans(2);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 대여 수와 관계없이 같은 수의 쿼리로 회원/도서까지 조회")
+    void 목록조회_대여증가_쿼리수일정() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().minusYears(1);
+        LocalDateTime to = LocalDateTime.now().plusYears(1);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("getAllLoans", () -> loanService.getAllLoans());
+        queries.put("getLoansByMemberId", () -> loanService.getLoansByMemberId(member.getId()));
+        queries.put("getLoansByBookId", () -> loanService.getLoansByBookId(popularBook.getId()));
+        queries.put("getActiveLoans", () -> loanService.getActiveLoans());
+        queries.put("getActiveLoansByMemberId", () -> loanService.getActiveLoansByMemberId(member.getId()));
+        queries.put("getOverdueLoans", () -> loanService.getOverdueLoans());
+        queries.put("getLoansByDateRange", () -> loanService.getLoansByDateRange(from, to));
+        queries.put("getLoansByMemberName", () -> loanService.getLoansByMemberName(MEMBER_NAME));
+        queries.put("getLoansByBookTitle", () -> loanService.getLoansByBookTitle(BOOK_TITLE));
+        queries.put("getOverdueLoansByMemberEmail", () -> loanService.getOverdueLoansByMemberEmail(MEMBER_EMAIL));
+        queries.put("getAllLoansWithDetails", () -> loanService.getAllLoansWithDetails());
+        queries.put("getOverdueLoansWithMemberInfo", () -> loanService.getOverdueLoansWithMemberInfo());
+        queries.put("getMyLoans", () -> loanService.getMyLoans(member.getId(), "ALL"));
+        queries.put("getAllLoansWithPagination", () ->
+                loanService.getAllLoansWithPagination(PageRequest.of(0, 2), "clean", "OVERDUE"));
+
+        // When
+        Map<String, Long> counts = queryCounter.assertQueryCountIndependentOfResultSize(queries, () -> addLoans(5));
+
+        // Then
+        counts.forEach((name, count) -> assertThat(count)
+                .as(name)
+                .isEqualTo(name.equals("getAllLoansWithPagination") ? 2 : 1));
+        assertThat(loanService.getLoansByMemberId(member.getId())).hasSize(7)
+                .allSatisfy(loan -> assertThat(loan.getBookTitle()).isEqualTo(BOOK_TITLE));
+        assertThat(loanService.getLoansByBookId(popularBook.getId())).hasSize(7)
+                .allSatisfy(loan -> assertThat(loan.getMemberName()).isEqualTo("회원"));
+    }
+
+    @Test
+    @DisplayName("일괄 반납은 반납 건수와 관계없이 같은 수의 쿼리로 처리하고 읽은 엔티티를 다시 저장하지 않음")
+    void 일괄반납_반납건수증가_쿼리수일정() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        List<Loan> firstLoans = unreturnedLoans();
+
+        // When - 대여 id 2건을 반납한 뒤, 연체 대여 5건을 더 만들어 도서 id로 반납
+        long firstCount = queryCounter.count(() -> loanService.returnBooks(BatchReturnRequest.builder()
+                .loanIds(firstLoans.stream().map(Loan::getId).toList()).build()));
+        addLoans(5);
+        List<Loan> secondLoans = unreturnedLoans();
+        long secondCount = queryCounter.count(() -> loanService.returnBooks(BatchReturnRequest.builder()
+                .bookIds(secondLoans.stream().map(loan -> loan.getBook().getId()).toList()).build()));
+
+        // Then - 대여 조회와 도서 재고 UPDATE만 Hibernate로 나가고 대여 반납은 JDBC 배치
+        assertThat(firstLoans).hasSize(2);
+        assertThat(secondLoans).hasSize(5);
+        assertThat(firstCount).isEqualTo(2);
+        assertThat(secondCount).isEqualTo(firstCount);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        entityManager.clear();
+        assertThat(unreturnedLoans()).isEmpty();
+        assertThat(loanService.getLoansByMemberId(member.getId())).hasSize(7).allSatisfy(loan -> {
+            assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
+            assertThat(loan.getOverdueFee()).isEqualByComparingTo("1000");
+        });
+    }
+
+    private List<Loan> unreturnedLoans() {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT l FROM Loan l JOIN FETCH l.book WHERE l.returnDate IS NULL", Loan.class)
+                .getResultList();
+    }
+
+    /**
+     * 회원은 서로 다른 도서를 count권 연체 중이고, 인기 도서는 서로 다른 회원 count명이 대여 후 반납
+     */
+    private void addLoans(int count) {
+        for (int i = 0; i < count; i++) {
+            Loan overdue = loan(member, persistBook(BOOK_TITLE), LocalDateTime.now().minusDays(1));
+            overdue.changeStatus(LoanStatus.OVERDUE);
+            entityManager.persist(overdue);
+
+            Loan returned = loan(persistMember("회원", "member" + serial + "@example.com"), popularBook,
+                    LocalDateTime.now().minusDays(20));
+            returned.returnBook(LocalDateTime.now());
+            entityManager.persist(returned);
+        }
+        entityManager.flush();
+    }
+
+    private Member persistMember(String name, String email) {
+        return entityManager.persist(Member.builder()
+                .name(name)
+                .email(email)
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build());
+    }
+
+    private Book persistBook(String title) {
+        return entityManager.persist(Book.builder()
+                .title(title)
+                .author("저자")
+                .isbn(ISBN.of(TestIsbns.isbn13(++serial)))
+                .price(Money.of(new BigDecimal("20000")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build());
+    }
+
+    private Loan loan(Member borrower, Book book, LocalDateTime dueDate) {
+        return Loan.builder()
+                .member(borrower)
+                .book(book)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+}
\ No newline at end of file
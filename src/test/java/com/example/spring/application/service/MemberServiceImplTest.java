@@ -8,12 +8,14 @@ import com.example.spring.domain.model.Member;
 import com.example.spring.domain.model.MembershipType;
 import com.example.spring.domain.model.Role;
 import com.example.spring.domain.event.MemberRegisteredEvent;
+import com.example.spring.domain.event.MemberUpdatedEvent;
 import com.example.spring.domain.event.MembershipUpgradedEvent;
 import com.example.spring.exception.MemberException;
 import com.example.spring.exception.MembershipUpgradeException;
 import com.example.spring.domain.repository.LoanRepository;
 import com.example.spring.domain.repository.MemberRepository;
 import com.example.spring.application.service.MemberServiceImpl;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -28,6 +31,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +56,12 @@ class MemberServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private ExistenceFilter existenceFilter;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -62,6 +72,9 @@ class MemberServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // 존재 필터는 기본적으로 '있을 수 있음'으로 답해 DB 조회 결과를 그대로 사용
+        given(existenceFilter.mightContainEmail(any())).willReturn(true);
+
         testMember = Member.builder()
                 .id(1L)
                 .name("홍길동")
@@ -239,6 +252,7 @@ class MemberServiceImplTest {
             verify(memberRepository).findById(1L);
             verify(memberRepository).existsByEmail(updateRequest.getEmail());
             verify(memberRepository).save(any(Member.class));
+            verify(eventPublisher).publishEvent(any(MemberUpdatedEvent.class));
         }
 
         @Test
@@ -408,6 +422,20 @@ class MemberServiceImplTest {
             assertThat(result).isFalse();
             verify(memberRepository).existsByEmail("existing@example.com");
         }
+
+        @Test
+        @DisplayName("존재 필터가 없는 이메일로 판단하면 DB 조회 생략")
+        void validateEmailDuplicate_존재필터없음_DB조회생략() {
+            // given
+            given(existenceFilter.mightContainEmail("new@example.com")).willReturn(false);
+
+            // when
+            boolean result = memberService.validateEmailDuplicate("new@example.com");
+
+            // then
+            assertThat(result).isTrue();
+            verify(memberRepository, never()).existsByEmail(any());
+        }
     }
 
     @Nested
@@ -418,8 +446,10 @@ class MemberServiceImplTest {
         @DisplayName("REGULAR 회원 대여 제한 정보 조회")
         void getMemberLoanLimitInfo_RegularMember_Success() {
             // given
+            LoanRepository.LoanEligibility eligibility = eligibility(2);
             given(memberRepository.findById(1L)).willReturn(Optional.of(testMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(1L)).willReturn(List.of());
+            given(loanRepository.findLoanEligibility(eq(1L), isNull(), any(LocalDateTime.class)))
+                    .willReturn(Optional.of(eligibility));
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(1L);
@@ -430,12 +460,12 @@ class MemberServiceImplTest {
             assertThat(info.getMemberName()).isEqualTo("홍길동");
             assertThat(info.getMembershipType()).isEqualTo(MembershipType.REGULAR);
             assertThat(info.getMaxLoanCount()).isEqualTo(5);
-            assertThat(info.getCurrentLoanCount()).isEqualTo(0);
-            assertThat(info.getRemainingLoanCount()).isEqualTo(5);
+            assertThat(info.getCurrentLoanCount()).isEqualTo(2);
+            assertThat(info.getRemainingLoanCount()).isEqualTo(3);
             assertThat(info.isCanLoan()).isTrue();
 
             verify(memberRepository).findById(1L);
-            verify(loanRepository).findByMemberIdAndReturnDateIsNull(1L);
+            verify(loanRepository, never()).findByMemberIdAndReturnDateIsNull(any());
         }
 
         @Test
@@ -453,7 +483,8 @@ class MemberServiceImplTest {
                     .build();
 
             given(memberRepository.findById(2L)).willReturn(Optional.of(premiumMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(2L)).willReturn(List.of());
+            given(loanRepository.findLoanEligibility(eq(2L), isNull(), any(LocalDateTime.class)))
+                    .willReturn(Optional.empty());
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(2L);
@@ -480,7 +511,8 @@ class MemberServiceImplTest {
                     .build();
 
             given(memberRepository.findById(3L)).willReturn(Optional.of(suspendedMember));
-            given(loanRepository.findByMemberIdAndReturnDateIsNull(3L)).willReturn(List.of());
+            given(loanRepository.findLoanEligibility(eq(3L), isNull(), any(LocalDateTime.class)))
+                    .willReturn(Optional.empty());
 
             // when
             MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(3L);
@@ -554,4 +586,10 @@ class MemberServiceImplTest {
             verify(memberRepository, never()).save(any(Member.class));
         }
     }
+
+    private static LoanRepository.LoanEligibility eligibility(long activeLoanCount) {
+        LoanRepository.LoanEligibility eligibility = mock(LoanRepository.LoanEligibility.class);
+        given(eligibility.getActiveLoanCount()).willReturn(activeLoanCount);
+        return eligibility;
+    }
 }
\ No newline at end of file
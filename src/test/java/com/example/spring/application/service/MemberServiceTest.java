@@ -14,23 +14,29 @@ import com.example.spring.exception.MembershipUpgradeException;
 import com.example.spring.domain.repository.LoanRepository;
 import com.example.spring.domain.repository.MemberRepository;
 import com.example.spring.application.service.MemberServiceImpl;
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.List;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -53,9 +59,21 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private ExistenceFilter existenceFilter;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
+    @BeforeEach
+    void setUp() {
+        // 존재 필터는 기본적으로 '있을 수 있음'으로 답해 DB 조회 결과를 그대로 사용
+        given(existenceFilter.mightContainEmail(any())).willReturn(true);
+    }
+
     @Test
     @DisplayName("회원 생성 - 성공")
     void createMember_성공() {
@@ -296,7 +314,8 @@ class MemberServiceTest {
                 .build();
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(loanRepository.findByMemberIdAndReturnDateIsNull(memberId)).willReturn(List.of()); // 대여 중인 도서 없음
+        given(loanRepository.findLoanEligibility(eq(memberId), isNull(), any(LocalDateTime.class)))
+                .willReturn(Optional.empty()); // 대여 중인 도서 없음
 
         // When
         MemberLoanLimitInfo info = memberService.getMemberLoanLimitInfo(memberId);
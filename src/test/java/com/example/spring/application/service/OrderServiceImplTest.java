@@ -6,6 +6,7 @@ import com.example.spring.application.dto.request.OrderItemRequest;
 import com.example.spring.application.dto.request.PaymentRequest;
 import com.example.spring.application.dto.response.OrderResponse;
 import com.example.spring.domain.model.*;
+import com.example.spring.domain.vo.TestIsbns;
 import com.example.spring.exception.BookException;
 import com.example.spring.exception.OrderException;
 import com.example.spring.domain.repository.*;
@@ -310,7 +311,7 @@ class OrderServiceImplTest {
                 .id(id)
                 .title(title)
                 .author("테스트 저자")
-                .isbn(ISBN.of("978" + String.format("%010d", id)))
+                .isbn(ISBN.of(TestIsbns.isbn13(id)))
                 .price(Money.of(price))
                 .available(true)
                 .build();
@@ -0,0 +1,256 @@
+package com.example.spring.application.service;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.JobCheckpoint;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import com.example.spring.infrastructure.search.LoanSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 연체 스윕은 청크마다 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import(LoanSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OverdueLoanSweeper 테스트")
+class OverdueLoanSweeperTest {
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LoanSearchIndex loanSearchIndex;
+
+    private OverdueLoanSweeper sweeper;
+    private Member member;
+    private long bookSerial;
+
+    @BeforeEach
+    void setUp() {
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getOverdueSweep().setChunkSize(2);
+        sweeper = new OverdueLoanSweeper(loanRepository, jobCheckpointRepository, transactionTemplate, eventPublisher,
+                properties, Clock.systemDefaultZone());
+        member = memberRepository.save(Member.builder()
+                .name("회원")
+                .email("hong@example.com")
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobCheckpointRepository.deleteAll();
+        loanRepository.deleteAll();
+        bookRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("상태/연체료 갱신 테스트")
+    class SweepTest {
+
+        @Test
+        @DisplayName("반납 예정일이 지난 미반납 대여만 연체 상태와 연체 일수만큼의 연체료로 갱신")
+        void sweep_연체대여_상태와연체료갱신() {
+            // Given
+            Loan threeDays = saveLoan(LocalDateTime.now().minusDays(3).minusHours(1));
+            Loan oneDay = saveLoan(LocalDateTime.now().minusDays(1).minusHours(1));
+            Loan sameDay = saveLoan(LocalDateTime.now().minusHours(1));
+            Loan notDue = saveLoan(LocalDateTime.now().plusDays(7));
+            Loan returned = saveLoan(LocalDateTime.now().minusDays(5), loan -> loan.returnBook(LocalDateTime.now()));
+            Loan cancelled = saveLoan(LocalDateTime.now().minusDays(5), Loan::cancel);
+
+            // When
+            OverdueLoanSweeper.SweepResult result = sweeper.sweep();
+
+            // Then
+            assertThat(result.isSkipped()).isFalse();
+            assertThat(result.getScannedLoans()).isEqualTo(3);
+            assertThat(result.getUpdatedLoans()).isEqualTo(3);
+            assertThat(result.getChunks()).isEqualTo(2);
+            assertOverdue(threeDays, "3000");
+            assertOverdue(oneDay, "1000");
+            assertOverdue(sameDay, "0");
+            assertThat(reload(notDue).getStatus()).isEqualTo(LoanStatus.ACTIVE);
+            assertThat(reload(returned).getStatus()).isEqualTo(LoanStatus.RETURNED);
+            assertThat(reload(cancelled).getStatus()).isEqualTo(LoanStatus.CANCELLED);
+            assertThat(loanRepository.findOverdueLoansWithMember(LoanStatus.OVERDUE)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("이미 최신 상태인 대여는 다시 쓰지 않고, 실행을 마치면 진행 위치를 비움")
+        void sweep_재실행_변경없음() {
+            // Given
+            saveLoan(LocalDateTime.now().minusDays(2).minusHours(1));
+            sweeper.sweep();
+
+            // When
+            OverdueLoanSweeper.SweepResult result = sweeper.sweep();
+
+            // Then
+            assertThat(result.getScannedLoans()).isEqualTo(1);
+            assertThat(result.getUpdatedLoans()).isZero();
+            JobCheckpoint checkpoint = jobCheckpointRepository.findById(OverdueLoanSweeper.JOB_NAME).orElseThrow();
+            assertThat(checkpoint.isInProgress()).isFalse();
+            assertThat(checkpoint.getOwner()).isNull();
+            assertThat(checkpoint.getLastCompletedAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("관리자 검색 반영 테스트")
+    class SearchIndexTest {
+
+        @Test
+        @DisplayName("스윕이 연체로 바꾼 대여는 커밋 후 관리자 검색의 연체 상태 필터에 나타남")
+        void sweep_연체전환_관리자검색연체필터반영() {
+            // Given
+            Loan overdue = saveLoan(LocalDateTime.now().minusDays(2).minusHours(1));
+            Loan notDue = saveLoan(LocalDateTime.now().plusDays(7));
+            loanSearchIndex.rebuild();
+            assertThat(loanSearchIndex.search(null, "OVERDUE", PageRequest.of(0, 10)).getContent()).isEmpty();
+
+            // When
+            sweeper.sweep();
+
+            // Then
+            assertThat(loanSearchIndex.search(null, "OVERDUE", PageRequest.of(0, 10)).getContent())
+                    .containsExactly(overdue.getId());
+            assertThat(loanSearchIndex.search(null, "ACTIVE", PageRequest.of(0, 10)).getContent())
+                    .containsExactly(notDue.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("점유/재개 테스트")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("다른 노드가 점유 중이면 실행하지 않음")
+        void sweep_다른노드점유중_건너뜀() {
+            // Given
+            Loan overdue = saveLoan(LocalDateTime.now().minusDays(2));
+            jobCheckpointRepository.save(new JobCheckpoint(OverdueLoanSweeper.JOB_NAME));
+            acquire("other-node", LocalDateTime.now().plusMinutes(5));
+
+            // When
+            OverdueLoanSweeper.SweepResult result = sweeper.sweep();
+
+            // Then
+            assertThat(result.isSkipped()).isTrue();
+            assertThat(reload(overdue).getStatus()).isEqualTo(LoanStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("점유가 만료된 중단 실행은 같은 기준 시각으로 마지막 커밋된 청크 다음부터 이어서 처리")
+        void sweep_만료된점유_이어서처리() {
+            // Given - other-node가 첫 대여까지 처리하고 중단
+            LocalDateTime cutoff = LocalDateTime.now();
+            Loan processed = saveLoan(cutoff.minusDays(3));
+            Loan remaining = saveLoan(cutoff.minusDays(2));
+            jobCheckpointRepository.save(new JobCheckpoint(OverdueLoanSweeper.JOB_NAME));
+            acquire("other-node", cutoff.minusMinutes(1));
+            transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.advance(
+                    OverdueLoanSweeper.JOB_NAME, "other-node", cutoff, processed.getDueDate(), processed.getId(),
+                    1, cutoff.minusMinutes(1)));
+
+            // When
+            OverdueLoanSweeper.SweepResult result = sweeper.sweep();
+
+            // Then
+            assertThat(result.isResumed()).isTrue();
+            assertThat(result.getScannedLoans()).isEqualTo(1);
+            assertThat(reload(processed).getStatus()).isEqualTo(LoanStatus.ACTIVE);
+            assertOverdue(remaining, "2000");
+        }
+    }
+
+    private void acquire(String owner, LocalDateTime leaseUntil) {
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.tryAcquire(
+                OverdueLoanSweeper.JOB_NAME, owner, LocalDateTime.now(), leaseUntil));
+    }
+
+    private void assertOverdue(Loan loan, String fee) {
+        Loan reloaded = reload(loan);
+        assertThat(reloaded.getStatus()).isEqualTo(LoanStatus.OVERDUE);
+        assertThat(reloaded.getOverdueFeeAmount()).isEqualByComparingTo(fee);
+    }
+
+    private Loan reload(Loan loan) {
+        return loanRepository.findById(loan.getId()).orElseThrow();
+    }
+
+    private Loan saveLoan(LocalDateTime dueDate) {
+        return saveLoan(dueDate, loan -> { });
+    }
+
+    private Loan saveLoan(LocalDateTime dueDate, Consumer<Loan> change) {
+        Book book = bookRepository.save(Book.builder()
+                .title("도서 " + ++bookSerial)
+                .author("저자")
+                .isbn(ISBN.of(TestIsbns.isbn13(bookSerial)))
+                .price(Money.of(new BigDecimal("20000")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build());
+        Loan loan = Loan.builder()
+                .member(member)
+                .book(book)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .createdDate(LocalDateTime.now())
+                .build();
+        change.accept(loan);
+        return loanRepository.save(loan);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.example.spring.application.service;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대여 엔티티마다 updateStatus(now) vs 청크 단위 일괄 UPDATE 연체 스윕 처리량 비교
+ *
+ * 미반납 대여의 90%가 최근 60일 안에 연체된 상태에서 측정합니다.
+ * 엔티티 방식은 한 트랜잭션에서 전부 읽고 바꾸므로 표본(naiveLoans)으로만 측정합니다.
+ * 스윕은 모든 연체 대여를 처음 갱신하는 실행(first)과, 이미 최신이라 읽기만 하는 다음 주기 실행(steady)을 측정합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=OverdueSweepBenchmarkTest -Dbenchmark.loans=1000000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "logging.level.com.example.spring=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("연체 스윕 처리량 측정")
+class OverdueSweepBenchmarkTest {
+
+    private static final int LOANS = Integer.getInteger("benchmark.loans", 1_000_000);
+    private static final int NAIVE_LOANS = Integer.getInteger("benchmark.naiveLoans", 50_000);
+    private static final int BOOKS = 1_000;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM job_checkpoint");
+        jdbcTemplate.execute("TRUNCATE TABLE loan");
+        jdbcTemplate.execute("DELETE FROM book");
+        jdbcTemplate.execute("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("일괄 UPDATE 스윕은 엔티티 방식보다 초당 처리 대여 수가 많고 모든 연체 대여를 갱신")
+    void sweep_처리량비교() {
+        LocalDateTime now = LocalDateTime.now();
+        long memberId = memberRepository.save(Member.builder()
+                .name("회원")
+                .email("bench@example.com")
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(now)
+                .build()).getId();
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(Book.builder()
+                    .title("Book " + i)
+                    .author("Author")
+                    .isbn(ISBN.of(TestIsbns.isbn13(i)))
+                    .price(Money.of(new BigDecimal("10000")))
+                    .available(false)
+                    .createdDate(now)
+                    .build());
+        }
+        long firstBookId = bookRepository.insertAll(books).get(0).getId();
+
+        // 엔티티 방식 - 미반납 대여를 모두 읽어 updateStatus(now) 후 변경 감지로 UPDATE
+        insertLoans(memberId, firstBookId, NAIVE_LOANS, now);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                loanRepository.findByReturnDateIsNull().forEach(loan -> loan.updateStatus(now)));
+        double naiveRate = NAIVE_LOANS / ((System.nanoTime() - start) / 1e9);
+        jdbcTemplate.execute("TRUNCATE TABLE loan");
+
+        insertLoans(memberId, firstBookId, LOANS, now);
+        BookstoreProperties properties = new BookstoreProperties();
+        OverdueLoanSweeper sweeper =
+                new OverdueLoanSweeper(loanRepository, jobCheckpointRepository, transactionTemplate,
+                        mock(ApplicationEventPublisher.class), properties, Clock.systemDefaultZone());
+        OverdueLoanSweeper.SweepResult result = sweeper.sweep();
+        // 다음 주기 - 연체 일수가 바뀐 대여만 다시 씀 (여기서는 없음)
+        OverdueLoanSweeper.SweepResult steady = sweeper.sweep();
+
+        long overdue = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM loan WHERE status = ?", Long.class, LoanStatus.OVERDUE.name());
+        long expectedOverdue = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM loan WHERE return_date IS NULL AND due_date < ?", Long.class,
+                Timestamp.valueOf(now));
+
+        Benchmarks.printTitle("연체 스윕", "loans=%d (연체 %d), chunkSize=%d",
+                LOANS, overdue, properties.getOverdueSweep().getChunkSize());
+        Benchmarks.printRow("", "loans/sec", "updated", "elapsed(ms)", "max chunk tx(ms)");
+        Benchmarks.printRow("per-entity", naiveRate, "-", "-", "-");
+        print("bulk sweep (first)", result);
+        print("bulk sweep (steady)", steady);
+
+        assertThat(overdue).isEqualTo(expectedOverdue);
+        assertThat(result.getUpdatedLoans()).isEqualTo(expectedOverdue);
+        assertThat(steady.getScannedLoans()).isEqualTo(expectedOverdue);
+        assertThat(steady.getUpdatedLoans()).isZero();
+        assertThat(rate(result)).isGreaterThan(naiveRate);
+    }
+
+    private static double rate(OverdueLoanSweeper.SweepResult result) {
+        return result.getScannedLoans() / (Math.max(1, result.getElapsedMillis()) / 1e3);
+    }
+
+    private static void print(String label, OverdueLoanSweeper.SweepResult result) {
+        Benchmarks.printRow(label, rate(result), result.getUpdatedLoans(),
+                result.getElapsedMillis(), result.getMaxChunkMillis());
+    }
+
+    /**
+     * 반납 예정일: 90%는 지난 60일 안, 10%는 앞으로 15일 안
+     */
+    private void insertLoans(long memberId, long firstBookId, int count, LocalDateTime now) {
+        for (int from = 0; from < count; from += INSERT_BATCH) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < Math.min(count, from + INSERT_BATCH); i++) {
+                // 연체 대여는 하루 경계에서 1~12시간 떨어뜨려 측정 중 연체 일수가 바뀌지 않게 함
+                LocalDateTime dueDate = i % 10 == 0
+                        ? now.plusDays(1 + i % 14).plusMinutes(i % 60)
+                        : now.minusDays(i % 60).minusHours(1 + i % 12).minusMinutes(i % 60);
+                rows.add(new Object[]{memberId, firstBookId + i % BOOKS, Timestamp.valueOf(dueDate.minusDays(14)),
+                        Timestamp.valueOf(dueDate), Timestamp.valueOf(now)});
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO loan (member_id, book_id, loan_date, due_date, status, overdue_fee,
+                                      overdue_fee_currency, extension_count, created_date)
+                    VALUES (?, ?, ?, ?, 'ACTIVE', 0, 'KRW', 0, ?)
+                    """, rows);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.example.spring.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheConfig 테스트")
+class CacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        BookstoreProperties properties = new BookstoreProperties();
+        properties.getCache().setBooks(new BookstoreProperties.Cache.Spec(100, Duration.ofMinutes(10), null));
+        cacheManager = new CacheConfig().cacheManager(properties);
+    }
+
+    @Test
+    @DisplayName("books/members 캐시는 설정한 크기로 제한되고 통계를 기록")
+    void cacheManager_캐시별설정_통계기록() {
+        // Given
+        Cache<Object, Object> books = nativeCache(CacheConfig.BOOKS);
+
+        // When
+        books.put(1L, "Clean Code");
+        books.getIfPresent(1L);
+        books.getIfPresent(2L);
+
+        // Then
+        assertThat(cacheManager.getCacheNames()).contains(CacheConfig.BOOKS, CacheConfig.MEMBERS);
+        assertThat(books.policy().eviction().orElseThrow().getMaximum()).isEqualTo(100);
+        assertThat(nativeCache(CacheConfig.MEMBERS).policy().eviction().orElseThrow().getMaximum()).isEqualTo(5_000);
+        assertThat(books.stats().hitCount()).isEqualTo(1);
+        assertThat(books.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번씩만 조회되는 대량 스캔이 들어와도 자주 조회된 항목은 상당수 유지")
+    void cacheManager_빈도기반진입_스캔저항() {
+        // Given - 빈도 스케치는 캐시가 어느 정도 찬 뒤부터 동작하므로 인기 항목으로 절반을 채움
+        Cache<Object, Object> books = nativeCache(CacheConfig.BOOKS);
+        for (long id = 1; id <= 50; id++) {
+            books.put(-id, "hot " + id);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= 50; id++) {
+                books.getIfPresent(-id);
+            }
+            books.cleanUp();
+        }
+
+        // When
+        for (long id = 1; id <= 500; id++) {
+            books.put(id, "cold " + id);
+            books.cleanUp();
+        }
+
+        // Then - LRU였다면 인기 항목이 모두 밀려남
+        long retained = LongStream.rangeClosed(1, 50)
+                .filter(id -> books.getIfPresent(-id) != null)
+                .count();
+        assertThat(retained).isGreaterThanOrEqualTo(20);
+        assertThat(books.estimatedSize()).isLessThanOrEqualTo(100);
+        assertThat(books.stats().evictionCount()).isGreaterThanOrEqualTo(400);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+}
\ No newline at end of file
@@ -85,7 +85,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -107,7 +107,7 @@ class BookTest {
             Book book = Book.builder()
                     .title(null)
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -127,7 +127,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -147,7 +147,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author(null)
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -197,7 +197,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -233,7 +233,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price((Money) null)
                     .build();
 
@@ -254,7 +254,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(negativePrice)
                     .build();
 
@@ -270,7 +270,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.zero())
                     .build();
 
@@ -293,7 +293,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -310,7 +310,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -330,7 +330,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
             book.markAsDeleted();
@@ -351,7 +351,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -378,7 +378,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(LocalDateTime.now())
                     .updatedDate(LocalDateTime.now())
@@ -397,7 +397,7 @@ class BookTest {
             Book book = Book.builder()
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(initialCreatedDate)
                     .build();
@@ -422,7 +422,7 @@ class BookTest {
                     .id(1L)
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -430,7 +430,7 @@ class BookTest {
                     .id(1L)
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -447,7 +447,7 @@ class BookTest {
                     .id(1L)
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
@@ -455,7 +455,7 @@ class BookTest {
                     .id(2L)
                     .title("Test Book")
                     .author("Test Author")
-                    .isbn(ISBN.of("9781234567890"))
+                    .isbn(ISBN.of("9781234567897"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .build();
 
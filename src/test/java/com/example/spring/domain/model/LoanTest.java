@@ -231,7 +231,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.isOverdue()).isFalse();
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).isOverdue()).isFalse();
         }
 
         @Test
@@ -246,7 +246,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.isOverdue()).isTrue();
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).isOverdue()).isTrue();
         }
 
         @Test
@@ -262,7 +262,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.isOverdue()).isFalse();
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).isOverdue()).isFalse();
         }
 
         @Test
@@ -278,7 +278,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.isOverdue()).isFalse();
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).isOverdue()).isFalse();
         }
     }
 
@@ -298,7 +298,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.getOverdueDays()).isEqualTo(0);
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).getOverdueDays()).isEqualTo(0);
         }
 
         @Test
@@ -314,7 +314,7 @@ class LoanTest {
                     .build();
 
             // when
-            long overdueDays = loan.getOverdueDays();
+            long overdueDays = loan.dueStatusAt(LocalDateTime.now()).getOverdueDays();
 
             // then
             assertThat(overdueDays).isGreaterThanOrEqualTo(4);
@@ -334,7 +334,68 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThat(loan.getOverdueDays()).isEqualTo(0);
+            assertThat(loan.dueStatusAt(LocalDateTime.now()).getOverdueDays()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("기준 시각 반납 예정일 상태 테스트")
+    class DueStatusAtTest {
+
+        private final LocalDateTime dueDate = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+        private Loan loan(LocalDateTime returnDate) {
+            return Loan.builder()
+                    .member(testMember)
+                    .book(testBook)
+                    .loanDate(dueDate.minusDays(14))
+                    .dueDate(dueDate)
+                    .returnDate(returnDate)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("반납 예정일 전 - 남은 일수와 연장 가능 여부를 같은 시각으로 계산")
+        void dueStatusAt_반납예정일전_남은일수와연장가능여부() {
+            // when
+            Loan.DueStatus farAway = loan(null).dueStatusAt(dueDate.minusDays(5));
+            Loan.DueStatus withinWindow = loan(null).dueStatusAt(dueDate.minusDays(3).minusMinutes(1));
+
+            // then
+            assertThat(farAway.isOverdue()).isFalse();
+            assertThat(farAway.getDaysUntilDue()).isEqualTo(5);
+            assertThat(farAway.isCanExtendNow()).isFalse();
+            assertThat(withinWindow.getDaysUntilDue()).isEqualTo(3);
+            assertThat(withinWindow.isCanExtendNow()).isTrue();
+            assertThat(withinWindow.getOverdueDays()).isZero();
+        }
+
+        @Test
+        @DisplayName("자정을 넘긴 직후 - 연체이면 연체 일수만 있고 남은 일수와 연장 가능 여부는 없음")
+        void dueStatusAt_자정직후_연체() {
+            // when
+            Loan.DueStatus justOverdue = loan(null).dueStatusAt(dueDate.plusNanos(1));
+            Loan.DueStatus twoDaysLate = loan(null).dueStatusAt(dueDate.plusDays(2).plusHours(1));
+
+            // then
+            assertThat(justOverdue.isOverdue()).isTrue();
+            assertThat(justOverdue.getOverdueDays()).isZero();
+            assertThat(justOverdue.getDaysUntilDue()).isZero();
+            assertThat(justOverdue.isCanExtendNow()).isFalse();
+            assertThat(twoDaysLate.getOverdueDays()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("반납된 대여 - 기준 시각과 관계없이 모두 기본값")
+        void dueStatusAt_반납됨_기본값() {
+            // when
+            Loan.DueStatus status = loan(dueDate.minusDays(1)).dueStatusAt(dueDate.plusDays(10));
+
+            // then
+            assertThat(status.isOverdue()).isFalse();
+            assertThat(status.getOverdueDays()).isZero();
+            assertThat(status.getDaysUntilDue()).isZero();
+            assertThat(status.isCanExtendNow()).isFalse();
         }
     }
 
@@ -354,7 +415,7 @@ class LoanTest {
                     .build();
 
             // when
-            Money fee = loan.calculateOverdueFee();
+            Money fee = loan.calculateOverdueFee(LocalDateTime.now());
 
             // then
             assertThat(fee).isEqualTo(Money.zero());
@@ -373,7 +434,7 @@ class LoanTest {
                     .build();
 
             // when
-            Money fee = loan.calculateOverdueFee();
+            Money fee = loan.calculateOverdueFee(LocalDateTime.now());
 
             // then - 4일 ~ 5일 사이의 연체료 (4000 ~ 5000원)
             assertThat(fee.getAmount()).isGreaterThanOrEqualTo(new BigDecimal("4000"));
@@ -393,7 +454,7 @@ class LoanTest {
                     .build();
 
             // when
-            Money fee = loan.calculateOverdueFee();
+            Money fee = loan.calculateOverdueFee(LocalDateTime.now());
 
             // then - 0일 ~ 1일 사이의 연체료 (0 ~ 1000원)
             assertThat(fee.getAmount()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
@@ -413,7 +474,7 @@ class LoanTest {
                     .build();
 
             // when
-            Money fee = loan.calculateOverdueFee();
+            Money fee = loan.calculateOverdueFee(LocalDateTime.now());
 
             // then
             assertThat(fee).isEqualTo(Money.zero());
@@ -436,7 +497,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.returnBook();
+            loan.returnBook(LocalDateTime.now());
 
             // then
             assertThat(loan.getReturnDate()).isNotNull();
@@ -457,7 +518,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.returnBook();
+            loan.returnBook(LocalDateTime.now());
 
             // then
             assertThat(loan.getReturnDate()).isNotNull();
@@ -479,7 +540,7 @@ class LoanTest {
             LocalDateTime beforeReturn = LocalDateTime.now();
 
             // when
-            loan.returnBook();
+            loan.returnBook(LocalDateTime.now());
 
             // then
             LocalDateTime afterReturn = LocalDateTime.now();
@@ -504,7 +565,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.extendLoan(7);
+            loan.extendLoan(7, Integer.MAX_VALUE, LocalDateTime.now());
 
             // then
             assertThat(loan.getDueDate()).isEqualTo(originalDueDate.plusDays(7));
@@ -523,7 +584,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThatThrownBy(() -> loan.extendLoan(7))
+            assertThatThrownBy(() -> loan.extendLoan(7, Integer.MAX_VALUE, LocalDateTime.now()))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("이미 반납된 대여는 연장할 수 없습니다");
         }
@@ -540,7 +601,7 @@ class LoanTest {
                     .build();
 
             // when & then
-            assertThatThrownBy(() -> loan.extendLoan(7))
+            assertThatThrownBy(() -> loan.extendLoan(7, Integer.MAX_VALUE, LocalDateTime.now()))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("연체된 대여는 연장할 수 없습니다");
         }
@@ -558,7 +619,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.extendLoan(14);
+            loan.extendLoan(14, Integer.MAX_VALUE, LocalDateTime.now());
 
             // then
             assertThat(loan.getDueDate()).isEqualTo(originalDueDate.plusDays(14));
@@ -641,7 +702,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.updateStatus();
+            loan.updateStatus(LocalDateTime.now());
 
             // then
             assertThat(loan.getStatus()).isEqualTo(LoanStatus.ACTIVE);
@@ -661,7 +722,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.updateStatus();
+            loan.updateStatus(LocalDateTime.now());
 
             // then
             assertThat(loan.getStatus()).isEqualTo(LoanStatus.OVERDUE);
@@ -682,7 +743,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.updateStatus();
+            loan.updateStatus(LocalDateTime.now());
 
             // then
             assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
@@ -703,7 +764,7 @@ class LoanTest {
                     .build();
 
             // when
-            loan.updateStatus();
+            loan.updateStatus(LocalDateTime.now());
 
             // then
             assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
@@ -0,0 +1,166 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 패싯 계산 응답 시간 비교
+ *
+ * 패싯마다 COUNT 쿼리를 따로 실행(재고 2회 + 가격 구간 5회) + 저자 GROUP BY
+ * vs 조건부 집계 쿼리 1회 + 저자 GROUP BY (두 경우 모두 저자는 DB에서 정렬해 상위 TOP_AUTHORS명만 조회)
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookFacetBenchmarkTest -Dbenchmark.books=1000000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("도서 검색 패싯 성능 측정")
+class BookFacetBenchmarkTest {
+
+    private static final int BOOK_COUNT = Integer.getInteger("benchmark.books", 1_000_000);
+    private static final int AUTHOR_COUNT = 10_000;
+    private static final int TOP_AUTHORS = 10;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+    private static final List<BigDecimal> BOUNDARIES = List.of(
+            new BigDecimal("10000"), new BigDecimal("20000"), new BigDecimal("30000"), new BigDecimal("50000"));
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // 100만 건 DELETE는 H2 undo 로그로 메모리가 부족하므로 TRUNCATE 사용
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("TRUNCATE TABLE book");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("100만 권에서 집계 쿼리 1회가 패싯별 쿼리보다 빠르고 같은 값을 반환")
+    void facets_100만권_단일집계쿼리() {
+        seed();
+        List<Specification<Book>> scenarios = List.of(
+                BookSpecification.withFilters(null, null, null, null, null),
+                BookSpecification.withFilters("book 1", null, null, null, true));
+        String[] labels = {"no filter", "title+available"};
+
+        Benchmarks.printTitle("도서 검색 패싯", "books=%d, authors=%d, priceBuckets=%d",
+                BOOK_COUNT, AUTHOR_COUNT, BOUNDARIES.size() + 1);
+        Benchmarks.printRow("", "per-facet(ms)", "single query(ms)");
+        for (int i = 0; i < scenarios.size(); i++) {
+            Specification<Book> filters = scenarios.get(i);
+            assertThat(flatten(bookRepository.aggregateFacets(filters, BOUNDARIES, TOP_AUTHORS)))
+                    .isEqualTo(perFacet(filters));
+
+            long perFacetMillis = millis(() -> perFacet(filters));
+            long singleMillis = millis(() -> flatten(bookRepository.aggregateFacets(filters, BOUNDARIES, TOP_AUTHORS)));
+            Benchmarks.printRow(labels[i], perFacetMillis, singleMillis);
+
+            assertThat(singleMillis).isLessThan(perFacetMillis);
+        }
+    }
+
+    /**
+     * 패싯마다 쿼리를 따로 실행: {대여 가능, 대여 불가, 가격 구간..., 상위 저자 도서 수...}
+     */
+    private List<Long> perFacet(Specification<Book> filters) {
+        List<Long> counts = new ArrayList<>();
+        counts.add(bookRepository.count(filters.and(BookSpecification.isAvailable(true))));
+        counts.add(bookRepository.count(filters.and(BookSpecification.isAvailable(false))));
+        for (int bucket = 0; bucket <= BOUNDARIES.size(); bucket++) {
+            counts.add(bookRepository.count(filters.and(priceBucket(bucket))));
+        }
+        bookRepository.aggregateFacets(filters, List.of(), TOP_AUTHORS).getTopAuthors()
+                .forEach(author -> counts.add(author.getCount()));
+        return counts;
+    }
+
+    /**
+     * 집계 결과를 perFacet과 같은 형태로 변환
+     */
+    private List<Long> flatten(BookFacetRepository.FacetCounts facets) {
+        List<Long> counts = new ArrayList<>();
+        counts.add(facets.getAvailableCount());
+        counts.add(facets.getCount() - facets.getAvailableCount());
+        Arrays.stream(facets.getPriceBucketCounts()).forEach(counts::add);
+        facets.getTopAuthors().forEach(author -> counts.add(author.getCount()));
+        return counts;
+    }
+
+    private Specification<Book> priceBucket(int bucket) {
+        return (root, query, cb) -> {
+            var price = root.get("price").<BigDecimal>get("amount");
+            if (bucket == 0) {
+                return cb.lessThan(price, BOUNDARIES.get(0));
+            }
+            if (bucket == BOUNDARIES.size()) {
+                return cb.greaterThanOrEqualTo(price, BOUNDARIES.get(bucket - 1));
+            }
+            return cb.and(cb.greaterThanOrEqualTo(price, BOUNDARIES.get(bucket - 1)),
+                    cb.lessThan(price, BOUNDARIES.get(bucket)));
+        };
+    }
+
+    /**
+     * 10%는 삭제, 1/3은 재고 없음, 가격은 5,000 ~ 54,999
+     */
+    private void seed() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int start = 0; start < BOOK_COUNT; start += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = start; i < Math.min(start + BATCH_SIZE, BOOK_COUNT); i++) {
+                String isbn = TestIsbns.isbn13(i);
+                rows.add(new Object[]{
+                        "Book " + i,
+                        "Author " + (i * 7919L % AUTHOR_COUNT),
+                        isbn,
+                        Long.parseLong(isbn),
+                        5_000 + (i % 50_000) * 7919 % 50_000,
+                        i % 3 != 0,
+                        Timestamp.valueOf(base.plusSeconds(i)),
+                        i % 10 == 0 ? Timestamp.valueOf(base) : null
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO book (title, author, isbn, isbn13, price, price_currency, available, created_date, deleted_date) " +
+                            "VALUES (?, ?, ?, ?, ?, 'KRW', ?, ?, ?)",
+                    rows);
+        }
+    }
+
+    private long millis(Supplier<?> query) {
+        return Benchmarks.medianNanos(WARMUP, ITERATIONS, query) / 1_000_000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오프셋 페이징 vs 키셋 페이징 응답 시간 비교
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookPaginationBenchmarkTest -Dbenchmark.books=100000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("도서 페이징 성능 측정")
+class BookPaginationBenchmarkTest {
+
+    private static final int BOOK_COUNT = Integer.getInteger("benchmark.books", 100_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Sort.Order order = Sort.Order.desc("createdDate");
+    private final Sort sort = Sort.by(order, Sort.Order.desc("id"));
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            rows.add(new Object[]{
+                    "Book " + i,
+                    "Author " + (i % 1000),
+                    TestIsbns.isbn13(i),
+                    Long.parseLong(TestIsbns.isbn13(i)),
+                    Timestamp.valueOf(base.plusSeconds(i / 2))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO book (title, author, isbn, isbn13, price, price_currency, available, created_date) " +
+                        "VALUES (?, ?, ?, ?, 10000, 'KRW', TRUE, ?)",
+                rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM book");
+    }
+
+    @Test
+    @DisplayName("페이지 번호가 커져도 키셋 페이징 응답 시간은 일정")
+    void keysetLatency_페이지깊이와무관() {
+        int lastPage = BOOK_COUNT / PAGE_SIZE - 1;
+        int[] pages = {0, lastPage / 100, lastPage / 10, lastPage / 2, lastPage};
+
+        Map<Integer, long[]> results = new LinkedHashMap<>();
+        for (int page : pages) {
+            Object[] last = lastRowBefore(page);
+
+            List<Long> offsetIds = bookRepository.findByDeletedDateIsNull(PageRequest.of(page, PAGE_SIZE, sort))
+                    .map(Book::getId).getContent();
+            List<Long> keysetIds = bookRepository.findActiveBooksAfter(order, last[0], (Long) last[1], PAGE_SIZE)
+                    .stream().map(Book::getId).toList();
+            assertThat(keysetIds).isEqualTo(offsetIds);
+
+            long offsetMicros = Benchmarks.medianNanos(WARMUP, ITERATIONS,
+                    () -> bookRepository.findByDeletedDateIsNull(PageRequest.of(page, PAGE_SIZE, sort))) / 1_000;
+            long keysetMicros = Benchmarks.medianNanos(WARMUP, ITERATIONS,
+                    () -> bookRepository.findActiveBooksAfter(order, last[0], (Long) last[1], PAGE_SIZE)) / 1_000;
+            results.put(page, new long[]{offsetMicros, keysetMicros});
+        }
+
+        Benchmarks.printTitle("도서 페이징", "books=%d, pageSize=%d", BOOK_COUNT, PAGE_SIZE);
+        Benchmarks.printRow("page", "offset(us)", "keyset(us)");
+        results.forEach((page, micros) -> Benchmarks.printRow(String.valueOf(page), micros[0], micros[1]));
+
+        long[] deepest = results.get(lastPage);
+        assertThat(deepest[1]).isLessThan(deepest[0]);
+    }
+
+    /**
+     * page 번째 페이지 직전 행의 (생성일, id). page 0은 처음부터 읽으므로 null
+     */
+    private Object[] lastRowBefore(int page) {
+        if (page == 0) {
+            return new Object[]{null, null};
+        }
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT created_date, id FROM book WHERE deleted_date IS NULL " +
+                        "ORDER BY created_date DESC, id DESC OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+                page * PAGE_SIZE - 1);
+        return new Object[]{
+                ((Timestamp) row.get("CREATED_DATE")).toLocalDateTime(),
+                ((Number) row.get("ID")).longValue()
+        };
+    }
+}
\ No newline at end of file
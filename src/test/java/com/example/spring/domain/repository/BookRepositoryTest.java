@@ -10,13 +10,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @DisplayName("BookRepository 통합 테스트")
@@ -163,7 +169,7 @@ public class BookRepositoryTest {
         @DisplayName("존재하지 않는 ISBN으로 조회 시 빈 Optional 반환")
         void findByIsbn_존재하지않는ISBN_빈Optional반환() {
             // When
-            Optional<Book> foundBook = bookRepository.findByIsbn("9999999999999");
+            Optional<Book> foundBook = bookRepository.findByIsbn("9789999999991");
 
             // Then
             assertThat(foundBook).isEmpty();
@@ -186,11 +192,79 @@ public class BookRepositoryTest {
         @DisplayName("ISBN 존재 여부 확인 - 존재하지 않는 경우")
         void existsByIsbn_존재하지않는ISBN_false반환() {
             // When
-            boolean exists = bookRepository.existsByIsbn("9999999999999");
+            boolean exists = bookRepository.existsByIsbn("9789999999991");
 
             // Then
             assertThat(exists).isFalse();
         }
+
+        @Test
+        @DisplayName("전체 ISBN-13 키 조회 - 삭제된 도서 포함")
+        void findAllIsbn13_삭제도서포함_정규화값반환() {
+            // Given
+            sampleBook.markAsDeleted();
+            entityManager.persistAndFlush(sampleBook);
+
+            // When
+            List<Long> isbns = bookRepository.findAllIsbn13();
+
+            // Then
+            assertThat(isbns).contains(9780132350884L);
+        }
+
+        @Test
+        @DisplayName("하이픈 위치나 ISBN-10 표기가 달라도 같은 도서 조회")
+        void findByIsbn_표기다른ISBN_같은도서조회() {
+            // Given
+            Book savedBook = entityManager.persistAndFlush(sampleBook);
+
+            // When & Then
+            assertThat(bookRepository.findByIsbn("9780132350884")).contains(savedBook);
+            assertThat(bookRepository.findByIsbn("978-0132-350884")).contains(savedBook);
+            assertThat(bookRepository.findByIsbn("0-13-235088-2")).contains(savedBook);
+            assertThat(bookRepository.existsByIsbn("ISBN 978 0 13 235088 4")).isTrue();
+        }
+
+        @Test
+        @DisplayName("체크 숫자가 틀린 ISBN은 조회하지 않고 없음으로 판단")
+        void existsByIsbn_체크숫자오류_false반환() {
+            // Given
+            entityManager.persistAndFlush(sampleBook);
+
+            // When & Then
+            assertThat(bookRepository.existsByIsbn("9780132350885")).isFalse();
+            assertThat(bookRepository.findByIsbn("9780132350885")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 저장 테스트")
+    class BatchInsertTest {
+
+        @Test
+        @DisplayName("JDBC 배치로 저장하고 생성된 id 반환")
+        void insertAll_여러도서_id채워반환() {
+            // Given
+            Book other = Book.builder()
+                    .title("Refactoring")
+                    .author("Martin Fowler")
+                    .isbn(ISBN.of("9780201485677"))
+                    .price(Money.of(new BigDecimal("39.99")))
+                    .available(false)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+
+            // When
+            List<Book> saved = bookRepository.insertAll(List.of(sampleBook, other));
+
+            // Then
+            assertThat(saved).extracting(Book::getId).doesNotContainNull().doesNotHaveDuplicates();
+            Book found = bookRepository.findById(saved.get(1).getId()).orElseThrow();
+            assertThat(found.getTitle()).isEqualTo("Refactoring");
+            assertThat(found.getIsbn()).isEqualTo(ISBN.of("9780201485677"));
+            assertThat(found.getPrice().getAmount()).isEqualByComparingTo("39.99");
+            assertThat(found.getAvailable()).isFalse();
+        }
     }
 
     @Nested
@@ -274,6 +348,55 @@ public class BookRepositoryTest {
             assertThat(books.get(0).getTitle()).isEqualTo("Clean Code");
             assertThat(books.get(0).getPrice().getAmount()).isEqualByComparingTo(new BigDecimal("45.99"));
         }
+
+        @Test
+        @DisplayName("복합 조건 검색 - 대소문자 구분 없이 DB에서 필터링 및 페이징")
+        void findAll_복합조건Specification_페이지반환() {
+            // When
+            Page<Book> page = bookRepository.findAll(
+                    BookSpecification.withFilters("code", "martin",
+                            new BigDecimal("40.00"), new BigDecimal("50.00"), null),
+                    PageRequest.of(0, 10));
+
+            // Then
+            assertThat(page.getTotalElements()).isEqualTo(1);
+            assertThat(page.getContent()).extracting(Book::getTitle).containsExactly("Clean Code");
+        }
+
+        @Test
+        @DisplayName("복합 조건 검색 - Slice는 다음 페이지 존재 여부만 확인")
+        void findBy_복합조건Slice_다음페이지여부반환() {
+            // When
+            Slice<Book> first = bookRepository.findBy(
+                    BookSpecification.withFilters(null, null, null, new BigDecimal("50.00"), null),
+                    query -> query.slice(PageRequest.of(0, 1, Sort.by("title"))));
+            Slice<Book> second = bookRepository.findBy(
+                    BookSpecification.withFilters(null, null, null, new BigDecimal("50.00"), null),
+                    query -> query.slice(first.nextPageable()));
+
+            // Then
+            assertThat(first.getContent()).extracting(Book::getTitle).containsExactly("Clean Code");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.getContent()).extracting(Book::getTitle).containsExactly("Spring in Action");
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("id 목록 조건 - 지정한 도서만, 빈 목록이면 결과 없음")
+        void findAll_id목록조건_지정도서만반환() {
+            // Given
+            Long cleanCodeId = bookRepository.findByTitleContainingIgnoreCase("clean").get(0).getId();
+
+            // When
+            List<Book> books = bookRepository.findAll(
+                    BookSpecification.withFilters(null, null, null, null, null)
+                            .and(BookSpecification.idIn(new int[]{Math.toIntExact(cleanCodeId)})));
+            List<Book> none = bookRepository.findAll(BookSpecification.idIn(new int[0]));
+
+            // Then
+            assertThat(books).extracting(Book::getTitle).containsExactly("Clean Code");
+            assertThat(none).isEmpty();
+        }
     }
 
     @Nested
@@ -285,7 +408,7 @@ public class BookRepositoryTest {
             Book availableBook = Book.builder()
                     .title("Available Book")
                     .author("Author A")
-                    .isbn(ISBN.of("1111111111111"))
+                    .isbn(ISBN.of("9781111111113"))
                     .price(Money.of(new BigDecimal("30.00")))
                     .available(true)
                     .createdDate(LocalDateTime.now())
@@ -294,7 +417,7 @@ public class BookRepositoryTest {
             Book unavailableBook = Book.builder()
                     .title("Unavailable Book")
                     .author("Author B")
-                    .isbn(ISBN.of("2222222222222"))
+                    .isbn(ISBN.of("9782222222224"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .available(false)
                     .createdDate(LocalDateTime.now())
@@ -320,6 +443,63 @@ public class BookRepositoryTest {
             assertThat(unavailableBooks.get(0).getTitle()).isEqualTo("Unavailable Book");
         }
 
+        @Test
+        @DisplayName("대여 가능 도서 id와 삭제된 도서 id 조회 (비트맵 적재용)")
+        void findAvailableIds_findDeletedIds_상태별id반환() {
+            // Given
+            Book deletedBook = Book.builder()
+                    .title("Deleted Book")
+                    .author("Author C")
+                    .isbn(ISBN.of("9783333333335"))
+                    .price(Money.of(new BigDecimal("20.00")))
+                    .available(false)
+                    .createdDate(LocalDateTime.now())
+                    .deletedDate(LocalDateTime.now())
+                    .build();
+            Long deletedId = entityManager.persistAndFlush(deletedBook).getId();
+            Long availableId = bookRepository.findByAvailable(true).get(0).getId();
+
+            // When & Then
+            assertThat(bookRepository.findAvailableIds()).containsExactly(availableId);
+            assertThat(bookRepository.findDeletedIds()).containsExactly(deletedId);
+        }
+
+        @Test
+        @DisplayName("대여 가능한 도서만 대여 중으로 일괄 변경하고 바뀐 건수 반환")
+        void markLoanedOut_대여가능도서만_변경() {
+            // Given
+            Long availableId = bookRepository.findByAvailable(true).get(0).getId();
+            Long unavailableId = bookRepository.findByAvailable(false).get(0).getId();
+            LocalDateTime now = LocalDateTime.now();
+
+            // When
+            int updated = bookRepository.markLoanedOut(List.of(availableId, unavailableId), now);
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            Book book = bookRepository.findById(availableId).orElseThrow();
+            assertThat(book.getAvailable()).isFalse();
+            assertThat(book.getUpdatedDate()).isEqualToIgnoringNanos(now);
+            assertThat(bookRepository.findByAvailable(true)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("반납된 도서를 대여 가능으로 일괄 변경")
+        void markReturned_대여가능으로_변경() {
+            // Given
+            Long unavailableId = bookRepository.findByAvailable(false).get(0).getId();
+            LocalDateTime now = LocalDateTime.now();
+
+            // When
+            int updated = bookRepository.markReturned(List.of(unavailableId), now);
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            assertThat(bookRepository.findByAvailable(false)).isEmpty();
+            assertThat(bookRepository.findById(unavailableId).orElseThrow().getUpdatedDate())
+                    .isEqualToIgnoringNanos(now);
+        }
+
         @Test
         @DisplayName("재고 상태와 제목으로 복합 검색")
         void findByAvailableAndTitleContaining_복합조건_해당도서들반환() {
@@ -344,7 +524,7 @@ public class BookRepositoryTest {
             Book activeBook = Book.builder()
                     .title("Active Book")
                     .author("Author A")
-                    .isbn(ISBN.of("1111111111111"))
+                    .isbn(ISBN.of("9781111111113"))
                     .price(Money.of(new BigDecimal("30.00")))
                     .createdDate(LocalDateTime.now())
                     .build();
@@ -352,7 +532,7 @@ public class BookRepositoryTest {
             Book deletedBook = Book.builder()
                     .title("Deleted Book")
                     .author("Author B")
-                    .isbn(ISBN.of("2222222222222"))
+                    .isbn(ISBN.of("9782222222224"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(LocalDateTime.now())
                     .deletedDate(LocalDateTime.now())
@@ -377,7 +557,7 @@ public class BookRepositoryTest {
             Book activeBook = Book.builder()
                     .title("Active Book")
                     .author("Author A")
-                    .isbn(ISBN.of("1111111111111"))
+                    .isbn(ISBN.of("9781111111113"))
                     .price(Money.of(new BigDecimal("30.00")))
                     .createdDate(LocalDateTime.now())
                     .build();
@@ -385,7 +565,7 @@ public class BookRepositoryTest {
             Book deletedBook = Book.builder()
                     .title("Deleted Book")
                     .author("Author B")
-                    .isbn(ISBN.of("2222222222222"))
+                    .isbn(ISBN.of("9782222222224"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(LocalDateTime.now())
                     .deletedDate(LocalDateTime.now())
@@ -404,6 +584,129 @@ public class BookRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("통계 집계 테스트")
+    class StatisticsTest {
+
+        @Test
+        @DisplayName("한 번의 집계 쿼리로 전체/활성/대여 가능 수와 활성 도서 가격 집계")
+        void aggregateStatistics_집계값_반환() {
+            // Given
+            entityManager.persistAndFlush(Book.builder()
+                    .title("Available Book")
+                    .author("Author A")
+                    .isbn(ISBN.of("9781111111113"))
+                    .price(Money.of(new BigDecimal("30.00")))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+            entityManager.persistAndFlush(Book.builder()
+                    .title("Loaned Book")
+                    .author("Author B")
+                    .isbn(ISBN.of("9782222222224"))
+                    .price(Money.of(new BigDecimal("10.00")))
+                    .available(false)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+            entityManager.persistAndFlush(Book.builder()
+                    .title("Deleted Book")
+                    .author("Author C")
+                    .isbn(ISBN.of("9783333333335"))
+                    .price(Money.of(new BigDecimal("99.00")))
+                    .available(true)
+                    .createdDate(LocalDateTime.now())
+                    .deletedDate(LocalDateTime.now())
+                    .build());
+            entityManager.clear();
+
+            // When
+            BookRepository.BookStatisticsView statistics = bookRepository.aggregateStatistics();
+
+            // Then
+            assertThat(statistics.getTotalBooks()).isEqualTo(3L);
+            assertThat(statistics.getActiveBooks()).isEqualTo(2L);
+            assertThat(statistics.getAvailableBooks()).isEqualTo(1L);
+            assertThat(statistics.getPriceSum()).isEqualByComparingTo("40.00");
+            assertThat(statistics.getMinPrice()).isEqualByComparingTo("10.00");
+            assertThat(statistics.getMaxPrice()).isEqualByComparingTo("30.00");
+        }
+
+        @Test
+        @DisplayName("도서가 없으면 수는 0, 가격 집계는 null")
+        void aggregateStatistics_도서없음_빈집계() {
+            // When
+            BookRepository.BookStatisticsView statistics = bookRepository.aggregateStatistics();
+
+            // Then
+            assertThat(statistics.getTotalBooks()).isZero();
+            assertThat(statistics.getMinPrice()).isNull();
+            assertThat(statistics.getPriceSum()).isNull();
+        }
+
+        @Test
+        @DisplayName("검색 조건에 맞는 도서의 대여 가능 수, 가격 구간별 수, 도서 수 상위 저자를 집계")
+        void aggregateFacets_검색조건_패싯집계() {
+            // Given
+            String[][] books = {
+                    // 제목, 저자, ISBN, 가격, 대여 가능
+                    {"Clean Code", "Robert C. Martin", "9781111111113", "9000", "true"},
+                    {"Clean Architecture", "Robert C. Martin", "9782222222224", "25000", "false"},
+                    {"Clean Agile", "Robert C. Martin", "9783333333335", "10000", "true"},
+                    {"Clean Craftsmanship", "Kent Beck", "9780000000019", "30000", "true"},
+                    {"Clean Python", "Alice Kim", "9780000000040", "12000", "false"},
+                    {"Refactoring", "Martin Fowler", "9780000000026", "15000", "true"}
+            };
+            for (String[] book : books) {
+                entityManager.persist(Book.builder()
+                        .title(book[0])
+                        .author(book[1])
+                        .isbn(ISBN.of(book[2]))
+                        .price(Money.of(new BigDecimal(book[3])))
+                        .available(Boolean.parseBoolean(book[4]))
+                        .createdDate(LocalDateTime.now())
+                        .build());
+            }
+            entityManager.persist(Book.builder()
+                    .title("Clean Deleted")
+                    .author("Kent Beck")
+                    .isbn(ISBN.of("9780000000033"))
+                    .price(Money.of(new BigDecimal("5000")))
+                    .createdDate(LocalDateTime.now())
+                    .deletedDate(LocalDateTime.now())
+                    .build());
+            entityManager.flush();
+            entityManager.clear();
+
+            // When - 제목에 clean 포함, 경계 10,000 / 20,000, 상위 저자 2명
+            BookFacetRepository.FacetCounts facets = bookRepository.aggregateFacets(
+                    BookSpecification.withFilters("clean", null, null, null, null),
+                    List.of(new BigDecimal("10000"), new BigDecimal("20000")), 2);
+
+            // Then - 삭제된 도서와 제목이 맞지 않는 도서는 제외
+            assertThat(facets.getCount()).isEqualTo(5);
+            assertThat(facets.getAvailableCount()).isEqualTo(3);
+            assertThat(facets.getPriceBucketCounts()).isEqualTo(new long[]{1, 2, 2});
+            // 도서 수가 같으면 저자명 오름차순
+            assertThat(facets.getTopAuthors())
+                    .extracting(BookFacetRepository.AuthorFacet::getAuthor, BookFacetRepository.AuthorFacet::getCount)
+                    .containsExactly(tuple("Robert C. Martin", 3L), tuple("Alice Kim", 1L));
+        }
+
+        @Test
+        @DisplayName("조건에 맞는 도서가 없으면 건수는 0이고 상위 저자는 비어 있음")
+        void aggregateFacets_결과없음_빈패싯() {
+            // When
+            BookFacetRepository.FacetCounts facets = bookRepository.aggregateFacets(
+                    BookSpecification.withFilters("없는 제목", null, null, null, null),
+                    List.of(new BigDecimal("10000")), 10);
+
+            // Then
+            assertThat(facets.getCount()).isZero();
+            assertThat(facets.getPriceBucketCounts()).isEqualTo(new long[]{0, 0});
+            assertThat(facets.getTopAuthors()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("편의 메서드 테스트")
     class ConvenienceMethodTest {
@@ -430,7 +733,7 @@ public class BookRepositoryTest {
             Book activeBook = Book.builder()
                     .title("Active Book")
                     .author("Author A")
-                    .isbn(ISBN.of("1111111111111"))
+                    .isbn(ISBN.of("9781111111113"))
                     .price(Money.of(new BigDecimal("30.00")))
                     .createdDate(LocalDateTime.now())
                     .build();
@@ -438,7 +741,7 @@ public class BookRepositoryTest {
             Book deletedBook = Book.builder()
                     .title("Deleted Book")
                     .author("Author B")
-                    .isbn(ISBN.of("2222222222222"))
+                    .isbn(ISBN.of("9782222222224"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(LocalDateTime.now())
                     .deletedDate(LocalDateTime.now())
@@ -463,7 +766,7 @@ public class BookRepositoryTest {
             Book javaBook = Book.builder()
                     .title("Java Programming")
                     .author("John Doe")
-                    .isbn(ISBN.of("1111111111111"))
+                    .isbn(ISBN.of("9781111111113"))
                     .price(Money.of(new BigDecimal("30.00")))
                     .createdDate(LocalDateTime.now())
                     .build();
@@ -471,7 +774,7 @@ public class BookRepositoryTest {
             Book springBook = Book.builder()
                     .title("Web Development")
                     .author("Spring Master")
-                    .isbn(ISBN.of("2222222222222"))
+                    .isbn(ISBN.of("9782222222224"))
                     .price(Money.of(new BigDecimal("25.00")))
                     .createdDate(LocalDateTime.now())
                     .build();
@@ -488,4 +791,67 @@ public class BookRepositoryTest {
             assertThat(books.get(0).getAuthor()).isEqualTo("Spring Master");
         }
     }
+
+    @Nested
+    @DisplayName("키셋 페이징 테스트")
+    class KeysetPagingTest {
+
+        @Test
+        @DisplayName("정렬 키가 같은 도서가 있어도 누락/중복 없이 끝까지 이어서 조회")
+        void findActiveBooksAfter_키셋페이징_누락중복없음() {
+            // Given - 생성일 중복(동점)과 삭제 도서를 섞어 저장
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+            String[] isbns = {"9780000000019", "9780000000026", "9780000000033", "9780000000040", "9780000000057"};
+            for (int i = 0; i < isbns.length; i++) {
+                entityManager.persist(Book.builder()
+                        .title("Book " + i)
+                        .author("Author " + i)
+                        .isbn(ISBN.of(isbns[i]))
+                        .price(Money.of(new BigDecimal("10.00")))
+                        .createdDate(base.plusDays(i / 2))
+                        .build());
+            }
+            Book deletedBook = Book.builder()
+                    .title("Deleted Book")
+                    .author("Author")
+                    .isbn(ISBN.of("9780000000064"))
+                    .price(Money.of(new BigDecimal("10.00")))
+                    .createdDate(base.plusDays(10))
+                    .build();
+            deletedBook.markAsDeleted();
+            entityManager.persist(deletedBook);
+            entityManager.flush();
+            entityManager.clear();
+
+            Sort.Order order = Sort.Order.desc("createdDate");
+
+            // When - 마지막 행의 (생성일, id)를 다음 페이지 시작 위치로 사용
+            List<String> titles = new ArrayList<>();
+            List<Book> page = bookRepository.findActiveBooksAfter(order, null, null, 2);
+            while (!page.isEmpty()) {
+                page.forEach(book -> titles.add(book.getTitle()));
+                Book last = page.get(page.size() - 1);
+                page = bookRepository.findActiveBooksAfter(order, last.getCreatedDate(), last.getId(), 2);
+            }
+
+            // Then
+            // 동순위(같은 생성일)는 id 내림차순
+            assertThat(titles).containsExactly("Book 4", "Book 3", "Book 2", "Book 1", "Book 0");
+        }
+
+        @Test
+        @DisplayName("오프셋 페이징도 DB에서 처리")
+        void findByDeletedDateIsNull_오프셋페이징_페이지반환() {
+            // Given
+            entityManager.persist(sampleBook);
+            entityManager.flush();
+
+            // When
+            Page<Book> page = bookRepository.findByDeletedDateIsNull(PageRequest.of(0, 10));
+
+            // Then
+            assertThat(page.getTotalElements()).isEqualTo(1);
+            assertThat(page.getContent()).extracting(Book::getTitle).containsExactly("Clean Code");
+        }
+    }
 }
\ No newline at end of file
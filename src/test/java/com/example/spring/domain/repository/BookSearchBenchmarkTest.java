@@ -0,0 +1,156 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복합 조건 검색 데이터 규모별 응답 시간 비교
+ *
+ * 메모리 필터링(기존 방식) vs DB 필터링 Page vs DB 필터링 Slice
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookSearchBenchmarkTest -Dbenchmark.sizes=10000,100000,1000000
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.org.springframework=WARN",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("도서 복합 조건 검색 성능 측정")
+class BookSearchBenchmarkTest {
+
+    private static final int[] SIZES = Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000,1000000")
+            .split(",")).mapToInt(size -> Integer.parseInt(size.trim())).sorted().toArray();
+    /**
+     * 메모리 필터링은 활성 도서 전체를 엔티티로 읽으므로 이 크기까지만 측정
+     */
+    private static final int IN_MEMORY_LIMIT = 100_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    private static final String TITLE = "book 1";
+    private static final BigDecimal MIN_PRICE = new BigDecimal("10000");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("12000");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdDate"));
+    private final Specification<Book> filters =
+            BookSpecification.withFilters(TITLE, null, MIN_PRICE, MAX_PRICE, true);
+
+    @AfterEach
+    void tearDown() {
+        // 100만 건 DELETE는 H2 undo 로그로 메모리가 부족하므로 TRUNCATE 사용
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("TRUNCATE TABLE book");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("데이터가 늘어나도 DB 필터링은 메모리 필터링보다 빠르고 Slice는 COUNT를 생략")
+    void searchLatency_데이터규모별() {
+        Map<Integer, long[]> results = new LinkedHashMap<>();
+        int seeded = 0;
+        for (int size : SIZES) {
+            seed(seeded, size);
+            seeded = size;
+
+            List<Long> pageIds = bookRepository.findAll(filters, pageable).map(Book::getId).getContent();
+            List<Long> sliceIds = bookRepository.findBy(filters, query -> query.slice(pageable))
+                    .map(Book::getId).getContent();
+            assertThat(sliceIds).isEqualTo(pageIds);
+
+            long inMemoryMicros = size <= IN_MEMORY_LIMIT ? micros(this::filterInMemory) : -1;
+            long pageMicros = micros(() -> bookRepository.findAll(filters, pageable));
+            long sliceMicros = micros(() -> bookRepository.findBy(filters, query -> query.slice(pageable)));
+            results.put(size, new long[]{inMemoryMicros, pageMicros, sliceMicros});
+        }
+
+        Benchmarks.printTitle("도서 복합 조건 검색", "title=%s, price=%s~%s, available=true", TITLE, MIN_PRICE, MAX_PRICE);
+        Benchmarks.printRow("books", "in-memory(us)", "page(us)", "slice(us)");
+        results.forEach((size, micros) -> Benchmarks.printRow(String.valueOf(size),
+                micros[0] < 0 ? "-" : micros[0], micros[1], micros[2]));
+
+        results.values().stream()
+                .filter(micros -> micros[0] >= 0)
+                .reduce((first, second) -> second)
+                .ifPresent(largest -> assertThat(largest[1]).isLessThan(largest[0]));
+    }
+
+    /**
+     * 기존 searchBooksWithFilters 방식: 활성 도서 전체 조회 후 스트림 필터링
+     */
+    private List<Book> filterInMemory() {
+        return bookRepository.findByDeletedDateIsNull().stream()
+                .filter(book -> book.getTitle().toLowerCase().contains(TITLE.toLowerCase()))
+                .filter(book -> book.getPrice().getAmount().compareTo(MIN_PRICE) >= 0)
+                .filter(book -> book.getPrice().getAmount().compareTo(MAX_PRICE) <= 0)
+                .filter(book -> book.getAvailable().equals(true))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    /**
+     * [from, to) 범위 도서 추가 (10%는 삭제, 1/3은 재고 없음, 가격은 5,000 ~ 54,999)
+     */
+    private void seed(int from, int to) {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int start = from; start < to; start += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = start; i < Math.min(start + BATCH_SIZE, to); i++) {
+                rows.add(new Object[]{
+                        "Book " + i,
+                        "Author " + (i % 1000),
+                        TestIsbns.isbn13(i),
+                        Long.parseLong(TestIsbns.isbn13(i)),
+                        5_000 + (i % 50_000) * 7919 % 50_000,
+                        i % 3 != 0,
+                        Timestamp.valueOf(base.plusSeconds(i)),
+                        i % 10 == 0 ? Timestamp.valueOf(base) : null
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO book (title, author, isbn, isbn13, price, price_currency, available, created_date, deleted_date) " +
+                            "VALUES (?, ?, ?, ?, ?, 'KRW', ?, ?, ?)",
+                    rows);
+        }
+    }
+
+    private long micros(Supplier<?> query) {
+        return Benchmarks.medianNanos(WARMUP, ITERATIONS, query) / 1_000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.example.spring.domain.repository;
+
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.model.MembershipType;
+import com.example.spring.domain.model.Role;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 가능 여부 단일 쿼리(findLoanEligibility) 검증과 기존 조회 방식과의 쿼리 수 비교
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("대여 가능 여부 조회 쿼리 테스트")
+class LoanEligibilityQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Book loanedBook;
+    private Book freeBook;
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        member = persistMember("hong@example.com");
+        Member otherMember = persistMember("kim@example.com");
+        loanedBook = persistBook(1);
+        freeBook = persistBook(2);
+        Book returnedBook = persistBook(3);
+
+        // 회원: 미반납 2건(그중 1건 연체), 반납 1건 / 다른 회원이 loanedBook 대여 중
+        persistLoan(member, persistBook(4), LocalDateTime.now().plusDays(7), false);
+        persistLoan(member, persistBook(5), LocalDateTime.now().minusDays(1), false);
+        persistLoan(member, returnedBook, LocalDateTime.now().minusDays(10), true);
+        persistLoan(otherMember, loanedBook, LocalDateTime.now().plusDays(7), false);
+        entityManager.clear();
+
+        queryCounter = new QueryCounter(entityManager.getEntityManager());
+    }
+
+    @Test
+    @DisplayName("미반납 대여 수, 연체 여부, 도서 대여 여부를 한 번에 조회")
+    void findLoanEligibility_한번에조회() {
+        // When
+        LoanRepository.LoanEligibility loaned = loanRepository
+                .findLoanEligibility(member.getId(), loanedBook.getId(), LocalDateTime.now()).orElseThrow();
+        LoanRepository.LoanEligibility free = loanRepository
+                .findLoanEligibility(member.getId(), freeBook.getId(), LocalDateTime.now()).orElseThrow();
+        LoanRepository.LoanEligibility memberOnly = loanRepository
+                .findLoanEligibility(member.getId(), null, LocalDateTime.now().minusDays(2)).orElseThrow();
+
+        // Then
+        assertThat(loaned.getActiveLoanCount()).isEqualTo(2);
+        assertThat(loaned.isOverdue()).isTrue();
+        assertThat(loaned.isBookLoaned()).isTrue();
+        assertThat(loaned.getMembershipType()).isEqualTo(MembershipType.REGULAR);
+        assertThat(free.isBookLoaned()).isFalse();
+        assertThat(memberOnly.isOverdue()).isFalse();
+        assertThat(memberOnly.isBookLoaned()).isFalse();
+        assertThat(loanRepository.findLoanEligibility(-1L, null, LocalDateTime.now())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대여 검증과 회원 대여 가능 확인이 쿼리 1회로 줄어듦")
+    void findLoanEligibility_기존방식대비쿼리수감소() {
+        // 대여 생성 검증 - 기존: 도서 대여 여부 + 미반납 목록(개수) + 미반납 목록(연체)
+        long validateBefore = countStatements(() -> {
+            loanRepository.existsByBookIdAndReturnDateIsNull(freeBook.getId());
+            loanRepository.findByMemberIdAndReturnDateIsNull(member.getId()).size();
+            loanRepository.findByMemberIdAndReturnDateIsNull(member.getId()).stream().anyMatch(loan -> loan.dueStatusAt(LocalDateTime.now()).isOverdue());
+        });
+        long validateAfter = countStatements(() ->
+                loanRepository.findLoanEligibility(member.getId(), freeBook.getId(), LocalDateTime.now()));
+
+        // 회원 대여 가능 확인 - 기존: 회원 조회 + 미반납 목록 + 전체 대여 이력
+        long canLoanBefore = countStatements(() -> {
+            memberRepository.findById(member.getId());
+            loanRepository.findByMemberIdAndReturnDateIsNull(member.getId()).size();
+            loanRepository.findByMemberId(member.getId()).stream().anyMatch(loan -> loan.dueStatusAt(LocalDateTime.now()).isOverdue());
+        });
+        long canLoanAfter = countStatements(() ->
+                loanRepository.findLoanEligibility(member.getId(), null, LocalDateTime.now()));
+
+        assertThat(validateBefore).isEqualTo(3);
+        assertThat(validateAfter).isEqualTo(1);
+        assertThat(canLoanBefore).isEqualTo(3);
+        assertThat(canLoanAfter).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable queries) {
+        return queryCounter.count(queries);
+    }
+
+    private Member persistMember(String email) {
+        return entityManager.persistAndFlush(Member.builder()
+                .name("회원")
+                .email(email)
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build());
+    }
+
+    private Book persistBook(long serial) {
+        return entityManager.persistAndFlush(Book.builder()
+                .title("도서 " + serial)
+                .author("저자")
+                .isbn(ISBN.of(TestIsbns.isbn13(serial)))
+                .price(Money.of(new BigDecimal("20000")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build());
+    }
+
+    private void persistLoan(Member borrower, Book book, LocalDateTime dueDate, boolean returned) {
+        Loan loan = Loan.builder()
+                .member(borrower)
+                .book(book)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .createdDate(LocalDateTime.now())
+                .build();
+        if (returned) {
+            loan.returnBook(LocalDateTime.now());
+        }
+        entityManager.persistAndFlush(loan);
+    }
+}
\ No newline at end of file
@@ -4,20 +4,33 @@ import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
 import com.example.spring.domain.model.Book;
 import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
 import com.example.spring.domain.model.Member;
 import com.example.spring.domain.model.MembershipType;
 import com.example.spring.domain.model.Role;
+import com.example.spring.domain.vo.TestIsbns;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 @DataJpaTest
 public class LoanRepositoryTest {
@@ -28,6 +41,9 @@ public class LoanRepositoryTest {
     @Autowired
     private LoanRepository loanRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Member createAndSaveMember(String name, String email) {
         Member member = Member.builder()
                 .name(name)
@@ -45,7 +61,7 @@ public class LoanRepositoryTest {
                 .title(title)
                 .author(author)
                 .price(Money.of(new BigDecimal("20000")))
-                .isbn(ISBN.of("978" + String.format("%010d", System.nanoTime() % 10000000000L)))
+                .isbn(ISBN.of(TestIsbns.isbn13(System.nanoTime())))
                 .available(true)
                 .createdDate(LocalDateTime.now())
                 .build();
@@ -512,6 +528,43 @@ public class LoanRepositoryTest {
         });
     }
 
+    @Test
+    public void streamAllWithMemberAndBook_id순으로_연관엔티티포함스트리밍() {
+        // Given
+        Member member = createAndSaveMember("스트리밍회원", "stream@example.com");
+        Book book1 = createAndSaveBook("도서1", "저자1");
+        Book book2 = createAndSaveBook("도서2", "저자2");
+        Loan loan1 = entityManager.persistAndFlush(Loan.builder()
+                .member(member)
+                .book(book1)
+                .loanDate(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusWeeks(2))
+                .createdDate(LocalDateTime.now())
+                .build());
+        Loan loan2 = entityManager.persistAndFlush(Loan.builder()
+                .member(member)
+                .book(book2)
+                .loanDate(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusWeeks(2))
+                .createdDate(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+
+        // When
+        List<Loan> loans;
+        try (Stream<Loan> stream = loanRepository.streamAllWithMemberAndBook()) {
+            loans = stream.toList();
+        }
+
+        // Then
+        assertThat(loans).extracting(Loan::getId).containsExactly(loan1.getId(), loan2.getId());
+        PersistenceUnitUtil util = entityManager.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        loans.forEach(loan -> {
+            assertThat(util.isLoaded(loan.getMember())).isTrue();
+            assertThat(util.isLoaded(loan.getBook())).isTrue();
+        });
+    }
+
     @Test
     public void findMembersByBookTitle_특정도서를대여한회원목록조회() {
         // Given
@@ -646,4 +699,239 @@ public class LoanRepositoryTest {
         // Then
         assertThat(overdueCount).isGreaterThanOrEqualTo(2);
     }
+
+    @Test
+    public void countLoansGroupByBook_도서별대여횟수_집계성공() {
+        // Given
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book popularBook = createAndSaveBook("인기 도서", "저자1");
+        Book otherBook = createAndSaveBook("일반 도서", "저자2");
+
+        for (Book book : List.of(popularBook, popularBook, otherBook)) {
+            entityManager.persistAndFlush(Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(LocalDateTime.now())
+                    .dueDate(LocalDateTime.now().plusWeeks(2))
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+
+        // When
+        List<LoanRepository.BookLoanCount> counts = loanRepository.countLoansGroupByBook();
+
+        // Then
+        assertThat(counts)
+                .extracting(LoanRepository.BookLoanCount::getBookId, LoanRepository.BookLoanCount::getLoanCount)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple(popularBook.getId(), 2L),
+                        org.assertj.core.groups.Tuple.tuple(otherBook.getId(), 1L));
+    }
+
+    @Test
+    public void findLoanedBookIds_반납안된대여도서id_취소제외() {
+        // Given
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book loanedBook = createAndSaveBook("대여 중 도서", "저자1");
+        Book returnedBook = createAndSaveBook("반납된 도서", "저자2");
+        Book cancelledBook = createAndSaveBook("취소된 도서", "저자3");
+
+        for (Book book : List.of(loanedBook, loanedBook, returnedBook, cancelledBook)) {
+            Loan loan = Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(LocalDateTime.now())
+                    .dueDate(LocalDateTime.now().plusWeeks(2))
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            if (book == returnedBook) {
+                loan.returnBook(LocalDateTime.now());
+            } else if (book == cancelledBook) {
+                loan.cancel();
+            }
+            entityManager.persistAndFlush(loan);
+        }
+
+        // When
+        List<Long> bookIds = loanRepository.findLoanedBookIds();
+
+        // Then
+        assertThat(bookIds).containsExactly(loanedBook.getId());
+    }
+
+    @Test
+    public void insertAll_일괄저장_생성id채워반환() {
+        // Given
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book book1 = createAndSaveBook("도서1", "저자1");
+        Book book2 = createAndSaveBook("도서2", "저자2");
+        LocalDateTime now = LocalDateTime.now();
+        List<Loan> loans = List.of(book1, book2).stream()
+                .map(book -> Loan.builder()
+                        .member(member)
+                        .book(book)
+                        .loanDate(now)
+                        .dueDate(now.plusDays(14))
+                        .createdDate(now)
+                        .build())
+                .toList();
+
+        // When
+        List<Loan> saved = loanRepository.insertAll(loans);
+
+        // Then
+        assertThat(saved).extracting(Loan::getId).doesNotContainNull().doesNotHaveDuplicates();
+        entityManager.clear();
+        Loan found = loanRepository.findById(saved.get(1).getId()).orElseThrow();
+        assertThat(found.getBook().getId()).isEqualTo(book2.getId());
+        assertThat(found.getMember().getId()).isEqualTo(member.getId());
+        assertThat(found.getStatus()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(found.getExtensionCount()).isZero();
+        assertThat(found.getReturnDate()).isNull();
+    }
+
+    @Test
+    public void findLoanedBookIdsIn_주어진도서중_반납안된대여도서id() {
+        // Given
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book loanedBook = createAndSaveBook("대여 중 도서", "저자1");
+        Book returnedBook = createAndSaveBook("반납된 도서", "저자2");
+        Book freeBook = createAndSaveBook("대여 이력 없는 도서", "저자3");
+        Book otherLoanedBook = createAndSaveBook("조회 대상이 아닌 대여 중 도서", "저자4");
+
+        for (Book book : List.of(loanedBook, returnedBook, otherLoanedBook)) {
+            Loan loan = Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(LocalDateTime.now())
+                    .dueDate(LocalDateTime.now().plusWeeks(2))
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            if (book == returnedBook) {
+                loan.returnBook(LocalDateTime.now());
+            }
+            entityManager.persistAndFlush(loan);
+        }
+
+        // When
+        List<Long> bookIds = loanRepository.findLoanedBookIdsIn(
+                List.of(loanedBook.getId(), returnedBook.getId(), freeBook.getId()));
+
+        // Then
+        assertThat(bookIds).containsExactly(loanedBook.getId());
+    }
+
+    @Test
+    public void updateReturned_미반납대여만_반납저장() {
+        // Given
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book book1 = createAndSaveBook("도서1", "저자1");
+        Book book2 = createAndSaveBook("도서2", "저자2");
+        Loan overdue = entityManager.persistAndFlush(Loan.builder()
+                .member(member)
+                .book(book1)
+                .loanDate(LocalDateTime.now().minusDays(16))
+                .dueDate(LocalDateTime.now().minusDays(2).minusHours(1))
+                .createdDate(LocalDateTime.now())
+                .build());
+        Loan alreadyReturned = Loan.builder()
+                .member(member)
+                .book(book2)
+                .loanDate(LocalDateTime.now().minusDays(10))
+                .dueDate(LocalDateTime.now().plusDays(4))
+                .createdDate(LocalDateTime.now())
+                .build();
+        alreadyReturned.returnBook(LocalDateTime.now());
+        entityManager.persistAndFlush(alreadyReturned);
+        entityManager.clear();
+
+        List<Loan> loans = loanRepository.findUnreturnedForReturnByBookIdIn(List.of(book1.getId(), book2.getId()));
+        LocalDateTime now = LocalDateTime.now();
+        loans.forEach(loan -> loan.returnBook(now));
+        Loan stale = loanRepository.findAllForReturnByIdIn(List.of(alreadyReturned.getId())).get(0);
+
+        // When
+        boolean[] updated = loanRepository.updateReturned(List.of(loans.get(0), stale));
+
+        // Then
+        assertThat(loans).extracting(Loan::getId).containsExactly(overdue.getId());
+        assertThat(updated).containsExactly(true, false);
+        entityManager.clear();
+        Loan found = loanRepository.findById(overdue.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(LoanStatus.RETURNED);
+        assertThat(found.getReturnDate()).isEqualToIgnoringNanos(now);
+        assertThat(found.getOverdueFee().getAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    public void updateReturned_건별수없음_반납일로다시확인() {
+        // Given - 드라이버가 건별 수 대신 SUCCESS_NO_INFO(-2)를 돌려주고, 조회 후 다른 요청이 대여 하나를 먼저 반납
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book book1 = createAndSaveBook("도서1", "저자1");
+        Book book2 = createAndSaveBook("도서2", "저자2");
+        for (Book book : List.of(book1, book2)) {
+            entityManager.persistAndFlush(Loan.builder()
+                    .member(member)
+                    .book(book)
+                    .loanDate(LocalDateTime.now().minusDays(10))
+                    .dueDate(LocalDateTime.now().plusDays(4))
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.clear();
+
+        List<Loan> loans = loanRepository.findUnreturnedForReturnByBookIdIn(List.of(book1.getId(), book2.getId()));
+        LocalDateTime now = LocalDateTime.now();
+        loans.forEach(loan -> loan.returnBook(now));
+        Loan returnedByOther = loans.get(1);
+        jdbcTemplate.update("UPDATE loan SET return_date = ?, status = 'RETURNED' WHERE id = ?",
+                Timestamp.valueOf(now.minusMinutes(1)), returnedByOther.getId());
+
+        JdbcTemplate noInfo = spy(jdbcTemplate);
+        doAnswer(invocation -> {
+            int[] counts = (int[]) invocation.callRealMethod();
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            return counts;
+        }).when(noInfo).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+
+        // When
+        boolean[] updated = new LoanBatchRepositoryImpl(noInfo).updateReturned(loans);
+
+        // Then
+        assertThat(updated).containsExactly(true, false);
+    }
+
+    @Test
+    public void findUnreturnedForReturnByBookIdIn_취소된대여만있는도서_반납대상아님() {
+        // Given - 취소된 대여는 반납일 없이 남아 있음
+        Member member = createAndSaveMember("홍길동", "hong@example.com");
+        Book book = createAndSaveBook("취소된 대여만 있는 도서", "저자1");
+        Loan cancelled = Loan.builder()
+                .member(member)
+                .book(book)
+                .loanDate(LocalDateTime.now().minusDays(20))
+                .dueDate(LocalDateTime.now().minusDays(6))
+                .createdDate(LocalDateTime.now())
+                .build();
+        cancelled.cancel();
+        entityManager.persistAndFlush(cancelled);
+        entityManager.clear();
+
+        Loan stale = loanRepository.findAllForReturnByIdIn(List.of(cancelled.getId())).get(0);
+        stale.returnBook(LocalDateTime.now());
+
+        // When
+        List<Loan> loans = loanRepository.findUnreturnedForReturnByBookIdIn(List.of(book.getId()));
+        boolean[] updated = loanRepository.updateReturned(List.of(stale));
+
+        // Then
+        assertThat(loans).isEmpty();
+        assertThat(updated).containsExactly(false);
+        entityManager.clear();
+        Loan found = loanRepository.findById(cancelled.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(LoanStatus.CANCELLED);
+        assertThat(found.getReturnDate()).isNull();
+        assertThat(found.getOverdueFee().getAmount()).isEqualByComparingTo("0");
+    }
+
 }
\ No newline at end of file
@@ -193,6 +193,26 @@ public class MemberRepositoryTest {
         assertThat(memberRepository.existsByEmail("notexist@example.com")).isFalse();
     }
 
+    @Test
+    public void findAllEmails_전체이메일조회() {
+        // Given
+        Member member = Member.builder()
+                .name("강감찬")
+                .email("kang@example.com")
+                .password("test-password")
+                .role(Role.USER)
+                .membershipType(MembershipType.REGULAR)
+                .joinDate(LocalDateTime.now())
+                .build();
+        entityManager.persistAndFlush(member);
+
+        // When
+        List<String> emails = memberRepository.findAllEmails();
+
+        // Then
+        assertThat(emails).contains("kang@example.com");
+    }
+
     @Test
     public void findAll_회원목록조회() {
         // Given
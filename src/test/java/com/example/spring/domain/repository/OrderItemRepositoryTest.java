@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -47,7 +48,7 @@ public class OrderItemRepositoryTest {
                 .title(title)
                 .author(author)
                 .price(Money.of(price))
-                .isbn(ISBN.of("978" + String.format("%010d", System.nanoTime() % 10000000000L)))
+                .isbn(ISBN.of(TestIsbns.isbn13(System.nanoTime())))
                 .available(true)
                 .createdDate(LocalDateTime.now())
                 .build();
@@ -17,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
+import com.example.spring.domain.vo.TestIsbns;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -54,7 +55,7 @@ public class OrderRepositoryTest {
                 .title(title)
                 .author(author)
                 .price(Money.of(price))
-                .isbn(ISBN.of("978" + String.format("%010d", (System.nanoTime() % 10000000000L) + (++isbnCounter))))
+                .isbn(ISBN.of(TestIsbns.isbn13(System.nanoTime() + (++isbnCounter))))
                 .available(true)
                 .createdDate(LocalDateTime.now())
                 .build();
@@ -0,0 +1,65 @@
+package com.example.spring.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정
+ *
+ * Hibernate 통계의 PreparedStatement 수를 세므로 테스트에
+ * spring.jpa.properties.hibernate.generate_statistics=true 설정이 필요합니다.
+ * 측정 전에 영속성 컨텍스트를 비워 이미 읽은 엔티티가 지연 로딩 쿼리를 가리지 않게 합니다.
+ */
+public class QueryCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * queries 실행 중 나간 SQL 수
+     */
+    public long count(Runnable queries) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        queries.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 이름별 queries의 SQL 수
+     */
+    public Map<String, Long> countAll(Map<String, Runnable> queries) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        queries.forEach((name, query) -> counts.put(name, count(query)));
+        return counts;
+    }
+
+    /**
+     * 데이터를 늘리기 전후의 SQL 수가 같은지 검증 (결과 크기에 비례해 늘어나면 N+1)
+     *
+     * @param queries 이름별 측정 대상
+     * @param grow    결과 행 수를 늘리는 데이터 추가
+     * @return 데이터를 늘린 뒤의 이름별 SQL 수
+     */
+    public Map<String, Long> assertQueryCountIndependentOfResultSize(Map<String, Runnable> queries, Runnable grow) {
+        Map<String, Long> before = countAll(queries);
+        grow.run();
+        Map<String, Long> after = countAll(queries);
+        before.forEach((name, count) -> assertThat(after.get(name))
+                .as("결과 크기에 따라 SQL 수가 달라짐 - %s (%d -> %d)", name, count, after.get(name))
+                .isEqualTo(count));
+        return after;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.example.spring.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ISBN VO 테스트")
+class ISBNTest {
+
+    @Nested
+    @DisplayName("파싱 테스트")
+    class ParseTest {
+
+        @Test
+        @DisplayName("ISBN-13을 13자리 정수로 변환")
+        void parseIsbn13_ISBN13_정수변환() {
+            assertThat(ISBN.parseIsbn13("9780132350884")).isEqualTo(9780132350884L);
+            assertThat(ISBN.parseIsbn13("979-10-90636-07-1")).isEqualTo(9791090636071L);
+        }
+
+        @Test
+        @DisplayName("ISBN-10은 978을 붙이고 체크 숫자를 다시 계산 (마지막 X 허용)")
+        void parseIsbn13_ISBN10_ISBN13변환() {
+            assertThat(ISBN.parseIsbn13("0-13-235088-2")).isEqualTo(9780132350884L);
+            assertThat(ISBN.parseIsbn13("0-8044-2957-X")).isEqualTo(9780804429573L);
+            assertThat(ISBN.parseIsbn13("080442957x")).isEqualTo(9780804429573L);
+        }
+
+        @Test
+        @DisplayName("하이픈 위치, 공백 구분자, ISBN 접두사가 달라도 같은 값")
+        void parseIsbn13_표기차이_같은값() {
+            assertThat(ISBN.parseIsbn13("978-0132-350884"))
+                    .isEqualTo(ISBN.parseIsbn13("978 0 13 235088 4"))
+                    .isEqualTo(ISBN.parseIsbn13("ISBN978-0-13-235088-4"))
+                    .isEqualTo(9780132350884L);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "9780132350885",        // ISBN-13 체크 숫자 오류
+                "0-13-235088-3",        // ISBN-10 체크 숫자 오류
+                "9770132350885",        // 978/979가 아닌 접두사
+                "-9780132350884",       // 맨 앞 구분자
+                "9780132350884-",       // 맨 뒤 구분자
+                "978--0132350884",      // 연속 구분자
+                "9-7-8-0-1-32350884",   // 구분자 5개
+                "0-8044-X957-2",        // 마지막이 아닌 X
+                "978013235088",         // 12자리
+                "97801323508840",       // 14자리
+                "978_0132350884",
+                ""
+        })
+        @DisplayName("형식이나 체크 숫자가 틀리면 INVALID")
+        void parseIsbn13_잘못된입력_INVALID(String value) {
+            assertThat(ISBN.parseIsbn13(value)).isEqualTo(ISBN.INVALID);
+        }
+
+        @Test
+        @DisplayName("null은 INVALID")
+        void parseIsbn13_null_INVALID() {
+            assertThat(ISBN.parseIsbn13(null)).isEqualTo(ISBN.INVALID);
+        }
+    }
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("구분자 없는 13자리는 표준 하이픈 형식으로 표시")
+        void of_13자리_하이픈형식() {
+            // When
+            ISBN isbn = ISBN.of("9780132350884");
+
+            // Then
+            assertThat(isbn.getValue()).isEqualTo("978-0-13-235088-4");
+            assertThat(isbn.getIsbn13()).isEqualTo(9780132350884L);
+            assertThat(isbn.getDigitsOnly()).isEqualTo("9780132350884");
+        }
+
+        @Test
+        @DisplayName("구분자가 있으면 입력 형식을 유지하고 공백은 하이픈으로 바꿈")
+        void of_구분자입력_형식유지() {
+            assertThat(ISBN.of("978-0132-350884").getValue()).isEqualTo("978-0132-350884");
+            assertThat(ISBN.of("ISBN 978 0 13 235088 4").getValue()).isEqualTo("978-0-13-235088-4");
+            assertThat(ISBN.of("0-8044-2957-x").getValue()).isEqualTo("0-8044-2957-X");
+        }
+
+        @Test
+        @DisplayName("표기가 달라도 같은 ISBN이면 동등")
+        void equals_표기차이_동등() {
+            assertThat(ISBN.of("978-0132-350884"))
+                    .isEqualTo(ISBN.of("9780132350884"))
+                    .isEqualTo(ISBN.of("0-13-235088-2"))
+                    .hasSameHashCodeAs(ISBN.of("9780132350884"));
+        }
+
+        @Test
+        @DisplayName("빈 값이나 올바르지 않은 ISBN이면 예외 발생")
+        void of_잘못된입력_예외발생() {
+            assertThatThrownBy(() -> ISBN.of(" "))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("ISBN은 필수입니다");
+            assertThatThrownBy(() -> ISBN.of("9780132350885"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("9780132350885");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.example.spring.domain.vo;
+
+import com.example.spring.Benchmarks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ISBN 파싱 처리량과 호출당 할당량 측정
+ *
+ * 대량 등록과 ISBN 조회마다 실행되는 경로를 비교합니다.
+ * 기존 구현(정규식 검증 + String.format 정규화 + replaceAll 숫자 추출)은 비교를 위해 이 테스트에 그대로 옮겨 두었습니다.
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 계산합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=IsbnParseBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("ISBN 파싱 성능 측정")
+class IsbnParseBenchmarkTest {
+
+    private static final int INPUT_COUNT = 10_000;
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("한 번 훑는 파서가 기존 정규식 구현보다 적게 할당")
+    void parse_단일패스_기존구현보다적은할당() {
+        List<String> inputs = new ArrayList<>(INPUT_COUNT);
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            String isbn = TestIsbns.isbn13(i * 7_919L);
+            inputs.add(i % 2 == 0 ? isbn : ISBN.of(isbn).getValue());
+        }
+
+        long[] legacy = measure(inputs, value -> LegacyIsbn.digitsOnly(LegacyIsbn.normalize(value)).length());
+        long[] current = measure(inputs, value -> ISBN.of(value).getIsbn13());
+        long[] lookup = measure(inputs, ISBN::parseIsbn13);
+
+        Benchmarks.printTitle("ISBN 파싱", "inputs=%d, rounds=%d", INPUT_COUNT, ROUNDS);
+        Benchmarks.printRow("", "ns/op", "bytes/op");
+        print("legacy regex + format", legacy);
+        print("ISBN.of (single pass)", current);
+        print("parseIsbn13 (lookup key)", lookup);
+
+        assertThat(current[1]).isLessThan(legacy[1]);
+        assertThat(lookup[1]).isZero();
+    }
+
+    private static long[] measure(List<String> inputs, ToLongFunction<String> parser) {
+        return Benchmarks.perOperation(ROUNDS, inputs.size(), i -> parser.applyAsLong(inputs.get(i)));
+    }
+
+    private static void print(String label, long[] result) {
+        Benchmarks.printRow(label, result[0], result[1]);
+    }
+
+    /**
+     * 기존 ISBN VO의 검증/정규화 로직
+     */
+    private static final class LegacyIsbn {
+
+        private static final Pattern ISBN_PATTERN = Pattern.compile(
+                "^\\d{3}-?\\d{1,5}-?\\d{1,7}-?\\d{1,7}-?\\d{1}$|^\\d{13}$|^ISBN\\d+$"
+        );
+
+        static String normalize(String value) {
+            if (!ISBN_PATTERN.matcher(value).matches()) {
+                throw new IllegalArgumentException(value);
+            }
+            if (value.startsWith("ISBN") || value.contains("-") || value.length() != 13) {
+                return value;
+            }
+            return String.format("%s-%s-%s-%s-%s",
+                    value.substring(0, 3),
+                    value.substring(3, 4),
+                    value.substring(4, 6),
+                    value.substring(6, 12),
+                    value.substring(12, 13));
+        }
+
+        static String digitsOnly(String value) {
+            return value.replaceAll("[^0-9]", "");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.example.spring.domain.vo;
+
+import com.example.spring.domain.model.Loan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MoneyAccumulator 테스트")
+class MoneyAccumulatorTest {
+
+    @Nested
+    @DisplayName("합계 테스트")
+    class SumTest {
+
+        @Test
+        @DisplayName("단가×수량 합계와 차감이 Money 연산을 이어서 한 결과와 같음 (반올림 포함)")
+        void add_Money연산과_같은결과() {
+            // Given - 생성 시 소수 둘째 자리로 반올림되는 금액 포함
+            List<Money> prices = List.of(
+                    Money.of(new BigDecimal("45000")),
+                    Money.of(new BigDecimal("12.345")),
+                    Money.of(new BigDecimal("0.005")),
+                    Money.of(new BigDecimal("19999.99")));
+            Money discount = Money.of(new BigDecimal("3000.50"));
+
+            // When
+            Money expected = Money.zero();
+            MoneyAccumulator accumulator = new MoneyAccumulator();
+            for (int i = 0; i < prices.size(); i++) {
+                expected = expected.add(prices.get(i).multiply(i + 1));
+                accumulator.add(prices.get(i), i + 1);
+            }
+            expected = expected.subtract(discount);
+            accumulator.subtract(discount);
+
+            // Then
+            Money actual = accumulator.toMoney();
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.getAmount()).isEqualTo(new BigDecimal("122024.19"));
+            assertThat(actual.getAmount().scale()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("아무 것도 더하지 않으면 0원")
+        void toMoney_빈누산기_0원() {
+            assertThat(new MoneyAccumulator().toMoney()).isEqualTo(Money.zero());
+        }
+
+        @Test
+        @DisplayName("long 범위를 넘으면 BigDecimal로 이어서 계산")
+        void add_long범위초과_BigDecimal로계산() {
+            // Given
+            Money large = Money.of(new BigDecimal("50000000000000000.00"));  // 최소 단위로 5 × 10^18
+
+            // When
+            Money sum = new MoneyAccumulator().add(large).add(large).add(Money.of(1)).toMoney();
+
+            // Then
+            assertThat(sum).isEqualTo(large.add(large).add(Money.of(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("통화 테스트")
+    class CurrencyTest {
+
+        @Test
+        @DisplayName("다른 통화 금액을 더하면 예외 발생")
+        void add_다른통화_예외발생() {
+            MoneyAccumulator accumulator = new MoneyAccumulator();
+
+            assertThatThrownBy(() -> accumulator.add(Money.of(1000, "USD")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("통화 코드는 같은 인스턴스로 정규화")
+        void of_통화코드_정규화() {
+            String usd = new String("USD");
+
+            assertThat(Money.of(1000, new String("KRW")).getCurrency()).isSameAs(Money.DEFAULT_CURRENCY);
+            assertThat(Money.of(1000, usd).getCurrency()).isSameAs(Money.of(5, "USD").getCurrency());
+            assertThat(new MoneyAccumulator(usd).add(Money.of(5, "USD")).toMoney())
+                    .isEqualTo(Money.of(5, "USD"));
+        }
+
+        @Test
+        @DisplayName("ISO 4217에 없는 통화 코드는 정규화하지 않고 그대로 사용")
+        void of_알수없는통화코드_그대로사용() {
+            String unknown = new String("ZZQ");
+
+            Money money = Money.of(1000, unknown);
+
+            assertThat(money.getCurrency()).isSameAs(unknown);
+            assertThat(money).isEqualTo(Money.of(1000, "ZZQ"));
+        }
+    }
+
+    @Test
+    @DisplayName("연체료는 미리 만든 값과 새로 계산한 값이 같음")
+    void overdueFeeFor_캐시값_계산값과같음() {
+        for (long days : new long[]{0, 1, 30, 365, 366, 1000}) {
+            assertThat(Loan.overdueFeeFor(days)).isEqualTo(Money.of(Math.max(days, 0) * Loan.DAILY_OVERDUE_FEE));
+        }
+        assertThat(Loan.overdueFeeFor(7)).isSameAs(Loan.overdueFeeFor(7));
+    }
+}
\ No newline at end of file
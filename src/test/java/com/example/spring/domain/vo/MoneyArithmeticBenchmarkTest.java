@@ -0,0 +1,103 @@
+package com.example.spring.domain.vo;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Loan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금액 합계 계산 처리량과 호출당 할당량 측정
+ *
+ * 주문 총액(단가×수량 합계 - 할인)과 연체료 계산/합계를 Money 연산을 이어서 하는 기존 방식과
+ * MoneyAccumulator/미리 만든 연체료로 하는 방식으로 비교합니다. 두 방식의 결과가 같은지도 확인합니다.
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 계산합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=MoneyArithmeticBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("금액 계산 성능 측정")
+class MoneyArithmeticBenchmarkTest {
+
+    private static final int INPUT_COUNT = 10_000;
+    private static final int LINES_PER_ORDER = 5;
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("누산기와 미리 만든 연체료가 기존 Money 연산과 같은 결과를 더 적은 할당으로 계산")
+    void 금액계산_누산기_기존연산보다적은할당() {
+        Money[] prices = new Money[INPUT_COUNT];
+        int[] quantities = new int[INPUT_COUNT];
+        long[] overdueDays = new long[INPUT_COUNT];
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            prices[i] = Money.of(BigDecimal.valueOf(5_000 + (i * 7_919L) % 45_000, i % 3));
+            quantities[i] = 1 + i % 4;
+            overdueDays[i] = i % 60;
+        }
+        Money discount = Money.of(1_000);
+
+        // 주문 하나 = LINES_PER_ORDER개 항목
+        IntToLongFunction legacyOrder = order -> {
+            Money total = Money.zero();
+            for (int line = 0; line < LINES_PER_ORDER; line++) {
+                int i = (order + line) % INPUT_COUNT;
+                total = total.add(prices[i].multiply(quantities[i]));
+            }
+            return total.subtract(discount).toMinorUnits();
+        };
+        IntToLongFunction accumulatorOrder = order -> {
+            MoneyAccumulator total = new MoneyAccumulator();
+            for (int line = 0; line < LINES_PER_ORDER; line++) {
+                int i = (order + line) % INPUT_COUNT;
+                total.add(prices[i], quantities[i]);
+            }
+            return total.subtract(discount).toMoney().toMinorUnits();
+        };
+        // 연체 대여 하나의 연체료 계산 + 누적 합계 (반납/스윕 일괄 처리)
+        Money[] legacyFeeSum = {Money.zero()};
+        MoneyAccumulator feeSum = new MoneyAccumulator();
+        IntToLongFunction legacyFee = i -> {
+            Money fee = overdueDays[i] <= 0 ? Money.zero() : Money.of(overdueDays[i] * Loan.DAILY_OVERDUE_FEE);
+            legacyFeeSum[0] = legacyFeeSum[0].add(fee);
+            return fee.getAmount().signum();
+        };
+        IntToLongFunction accumulatorFee = i -> {
+            Money fee = Loan.overdueFeeFor(overdueDays[i]);
+            feeSum.add(fee);
+            return fee.getAmount().signum();
+        };
+
+        for (int order = 0; order < INPUT_COUNT; order++) {
+            assertThat(accumulatorOrder.applyAsLong(order)).isEqualTo(legacyOrder.applyAsLong(order));
+        }
+
+        long[] orderLegacy = measure(legacyOrder);
+        long[] orderAccumulator = measure(accumulatorOrder);
+        long[] feeLegacy = measure(legacyFee);
+        long[] feeAccumulator = measure(accumulatorFee);
+
+        Benchmarks.printTitle("금액 계산", "inputs=%d, rounds=%d, 주문당 %d항목", INPUT_COUNT, ROUNDS, LINES_PER_ORDER);
+        Benchmarks.printRow("", "ns/op", "bytes/op");
+        print("order total - Money chain", orderLegacy);
+        print("order total - MoneyAccumulator", orderAccumulator);
+        print("overdue fee - Money.of + add", feeLegacy);
+        print("overdue fee - cached + accum.", feeAccumulator);
+
+        assertThat(feeSum.toMoney()).isEqualTo(legacyFeeSum[0]);
+        assertThat(orderAccumulator[1]).isLessThan(orderLegacy[1]);
+        assertThat(feeAccumulator[1]).isLessThan(feeLegacy[1]);
+    }
+
+    private static long[] measure(IntToLongFunction operation) {
+        return Benchmarks.perOperation(ROUNDS, INPUT_COUNT, operation);
+    }
+
+    private static void print(String label, long[] result) {
+        Benchmarks.printRow(label, result[0], result[1]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.spring.domain.vo;
+
+/**
+ * 테스트용 ISBN 생성기 (일련번호로 체크 숫자가 올바른 ISBN-13 생성)
+ */
+public final class TestIsbns {
+
+    private TestIsbns() {
+    }
+
+    /**
+     * 978 + 9자리 일련번호 + 체크 숫자 (구분자 없는 13자리)
+     */
+    public static String isbn13(long serial) {
+        String first12 = String.format("978%09d", serial % 1_000_000_000L);
+        int sum = 0;
+        for (int i = 0; i < first12.length(); i++) {
+            int digit = first12.charAt(i) - '0';
+            sum += i % 2 == 0 ? digit : digit * 3;
+        }
+        return first12 + (10 - sum % 10) % 10;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.example.spring.infrastructure.availability;
+
+import com.example.spring.Benchmarks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 100만 권 기준 대여 가능 비트맵의 메모리 사용량과 후보 교집합 시간 측정
+ *
+ * 대여 가능 80%, 삭제 3%, 대여 중 15%로 상태를 무작위 배정하고, id 범위가 넓어진 경우(5건 중 1건만 남은 id)도 함께 봅니다.
+ * 비교 대상인 BitSet은 최대 id까지 비트를 모두 잡고, HashSet<Long>은 원소당 약 64바이트(노드 + Long 박싱)로 계산합니다.
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=BookAvailabilityBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("대여 가능 비트맵 메모리/교집합 측정")
+class BookAvailabilityBenchmarkTest {
+
+    private static final int BOOKS = 1_000_000;
+    private static final int CANDIDATES = 1_000;
+    private static final int ROUNDS = 2_000;
+    private static final long HASH_SET_BYTES_PER_ENTRY = 64;
+
+    @Test
+    @DisplayName("100만 권 세 비트맵이 BitSet보다 작고 HashSet보다 훨씬 작음")
+    void memory_100만권_비교() {
+        Benchmarks.printTitle("대여 가능 비트맵", "books=%d (available 80%%, deleted 3%%, loaned 15%%)", BOOKS);
+        Benchmarks.printRow("id stride", "bitmap(B)", "BitSet(B)", "HashSet(B)", "retain(ns/id)");
+
+        for (int stride : new int[]{1, 5}) {
+            CompressedBitmap[] bitmaps = build(stride);
+            long bitmapBytes = Arrays.stream(bitmaps).mapToLong(CompressedBitmap::sizeInBytes).sum();
+            long bitSetBytes = 3L * ((long) BOOKS * stride / 8);
+            long hashSetBytes = Arrays.stream(bitmaps).mapToLong(CompressedBitmap::cardinality).sum() * HASH_SET_BYTES_PER_ENTRY;
+            double retainNanos = measureRetain(bitmaps[0], stride);
+
+            Benchmarks.printRow(String.valueOf(stride), bitmapBytes, bitSetBytes, hashSetBytes, retainNanos);
+
+            assertThat(bitmapBytes).isLessThan(hashSetBytes / 10);
+            if (stride == 1) {
+                assertThat(bitmapBytes).isLessThanOrEqualTo(bitSetBytes + 4_096);
+            } else {
+                assertThat(bitmapBytes).isLessThan(bitSetBytes);
+            }
+        }
+    }
+
+    /**
+     * @return {available, deleted, loaned}
+     */
+    private CompressedBitmap[] build(int stride) {
+        Random random = new Random(42);
+        CompressedBitmap available = new CompressedBitmap();
+        CompressedBitmap deleted = new CompressedBitmap();
+        CompressedBitmap loaned = new CompressedBitmap();
+        BitSet check = new BitSet();
+        for (int i = 1; i <= BOOKS; i++) {
+            int id = i * stride;
+            int state = random.nextInt(100);
+            if (state < 80) {
+                available.add(id);
+            } else if (state < 83) {
+                deleted.add(id);
+            } else if (state < 98) {
+                loaned.add(id);
+            }
+            check.set(id, state < 80);
+        }
+        assertThat(available.cardinality()).isEqualTo(check.cardinality());
+        return new CompressedBitmap[]{available, deleted, loaned};
+    }
+
+    private double measureRetain(CompressedBitmap available, int stride) {
+        Random random = new Random(7);
+        int[][] candidates = new int[ROUNDS][];
+        for (int round = 0; round < ROUNDS; round++) {
+            Set<Integer> ids = new HashSet<>();
+            while (ids.size() < CANDIDATES) {
+                ids.add((1 + random.nextInt(BOOKS)) * stride);
+            }
+            candidates[round] = ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+        long nanosPerRound = Benchmarks.perOperation(1, ROUNDS, round -> available.retain(candidates[round]).length)[0];
+        return (double) nanosPerRound / CANDIDATES;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.example.spring.infrastructure.availability;
+
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookAvailabilityIndex 테스트")
+class BookAvailabilityIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @InjectMocks
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 1, 2: 대여 가능 / 3: 대여 중 / 4: 삭제됨
+        given(bookRepository.findAvailableIds()).willReturn(List.of(1L, 2L));
+        given(bookRepository.findDeletedIds()).willReturn(List.of(4L));
+        given(loanRepository.findLoanedBookIds()).willReturn(List.of(3L));
+        bookAvailabilityIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("재구성 후 상태별로 대여 가능 여부 판단")
+    void rebuild_상태별_대여가능여부() {
+        assertThat(bookAvailabilityIndex.isReady()).isTrue();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(1L)).isTrue();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(3L)).isFalse();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(4L)).isFalse();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(99L)).isFalse();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대여/반납 이벤트로 대여 중 상태 반영")
+    void onLoanCreated_onLoanReturned_대여중상태반영() {
+        // Given
+        Book book = book(1L);
+        book.loanOut();
+        Loan loan = Loan.builder().book(book).build();
+
+        // When
+        bookAvailabilityIndex.onLoanCreated(new LoanCreatedEvent(loan));
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(1L)).isFalse();
+        assertThat(bookAvailabilityIndex.statistics().getLoanedBooks()).isEqualTo(2);
+
+        // When
+        book.returnBook();
+        bookAvailabilityIndex.onLoanReturned(new LoanReturnedEvent(loan, false));
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 중 조회 사이에 커밋된 대여/반납은 교체 후 다시 반영")
+    void rebuild_조회중변경_교체후반영() {
+        // Given - 대여 가능 도서를 읽은 뒤 1번 대여, 3번 반납이 커밋됨 (대여 중 조회에는 아직 3번이 남아 있음)
+        Book loanedBook = book(1L);
+        loanedBook.loanOut();
+        Book returnedBook = book(3L);
+        given(loanRepository.findLoanedBookIds()).willAnswer(invocation -> {
+            bookAvailabilityIndex.onLoanCreated(new LoanCreatedEvent(Loan.builder().book(loanedBook).build()));
+            bookAvailabilityIndex.onLoanReturned(
+                    new LoanReturnedEvent(Loan.builder().book(returnedBook).build(), false));
+            return List.of(3L);
+        });
+
+        // When
+        bookAvailabilityIndex.rebuild();
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(1L)).isFalse();
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(3L)).isTrue();
+        assertThat(bookAvailabilityIndex.statistics().getLoanedBooks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대여 취소 등 도서 변경 이벤트로 대여 종료 반영")
+    void onBookChanged_대여종료_대여가능() {
+        // Given
+        Book book = book(3L);
+        book.loanOut();
+        book.returnBook();
+
+        // When
+        bookAvailabilityIndex.onBookChanged(new BookChangedEvent(book, false));
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("삭제/복원은 트랜잭션 커밋 후에 반영")
+    void update_트랜잭션안_커밋후반영() {
+        // Given
+        Book book = book(2L);
+        book.markAsDeleted();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            bookAvailabilityIndex.update(book);
+
+            // Then - 커밋 전에는 그대로
+            assertThat(bookAvailabilityIndex.isAvailableForLoan(2L)).isTrue();
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(2L)).isFalse();
+
+        // When - 트랜잭션 밖이면 즉시 반영
+        book.restore();
+        bookAvailabilityIndex.update(book);
+
+        // Then
+        assertThat(bookAvailabilityIndex.isAvailableForLoan(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("후보 id 중 available이고 삭제되지 않은 도서만 남김")
+    void retainAvailable_후보id_교집합() {
+        // When
+        int[] retained = bookAvailabilityIndex.retainAvailable(new int[]{1, 2, 3, 4, 5});
+
+        // Then - 대여 중(3), 삭제된(4), 없는(5) 도서는 제외
+        assertThat(retained).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("통계 - 상태별 도서 수와 id 범위 100만 건당 메모리")
+    void statistics_상태별건수와메모리() {
+        // When
+        BookAvailabilityIndex.Snapshot snapshot = bookAvailabilityIndex.statistics();
+
+        // Then
+        assertThat(snapshot.isReady()).isTrue();
+        assertThat(snapshot.getHighestBookId()).isEqualTo(4);
+        assertThat(snapshot.getAvailableBooks()).isEqualTo(2);
+        assertThat(snapshot.getDeletedBooks()).isEqualTo(1);
+        assertThat(snapshot.getLoanedBooks()).isEqualTo(1);
+        assertThat(snapshot.getMemoryBytes()).isPositive();
+        assertThat(snapshot.getBytesPerMillionBooks()).isEqualTo(snapshot.getMemoryBytes() * 1_000_000 / 4);
+    }
+
+    private Book book(Long id) {
+        return Book.builder()
+                .id(id)
+                .title("Clean Code")
+                .author("Robert C. Martin")
+                .isbn(ISBN.of("9780132350884"))
+                .price(Money.of(new BigDecimal("45.99")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+}
\ No newline at end of file
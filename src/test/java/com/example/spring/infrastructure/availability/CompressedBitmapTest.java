@@ -0,0 +1,145 @@
+package com.example.spring.infrastructure.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompressedBitmap 테스트")
+class CompressedBitmapTest {
+
+    @Nested
+    @DisplayName("추가/제거 테스트")
+    class AddRemoveTest {
+
+        @Test
+        @DisplayName("구간이 다른 값도 오름차순으로 조회")
+        void add_여러구간_오름차순조회() {
+            // Given
+            CompressedBitmap bitmap = CompressedBitmap.of(70_000, 3, 1, 65_536, 3);
+
+            // Then
+            assertThat(bitmap.toArray()).containsExactly(1, 3, 65_536, 70_000);
+            assertThat(bitmap.cardinality()).isEqualTo(4);
+            assertThat(bitmap.contains(65_536)).isTrue();
+            assertThat(bitmap.contains(2)).isFalse();
+            assertThat(bitmap.last()).isEqualTo(70_000);
+        }
+
+        @Test
+        @DisplayName("새로 추가/제거되었을 때만 true")
+        void addRemove_변경여부반환() {
+            // Given
+            CompressedBitmap bitmap = new CompressedBitmap();
+
+            // When & Then
+            assertThat(bitmap.add(7)).isTrue();
+            assertThat(bitmap.add(7)).isFalse();
+            assertThat(bitmap.remove(7)).isTrue();
+            assertThat(bitmap.remove(7)).isFalse();
+            assertThat(bitmap.isEmpty()).isTrue();
+            assertThat(bitmap.last()).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("구간 원소가 4,096개를 넘으면 비트맵으로, 다시 줄면 배열로 전환")
+        void add_원소수에따라_컨테이너전환() {
+            // Given
+            CompressedBitmap bitmap = new CompressedBitmap();
+            IntStream.rangeClosed(0, CompressedBitmap.ARRAY_MAX).forEach(bitmap::add);
+
+            // Then
+            assertThat(bitmap.bitmapContainerCount()).isEqualTo(1);
+            assertThat(bitmap.cardinality()).isEqualTo(CompressedBitmap.ARRAY_MAX + 1);
+            assertThat(bitmap.last()).isEqualTo(CompressedBitmap.ARRAY_MAX);
+
+            // When
+            bitmap.remove(0);
+
+            // Then
+            assertThat(bitmap.bitmapContainerCount()).isZero();
+            assertThat(bitmap.contains(0)).isFalse();
+            assertThat(bitmap.contains(CompressedBitmap.ARRAY_MAX)).isTrue();
+        }
+
+        @Test
+        @DisplayName("음수는 저장할 수 없음")
+        void add_음수_예외() {
+            assertThatThrownBy(() -> new CompressedBitmap().add(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(new CompressedBitmap().contains(-1)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("집합 연산 테스트")
+    class SetOperationTest {
+
+        @Test
+        @DisplayName("배열/비트맵 컨테이너 조합과 관계없이 교집합/차집합이 TreeSet과 같음")
+        void andAndNot_무작위값_TreeSet과일치() {
+            // Given - 첫 구간은 빽빽하게(비트맵), 나머지는 드문드문(배열)
+            Random random = new Random(42);
+            CompressedBitmap left = new CompressedBitmap();
+            CompressedBitmap right = new CompressedBitmap();
+            TreeSet<Integer> leftSet = new TreeSet<>();
+            TreeSet<Integer> rightSet = new TreeSet<>();
+            for (int i = 0; i < 20_000; i++) {
+                int dense = random.nextInt(30_000);
+                int sparse = 65_536 + random.nextInt(1_000_000);
+                int value = i % 2 == 0 ? dense : sparse;
+                if (random.nextBoolean()) {
+                    left.add(value);
+                    leftSet.add(value);
+                } else {
+                    right.add(value);
+                    rightSet.add(value);
+                }
+            }
+
+            // When
+            int[] intersection = CompressedBitmap.and(left, right).toArray();
+            int[] difference = CompressedBitmap.andNot(left, right).toArray();
+
+            // Then
+            TreeSet<Integer> expectedIntersection = new TreeSet<>(leftSet);
+            expectedIntersection.retainAll(rightSet);
+            TreeSet<Integer> expectedDifference = new TreeSet<>(leftSet);
+            expectedDifference.removeAll(rightSet);
+            assertThat(intersection).containsExactly(expectedIntersection.stream().mapToInt(Integer::intValue).toArray());
+            assertThat(difference).containsExactly(expectedDifference.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        @Test
+        @DisplayName("오름차순 후보 중 비트맵에 있는 값만 남김")
+        void retain_오름차순후보_교집합() {
+            // Given
+            CompressedBitmap bitmap = CompressedBitmap.of(2, 4, 200_000);
+
+            // When
+            int[] retained = bitmap.retain(new int[]{1, 2, 3, 4, 100_000, 200_000, 300_000});
+
+            // Then
+            assertThat(retained).containsExactly(2, 4, 200_000);
+        }
+    }
+
+    @Test
+    @DisplayName("빽빽한 구간은 원소당 1비트, 드문드문한 구간은 원소당 2바이트 수준")
+    void sizeInBytes_밀도별_메모리() {
+        // Given
+        CompressedBitmap dense = new CompressedBitmap();
+        IntStream.range(0, 65_536).forEach(dense::add);
+        CompressedBitmap sparse = new CompressedBitmap();
+        IntStream.range(0, 1_000).forEach(i -> sparse.add(i * 64));
+
+        // Then
+        assertThat(dense.sizeInBytes()).isLessThan(8_192 + 256);
+        assertThat(sparse.sizeInBytes()).isLessThan(2 * 1_024 + 256);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.example.spring.infrastructure.cache;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.config.CacheConfig;
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BookCacheInvalidator 테스트")
+class BookCacheInvalidatorTest {
+
+    private Cache books;
+    private BookCacheInvalidator invalidator;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(new BookstoreProperties());
+        books = cacheManager.getCache(CacheConfig.BOOKS);
+        invalidator = new BookCacheInvalidator(cacheManager);
+
+        book = Book.builder().id(1L).title("Clean Code").available(false).build();
+        books.put(1L, "cached");
+        books.put(2L, "other");
+    }
+
+    @Test
+    @DisplayName("대출 생성/반납 이벤트로 해당 도서 캐시만 제거")
+    void onLoanEvents_해당도서캐시제거() {
+        // Given
+        Loan loan = Loan.builder().book(book).build();
+
+        // When
+        invalidator.onLoanCreated(new LoanCreatedEvent(loan));
+
+        // Then
+        assertThat(books.get(1L)).isNull();
+        assertThat(books.get(2L)).isNotNull();
+
+        // When
+        books.put(1L, "cached");
+        invalidator.onLoanReturned(new LoanReturnedEvent(loan, false));
+
+        // Then
+        assertThat(books.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋 이후 단계(트랜잭션 동기화 활성)에서도 즉시 제거")
+    void onBookChanged_트랜잭션동기화중_즉시제거() {
+        // Given
+        boolean wasAvailable = Boolean.TRUE.equals(book.getAvailable());
+        book.returnBook();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        try {
+            invalidator.onBookChanged(new BookChangedEvent(book, wasAvailable));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(books.get(1L)).isNull();
+        assertThat(books.get(2L)).isNotNull();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.example.spring.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlightCache 테스트")
+class SingleFlightCacheTest {
+
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCache target = new CaffeineCache("books", Caffeine.newBuilder().recordStats().build());
+        cache = new SingleFlightCache(target, REFRESH_AFTER_WRITE, refreshTasks::add, now::get);
+    }
+
+    @Nested
+    @DisplayName("동시 조회 합치기 테스트")
+    class SingleFlightTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 캐시 실패는 한 번만 로드하고 결과를 공유")
+        void get_동시캐시실패_한번만로드() throws Exception {
+            // Given
+            int readers = 50;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(1L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return "Clean Code";
+                    });
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Clean Code");
+            }
+            executor.shutdown();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("null 결과도 저장해 없는 키의 반복 조회를 합침")
+        void get_null결과_저장() {
+            // Given
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            cache.get(99L, () -> {
+                loads.incrementAndGet();
+                return null;
+            });
+            Object second = cache.get(99L, () -> {
+                loads.incrementAndGet();
+                return "unexpected";
+            });
+
+            // Then
+            assertThat(second).isNull();
+            assertThat(cache.get(99L)).isNotNull();
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("백그라운드 갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("갱신 시점이 지난 항목은 기존 값을 반환하고 키당 한 번만 백그라운드 갱신")
+        void get_오래된항목_기존값반환후갱신() {
+            // Given
+            cache.put(1L, "v1");
+            now.addAndGet(REFRESH_AFTER_WRITE.toNanos());
+
+            // When
+            Object first = cache.get(1L, () -> "v2");
+            Object second = cache.get(1L, () -> "v3");
+
+            // Then
+            assertThat(first).isEqualTo("v1");
+            assertThat(second).isEqualTo("v1");
+            assertThat(refreshTasks).hasSize(1);
+
+            // When
+            refreshTasks.get(0).run();
+
+            // Then
+            assertThat(cache.get(1L, () -> "unexpected")).isEqualTo("v2");
+        }
+
+        @Test
+        @DisplayName("갱신 중 항목이 제거되면 갱신 결과를 버림")
+        void get_갱신중제거_결과폐기() {
+            // Given
+            cache.put(1L, "v1");
+            now.addAndGet(REFRESH_AFTER_WRITE.toNanos());
+            cache.get(1L, () -> "stale-read");
+
+            // When
+            cache.evict(1L);
+            refreshTasks.get(0).run();
+
+            // Then
+            assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("갱신 시점 전에는 갱신하지 않음")
+        void get_신선한항목_갱신안함() {
+            // Given
+            cache.put(1L, "v1");
+            now.addAndGet(REFRESH_AFTER_WRITE.toNanos() - 1);
+
+            // When
+            Object value = cache.get(1L, () -> "v2");
+
+            // Then
+            assertThat(value).isEqualTo("v1");
+            assertThat(refreshTasks).isEmpty();
+        }
+    }
+}
\ No newline at end of file
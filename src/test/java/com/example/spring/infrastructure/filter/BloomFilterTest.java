@@ -0,0 +1,90 @@
+package com.example.spring.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 있을 수 있음으로 판단 (거짓 음성 없음)")
+    void mightContain_추가한키_항상true() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(isbn(i));
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(isbn(i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 키 수만큼 채워도 실제 오탐률은 목표 근처")
+    void mightContain_없는키_오탐률목표근처() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(isbn(i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(isbn(i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double observed = falsePositives / 100_000.0;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isCloseTo(0.01, within(0.005));
+    }
+
+    @Test
+    @DisplayName("예상 키 수와 목표 오탐률로 비트 수/해시 수 결정")
+    void new_크기계산() {
+        // When
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // Then - 키당 약 9.6비트, 해시 7개
+        assertThat(filter.getBitSize()).isBetween(9_586L, 9_586L + 63);
+        assertThat(filter.getBitSize() % 64).isZero();
+        assertThat(filter.getHashFunctions()).isEqualTo(7);
+        assertThat(filter.getMemoryBytes()).isEqualTo(filter.getBitSize() / 8);
+    }
+
+    @Test
+    @DisplayName("같은 키를 반복 추가해도 추가 수는 한 번만 증가")
+    void put_중복키_추가수유지() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // When
+        filter.put("9780132350884");
+        filter.put("9780132350884");
+
+        // Then
+        assertThat(filter.getInsertions()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기/오탐률로 생성 시 예외")
+    void new_잘못된설정_예외발생() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String isbn(int i) {
+        return String.format("978%010d", i);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.example.spring.infrastructure.filter;
+
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.MemberRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.TestIsbns;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExistenceFilter 테스트")
+class ExistenceFilterTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private ExistenceFilter existenceFilter;
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class LookupTest {
+
+        @Test
+        @DisplayName("구성 전에는 모든 키를 있을 수 있음으로 판단")
+        void mightContain_구성전_항상true() {
+            // When & Then
+            assertThat(existenceFilter.mightContainIsbn("9780132350884")).isTrue();
+            assertThat(existenceFilter.mightContainEmail("hong@example.com")).isTrue();
+            assertThat(existenceFilter.statistics()).allMatch(snapshot -> !snapshot.isReady());
+        }
+
+        @Test
+        @DisplayName("구성 후 DB에 없는 키는 없음으로 판단")
+        void mightContain_구성후_DB키만true() {
+            // Given
+            given(bookRepository.findAllIsbn13()).willReturn(List.of(9780132350884L));
+            given(memberRepository.findAllEmails()).willReturn(List.of("hong@example.com"));
+
+            // When
+            existenceFilter.rebuild();
+
+            // Then
+            assertThat(existenceFilter.mightContainIsbn("978-0-13-235088-4")).isTrue();
+            assertThat(existenceFilter.mightContainIsbn("9780132350884")).isTrue();
+            assertThat(existenceFilter.mightContainIsbn("0-13-235088-2")).isTrue();
+            assertThat(existenceFilter.mightContainIsbn("9780201633610")).isFalse();
+            assertThat(existenceFilter.mightContainIsbn("9780132350885")).isFalse();
+            assertThat(existenceFilter.mightContainEmail("Hong@Example.com")).isTrue();
+            assertThat(existenceFilter.mightContainEmail("kim@example.com")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("키 추가 테스트")
+    class AddTest {
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 즉시 추가")
+        void addIsbn_트랜잭션밖_즉시추가() {
+            // Given
+            existenceFilter.rebuild();
+
+            // When
+            existenceFilter.addIsbn(ISBN.of("9780201633610"));
+
+            // Then
+            assertThat(existenceFilter.mightContainIsbn("9780201633610")).isTrue();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 후에 추가")
+        void addEmail_트랜잭션안_커밋후추가() {
+            // Given
+            existenceFilter.rebuild();
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                existenceFilter.addEmail("kim@example.com");
+                boolean beforeCommit = existenceFilter.mightContainEmail("kim@example.com");
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+
+                // Then
+                assertThat(beforeCommit).isFalse();
+                assertThat(existenceFilter.mightContainEmail("kim@example.com")).isTrue();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("예상 키 수를 넘으면 더 큰 필터로 다시 구성")
+        void addIsbn_예상키수초과_재구성() {
+            // Given
+            List<ISBN> isbns = IntStream.range(0, 1_100)
+                    .mapToObj(i -> ISBN.of(TestIsbns.isbn13(i)))
+                    .toList();
+            existenceFilter.rebuild();
+            given(bookRepository.findAllIsbn13()).willReturn(isbns.stream().map(ISBN::getIsbn13).toList());
+
+            // When
+            isbns.forEach(existenceFilter::addIsbn);
+
+            // Then
+            await(() -> existenceFilter.statistics().get(0).getExpectedInsertions() > 1_024);
+            ExistenceFilter.Snapshot snapshot = existenceFilter.statistics().get(0);
+            assertThat(snapshot.getExpectedInsertions()).isEqualTo(2_200L);
+            assertThat(isbns).allMatch(isbn -> existenceFilter.mightContainIsbn(isbn.getValue()));
+        }
+    }
+
+    @Test
+    @DisplayName("통계는 메모리 사용량과 DB 조회를 생략한 수를 포함")
+    void statistics_메모리와조회수() {
+        // Given
+        given(bookRepository.findAllIsbn13()).willReturn(List.of(9780132350884L));
+        existenceFilter.rebuild();
+
+        // When
+        existenceFilter.mightContainIsbn("9780132350884");
+        existenceFilter.mightContainIsbn("9780201633610");
+
+        // Then
+        ExistenceFilter.Snapshot isbn = existenceFilter.statistics().get(0);
+        assertThat(isbn.getName()).isEqualTo(ExistenceFilter.ISBN_FILTER);
+        assertThat(isbn.isReady()).isTrue();
+        assertThat(isbn.getExpectedInsertions()).isEqualTo(1_024L);
+        assertThat(isbn.getMemoryBytes()).isEqualTo(isbn.getBitSize() / 8);
+        assertThat(isbn.getLookups()).isEqualTo(2L);
+        assertThat(isbn.getNegatives()).isEqualTo(1L);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("5초 안에 조건을 만족하지 못함").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
\ No newline at end of file
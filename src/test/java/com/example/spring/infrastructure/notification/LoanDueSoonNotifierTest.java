@@ -0,0 +1,28 @@
+package com.example.spring.infrastructure.notification;
+
+import com.example.spring.domain.event.LoanDueSoonEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoanDueSoonNotifier 테스트")
+class LoanDueSoonNotifierTest {
+
+    @Test
+    @DisplayName("발행된 반납 예정일 임박 이벤트마다 안내")
+    void onLoanDueSoon_발행된이벤트_안내() {
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(LoanDueSoonNotifier.class)) {
+            // When
+            context.publishEvent(new LoanDueSoonEvent(1L, 10L, 100L, LocalDateTime.now().plusDays(3)));
+            context.publishEvent(new LoanDueSoonEvent(2L, 10L, 101L, LocalDateTime.now().plusDays(3)));
+
+            // Then
+            assertThat(context.getBean(LoanDueSoonNotifier.class).getNotifiedCount()).isEqualTo(2);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.example.spring.infrastructure.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HashedTimingWheel 테스트")
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final int WHEEL_SIZE = 8;
+    private static final long START = 1_000_000;
+
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(TICK, WHEEL_SIZE, START);
+    }
+
+    @Nested
+    @DisplayName("만료 시각 테스트")
+    class ExpirationTest {
+
+        @Test
+        @DisplayName("deadline 전에는 만료되지 않고 지난 뒤 한 칸 안에 만료")
+        void advance_deadline전후_만료() {
+            // Given
+            wheel.schedule("a", START + 2_500);
+
+            // When & Then
+            assertThat(wheel.advance(START + 2_499)).isEmpty();
+            assertThat(tasks(wheel.advance(START + 3_000))).containsExactly("a");
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("아래 단계 범위를 넘는 타이머는 상위 단계를 거쳐 정확한 칸에서 만료")
+        void advance_상위단계타이머_단계적으로내려와만료() {
+            // Given - 아래 단계 범위 8초, 2단계 64초, 3단계 512초
+            long deadline = START + 300_500;
+            wheel.schedule("far", deadline);
+            assertThat(wheel.levels()).isEqualTo(3);
+
+            // When & Then
+            assertThat(wheel.advance(deadline - 1)).isEmpty();
+            assertThat(tasks(wheel.advance(deadline + TICK - 1))).containsExactly("far");
+        }
+
+        @Test
+        @DisplayName("이미 지난 시각의 타이머는 다음 진행에서 바로 만료")
+        void schedule_지난시각_다음진행에서만료() {
+            // When
+            wheel.schedule("late", START - 10_000);
+
+            // Then
+            assertThat(tasks(wheel.advance(START))).containsExactly("late");
+        }
+
+        @Test
+        @DisplayName("한 번에 멀리 진행하면 그사이 타이머를 만료 시각 칸 순서로 모두 반환")
+        void advance_멀리진행_순서대로만료() {
+            // Given
+            wheel.schedule("c", START + 100_000);
+            wheel.schedule("a", START + 1_500);
+            wheel.schedule("b", START + 20_000);
+
+            // When
+            List<HashedTimingWheel.Timeout<String>> expired = wheel.advance(START + 1_000_000);
+
+            // Then
+            assertThat(tasks(expired)).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("무작위 타이머도 모두 [deadline, deadline + tick) 안에 한 번씩 만료")
+        void advance_무작위타이머_허용오차안에만료() {
+            // Given
+            Random random = new Random(42);
+            Map<String, Long> deadlines = new HashMap<>();
+            for (int i = 0; i < 5_000; i++) {
+                long deadline = START + (long) (random.nextDouble() * 3_600_000);
+                deadlines.put("t" + i, deadline);
+                wheel.schedule("t" + i, deadline);
+            }
+
+            // When
+            Map<String, Long> firedAt = new HashMap<>();
+            for (long now = START; now <= START + 3_700_000; now += 1 + random.nextInt(1_500)) {
+                for (HashedTimingWheel.Timeout<String> timeout : wheel.advance(now)) {
+                    assertThat(firedAt.put(timeout.getTask(), now)).isNull();
+                }
+            }
+
+            // Then
+            assertThat(firedAt).hasSize(deadlines.size());
+            deadlines.forEach((task, deadline) ->
+                    assertThat(firedAt.get(task)).isBetween(deadline, deadline + TICK + 1_500));
+        }
+    }
+
+    @Nested
+    @DisplayName("취소 테스트")
+    class CancelTest {
+
+        @Test
+        @DisplayName("취소한 타이머는 만료되지 않음")
+        void cancel_대기중타이머_만료안됨() {
+            // Given
+            HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 5_000);
+            HashedTimingWheel.Timeout<String> kept = wheel.schedule("kept", START + 5_000);
+
+            // When
+            boolean result = wheel.cancel(cancelled);
+
+            // Then
+            assertThat(result).isTrue();
+            assertThat(cancelled.isPending()).isFalse();
+            assertThat(tasks(wheel.advance(START + 10_000))).containsExactly("kept");
+            assertThat(kept.isPending()).isFalse();
+        }
+
+        @Test
+        @DisplayName("이미 만료되었거나 취소된 타이머는 다시 취소되지 않음")
+        void cancel_만료된타이머_false() {
+            // Given
+            HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", START + 1_000);
+            wheel.advance(START + 2_000);
+
+            // When & Then
+            assertThat(wheel.cancel(timeout)).isFalse();
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("지난 시각으로 넣고 진행 전에 취소하면 만료되지 않음")
+        void cancel_지난시각타이머_만료안됨() {
+            // Given
+            HashedTimingWheel.Timeout<String> timeout = wheel.schedule("late", START - 1);
+
+            // When
+            wheel.cancel(timeout);
+
+            // Then
+            assertThat(wheel.advance(START + 1_000)).isEmpty();
+        }
+    }
+
+    private static List<String> tasks(List<HashedTimingWheel.Timeout<String>> timeouts) {
+        List<String> tasks = new ArrayList<>();
+        for (HashedTimingWheel.Timeout<String> timeout : timeouts) {
+            tasks.add(timeout.getTask());
+        }
+        return tasks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.example.spring.infrastructure.scheduling;
+
+import com.example.spring.config.BookstoreProperties;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanDueSoonEvent;
+import com.example.spring.domain.event.LoanExtendedEvent;
+import com.example.spring.domain.event.LoanOverdueEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.JobCheckpoint;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.repository.JobCheckpointRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoanDeadlineScheduler 테스트")
+class LoanDeadlineSchedulerTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookstoreProperties properties;
+    private LoanDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookstoreProperties();
+        properties.getLoanDeadline().setTick(Duration.ofMillis(100));
+        properties.getLoanDeadline().setCheckpointInterval(Duration.ofHours(1));
+        scheduler = new LoanDeadlineScheduler(loanRepository, jobCheckpointRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, properties, Clock.systemDefaultZone());
+        given(loanRepository.existsByIdAndDueDateAndReturnDateIsNullAndStatusIn(any(), any(), any()))
+                .willReturn(true);
+        given(loanRepository.markOverdue(any(), any(), any(), any())).willReturn(1);
+    }
+
+    @Nested
+    @DisplayName("재시작 복구 테스트")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("마지막 처리 시각 이후에 지난 임박 알림은 첫 tick에 실행하고 연체 타이머로 교체")
+        void rebuild_중단중지난임박알림_첫tick에실행() {
+            // Given - 1시간 전까지 처리했고, 연장 가능 기간은 30분 전에 시작됨
+            LocalDateTime dueDate = LocalDateTime.now().minusMinutes(30).plusDays(Loan.EXTENSION_WINDOW_DAYS + 1);
+            givenCheckpoint(LocalDateTime.now().minusHours(1));
+            givenDeadlines(deadline(1L, dueDate));
+
+            // When
+            scheduler.rebuild();
+            scheduler.tick();
+
+            // Then
+            ArgumentCaptor<LoanDueSoonEvent> captor = ArgumentCaptor.forClass(LoanDueSoonEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getLoanId()).isEqualTo(1L);
+            assertThat(captor.getValue().getDueDate()).isEqualTo(dueDate);
+            assertThat(scheduler.statistics().getDueSoonFired()).isEqualTo(1);
+            assertThat(scheduler.statistics().getPendingTimers()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("중단 중 반납 예정일이 지난 대여는 연체로 바꾸고 LoanOverdueEvent 발행")
+        void rebuild_중단중지난반납예정일_연체전환() {
+            // Given
+            LocalDateTime dueDate = LocalDateTime.now().minusMinutes(10);
+            givenCheckpoint(LocalDateTime.now().minusHours(1));
+            givenDeadlines(deadline(1L, dueDate));
+
+            // When
+            scheduler.rebuild();
+            scheduler.tick();
+
+            // Then
+            verify(loanRepository).markOverdue(any(), any(), eq(Loan.overdueFeeFor(0)), any());
+            ArgumentCaptor<LoanOverdueEvent> captor = ArgumentCaptor.forClass(LoanOverdueEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getLoanId()).isEqualTo(1L);
+            assertThat(scheduler.statistics().getOverdueFired()).isEqualTo(1);
+            assertThat(scheduler.statistics().getPendingTimers()).isZero();
+        }
+
+        @Test
+        @DisplayName("마지막 처리 시각 전에 모두 지난 대여는 타이머를 만들지 않음")
+        void rebuild_처리시각전대여_타이머없음() {
+            // Given
+            givenCheckpoint(LocalDateTime.now().minusHours(1));
+            givenDeadlines(deadline(1L, LocalDateTime.now().minusDays(2)));
+
+            // When
+            scheduler.rebuild();
+            scheduler.tick();
+
+            // Then
+            assertThat(scheduler.isReady()).isTrue();
+            assertThat(scheduler.statistics().getPendingTimers()).isZero();
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("처리 기록이 없으면 현재 시각 이후의 타이머만 만듦")
+        void rebuild_처리기록없음_현재이후만() {
+            // Given
+            given(jobCheckpointRepository.findById(LoanDeadlineScheduler.JOB_NAME)).willReturn(Optional.empty());
+            givenDeadlines(deadline(1L, LocalDateTime.now().minusMinutes(1)),
+                    deadline(2L, LocalDateTime.now().plusDays(14)));
+
+            // When
+            scheduler.rebuild();
+            scheduler.tick();
+
+            // Then
+            assertThat(scheduler.statistics().getPendingTimers()).isEqualTo(1);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+        @Test
+        @DisplayName("미반납 대여를 읽는 동안 들어온 대여/반납 이벤트는 교체 후 반영")
+        void rebuild_조회중이벤트_교체후반영() {
+            // Given - 조회가 끝난 뒤 커밋된 대여 2건 중 1건은 곧바로 반납됨
+            given(jobCheckpointRepository.findById(LoanDeadlineScheduler.JOB_NAME)).willReturn(Optional.empty());
+            LocalDateTime dueDate = LocalDateTime.now().plusDays(14);
+            given(loanRepository.findActiveLoanDeadlines()).willAnswer(invocation -> {
+                scheduler.onLoanCreated(new LoanCreatedEvent(loan(2L, dueDate)));
+                scheduler.onLoanCreated(new LoanCreatedEvent(loan(3L, dueDate)));
+                scheduler.onLoanReturned(new LoanReturnedEvent(loan(3L, dueDate)));
+                return List.of(deadline(1L, dueDate));
+            });
+
+            // When
+            scheduler.rebuild();
+
+            // Then - 조회 결과 1건 + 반납되지 않은 이벤트 1건
+            assertThat(scheduler.isReady()).isTrue();
+            assertThat(scheduler.statistics().getPendingTimers()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("대여 이벤트 반영 테스트")
+    class LoanEventTest {
+
+        @BeforeEach
+        void setUp() {
+            given(jobCheckpointRepository.findById(LoanDeadlineScheduler.JOB_NAME)).willReturn(Optional.empty());
+            givenDeadlines();
+            scheduler.rebuild();
+        }
+
+        @Test
+        @DisplayName("새 대여는 임박 알림 타이머를 추가하고 반납하면 취소")
+        void onLoanCreated_대여후반납_타이머추가후취소() {
+            // Given
+            Loan loan = loan(1L, LocalDateTime.now().plusDays(14));
+
+            // When
+            scheduler.onLoanCreated(new LoanCreatedEvent(loan));
+
+            // Then
+            assertThat(scheduler.statistics().getPendingTimers()).isEqualTo(1);
+
+            // When
+            scheduler.onLoanReturned(new LoanReturnedEvent(loan));
+
+            // Then
+            assertThat(scheduler.statistics().getPendingTimers()).isZero();
+        }
+
+        @Test
+        @DisplayName("연장하면 기존 타이머를 새 반납 예정일의 타이머로 교체")
+        void onLoanExtended_반납예정일변경_타이머교체() {
+            // Given - 임박 알림 기간이 이미 시작된 대여
+            LocalDateTime dueDate = LocalDateTime.now().plusDays(2);
+            scheduler.onLoanCreated(new LoanCreatedEvent(loan(1L, dueDate)));
+
+            // When
+            scheduler.onLoanExtended(new LoanExtendedEvent(loan(1L, dueDate.plusDays(7)), dueDate));
+            scheduler.tick();
+
+            // Then - 연장 후 반납 예정일은 9일 뒤이므로 아무것도 실행되지 않음
+            assertThat(scheduler.statistics().getPendingTimers()).isEqualTo(1);
+            verify(loanRepository, never()).markOverdue(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("실행 시점에 이미 반납/취소된 대여는 이벤트를 발행하지 않음")
+        void tick_이미끝난대여_이벤트없음() throws Exception {
+            // Given
+            given(loanRepository.existsByIdAndDueDateAndReturnDateIsNullAndStatusIn(any(), any(), any()))
+                    .willReturn(false);
+            scheduler.onLoanCreated(new LoanCreatedEvent(loan(1L, LocalDateTime.now().plusNanos(50_000_000))));
+            Thread.sleep(300);
+
+            // When
+            scheduler.tick();
+
+            // Then
+            verify(loanRepository, never()).markOverdue(any(), any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+            assertThat(scheduler.statistics().getPendingTimers()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 기록 주기가 지나면 처리 완료 시각 저장")
+    void tick_기록주기경과_처리시각저장() {
+        // Given
+        properties.getLoanDeadline().setCheckpointInterval(Duration.ZERO);
+        given(jobCheckpointRepository.findById(LoanDeadlineScheduler.JOB_NAME)).willReturn(Optional.empty());
+        given(jobCheckpointRepository.recordCompletedAt(eq(LoanDeadlineScheduler.JOB_NAME), any())).willReturn(1);
+        givenDeadlines();
+        scheduler.rebuild();
+
+        // When
+        scheduler.tick();
+
+        // Then
+        verify(jobCheckpointRepository).recordCompletedAt(LoanDeadlineScheduler.JOB_NAME,
+                scheduler.statistics().getFiredThrough());
+        verify(jobCheckpointRepository, never()).saveAndFlush(any());
+    }
+
+    private void givenCheckpoint(LocalDateTime lastCompletedAt) {
+        JobCheckpoint checkpoint = mock(JobCheckpoint.class);
+        given(checkpoint.getLastCompletedAt()).willReturn(lastCompletedAt);
+        given(jobCheckpointRepository.findById(LoanDeadlineScheduler.JOB_NAME)).willReturn(Optional.of(checkpoint));
+    }
+
+    private void givenDeadlines(LoanRepository.LoanDeadline... deadlines) {
+        given(loanRepository.findActiveLoanDeadlines()).willReturn(List.of(deadlines));
+    }
+
+    private LoanRepository.LoanDeadline deadline(Long loanId, LocalDateTime dueDate) {
+        LoanRepository.LoanDeadline deadline = mock(LoanRepository.LoanDeadline.class);
+        given(deadline.getId()).willReturn(loanId);
+        given(deadline.getMemberId()).willReturn(10L);
+        given(deadline.getBookId()).willReturn(20L);
+        given(deadline.getDueDate()).willReturn(dueDate);
+        return deadline;
+    }
+
+    private Loan loan(Long loanId, LocalDateTime dueDate) {
+        return Loan.builder()
+                .id(loanId)
+                .loanDate(dueDate.minusDays(14))
+                .dueDate(dueDate)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.Benchmarks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 접두어 조회와 단건 변경 응답 시간 측정
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=AutocompleteBenchmarkTest -Dbenchmark.books=1000000
+ */
+@Tag("benchmark")
+@DisplayName("자동완성 성능 측정")
+class AutocompleteBenchmarkTest {
+
+    private static final int BOOK_COUNT = Integer.getInteger("benchmark.books", 300_000);
+    private static final int ITERATIONS = 2_000;
+    private static final int LIMIT = 10;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하해리포터마법사";
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("넓은 접두어(한 글자, 초성) 조회와 단건 변경이 도서 수와 관계없이 1ms 이내")
+    void lookup_넓은접두어_1ms이내() {
+        Map<Integer, String[]> texts = new HashMap<>();
+        for (int id = 1; id <= BOOK_COUNT; id++) {
+            texts.put(id, new String[]{title(), title()});
+        }
+        PrefixIndex index = new PrefixIndex();
+        index.putAll(texts);
+        for (int id = 1; id <= BOOK_COUNT; id += 7) {
+            index.incrementScore(id);
+        }
+
+        String[] prefixes = {"해", "ㅎ", "ㅎㄹ", "마법"};
+        Benchmarks.printTitle("자동완성", "books=%d, limit=%d", BOOK_COUNT, LIMIT);
+        Benchmarks.printRow("", "first(us)", "median(us)", "p99(us)");
+        for (String prefix : prefixes) {
+            long firstStart = System.nanoTime();
+            int[] result = index.lookup(prefix, LIMIT);
+            long firstMicros = (System.nanoTime() - firstStart) / 1_000;
+            long[] samples = Benchmarks.samples(ITERATIONS, ITERATIONS, i -> index.lookup(prefix, LIMIT));
+
+            Benchmarks.printRow("lookup " + prefix, firstMicros, Benchmarks.median(samples) / 1_000,
+                    Benchmarks.percentile(samples, 99) / 1_000);
+            assertThat(result).hasSize(LIMIT);
+            assertThat(Benchmarks.median(samples) / 1_000).isLessThan(1_000);
+        }
+
+        long[] updates = Benchmarks.samples(ITERATIONS, ITERATIONS, i -> {
+            index.put(1 + random.nextInt(BOOK_COUNT), title(), title());
+            index.incrementScore(1 + random.nextInt(BOOK_COUNT));
+            return null;
+        });
+        Benchmarks.printRow("put + incrementScore", "-", Benchmarks.median(updates) / 1_000,
+                Benchmarks.percentile(updates, 99) / 1_000);
+        assertThat(Benchmarks.median(updates) / 1_000).isLessThan(1_000);
+    }
+
+    private String title() {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(3);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            int length = 2 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                title.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+        }
+        return title.toString();
+    }
+}
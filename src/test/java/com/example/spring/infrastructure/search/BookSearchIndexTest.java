@@ -0,0 +1,245 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.vo.ISBN;
+import com.example.spring.domain.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchIndex 테스트")
+class BookSearchIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @InjectMocks
+    private BookSearchIndex bookSearchIndex;
+
+    private Book cleanCode;
+    private Book harryPotter;
+
+    @BeforeEach
+    void setUp() {
+        cleanCode = book(1L, "Clean Code", "Robert C. Martin");
+        harryPotter = book(2L, "해리포터와 마법사의 돌", "J.K. 롤링");
+    }
+
+    @Test
+    @DisplayName("재색인 전에는 준비되지 않은 상태")
+    void isReady_재색인전_false() {
+        assertThat(bookSearchIndex.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 도서로 재색인 후 제목/저자/키워드 검색")
+    void rebuild_활성도서_색인검색() {
+        // Given
+        given(bookRepository.findByDeletedDateIsNull()).willReturn(List.of(cleanCode, harryPotter));
+
+        // When
+        bookSearchIndex.rebuild();
+
+        // Then
+        assertThat(bookSearchIndex.isReady()).isTrue();
+        assertThat(bookSearchIndex.searchTitle("마법사")).containsExactly(2);
+        assertThat(bookSearchIndex.searchAuthor("martin")).containsExactly(1);
+        assertThat(bookSearchIndex.searchKeyword("롤링")).containsExactly(2);
+        assertThat(bookSearchIndex.searchKeyword("clean")).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("재색인 중 커밋된 수정/삭제는 스냅샷 적재 후 반영")
+    void rebuild_재색인중변경_스냅샷적재후반영() {
+        // Given - 스냅샷 조회 직후 제목 수정과 삭제가 커밋됨
+        Book renamed = book(1L, "Refactoring", "Martin Fowler");
+        given(bookRepository.findByDeletedDateIsNull()).willAnswer(invocation -> {
+            bookSearchIndex.index(renamed);
+            bookSearchIndex.remove(2L);
+            return List.of(cleanCode, harryPotter);
+        });
+
+        // When
+        bookSearchIndex.rebuild();
+
+        // Then
+        assertThat(bookSearchIndex.searchTitle("refactoring")).containsExactly(1);
+        assertThat(bookSearchIndex.searchTitle("clean")).isEmpty();
+        assertThat(bookSearchIndex.searchTitle("마법사")).isEmpty();
+        assertThat(bookSearchIndex.autocomplete("refac", 10)).hasSize(1);
+        assertThat(bookSearchIndex.autocomplete("clean", 10)).isEmpty();
+        assertThat(bookSearchIndex.autocomplete("ㅎㄹㅍㅌ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 도서를 반영하면 색인에서 제거")
+    void index_삭제된도서_색인제거() {
+        // Given
+        bookSearchIndex.index(cleanCode);
+        cleanCode.markAsDeleted();
+
+        // When
+        bookSearchIndex.index(cleanCode);
+
+        // Then
+        assertThat(bookSearchIndex.searchTitle("clean")).isEmpty();
+        assertThat(bookSearchIndex.searchAuthor("martin")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 색인하면 커밋 후에 반영하고 롤백되면 반영하지 않음")
+    void index_트랜잭션안_커밋후반영() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When - 커밋
+            bookSearchIndex.index(cleanCode);
+            int[] beforeCommit = bookSearchIndex.searchTitle("clean");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // When - 롤백 (afterCommit 없이 종료)
+            TransactionSynchronizationManager.initSynchronization();
+            bookSearchIndex.index(harryPotter);
+            bookSearchIndex.remove(cleanCode.getId());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(bookSearchIndex.searchTitle("clean")).containsExactly(1);
+            assertThat(bookSearchIndex.searchTitle("마법사")).isEmpty();
+            assertThat(bookSearchIndex.autocomplete("ㅎㄹㅍㅌ", 10)).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 도서를 한 번에 색인하면 검색과 자동완성에 반영")
+    void indexAll_여러도서_검색및자동완성() {
+        // When
+        bookSearchIndex.indexAll(List.of(cleanCode, harryPotter));
+
+        // Then
+        assertThat(bookSearchIndex.searchTitle("마법사")).containsExactly(2);
+        assertThat(bookSearchIndex.searchAuthor("martin")).containsExactly(1);
+        assertThat(bookSearchIndex.autocomplete("ㅎㄹㅍㅌ", 10))
+                .extracting(BookSearchIndex.AutocompleteEntry::getBookId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색 - 모든 단어가 일치하는 도서를 편집 거리 순으로 반환하고 추천 검색어 제공")
+    void searchFuzzy_오타검색어_거리순결과와추천어() {
+        // Given
+        Book cleanArchitecture = book(3L, "Clean Architecture", "Robert C. Martin");
+        bookSearchIndex.index(cleanCode);
+        bookSearchIndex.index(harryPotter);
+        bookSearchIndex.index(cleanArchitecture);
+
+        // When
+        BookSearchIndex.FuzzySearchResult result = bookSearchIndex.searchFuzzy("claen cod", 10);
+
+        // Then
+        assertThat(result.getMatches()).extracting(BookSearchIndex.FuzzyMatch::getBookId).containsExactly(1);
+        assertThat(result.getMatches().get(0).getDistance()).isEqualTo(2);
+        assertThat(result.getSuggestion()).isEqualTo("clean code");
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색 - 사전에 후보가 없는 단어가 있으면 나머지 단어로 넓히지 않고 결과 없음")
+    void searchFuzzy_후보없는단어포함_결과없음() {
+        // Given
+        bookSearchIndex.index(cleanCode);
+        bookSearchIndex.index(harryPotter);
+
+        // When
+        BookSearchIndex.FuzzySearchResult result = bookSearchIndex.searchFuzzy("claen kubernetes", 10);
+
+        // Then - 추천 검색어는 고칠 수 있는 단어만 고쳐서 제공
+        assertThat(result.getMatches()).isEmpty();
+        assertThat(result.getSuggestion()).isEqualTo("clean kubernetes");
+    }
+
+    @Test
+    @DisplayName("오타 허용 검색 - 오타가 없으면 추천 검색어 없음")
+    void searchFuzzy_정확한검색어_추천어없음() {
+        // Given
+        bookSearchIndex.index(cleanCode);
+        bookSearchIndex.index(harryPotter);
+
+        // When
+        BookSearchIndex.FuzzySearchResult result = bookSearchIndex.searchFuzzy("해리포터와", 10);
+
+        // Then
+        assertThat(result.getMatches()).extracting(BookSearchIndex.FuzzyMatch::getBookId).containsExactly(2);
+        assertThat(result.getSuggestion()).isNull();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 초성 검색어로 대여 횟수가 많은 도서부터 반환")
+    void autocomplete_초성검색어_대여횟수순() {
+        // Given
+        Book chamberOfSecrets = book(3L, "해리포터와 비밀의 방", "J.K. 롤링");
+        LoanRepository.BookLoanCount loanCount = mock(LoanRepository.BookLoanCount.class);
+        given(loanCount.getBookId()).willReturn(2L);
+        given(loanCount.getLoanCount()).willReturn(1L);
+        given(bookRepository.findByDeletedDateIsNull()).willReturn(List.of(cleanCode, harryPotter, chamberOfSecrets));
+        given(loanRepository.countLoansGroupByBook()).willReturn(List.of(loanCount));
+        bookSearchIndex.rebuild();
+
+        // When - 비밀의 방이 두 번 대여되어 마법사의 돌(1회)을 앞지름
+        bookSearchIndex.onLoanCreated(new LoanCreatedEvent(Loan.builder().book(chamberOfSecrets).build()));
+        bookSearchIndex.onLoanCreated(new LoanCreatedEvent(Loan.builder().book(chamberOfSecrets).build()));
+        List<BookSearchIndex.AutocompleteEntry> entries = bookSearchIndex.autocomplete("ㅎㄹㅍㅌ", 10);
+
+        // Then
+        assertThat(entries).extracting(BookSearchIndex.AutocompleteEntry::getTitle)
+                .containsExactly("해리포터와 비밀의 방", "해리포터와 마법사의 돌");
+        assertThat(entries).extracting(BookSearchIndex.AutocompleteEntry::getLoanCount).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 삭제된 도서는 제외")
+    void autocomplete_삭제된도서_제외() {
+        // Given
+        bookSearchIndex.index(cleanCode);
+        bookSearchIndex.remove(1L);
+
+        // When & Then
+        assertThat(bookSearchIndex.autocomplete("clean", 10)).isEmpty();
+    }
+
+    private Book book(Long id, String title, String author) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .author(author)
+                .isbn(ISBN.of("9780132350884"))
+                .price(Money.of(new BigDecimal("45.99")))
+                .available(true)
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+}
\ No newline at end of file
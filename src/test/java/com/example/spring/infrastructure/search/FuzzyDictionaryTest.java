@@ -0,0 +1,107 @@
+package com.example.spring.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FuzzyDictionary 테스트")
+class FuzzyDictionaryTest {
+
+    private FuzzyDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new FuzzyDictionary();
+        dictionary.put(1, "Clean Code Robert C. Martin");
+        dictionary.put(2, "Clean Architecture Robert C. Martin");
+        dictionary.put(3, "Effective Java Joshua Bloch");
+        dictionary.put(4, "해리포터와 마법사의 돌 J.K. 롤링");
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class LookupTest {
+
+        @Test
+        @DisplayName("편집 거리 이내의 단어와 해당 문서 반환")
+        void lookup_오타_후보단어반환() {
+            List<FuzzyDictionary.Suggestion> suggestions = dictionary.lookup("archtecture", 2);
+
+            assertThat(suggestions).extracting(FuzzyDictionary.Suggestion::getTerm).containsExactly("architecture");
+            assertThat(suggestions.get(0).getDistance()).isEqualTo(1);
+            assertThat(suggestions.get(0).getIds()).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("인접 글자 전치는 편집 거리 1")
+        void lookup_인접전치_거리1() {
+            List<FuzzyDictionary.Suggestion> suggestions = dictionary.lookup("effetcive", 1);
+
+            assertThat(suggestions).extracting(FuzzyDictionary.Suggestion::getTerm).containsExactly("effective");
+        }
+
+        @Test
+        @DisplayName("한글은 음절 단위로 편집 거리 계산")
+        void lookup_한글음절_오타() {
+            List<FuzzyDictionary.Suggestion> suggestions = dictionary.lookup("해리퍼터와", 1);
+
+            assertThat(suggestions).extracting(FuzzyDictionary.Suggestion::getTerm).containsExactly("해리포터와");
+            assertThat(suggestions.get(0).getIds()).containsExactly(4);
+        }
+
+        @Test
+        @DisplayName("거리가 같으면 문서 수가 많은 단어 우선")
+        void lookup_같은거리_빈도순() {
+            dictionary.put(5, "Clear Skies");
+
+            List<FuzzyDictionary.Suggestion> suggestions = dictionary.lookup("cleab", 1);
+
+            assertThat(suggestions).extracting(FuzzyDictionary.Suggestion::getTerm).containsExactly("clean", "clear");
+        }
+
+        @Test
+        @DisplayName("편집 거리를 넘는 단어는 제외")
+        void lookup_거리초과_제외() {
+            assertThat(dictionary.lookup("javascript", 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 반영 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("문서 제거 시 더 이상 쓰이지 않는 단어는 사전에서 제거")
+        void remove_미사용단어_사전제거() {
+            int before = dictionary.termCount();
+
+            dictionary.remove(3);
+
+            assertThat(dictionary.lookup("java", 1)).isEmpty();
+            assertThat(dictionary.termCount()).isEqualTo(before - 4);
+            assertThat(dictionary.lookup("clean", 0).get(0).getIds()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("다른 문서가 쓰는 단어는 유지")
+        void remove_공유단어_유지() {
+            dictionary.remove(1);
+
+            assertThat(dictionary.lookup("clean", 0).get(0).getIds()).containsExactly(2);
+            assertThat(dictionary.lookup("code", 1)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("OSA 편집 거리 계산")
+    void distance_편집거리() {
+        assertThat(FuzzyDictionary.distance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(FuzzyDictionary.distance("ab", "ba", 2)).isEqualTo(1);
+        assertThat(FuzzyDictionary.distance("kitten", "sitting", 1)).isEqualTo(2);
+    }
+}
\ No newline at end of file
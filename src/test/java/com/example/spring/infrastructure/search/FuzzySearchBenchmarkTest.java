@@ -0,0 +1,106 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.Benchmarks;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.repository.BookRepository;
+import com.example.spring.domain.repository.LoanRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 오타 허용 검색 응답 시간 측정
+ *
+ * 실행: ./mvnw test -Pbenchmark -Dtest=FuzzySearchBenchmarkTest -Dbenchmark.books=500000
+ */
+@Tag("benchmark")
+@DisplayName("오타 허용 검색 성능 측정")
+class FuzzySearchBenchmarkTest {
+
+    private static final int BOOK_COUNT = Integer.getInteger("benchmark.books", 500_000);
+    private static final int VOCABULARY_SIZE = 50_000;
+    private static final int QUERY_COUNT = 1_000;
+    private static final String[] SYLLABLES = {
+            "ka", "ri", "to", "me", "su", "na", "lo", "pe", "chi", "ban",
+            "dor", "el", "fin", "gra", "hu", "is", "jo", "kel", "mon", "tra"
+    };
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("50만 권 도서에서 오타 검색어 조회가 1ms 이내")
+    void searchFuzzy_50만권_1ms이내() {
+        List<String> vocabulary = vocabulary();
+        List<Book> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 1; i <= BOOK_COUNT; i++) {
+            books.add(Book.builder()
+                    .id((long) i)
+                    .title(pick(vocabulary) + " " + pick(vocabulary) + " " + pick(vocabulary))
+                    .author(pick(vocabulary) + " " + pick(vocabulary))
+                    .build());
+        }
+        BookRepository bookRepository = mock(BookRepository.class);
+        given(bookRepository.findByDeletedDateIsNull()).willReturn(books);
+        BookSearchIndex index = new BookSearchIndex(bookRepository, mock(LoanRepository.class));
+
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        List<String> queries = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(typo(pick(vocabulary)));
+        }
+
+        long[] samples = Benchmarks.samples(QUERY_COUNT, QUERY_COUNT, i -> index.searchFuzzy(queries.get(i), 10));
+        long found = queries.stream()
+                .filter(query -> !index.searchFuzzy(query, 10).getMatches().isEmpty())
+                .count();
+
+        long medianMicros = Benchmarks.median(samples) / 1_000;
+        long p99Micros = Benchmarks.percentile(samples, 99) / 1_000;
+        Benchmarks.printTitle("오타 허용 검색", "books=%d, vocabulary=%d, build=%dms", BOOK_COUNT, VOCABULARY_SIZE, buildMillis);
+        Benchmarks.printRow("", "median(us)", "p99(us)", "found");
+        Benchmarks.printRow("searchFuzzy", medianMicros, p99Micros, found + "/" + QUERY_COUNT);
+
+        assertThat(found).isEqualTo(QUERY_COUNT);
+        assertThat(medianMicros).isLessThan(1_000);
+    }
+
+    private List<String> vocabulary() {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < VOCABULARY_SIZE) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int i = 0; i < syllables; i++) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+
+    private String pick(List<String> vocabulary) {
+        return vocabulary.get(random.nextInt(vocabulary.size()));
+    }
+
+    /**
+     * 임의 위치 한 글자를 바꾼 검색어
+     */
+    private String typo(String word) {
+        char[] chars = word.toCharArray();
+        int position = random.nextInt(chars.length);
+        chars[position] = chars[position] == 'x' ? 'y' : 'x';
+        return new String(chars);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,282 @@
+package com.example.spring.infrastructure.search;
+
+import com.example.spring.domain.event.BookUpdatedEvent;
+import com.example.spring.domain.event.LoanChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanOverdueEvent;
+import com.example.spring.domain.event.LoansArchivedEvent;
+import com.example.spring.domain.event.MemberUpdatedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.model.LoanStatus;
+import com.example.spring.domain.model.Member;
+import com.example.spring.domain.repository.LoanRepository;
+import com.example.spring.domain.repository.LoanSearchRepository.LoanSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoanSearchIndex 테스트")
+class LoanSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @InjectMocks
+    private LoanSearchIndex loanSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 1: Clean Code/김철수 대여중, 2: 해리포터/이영희 연체, 3: Clean Code/이영희 반납, 4: Effective Java/김철수 대여중
+        List<LoanSearchRow> rows = List.of(
+                row(1L, 1L, "Clean Code", 1L, "김철수", "kim@example.com", BASE.minusDays(10), null, LoanStatus.ACTIVE),
+                row(2L, 2L, "해리포터", 2L, "이영희", "lee@example.com", BASE.minusDays(20), null, LoanStatus.OVERDUE),
+                row(3L, 1L, "Clean Code", 2L, "이영희", "lee@example.com", BASE.minusDays(30), BASE.minusDays(17), LoanStatus.RETURNED),
+                row(4L, 3L, "Effective Java", 1L, "김철수", "kim@example.com", BASE.minusDays(5), null, LoanStatus.ACTIVE));
+        lenient().doAnswer(invocation -> {
+            Consumer<LoanSearchRow> consumer = invocation.getArgument(0);
+            rows.forEach(consumer);
+            return null;
+        }).when(loanRepository).forEachSearchRow(any());
+    }
+
+    @Test
+    @DisplayName("재적재 전에는 준비되지 않은 상태")
+    void isReady_재적재전_false() {
+        assertThat(loanSearchIndex.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 기준 하나(id, loanDate, dueDate, bookTitle)만 지원")
+    void supports_정렬기준_지원여부() {
+        assertThat(loanSearchIndex.supports(PageRequest.of(0, 10))).isTrue();
+        assertThat(loanSearchIndex.supports(PageRequest.of(0, 10, Sort.by("dueDate").descending()))).isTrue();
+        assertThat(loanSearchIndex.supports(PageRequest.of(0, 10, Sort.by("bookTitle")))).isTrue();
+        assertThat(loanSearchIndex.supports(PageRequest.of(0, 10, Sort.by("member.name")))).isFalse();
+        assertThat(loanSearchIndex.supports(PageRequest.of(0, 10, Sort.by("loanDate", "id")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("offset이 한도를 넘는 깊은 페이지는 지원하지 않음")
+    void supports_깊은페이지_미지원() {
+        int pageSize = 20;
+        int lastSupportedPage = LoanSearchIndex.MAX_OFFSET / pageSize;
+
+        assertThat(loanSearchIndex.supports(PageRequest.of(lastSupportedPage, pageSize))).isTrue();
+        assertThat(loanSearchIndex.supports(PageRequest.of(lastSupportedPage + 1, pageSize))).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 들어온 변경은 교체 후에도 남음")
+    void rebuild_적재중이벤트_교체후반영() {
+        // Given - 행을 읽는 도중 새 대여, 연체 전환, 도서 제목 변경이 커밋됨
+        Member member = Member.builder().id(3L).name("박민수").email("park@example.com").build();
+        Book book = Book.builder().id(4L).title("Refactoring").build();
+        Loan loan = Loan.builder().id(5L).member(member).book(book)
+                .loanDate(BASE).dueDate(BASE.plusDays(14)).build();
+        doAnswer(invocation -> {
+            Consumer<LoanSearchRow> consumer = invocation.getArgument(0);
+            consumer.accept(row(1L, 1L, "Clean Code", 1L, "김철수", "kim@example.com", BASE.minusDays(10), null, LoanStatus.ACTIVE));
+            loanSearchIndex.onLoanCreated(new LoanCreatedEvent(loan));
+            loanSearchIndex.onLoanOverdue(new LoanOverdueEvent(1L, 1L, 1L, BASE.plusDays(4)));
+            loanSearchIndex.onBookUpdated(new BookUpdatedEvent(Book.builder().id(3L).title("Effective Kotlin").build()));
+            consumer.accept(row(4L, 3L, "Effective Java", 1L, "김철수", "kim@example.com", BASE.minusDays(5), null, LoanStatus.ACTIVE));
+            return null;
+        }).when(loanRepository).forEachSearchRow(any());
+
+        // When
+        loanSearchIndex.rebuild();
+
+        // Then
+        assertThat(loanSearchIndex.size()).isEqualTo(3);
+        assertThat(ids("refact", null, Sort.by("id"))).containsExactly(5L);
+        assertThat(ids(null, "OVERDUE", Sort.by("id"))).containsExactly(1L);
+        assertThat(ids("kotlin", null, Sort.by("id"))).containsExactly(4L);
+        assertThat(ids("java", null, Sort.by("id"))).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class SearchTest {
+
+        @BeforeEach
+        void rebuild() {
+            loanSearchIndex.rebuild();
+        }
+
+        @Test
+        @DisplayName("도서 제목, 회원 이름, 이메일의 부분 일치로 검색")
+        void search_검색어_제목이름이메일일치() {
+            assertThat(ids("clean", null, Sort.by("id"))).containsExactly(1L, 3L);
+            assertThat(ids("영희", null, Sort.by("id"))).containsExactly(2L, 3L);
+            assertThat(ids("kim@", null, Sort.by("id"))).containsExactly(1L, 4L);
+            assertThat(ids("없는검색어", null, Sort.by("id"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("상태로 거르며 ALL이나 잘못된 값이면 조건 없음")
+        void search_상태필터_적용() {
+            assertThat(ids(null, "active", Sort.by("id"))).containsExactly(1L, 4L);
+            assertThat(ids("clean", "RETURNED", Sort.by("id"))).containsExactly(3L);
+            assertThat(ids(null, "ALL", Sort.by("id"))).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(ids(null, "UNKNOWN", Sort.by("id"))).containsExactly(1L, 2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("정렬 키와 방향대로 정렬하며 같은 값은 id 순")
+        void search_정렬키_정렬() {
+            assertThat(ids(null, null, Sort.by("loanDate").descending())).containsExactly(4L, 1L, 2L, 3L);
+            assertThat(ids(null, null, Sort.by("dueDate"))).containsExactly(3L, 2L, 1L, 4L);
+            assertThat(ids(null, null, Sort.by("bookTitle"))).containsExactly(1L, 3L, 4L, 2L);
+            assertThat(ids("김철수", null, Sort.by("bookTitle").descending())).containsExactly(4L, 1L);
+            assertThat(ids(null, null, Sort.unsorted())).containsExactly(1L, 2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("요청한 페이지의 id와 전체 건수를 반환")
+        void search_페이지_부분과전체건수() {
+            // When
+            Page<Long> secondPage = loanSearchIndex.search(null, null, PageRequest.of(1, 3, Sort.by("loanDate")));
+            Page<Long> filtered = loanSearchIndex.search(null, "ACTIVE", PageRequest.of(0, 1, Sort.by("id")));
+            Page<Long> beyond = loanSearchIndex.search("clean", null, PageRequest.of(5, 2, Sort.by("id")));
+
+            // Then
+            assertThat(secondPage.getContent()).containsExactly(4L);
+            assertThat(secondPage.getTotalElements()).isEqualTo(4);
+            assertThat(filtered.getContent()).containsExactly(1L);
+            assertThat(filtered.getTotalElements()).isEqualTo(2);
+            assertThat(beyond.getContent()).isEmpty();
+            assertThat(beyond.getTotalElements()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 반영")
+    class EventTest {
+
+        @BeforeEach
+        void rebuild() {
+            loanSearchIndex.rebuild();
+        }
+
+        @Test
+        @DisplayName("새 대여는 처음 보는 도서/회원과 함께 반영")
+        void onLoanCreated_새대여_반영() {
+            // Given
+            Member member = Member.builder().id(3L).name("박민수").email("park@example.com").build();
+            Book book = Book.builder().id(4L).title("Refactoring").build();
+            Loan loan = Loan.builder().id(5L).member(member).book(book)
+                    .loanDate(BASE).dueDate(BASE.plusDays(14)).build();
+
+            // When
+            loanSearchIndex.onLoanCreated(new LoanCreatedEvent(loan));
+
+            // Then
+            assertThat(loanSearchIndex.size()).isEqualTo(5);
+            assertThat(ids("refact", null, Sort.by("id"))).containsExactly(5L);
+            assertThat(ids("민수", "ACTIVE", Sort.by("id"))).containsExactly(5L);
+            assertThat(ids(null, null, Sort.by("loanDate").descending())).startsWith(5L);
+        }
+
+        @Test
+        @DisplayName("도서 제목이 바뀌면 검색과 제목 정렬에 반영")
+        void onBookUpdated_제목변경_재정렬() {
+            // Given
+            Book book = Book.builder().id(1L).title("Zen of Code").build();
+
+            // When
+            loanSearchIndex.onBookUpdated(new BookUpdatedEvent(book));
+
+            // Then
+            assertThat(ids("clean", null, Sort.by("id"))).isEmpty();
+            assertThat(ids("zen", null, Sort.by("id"))).containsExactly(1L, 3L);
+            assertThat(ids(null, null, Sort.by("bookTitle"))).containsExactly(4L, 1L, 3L, 2L);
+        }
+
+        @Test
+        @DisplayName("회원 이름/이메일 변경은 그 회원의 모든 대여 검색에 반영")
+        void onMemberUpdated_정보변경_검색반영() {
+            // Given
+            Member member = Member.builder().id(1L).name("김철수2").email("chulsoo@example.com").build();
+
+            // When
+            loanSearchIndex.onMemberUpdated(new MemberUpdatedEvent(member));
+
+            // Then
+            assertThat(ids("kim@", null, Sort.by("id"))).isEmpty();
+            assertThat(ids("chulsoo", null, Sort.by("id"))).containsExactly(1L, 4L);
+        }
+
+        @Test
+        @DisplayName("연체 이벤트는 대여중인 대여만 연체로 바꿈")
+        void onLoanOverdue_대여중_연체전환() {
+            // When
+            loanSearchIndex.onLoanOverdue(new LoanOverdueEvent(1L, 1L, 1L, BASE.plusDays(4)));
+            loanSearchIndex.onLoanOverdue(new LoanOverdueEvent(3L, 2L, 1L, BASE.minusDays(16)));
+
+            // Then
+            assertThat(ids(null, "OVERDUE", Sort.by("id"))).containsExactly(1L, 2L);
+            assertThat(ids(null, "RETURNED", Sort.by("id"))).containsExactly(3L);
+            assertThat(loanSearchIndex.search(null, "ACTIVE", PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대여 기록 삭제는 읽기 모델에서 제거")
+        void onLoanChanged_삭제_제거() {
+            // Given
+            Loan loan = Loan.builder().id(2L).build();
+
+            // When
+            loanSearchIndex.onLoanChanged(new LoanChangedEvent(loan, true));
+
+            // Then
+            assertThat(loanSearchIndex.size()).isEqualTo(3);
+            assertThat(ids("해리", null, Sort.by("id"))).isEmpty();
+            assertThat(loanSearchIndex.search(null, "OVERDUE", PageRequest.of(0, 10)).getTotalElements()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("보관된 대여는 읽기 모델에서 제거")
+    void onLoansArchived_보관대여_제거() {
+        // Given
+        loanSearchIndex.rebuild();
+
+        // When
+        loanSearchIndex.onLoansArchived(new LoansArchivedEvent(List.of(3L)));
+
+        // Then
+        assertThat(loanSearchIndex.size()).isEqualTo(3);
+        assertThat(ids("clean", null, Sort.by("id"))).containsExactly(1L);
+        assertThat(loanSearchIndex.search(null, "RETURNED", PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    private List<Long> ids(String query, String status, Sort sort) {
+        return loanSearchIndex.search(query, status, PageRequest.of(0, 10, sort)).getContent();
+    }
+
+    private LoanSearchRow row(long id, long bookId, String title, long memberId, String name, String email,
+                              LocalDateTime loanDate, LocalDateTime returnDate, LoanStatus status) {
+        return new LoanSearchRow(id, bookId, title, memberId, name, email,
+                loanDate, loanDate.plusDays(14), returnDate, status);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.example.spring.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NgramIndex 테스트")
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1, "Clean Code");
+        index.put(2, "Clean Architecture");
+        index.put(3, "Effective Java");
+        index.put(4, "해리포터와 마법사의 돌");
+        index.put(5, "해리포터와 비밀의 방");
+    }
+
+    @Nested
+    @DisplayName("검색 테스트")
+    class SearchTest {
+
+        @Test
+        @DisplayName("대소문자 구분 없이 부분 문자열 검색")
+        void search_부분문자열_대소문자무시() {
+            assertThat(index.search("CLEAN")).containsExactly(1, 2);
+            assertThat(index.search("tive ja")).containsExactly(3);
+        }
+
+        @Test
+        @DisplayName("한 글자 검색은 유니그램으로 처리")
+        void search_한글자_유니그램() {
+            assertThat(index.search("j")).containsExactly(3);
+            assertThat(index.search("방")).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("한글 음절 단위 검색")
+        void search_한글_음절단위() {
+            assertThat(index.search("해리포터")).containsExactly(4, 5);
+            assertThat(index.search("마법사")).containsExactly(4);
+        }
+
+        @Test
+        @DisplayName("자모가 분리된(NFD) 한글 검색어도 완성형으로 정규화")
+        void search_NFD한글_정규화() {
+            String decomposed = Normalizer.normalize("비밀", Normalizer.Form.NFD);
+
+            assertThat(index.search(decomposed)).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("바이그램이 모두 있어도 연속하지 않으면 제외")
+        void search_바이그램불연속_제외() {
+            index.put(6, "abXbc");
+
+            assertThat(index.search("abc")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("없는 검색어나 빈 검색어는 빈 결과")
+        void search_없는검색어_빈결과() {
+            assertThat(index.search("spring")).isEmpty();
+            assertThat(index.search("")).isEmpty();
+            assertThat(index.search(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 반영 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("문서 교체 시 이전 텍스트로는 검색되지 않음")
+        void put_기존문서교체_새텍스트로검색() {
+            index.put(1, "Refactoring");
+
+            assertThat(index.search("clean")).containsExactly(2);
+            assertThat(index.search("refactor")).containsExactly(1);
+            assertThat(index.size()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("문서 제거")
+        void remove_문서제거_검색제외() {
+            index.remove(4);
+
+            assertThat(index.search("해리포터")).containsExactly(5);
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("id 순서와 무관하게 추가해도 오름차순 결과")
+        void put_역순추가_오름차순결과() {
+            index.put(10, "Clean Agile");
+            index.put(7, "Clean Craftsmanship");
+
+            assertThat(index.search("clean")).containsExactly(1, 2, 7, 10);
+        }
+    }
+}
\ No newline at end of file
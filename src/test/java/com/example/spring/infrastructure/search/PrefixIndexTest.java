@@ -0,0 +1,219 @@
+package com.example.spring.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PrefixIndex 테스트")
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex();
+        index.putAll(Map.of(
+                1, new String[]{"해리포터와 마법사의 돌", "J.K. 롤링"},
+                2, new String[]{"해리포터와 비밀의 방", "J.K. 롤링"},
+                3, new String[]{"Clean Code", "Robert C. Martin"},
+                4, new String[]{"Clean Architecture", "Robert C. Martin"}
+        ));
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class LookupTest {
+
+        @Test
+        @DisplayName("제목 접두어로 조회 (대소문자 무시)")
+        void lookup_제목접두어_조회() {
+            assertThat(index.lookup("CLEAN", 10)).containsExactly(3, 4);
+            assertThat(index.lookup("해리포터와 비", 10)).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("단어 시작 위치부터도 접두어로 조회")
+        void lookup_단어시작_조회() {
+            assertThat(index.lookup("arch", 10)).containsExactly(4);
+            assertThat(index.lookup("martin", 10)).containsExactly(3, 4);
+        }
+
+        @Test
+        @DisplayName("한글 초성으로 조회")
+        void lookup_초성_조회() {
+            assertThat(index.lookup("ㅎㄹㅍㅌ", 10)).containsExactly(1, 2);
+            assertThat(index.lookup("ㅁㅂㅅ", 10)).containsExactly(1);
+            assertThat(index.lookup("ㄹㄹ", 10)).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("점수(대여 횟수)가 높은 순으로 상위 limit개")
+        void lookup_점수순_상위N() {
+            index.setScores(Map.of(2, 5L, 4, 1L));
+            index.incrementScore(1);
+
+            assertThat(index.lookup("ㅎㄹ", 1)).containsExactly(2);
+            assertThat(index.lookup("ㅎㄹ", 10)).containsExactly(2, 1);
+            assertThat(index.lookup("clean", 10)).containsExactly(4, 3);
+        }
+
+        @Test
+        @DisplayName("일치하는 접두어가 없거나 빈 검색어면 빈 결과")
+        void lookup_불일치_빈결과() {
+            assertThat(index.lookup("spring", 10)).isEmpty();
+            assertThat(index.lookup(" ", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 반영 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("문서 교체 시 이전 키로는 조회되지 않음")
+        void put_문서교체_새키로조회() {
+            index.put(3, "Refactoring", "Martin Fowler");
+
+            assertThat(index.lookup("clean", 10)).containsExactly(4);
+            assertThat(index.lookup("fowler", 10)).containsExactly(3);
+            assertThat(index.document(3)).containsExactly("Refactoring", "Martin Fowler");
+        }
+
+        @Test
+        @DisplayName("문서 제거")
+        void remove_문서제거_조회제외() {
+            index.remove(1);
+
+            assertThat(index.lookup("ㅎㄹㅍㅌ", 10)).containsExactly(2);
+            assertThat(index.document(1)).isNull();
+        }
+
+        @Test
+        @DisplayName("여러 문서를 한 번에 추가하고 기존 문서는 교체")
+        void addAll_추가및교체_조회() {
+            index.addAll(Map.of(
+                    3, new String[]{"Refactoring", "Martin Fowler"},
+                    5, new String[]{"Clean Agile", "Robert C. Martin"}
+            ));
+
+            assertThat(index.lookup("clean", 10)).containsExactlyInAnyOrder(4, 5);
+            assertThat(index.lookup("fowler", 10)).containsExactly(3);
+            assertThat(index.document(5)).containsExactly("Clean Agile", "Robert C. Martin");
+        }
+    }
+
+    @Nested
+    @DisplayName("상위 결과 보관 테스트")
+    class CachedResultsTest {
+
+        @BeforeEach
+        void setUp() {
+            // 한 번이라도 조회한 접두어는 보관하고, 변경은 병합하지 않고 쌓아 둠
+            index = new PrefixIndex(1, Integer.MAX_VALUE);
+            index.putAll(Map.of(
+                    1, new String[]{"해리포터와 마법사의 돌", "J.K. 롤링"},
+                    2, new String[]{"해리포터와 비밀의 방", "J.K. 롤링"}
+            ));
+        }
+
+        @Test
+        @DisplayName("보관한 접두어도 점수 증가, 추가, 제거를 반영")
+        void lookup_보관후변경_반영() {
+            assertThat(index.lookup("ㅎㄹ", 10)).containsExactly(1, 2);
+
+            index.incrementScore(2);
+            assertThat(index.lookup("ㅎㄹ", 10)).containsExactly(2, 1);
+
+            index.put(3, "해리포터와 불의 잔", "J.K. 롤링");
+            index.incrementScore(3);
+            index.incrementScore(3);
+            assertThat(index.lookup("ㅎㄹ", 10)).containsExactly(3, 2, 1);
+
+            index.remove(2);
+            index.put(1, "Clean Code", "Robert C. Martin");
+            assertThat(index.lookup("ㅎㄹ", 10)).containsExactly(3);
+            assertThat(index.lookup("ㅎ", 10)).containsExactly(3);
+        }
+
+        @Test
+        @DisplayName("가득 찬 보관 목록에서 문서가 빠지면 다음 순위 문서로 채움")
+        void lookup_가득찬목록에서제거_다음순위포함() {
+            // Given
+            Map<Integer, String[]> texts = new HashMap<>();
+            IntStream.rangeClosed(1, PrefixIndex.CACHED_RESULTS + 10)
+                    .forEach(id -> texts.put(id, new String[]{"spring " + id, "저자"}));
+            index.putAll(texts);
+            assertThat(index.lookup("spring", 3)).containsExactly(1, 2, 3);
+
+            // When
+            index.remove(2);
+
+            // Then
+            assertThat(index.lookup("spring", PrefixIndex.CACHED_RESULTS))
+                    .hasSize(PrefixIndex.CACHED_RESULTS)
+                    .doesNotContain(2)
+                    .contains(PrefixIndex.CACHED_RESULTS + 1);
+        }
+    }
+
+    @ParameterizedTest(name = "보관 최소 범위 {0}, 병합 최소 변경 수 {1}")
+    @CsvSource({"256, 4096", "1, 1", "1, 2147483647", "2147483647, 1"})
+    @DisplayName("무작위 변경 후에도 전수 비교 결과와 같음")
+    void lookup_무작위변경_전수비교와일치(int minCachedRange, int minPending) {
+        // Given
+        String[] words = {"alpha", "alps", "altitude", "beta", "bet", "gamma", "game"};
+        String[] prefixes = {"a", "al", "alp", "b", "bet", "g", "gam", "x"};
+        Random random = new Random(42);
+        index = new PrefixIndex(minCachedRange, minPending);
+        Map<Integer, String> model = new HashMap<>();
+        Map<Integer, Integer> scores = new HashMap<>();
+
+        for (int step = 0; step < 3_000; step++) {
+            // When
+            int id = random.nextInt(120);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                index.put(id, text);
+                model.put(id, text);
+            } else if (operation < 7) {
+                index.remove(id);
+                model.remove(id);
+            } else {
+                index.incrementScore(id);
+                scores.merge(id, 1, Integer::sum);
+            }
+
+            // Then
+            String prefix = prefixes[random.nextInt(prefixes.length)];
+            int limit = 1 + random.nextInt(PrefixIndex.CACHED_RESULTS);
+            int[] expected = model.entrySet().stream()
+                    .filter(entry -> Arrays.stream(entry.getValue().split(" ")).anyMatch(word -> word.startsWith(prefix)))
+                    .map(Map.Entry::getKey)
+                    .sorted(Comparator.comparing((Integer key) -> -scores.getOrDefault(key, 0))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertThat(index.lookup(prefix, limit)).as("step %d, prefix %s", step, prefix).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("한글 음절을 초성으로 변환")
+    void toChosung_한글음절_초성변환() {
+        assertThat(PrefixIndex.toChosung("해리포터 3권")).isEqualTo("ㅎㄹㅍㅌ 3ㄱ");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,239 @@
+package com.example.spring.infrastructure.statistics;
+
+import com.example.spring.domain.event.BookChangedEvent;
+import com.example.spring.domain.event.LoanCreatedEvent;
+import com.example.spring.domain.event.LoanReturnedEvent;
+import com.example.spring.domain.model.Book;
+import com.example.spring.domain.model.Loan;
+import com.example.spring.domain.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookStatisticsCounter 테스트")
+class BookStatisticsCounterTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookStatisticsCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        // 활성 2권(10.00, 30.00, 그중 대여 가능 1권) + 삭제 1권
+        given(bookRepository.aggregateStatistics()).willReturn(
+                view(3L, 2L, 1L, "40.00", "10.00", "30.00"));
+        counter.reconcile();
+    }
+
+    @Nested
+    @DisplayName("증분 반영 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("초기 대조 이후 조회는 DB를 다시 읽지 않음")
+        void snapshot_초기화후_DB조회없음() {
+            // When
+            BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+
+            // Then
+            assertThat(snapshot.getTotalBooks()).isEqualTo(3L);
+            assertThat(snapshot.getDeletedBooks()).isEqualTo(1L);
+            assertThat(snapshot.getAveragePrice()).isEqualByComparingTo("20.00");
+            verify(bookRepository, times(1)).aggregateStatistics();
+        }
+
+        @Test
+        @DisplayName("도서 등록 시 수와 가격 집계 반영")
+        void bookCreated_카운터증가() {
+            // When
+            counter.bookCreated(true, new BigDecimal("50.00"));
+
+            // Then
+            BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+            assertThat(snapshot.getTotalBooks()).isEqualTo(4L);
+            assertThat(snapshot.getActiveBooks()).isEqualTo(3L);
+            assertThat(snapshot.getAvailableBooks()).isEqualTo(2L);
+            assertThat(snapshot.getMaxPrice()).isEqualByComparingTo("50.00");
+            assertThat(snapshot.getAveragePrice()).isEqualByComparingTo("30.00");
+        }
+
+        @Test
+        @DisplayName("도서 삭제 후 복원하면 원래 통계로 돌아옴")
+        void bookDeleted_bookRestored_카운터원복() {
+            // When
+            counter.bookDeleted(true, new BigDecimal("20.00"));
+            BookStatisticsCounter.Snapshot deleted = counter.snapshot();
+            counter.bookRestored(true, new BigDecimal("20.00"));
+            BookStatisticsCounter.Snapshot restored = counter.snapshot();
+
+            // Then
+            assertThat(deleted.getActiveBooks()).isEqualTo(1L);
+            assertThat(deleted.getDeletedBooks()).isEqualTo(2L);
+            assertThat(deleted.getAvailableBooks()).isZero();
+            assertThat(restored.getActiveBooks()).isEqualTo(2L);
+            assertThat(restored.getAvailableBooks()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("최소/최대 가격 도서가 빠지면 다음 조회 때 집계 쿼리로 다시 계산")
+        void bookDeleted_경계가격_재집계() {
+            // Given
+            given(bookRepository.aggregateStatistics()).willReturn(
+                    view(3L, 1L, 1L, "30.00", "30.00", "30.00"));
+
+            // When
+            counter.bookDeleted(false, new BigDecimal("10.00"));
+            BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+
+            // Then
+            assertThat(snapshot.getMinPrice()).isEqualByComparingTo("30.00");
+            verify(bookRepository, times(2)).aggregateStatistics();
+        }
+
+        @Test
+        @DisplayName("대여/반납 이벤트로 대여 가능 수 반영")
+        void onLoanEvents_대여가능수반영() {
+            // Given
+            Loan loan = Loan.builder().book(Book.builder().id(1L).build()).build();
+
+            // When
+            counter.onLoanCreated(new LoanCreatedEvent(loan));
+            long afterLoan = counter.snapshot().getAvailableBooks();
+            counter.onLoanReturned(new LoanReturnedEvent(loan, false));
+
+            // Then
+            assertThat(afterLoan).isZero();
+            assertThat(counter.snapshot().getAvailableBooks()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("도서 변경 이벤트는 대여 가능 여부가 바뀐 경우에만 반영")
+        void onBookChanged_대여가능여부변경시_반영() {
+            // Given
+            Book book = Book.builder().id(1L).available(true).build();
+
+            // When
+            counter.onBookChanged(new BookChangedEvent(book, false));
+            counter.onBookChanged(new BookChangedEvent(book, true));
+
+            // Then
+            assertThat(counter.snapshot().getAvailableBooks()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("대조 시 DB 집계값으로 카운터 교체")
+    void reconcile_DB집계값으로_보정() {
+        // Given
+        counter.bookCreated(true, new BigDecimal("50.00"));
+        given(bookRepository.aggregateStatistics()).willReturn(
+                view(5L, 4L, 2L, "100.00", "10.00", "40.00"));
+
+        // When
+        counter.reconcile();
+
+        // Then
+        BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+        assertThat(snapshot.getTotalBooks()).isEqualTo(5L);
+        assertThat(snapshot.getActiveBooks()).isEqualTo(4L);
+        assertThat(snapshot.getMaxPrice()).isEqualByComparingTo("40.00");
+        assertThat(snapshot.getAveragePrice()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("집계 조회 전에 커밋되고 대조 후에 반영되는 증분은 두 번 세지 않음")
+    void reconcile_조회전커밋_대조후반영_한번만계산() {
+        // Given - 트랜잭션 안에서 등록, 커밋은 집계 조회 전이라 DB 집계값에 이미 포함
+        given(bookRepository.aggregateStatistics()).willReturn(
+                view(4L, 3L, 2L, "90.00", "10.00", "50.00"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.bookCreated(true, new BigDecimal("50.00"));
+
+            // When - 커밋 후 콜백이 대조보다 늦게 실행
+            counter.reconcile();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+        assertThat(snapshot.getTotalBooks()).isEqualTo(4L);
+        assertThat(snapshot.getAvailableBooks()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("집계 조회 중 커밋된 증분이 있으면 다시 조회한 값으로 교체")
+    void reconcile_조회중커밋_재조회() {
+        // Given - 첫 조회 중 도서가 등록되어 첫 조회 결과에 들어갔는지 알 수 없음
+        given(bookRepository.aggregateStatistics())
+                .willAnswer(invocation -> {
+                    counter.bookCreated(true, new BigDecimal("50.00"));
+                    return view(3L, 2L, 1L, "40.00", "10.00", "30.00");
+                })
+                .willReturn(view(4L, 3L, 2L, "90.00", "10.00", "50.00"));
+
+        // When
+        counter.reconcile();
+
+        // Then
+        BookStatisticsCounter.Snapshot snapshot = counter.snapshot();
+        assertThat(snapshot.getTotalBooks()).isEqualTo(4L);
+        assertThat(snapshot.getAvailableBooks()).isEqualTo(2L);
+        verify(bookRepository, times(3)).aggregateStatistics();
+    }
+
+    private static BookRepository.BookStatisticsView view(long total, long active, long available,
+                                                          String priceSum, String minPrice, String maxPrice) {
+        return new BookRepository.BookStatisticsView() {
+            @Override
+            public Long getTotalBooks() {
+                return total;
+            }
+
+            @Override
+            public Long getActiveBooks() {
+                return active;
+            }
+
+            @Override
+            public Long getAvailableBooks() {
+                return available;
+            }
+
+            @Override
+            public BigDecimal getPriceSum() {
+                return new BigDecimal(priceSum);
+            }
+
+            @Override
+            public BigDecimal getMinPrice() {
+                return new BigDecimal(minPrice);
+            }
+
+            @Override
+            public BigDecimal getMaxPrice() {
+                return new BigDecimal(maxPrice);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.infrastructure.availability.BookAvailabilityIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AvailabilityIndexController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("AvailabilityIndexController 통합 테스트")
+class AvailabilityIndexControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BookAvailabilityIndex bookAvailabilityIndex;
+
+    @Test
+    @DisplayName("상태별 도서 수와 100만 건당 메모리 사용량 조회")
+    void getAvailabilityIndexStatistics_통계_성공() throws Exception {
+        // Given
+        given(bookAvailabilityIndex.statistics()).willReturn(
+                new BookAvailabilityIndex.Snapshot(true, 1_000_000, 800_000, 50_000, 150_000, 321_000, 321_000));
+
+        // When & Then
+        mockMvc.perform(get("/api/availability-index/statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.availableBooks").value(800_000))
+                .andExpect(jsonPath("$.loanedBooks").value(150_000))
+                .andExpect(jsonPath("$.memoryBytes").value(321_000))
+                .andExpect(jsonPath("$.bytesPerMillionBooks").value(321_000));
+    }
+}
\ No newline at end of file
@@ -4,8 +4,16 @@ import com.example.spring.domain.vo.ISBN;
 import com.example.spring.domain.vo.Money;
 import com.example.spring.application.dto.request.CreateBookRequest;
 import com.example.spring.application.dto.request.UpdateBookRequest;
+import com.example.spring.application.dto.response.BookImportResponse;
+import com.example.spring.application.dto.response.BookFacetSearchResponse;
 import com.example.spring.application.dto.response.BookResponse;
+import com.example.spring.application.dto.response.BookStatisticsResponse;
+import com.example.spring.application.dto.response.BookSuggestionResponse;
+import com.example.spring.application.dto.response.CursorPageResponse;
+import com.example.spring.application.dto.response.FuzzySearchResponse;
 import com.example.spring.domain.model.Book;
+import com.example.spring.exception.BookException;
+import com.example.spring.application.BookImportService;
 import com.example.spring.application.BookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +27,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,6 +41,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -46,6 +58,9 @@ class BookControllerTest {
     @MockitoBean
     private BookService bookService;
 
+    @MockitoBean
+    private BookImportService bookImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -150,6 +165,74 @@ class BookControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 대량 등록")
+    class ImportBooksTest {
+
+        @Test
+        @DisplayName("CSV 본문으로 대량 등록")
+        void importBooks_CSV_청크별결과반환() throws Exception {
+            // Given
+            String csv = "title,author,isbn,price\nClean Code,Robert C. Martin,9780132350884,45000\n";
+            BookImportResponse response = BookImportResponse.builder()
+                    .totalRows(1)
+                    .importedRows(1)
+                    .chunks(List.of(BookImportResponse.ChunkResult.builder()
+                            .chunk(1).firstRow(2).lastRow(2).importedRows(1).errors(List.of()).build()))
+                    .build();
+            given(bookImportService.importBooks(any(), eq(BookImportService.Format.CSV))).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/api/books/import")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importedRows").value(1))
+                    .andExpect(jsonPath("$.chunks[0].firstRow").value(2));
+        }
+
+        @Test
+        @DisplayName("NDJSON 본문은 NDJSON 형식으로 처리")
+        void importBooks_NDJSON_형식판별() throws Exception {
+            // Given
+            given(bookImportService.importBooks(any(), eq(BookImportService.Format.NDJSON)))
+                    .willReturn(BookImportResponse.builder().chunks(List.of()).build());
+
+            // When & Then
+            mockMvc.perform(post("/api/books/import")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content("{\"title\":\"Clean Code\"}\n"))
+                    .andExpect(status().isOk());
+            verify(bookImportService).importBooks(any(), eq(BookImportService.Format.NDJSON));
+        }
+
+        @Test
+        @DisplayName("헤더를 읽을 수 없는 파일은 400")
+        void importBooks_읽을수없는파일_400() throws Exception {
+            // Given
+            given(bookImportService.importBooks(any(), eq(BookImportService.Format.CSV)))
+                    .willThrow(new BookException.InvalidImportFileException("CSV 헤더를 읽을 수 없습니다"));
+
+            // When & Then
+            mockMvc.perform(post("/api/books/import")
+                            .contentType("text/csv")
+                            .content("title,\"author\n"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_IMPORT_FILE"))
+                    .andExpect(jsonPath("$.detail").value("CSV 헤더를 읽을 수 없습니다"));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식은 415")
+        void importBooks_지원하지않는형식_415() throws Exception {
+            mockMvc.perform(post("/api/books/import")
+                            .contentType(MediaType.APPLICATION_XML)
+                            .content("<books/>"))
+                    .andExpect(status().isUnsupportedMediaType());
+        }
+    }
+
     @Nested
     @DisplayName("도서 조회")
     class GetBookTest {
@@ -225,6 +308,60 @@ class BookControllerTest {
 
             verify(bookService).getAllActiveBooks(any(Pageable.class));
         }
+
+        @Test
+        @DisplayName("활성 도서 목록 조회 (커서 페이징)")
+        void getActiveBooksByCursor_첫페이지_조회성공() throws Exception {
+            // Given
+            CursorPageResponse<BookResponse> cursorPage = CursorPageResponse.<BookResponse>builder()
+                    .content(List.of(BookResponse.from(testBook)))
+                    .size(1)
+                    .hasNext(true)
+                    .nextCursor("next-token")
+                    .build();
+            given(bookService.getActiveBooksByCursor(eq(""), eq(1), any(Sort.class))).willReturn(cursorPage);
+
+            // When & Then
+            mockMvc.perform(get("/api/books")
+                            .param("cursor", "")
+                            .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].title").value("Clean Code"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(bookService).getActiveBooksByCursor("", 1, Sort.by(Sort.Direction.DESC, "createdDate"));
+        }
+
+        @Test
+        @DisplayName("커서 페이징 - 페이지 크기가 범위를 벗어나면 400 응답")
+        void getActiveBooksByCursor_페이지크기범위초과_400응답() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/books")
+                            .param("cursor", "")
+                            .param("size", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/books")
+                            .param("cursor", "")
+                            .param("size", "101"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookService, never()).getActiveBooksByCursor(any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("커서 페이징 - 정렬 방향이 asc/desc가 아니면 400 응답")
+        void getActiveBooksByCursor_잘못된정렬방향_400응답() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/books")
+                            .param("cursor", "")
+                            .param("direction", "sideways"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookService, never()).getActiveBooksByCursor(any(), anyInt(), any());
+        }
     }
 
     @Nested
@@ -325,6 +462,87 @@ class BookControllerTest {
             verify(bookService).searchByAuthor("Martin");
         }
 
+        @Test
+        @DisplayName("오타 허용 검색 - 편집 거리와 추천 검색어 반환")
+        void searchBooksFuzzy_오타검색어_추천어반환() throws Exception {
+            // Given
+            FuzzySearchResponse response = FuzzySearchResponse.builder()
+                    .query("claen code")
+                    .didYouMean("clean code")
+                    .matches(List.of(FuzzySearchResponse.Match.builder()
+                            .book(BookResponse.from(testBook))
+                            .distance(1)
+                            .build()))
+                    .build();
+            given(bookService.searchFuzzy("claen code", 10)).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/api/books/search/fuzzy")
+                            .param("query", "claen code"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.didYouMean").value("clean code"))
+                    .andExpect(jsonPath("$.matches[0].book.title").value("Clean Code"))
+                    .andExpect(jsonPath("$.matches[0].distance").value(1));
+
+            verify(bookService).searchFuzzy("claen code", 10);
+        }
+
+        @Test
+        @DisplayName("자동완성 - 초성 접두어로 추천 도서 반환")
+        void autocomplete_초성접두어_추천도서반환() throws Exception {
+            // Given
+            List<BookSuggestionResponse> suggestions = List.of(BookSuggestionResponse.builder()
+                    .id(1L)
+                    .title("해리포터와 마법사의 돌")
+                    .author("J.K. 롤링")
+                    .loanCount(12)
+                    .build());
+            given(bookService.autocomplete("ㅎㄹㅍㅌ", 10)).willReturn(suggestions);
+
+            // When & Then
+            mockMvc.perform(get("/api/books/autocomplete")
+                            .param("prefix", "ㅎㄹㅍㅌ"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].title").value("해리포터와 마법사의 돌"))
+                    .andExpect(jsonPath("$[0].loanCount").value(12));
+
+            verify(bookService).autocomplete("ㅎㄹㅍㅌ", 10);
+        }
+
+        @Test
+        @DisplayName("자동완성/오타 허용 검색 - 결과 수는 50건으로 제한하고 0 이하는 400 응답")
+        void autocomplete_결과수범위_제한및거부() throws Exception {
+            // Given
+            given(bookService.autocomplete("clean", 50)).willReturn(List.of());
+            given(bookService.searchFuzzy(eq("clean"), eq(50))).willReturn(FuzzySearchResponse.builder()
+                    .query("clean")
+                    .matches(List.of())
+                    .build());
+
+            // When & Then
+            mockMvc.perform(get("/api/books/autocomplete")
+                            .param("prefix", "clean")
+                            .param("size", "2000000000"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/books/search/fuzzy")
+                            .param("query", "clean")
+                            .param("size", "2000000000"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/books/autocomplete")
+                            .param("prefix", "clean")
+                            .param("size", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/books/search/fuzzy")
+                            .param("query", "clean")
+                            .param("size", "-1"))
+                    .andExpect(status().isBadRequest());
+
+            verify(bookService).autocomplete("clean", 50);
+            verify(bookService).searchFuzzy("clean", 50);
+        }
+
         @Test
         @DisplayName("복합 조건 검색 (Stream 버전 - 페이징)")
         void searchBooksWithFilters_복합조건_검색성공() throws Exception {
@@ -374,6 +592,65 @@ class BookControllerTest {
                     eq("Clean"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)
             );
         }
+
+        @Test
+        @DisplayName("복합 조건 검색 (패싯 모드) - 결과 페이지와 패싯 반환")
+        void searchBooksWithFacets_복합조건_패싯반환() throws Exception {
+            // Given
+            BookFacetSearchResponse response = BookFacetSearchResponse.builder()
+                    .content(List.of(BookResponse.from(testBook)))
+                    .page(0)
+                    .size(10)
+                    .totalElements(1)
+                    .totalPages(1)
+                    .facets(BookFacetSearchResponse.Facets.builder()
+                            .available(1)
+                            .unavailable(0)
+                            .priceRanges(List.of(new BookFacetSearchResponse.PriceRange(null, new BigDecimal("10000"), 1)))
+                            .topAuthors(List.of(new BookFacetSearchResponse.AuthorCount("Robert C. Martin", 1)))
+                            .build())
+                    .build();
+            given(bookService.searchBooksWithFacets(
+                    eq("Clean"), isNull(), isNull(), isNull(), eq(true), any(Pageable.class)
+            )).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/api/books/search/query/facets")
+                            .param("title", "Clean")
+                            .param("available", "true"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].title").value("Clean Code"))
+                    .andExpect(jsonPath("$.totalElements").value(1))
+                    .andExpect(jsonPath("$.facets.available").value(1))
+                    .andExpect(jsonPath("$.facets.priceRanges[0].maxPrice").value(10000))
+                    .andExpect(jsonPath("$.facets.topAuthors[0].author").value("Robert C. Martin"));
+        }
+
+        @Test
+        @DisplayName("복합 조건 검색 (Slice 버전) - 전체 건수 없이 다음 페이지 여부 반환")
+        void searchBooksSlice_복합조건_슬라이스반환() throws Exception {
+            // Given
+            Slice<Book> bookSlice = new SliceImpl<>(List.of(testBook), PageRequest.of(0, 1), true);
+            given(bookService.searchBooksWithFiltersSlice(
+                    eq("Clean"), isNull(), isNull(), isNull(), eq(true), any(Pageable.class)
+            )).willReturn(bookSlice);
+
+            // When & Then
+            mockMvc.perform(get("/api/books/search/slice")
+                            .param("title", "Clean")
+                            .param("available", "true")
+                            .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].title").value("Clean Code"))
+                    .andExpect(jsonPath("$.last").value(false))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(bookService).searchBooksWithFiltersSlice(
+                    eq("Clean"), isNull(), isNull(), isNull(), eq(true), any(Pageable.class)
+            );
+        }
     }
 
     @Nested
@@ -433,8 +710,15 @@ class BookControllerTest {
         @DisplayName("도서 통계 조회")
         void getBookStatistics_통계조회_성공() throws Exception {
             // Given
-            given(bookService.getTotalBooksCount()).willReturn(10L);
-            given(bookService.getActiveBooksCount()).willReturn(8L);
+            given(bookService.getBookStatistics()).willReturn(BookStatisticsResponse.builder()
+                    .totalBooks(10L)
+                    .activeBooks(8L)
+                    .deletedBooks(2L)
+                    .availableBooks(5L)
+                    .minPrice(new BigDecimal("10000"))
+                    .maxPrice(new BigDecimal("30000"))
+                    .averagePrice(new BigDecimal("18750.00"))
+                    .build());
 
             // When & Then
             mockMvc.perform(get("/api/books/statistics"))
@@ -442,10 +726,13 @@ class BookControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.totalBooks").value(10))
                     .andExpect(jsonPath("$.activeBooks").value(8))
-                    .andExpect(jsonPath("$.deletedBooks").value(2));
+                    .andExpect(jsonPath("$.deletedBooks").value(2))
+                    .andExpect(jsonPath("$.availableBooks").value(5))
+                    .andExpect(jsonPath("$.minPrice").value(10000))
+                    .andExpect(jsonPath("$.maxPrice").value(30000))
+                    .andExpect(jsonPath("$.averagePrice").value(18750.00));
 
-            verify(bookService).getTotalBooksCount();
-            verify(bookService).getActiveBooksCount();
+            verify(bookService).getBookStatistics();
         }
 
         @Test
@@ -0,0 +1,57 @@
+package com.example.spring.presentation.controller;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CacheController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("CacheController 통합 테스트")
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("캐시별 적중/실패/퇴출 통계 조회")
+    void getCacheStatistics_캐시별통계_성공() throws Exception {
+        // Given
+        CaffeineCache books = new CaffeineCache("books", Caffeine.newBuilder().recordStats().build());
+        books.put(1L, "Clean Code");
+        books.get(1L);
+        books.get(1L);
+        books.get(2L);
+        CaffeineCache members = new CaffeineCache("members", Caffeine.newBuilder().recordStats().build());
+        given(cacheManager.getCacheNames()).willReturn(List.of("members", "books"));
+        given(cacheManager.getCache("books")).willReturn(books);
+        given(cacheManager.getCache("members")).willReturn(members);
+
+        // When & Then
+        mockMvc.perform(get("/api/caches/statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("books"))
+                .andExpect(jsonPath("$[0].size").value(1))
+                .andExpect(jsonPath("$[0].hitCount").value(2))
+                .andExpect(jsonPath("$[0].missCount").value(1))
+                .andExpect(jsonPath("$[1].name").value("members"))
+                .andExpect(jsonPath("$[1].hitRate").value(1.0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.infrastructure.filter.ExistenceFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExistenceFilterController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ExistenceFilterController 통합 테스트")
+class ExistenceFilterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExistenceFilter existenceFilter;
+
+    @Test
+    @DisplayName("필터별 메모리 사용량과 추정 오탐률 조회")
+    void getExistenceFilterStatistics_필터별통계_성공() throws Exception {
+        // Given
+        given(existenceFilter.statistics()).willReturn(List.of(
+                new ExistenceFilter.Snapshot("isbn", true, 2_048, 1_000, 19_648, 7, 2_456, 0.0007, 30, 25),
+                new ExistenceFilter.Snapshot("email", false, 0, 0, 0, 0, 0, 0, 0, 0)));
+
+        // When & Then
+        mockMvc.perform(get("/api/existence-filters/statistics"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("isbn"))
+                .andExpect(jsonPath("$[0].memoryBytes").value(2_456))
+                .andExpect(jsonPath("$[0].estimatedFalsePositiveRate").value(0.0007))
+                .andExpect(jsonPath("$[0].negatives").value(25))
+                .andExpect(jsonPath("$[1].name").value("email"))
+                .andExpect(jsonPath("$[1].ready").value(false));
+    }
+}
\ No newline at end of file
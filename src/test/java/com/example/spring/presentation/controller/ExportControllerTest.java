@@ -0,0 +1,92 @@
+package com.example.spring.presentation.controller;
+
+import com.example.spring.application.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ExportController 통합 테스트")
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @Test
+    @DisplayName("대여 내보내기 - 기본 CSV 형식으로 스트리밍 응답")
+    void exportLoans_기본CSV_스트리밍응답() throws Exception {
+        // Given
+        given(exportService.exportLoans(any(OutputStream.class), eq(ExportService.Format.CSV))).willAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("id,memberId\n1,7\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/admin/exports/loans"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"loans.csv\""))
+                .andExpect(content().string("id,memberId\n1,7\n"));
+    }
+
+    @Test
+    @DisplayName("도서 내보내기 - format=NDJSON이면 NDJSON 형식")
+    void exportBooks_NDJSON_형식지정() throws Exception {
+        // Given
+        given(exportService.exportBooks(any(OutputStream.class), eq(ExportService.Format.NDJSON))).willAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            output.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/admin/exports/books").param("format", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"books.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 400 Bad Request")
+    void exportMembers_잘못된형식_400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/admin/exports/members").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        then(exportService).should(never()).exportMembers(any(), any());
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.spring.presentation.controller;
 
+import com.example.spring.application.dto.request.BatchCheckoutRequest;
+import com.example.spring.application.dto.request.BatchReturnRequest;
 import com.example.spring.application.dto.request.CreateLoanRequest;
 import com.example.spring.application.dto.request.UpdateLoanRequest;
+import com.example.spring.application.dto.response.BatchReturnResponse;
 import com.example.spring.application.dto.response.LoanResponse;
 import com.example.spring.domain.model.LoanStatus;
 import com.example.spring.domain.model.Member;
@@ -416,6 +419,95 @@ class LoanControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 일괄 대여")
+    class CreateLoansTest {
+
+        @Test
+        @DisplayName("POST /api/admin/loans/batch - 일괄 대여 성공")
+        void createLoans_유효한요청_201응답() throws Exception {
+            // Given
+            BatchCheckoutRequest request = BatchCheckoutRequest.builder()
+                    .memberId(1L)
+                    .bookIds(List.of(1L))
+                    .build();
+            given(loanService.createLoans(any(BatchCheckoutRequest.class))).willReturn(List.of(testLoanResponse));
+
+            // When & Then
+            mockMvc.perform(post("/api/admin/loans/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(1))
+                    .andExpect(jsonPath("$[0].bookId").value(1));
+
+            verify(loanService).createLoans(any(BatchCheckoutRequest.class));
+        }
+
+        @Test
+        @DisplayName("POST /api/admin/loans/batch - 최대 권수를 넘으면 400 응답")
+        void createLoans_최대권수초과_400응답() throws Exception {
+            // Given
+            BatchCheckoutRequest request = BatchCheckoutRequest.builder()
+                    .memberId(1L)
+                    .bookIds(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L))
+                    .build();
+
+            // When & Then
+            mockMvc.perform(post("/api/admin/loans/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 일괄 반납")
+    class ReturnBooksTest {
+
+        @Test
+        @DisplayName("POST /api/admin/loans/batch-return - 일괄 반납 성공")
+        void returnBooks_유효한요청_200응답() throws Exception {
+            // Given
+            BatchReturnRequest request = BatchReturnRequest.builder()
+                    .loanIds(List.of(1L, 99L))
+                    .build();
+            given(loanService.returnBooks(any(BatchReturnRequest.class))).willReturn(BatchReturnResponse.builder()
+                    .returned(List.of(testLoanResponse))
+                    .overdueCount(0)
+                    .totalOverdueFee(BigDecimal.ZERO)
+                    .notFoundLoanIds(List.of(99L))
+                    .alreadyReturnedLoanIds(List.of())
+                    .unmatchedBookIds(List.of())
+                    .build());
+
+            // When & Then
+            mockMvc.perform(post("/api/admin/loans/batch-return")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.returned[0].id").value(1))
+                    .andExpect(jsonPath("$.notFoundLoanIds[0]").value(99));
+
+            verify(loanService).returnBooks(any(BatchReturnRequest.class));
+        }
+
+        @Test
+        @DisplayName("POST /api/admin/loans/batch-return - 대여 ID와 도서 ID가 모두 없으면 400 응답")
+        void returnBooks_대상누락_400응답() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/admin/loans/batch-return")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"loanIds\": [], \"bookIds\": []}"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("[API 명세 #4] 대출 정보 수정")
     class UpdateLoanTest {
@@ -631,7 +723,7 @@ class LoanControllerTest {
         @DisplayName("GET /api/admin/loans/member/{memberId} - 회원별 대여 내역 조회")
         void getLoansByMember_회원ID로조회_200응답() throws Exception {
             // Given
-            given(loanService.getLoansByMemberId(1L)).willReturn(List.of(testLoanResponse));
+            given(loanService.getLoansByMemberId(1L, false)).willReturn(List.of(testLoanResponse));
 
             // When & Then
             mockMvc.perform(get("/api/admin/loans/member/1"))
@@ -639,14 +731,14 @@ class LoanControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$[0].memberId").value(1));
 
-            verify(loanService).getLoansByMemberId(1L);
+            verify(loanService).getLoansByMemberId(1L, false);
         }
 
         @Test
         @DisplayName("GET /api/admin/loans/book/{bookId} - 도서별 대여 내역 조회")
         void getLoansByBook_도서ID로조회_200응답() throws Exception {
             // Given
-            given(loanService.getLoansByBookId(1L)).willReturn(List.of(testLoanResponse));
+            given(loanService.getLoansByBookId(1L, false)).willReturn(List.of(testLoanResponse));
 
             // When & Then
             mockMvc.perform(get("/api/admin/loans/book/1"))
@@ -654,7 +746,22 @@ class LoanControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$[0].bookId").value(1));
 
-            verify(loanService).getLoansByBookId(1L);
+            verify(loanService).getLoansByBookId(1L, false);
+        }
+
+        @Test
+        @DisplayName("GET /api/admin/loans/member/{memberId}?includeHistory=true - 보관된 대여 포함 조회")
+        void getLoansByMember_이력포함_보관대여포함조회() throws Exception {
+            // Given
+            given(loanService.getLoansByMemberId(1L, true)).willReturn(List.of(testLoanResponse));
+
+            // When & Then
+            mockMvc.perform(get("/api/admin/loans/member/1").param("includeHistory", "true"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].memberId").value(1));
+
+            verify(loanService).getLoansByMemberId(1L, true);
         }
     }
 